@@ -63,6 +63,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(ApiResponse.of(status, e.getMessage(), null));
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Object>> handleServiceUnavailableException(ServiceUnavailableException e) {
+        log.warn(e.getMessage());
+
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE; // 503
+
+        return ResponseEntity.status(status).body(ApiResponse.of(status, e.getMessage(), null));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Object>> handleException(Exception e) {
         log.error("Unhandled exception", e);
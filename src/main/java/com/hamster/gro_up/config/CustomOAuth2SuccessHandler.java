@@ -6,6 +6,7 @@ import com.hamster.gro_up.dto.CustomOAuth2User;
 import com.hamster.gro_up.dto.response.TokenResponse;
 import com.hamster.gro_up.entity.Role;
 import com.hamster.gro_up.entity.UserType;
+import com.hamster.gro_up.service.RefreshTokenService;
 import com.hamster.gro_up.util.CookieUtil;
 import com.hamster.gro_up.util.JwtUtil;
 import com.hamster.gro_up.util.TokenType;
@@ -14,18 +15,21 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.UUID;
 
 @RequiredArgsConstructor
 @Component
 public class CustomOAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -35,8 +39,12 @@ public class CustomOAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHa
         Long userId = customOAuth2User.getId();
         String email = customOAuth2User.getAttribute("email");
 
+        String familyId = UUID.randomUUID().toString();
         String accessToken = jwtUtil.createToken(TokenType.ACCESS, UserType.OAUTH, userId, email, Role.ROLE_USER);
-        String refreshToken = jwtUtil.createToken(TokenType.REFRESH, UserType.OAUTH, userId, email, Role.ROLE_USER);
+        String refreshToken = jwtUtil.createToken(TokenType.REFRESH, UserType.OAUTH, userId, email, Role.ROLE_USER, familyId);
+
+        // 재발급 시 비교할 수 있도록 Refresh Token 저장
+        refreshTokenService.saveRefreshToken(refreshToken, email, familyId, request.getHeader(HttpHeaders.USER_AGENT));
 
         ApiResponse<String> apiResponse = ApiResponse.of(HttpStatus.OK, accessToken);
 
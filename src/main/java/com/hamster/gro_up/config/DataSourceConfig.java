@@ -0,0 +1,40 @@
+package com.hamster.gro_up.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 일반 요청용 연결 풀과 내보내기 스트리밍용 연결 풀을 따로 둔다.
+ * useCursorFetch 는 모든 PreparedStatement 를 서버 쪽 prepared statement 로 바꾸고, fetch size 가 있는 조회마다 서버에 커서를 만들므로
+ * 필요한 조회에만 쓰도록 스트리밍 풀에서만 켠다.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource defaultDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("export.datasource.hikari")
+    public HikariDataSource streamingDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("defaultDataSource") DataSource defaultDataSource,
+                                 @Qualifier("streamingDataSource") DataSource streamingDataSource) {
+        return new LazyConnectionDataSourceProxy(new StreamingRoutingDataSource(defaultDataSource, streamingDataSource));
+    }
+}
@@ -2,12 +2,10 @@ package com.hamster.gro_up.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hamster.gro_up.dto.ApiResponse;
-import com.hamster.gro_up.dto.AuthUser;
-import com.hamster.gro_up.entity.Role;
-import com.hamster.gro_up.entity.UserType;
+import com.hamster.gro_up.exception.auth.ExpiredTokenException;
+import com.hamster.gro_up.service.TokenRevocationService;
 import com.hamster.gro_up.util.JwtUtil;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
+import com.hamster.gro_up.util.ParsedToken;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import jakarta.servlet.FilterChain;
@@ -29,6 +27,8 @@ import java.io.IOException;
 public class JwtSecurityFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -39,16 +39,18 @@ public class JwtSecurityFilter extends OncePerRequestFilter {
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             String jwt = jwtUtil.substringToken(authorizationHeader);
             try{
-                Claims claims = jwtUtil.extractClaims(jwt);
-                Long userId = Long.valueOf(claims.getSubject());
-                String email = claims.get("email", String.class);
-                Role role = Role.of(claims.get("role", String.class));
-                UserType userType = UserType.of(claims.get("userType", String.class));
+                // 이미 검증된 토큰이면 캐시에서 바로 꺼내고, 처음 보는 토큰만 서명을 검증한다
+                ParsedToken parsedToken = verifiedTokenCache.get(jwt);
 
-                if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                    AuthUser authUser = AuthUser.builder().id(userId).email(email).role(role).userType(userType).build();
+                if (tokenRevocationService.isRevoked(parsedToken)) {
+                    log.warn("Revoked JWT token, 폐기된 JWT token 입니다. jti={}", parsedToken.getTokenId());
+                    // 재발급 대상이 아니므로 만료(1000)와 다른 코드로 응답
+                    writeErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "로그아웃되었거나 폐기된 Access Token 입니다.");
+                    return;
+                }
 
-                    JwtAuthenticationToken authenticationToken = new JwtAuthenticationToken(authUser);
+                if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                    JwtAuthenticationToken authenticationToken = new JwtAuthenticationToken(parsedToken.getAuthUser());
 
                     SecurityContextHolder.getContext().setAuthentication(authenticationToken);
                 }
@@ -56,23 +58,9 @@ public class JwtSecurityFilter extends OncePerRequestFilter {
                 log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
                 return;
-            } catch (ExpiredJwtException e) {
+            } catch (ExpiredTokenException e) {
                 log.error("Expired JWT token, 만료된 JWT token 입니다.", e);
-
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.setContentType("application/json");
-                response.setCharacterEncoding("UTF-8");
-
-                ApiResponse<Void> errorResponse = ApiResponse.of(
-                        1000, // 비즈니스 에러 코드
-                        HttpStatus.UNAUTHORIZED,
-                        "만료된 Access Token 입니다.",
-                        null
-                );
-
-                String body = objectMapper.writeValueAsString(errorResponse);
-
-                response.getWriter().write(body);
+                writeErrorResponse(response, 1000, "만료된 Access Token 입니다.");
                 return;
             } catch (UnsupportedJwtException e) {
                 log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
@@ -87,4 +75,21 @@ public class JwtSecurityFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private void writeErrorResponse(HttpServletResponse response, int code, String message) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+
+        ApiResponse<Void> errorResponse = ApiResponse.of(
+                code, // 비즈니스 에러 코드
+                HttpStatus.UNAUTHORIZED,
+                message,
+                null
+        );
+
+        String body = objectMapper.writeValueAsString(errorResponse);
+
+        response.getWriter().write(body);
+    }
 }
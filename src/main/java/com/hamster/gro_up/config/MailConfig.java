@@ -0,0 +1,40 @@
+package com.hamster.gro_up.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+public class MailConfig {
+
+    // spring.mail.* 설정은 그대로 쓰고, 연결만 풀링하는 구현으로 교체
+    @Bean
+    public PooledJavaMailSender javaMailSender(MailProperties mailProperties,
+                                               @Value("${mail.smtp.pool.max-idle:2}") int maxIdle,
+                                               @Value("${mail.smtp.pool.max-idle-ms:60000}") long maxIdleMs,
+                                               @Value("${mail.smtp.pool.validate-after-idle-ms:5000}") long validateAfterIdleMs) {
+        PooledJavaMailSender mailSender = new PooledJavaMailSender(maxIdle, maxIdleMs, validateAfterIdleMs);
+
+        mailSender.setHost(mailProperties.getHost());
+        if (mailProperties.getPort() != null) {
+            mailSender.setPort(mailProperties.getPort());
+        }
+        mailSender.setUsername(mailProperties.getUsername());
+        mailSender.setPassword(mailProperties.getPassword());
+        mailSender.setProtocol(mailProperties.getProtocol());
+        if (mailProperties.getDefaultEncoding() != null) {
+            mailSender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+        }
+
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(mailProperties.getProperties());
+        mailSender.setJavaMailProperties(javaMailProperties);
+
+        return mailSender;
+    }
+}
@@ -0,0 +1,188 @@
+package com.hamster.gro_up.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인증까지 끝난 SMTP 연결을 재사용하는 JavaMailSender.
+ * 기본 구현은 send 호출마다 TCP + STARTTLS + AUTH 를 새로 맺지만, 여기서는 쓰고 난 연결을 풀에 돌려 두고 다음 발송에 다시 쓴다.
+ * 여러 메시지를 한 번에 send 하면 하나의 연결로 이어서 보낸다.
+ * 오래 놀던 연결은 꺼낼 때 NOOP 으로 살아 있는지 확인하고, 끊겼으면 버리고 새로 맺는다.
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements MeterBinder, DisposableBean {
+
+    private final int maxIdle;
+    private final long maxIdleMs;
+    private final long validateAfterIdleMs;
+
+    private final BlockingDeque<PooledTransport> idleTransports = new LinkedBlockingDeque<>();
+
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder handshakeTotalNanos = new LongAdder();
+
+    public PooledJavaMailSender(int maxIdle, long maxIdleMs, long validateAfterIdleMs) {
+        this.maxIdle = maxIdle;
+        this.maxIdleMs = maxIdleMs;
+        this.validateAfterIdleMs = validateAfterIdleMs;
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+
+        PooledTransport pooled;
+        try {
+            pooled = borrow();
+        } catch (MessagingException ex) {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                failedMessages.put(originalOf(mimeMessages, originalMessages, i), ex);
+            }
+            throw new MailSendException("Mail server connection failed", ex, failedMessages);
+        }
+
+        boolean broken = false;
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                Object original = originalOf(mimeMessages, originalMessages, i);
+
+                // 연결이 끊기면 남은 메시지는 실패로 돌려 호출한 쪽에서 다시 보내게 한다
+                if (broken) {
+                    failedMessages.put(original, new MessagingException("SMTP connection lost during batch"));
+                    continue;
+                }
+
+                try {
+                    MimeMessage mimeMessage = mimeMessages[i];
+                    if (mimeMessage.getSentDate() == null) {
+                        mimeMessage.setSentDate(new Date());
+                    }
+                    String messageId = mimeMessage.getMessageID();
+                    mimeMessage.saveChanges();
+                    if (messageId != null) {
+                        mimeMessage.setHeader("Message-ID", messageId);
+                    }
+
+                    Address[] addresses = mimeMessage.getAllRecipients();
+                    pooled.transport.sendMessage(mimeMessage, addresses != null ? addresses : new Address[0]);
+                } catch (SendFailedException ex) {
+                    // 수신자 문제는 연결과 무관하므로 다음 메시지는 계속 보낸다
+                    failedMessages.put(original, ex);
+                } catch (MessagingException ex) {
+                    failedMessages.put(original, ex);
+                    broken = !pooled.transport.isConnected();
+                }
+            }
+        } catch (RuntimeException ex) {
+            // 연결이 어떤 상태로 남았는지 알 수 없으므로 풀에 돌려놓지 않는다
+            broken = true;
+            throw ex;
+        } finally {
+            release(pooled, broken);
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        long now = System.currentTimeMillis();
+
+        PooledTransport pooled;
+        while ((pooled = idleTransports.pollFirst()) != null) {
+            long idleMs = now - pooled.lastUsedAt;
+
+            if (idleMs < maxIdleMs && (idleMs < validateAfterIdleMs || pooled.transport.isConnected())) {
+                reused.increment();
+                return pooled;
+            }
+            close(pooled);
+        }
+
+        long startedAt = System.nanoTime();
+        Transport transport = connectTransport();
+        handshakeTotalNanos.add(System.nanoTime() - startedAt);
+        created.increment();
+
+        return new PooledTransport(transport);
+    }
+
+    private void release(PooledTransport pooled, boolean broken) {
+        if (broken || idleTransports.size() >= maxIdle) {
+            close(pooled);
+            return;
+        }
+
+        pooled.lastUsedAt = System.currentTimeMillis();
+        idleTransports.offerFirst(pooled);
+    }
+
+    private void close(PooledTransport pooled) {
+        try {
+            pooled.transport.close();
+        } catch (MessagingException ex) {
+            log.debug("Failed to close SMTP transport", ex);
+        }
+    }
+
+    private Object originalOf(MimeMessage[] mimeMessages, Object[] originalMessages, int index) {
+        return originalMessages != null ? originalMessages[index] : mimeMessages[index];
+    }
+
+    @Override
+    public void destroy() {
+        PooledTransport pooled;
+        while ((pooled = idleTransports.pollFirst()) != null) {
+            close(pooled);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("mail.smtp.connections", reused, LongAdder::doubleValue)
+                .tag("result", "reused")
+                .register(registry);
+        FunctionCounter.builder("mail.smtp.connections", created, LongAdder::doubleValue)
+                .tag("result", "created")
+                .register(registry);
+        FunctionTimer.builder("mail.smtp.handshake", this,
+                        sender -> sender.created.sum(),
+                        sender -> sender.handshakeTotalNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .register(registry);
+        Gauge.builder("mail.smtp.pool.idle", idleTransports, BlockingDeque::size)
+                .register(registry);
+    }
+
+    private static class PooledTransport {
+        private final Transport transport;
+        private long lastUsedAt;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+            this.lastUsedAt = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.hamster.gro_up.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamster.gro_up.config.RateLimitProperties.Policy;
+import com.hamster.gro_up.dto.ApiResponse;
+import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.service.RateLimitService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * rate-limit.policies 에 정의된 경로별 요청 제한.
+ * Spring Security 필터 체인 뒤에서 실행되므로 USER 정책은 인증된 사용자 ID 를 키로 쓸 수 있다.
+ * 정책의 키 값을 구할 수 없는 요청(이메일 파라미터가 없거나 비로그인 요청 등)은 해당 정책을 건너뛴다.
+ * 여러 정책에 걸린 요청이 뒤쪽 정책에서 거절되면, 처리되지 않은 요청이므로 앞쪽 정책에서 받은 permit 을 돌려준다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "rate-limit", name = "enabled", havingValue = "true")
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final RateLimitService rateLimitService;
+    private final ObjectMapper objectMapper;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        List<Acquired> acquired = new ArrayList<>();
+
+        for (Policy policy : properties.getPolicies()) {
+            if (!policy.matches(request.getMethod()) || !pathMatcher.match(policy.getPath(), path)) {
+                continue;
+            }
+
+            String key = resolveKey(policy, request);
+            if (key == null) {
+                continue;
+            }
+
+            if (!rateLimitService.tryAcquire(policy, key)) {
+                log.warn("Rate limit exceeded. policy={}, key={}", policy.getName(), key);
+                acquired.forEach(permit -> rateLimitService.release(permit.policy(), permit.key()));
+                writeTooManyRequests(response, policy);
+                return;
+            }
+            acquired.add(new Acquired(policy, key));
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveKey(Policy policy, HttpServletRequest request) {
+        return switch (policy.getKey()) {
+            case IP -> request.getRemoteAddr();
+            case EMAIL -> {
+                String email = request.getParameter("email");
+                yield email != null && !email.isBlank() ? email.trim().toLowerCase(Locale.ROOT) : null;
+            }
+            case USER -> {
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                yield authentication != null && authentication.getPrincipal() instanceof AuthUser authUser
+                        ? String.valueOf(authUser.getId())
+                        : null;
+            }
+        };
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, Policy policy) throws IOException {
+        // 버킷에 permit 하나가 다시 채워지는 데 걸리는 시간
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(1 / policy.refillPerMs() / 1000));
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+
+        ApiResponse<Void> errorResponse = ApiResponse.of(
+                HttpStatus.TOO_MANY_REQUESTS,
+                "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                null
+        );
+
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+
+    private record Acquired(Policy policy, String key) {
+    }
+}
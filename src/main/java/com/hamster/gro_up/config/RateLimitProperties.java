@@ -0,0 +1,63 @@
+package com.hamster.gro_up.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * application.yml 의 rate-limit 설정.
+ * 요청 경로에 맞는 정책이 여러 개면 모두 통과해야 한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled;
+
+    // Redis 에서 미리 받아 둔 permit 을 로컬에서 쓸 수 있는 시간
+    private Duration leaseTtl = Duration.ofSeconds(1);
+
+    private List<Policy> policies = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        private String name;
+
+        // Ant 스타일 경로 패턴
+        private String path;
+
+        // 비어 있으면 모든 메서드
+        private List<String> methods = new ArrayList<>();
+
+        private KeyType key = KeyType.IP;
+
+        // period 동안 허용하는 요청 수 (버킷 용량)
+        private int capacity;
+
+        private Duration period = Duration.ofMinutes(1);
+
+        // 한 번에 Redis 에서 받아 올 permit 수. 요청이 드문 키는 1 로 둬야 permit 이 낭비되지 않는다
+        private int prefetch = 1;
+
+        public boolean matches(String method) {
+            return methods.isEmpty() || methods.stream().anyMatch(method::equalsIgnoreCase);
+        }
+
+        public double refillPerMs() {
+            return (double) capacity / period.toMillis();
+        }
+    }
+
+    public enum KeyType {
+        IP, EMAIL, USER
+    }
+}
@@ -0,0 +1,37 @@
+package com.hamster.gro_up.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 내보내기처럼 결과를 커서로 나눠 읽어야 하는 조회만 useCursorFetch 가 켜진 연결 풀을 쓰게 한다.
+ * 연결을 받기 전에 정해야 하므로 LazyConnectionDataSourceProxy 뒤에 두고, 트랜잭션 안의 첫 쿼리 전에 useStreaming() 을 호출한다.
+ */
+public class StreamingRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> STREAMING = new ThreadLocal<>();
+
+    private static final String DEFAULT = "default";
+    private static final String STREAMING_KEY = "streaming";
+
+    public StreamingRoutingDataSource(DataSource defaultDataSource, DataSource streamingDataSource) {
+        setTargetDataSources(Map.of(DEFAULT, defaultDataSource, STREAMING_KEY, streamingDataSource));
+        setDefaultTargetDataSource(defaultDataSource);
+        afterPropertiesSet();
+    }
+
+    public static void useStreaming() {
+        STREAMING.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        STREAMING.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return Boolean.TRUE.equals(STREAMING.get()) ? STREAMING_KEY : DEFAULT;
+    }
+}
@@ -0,0 +1,28 @@
+package com.hamster.gro_up.config;
+
+import com.hamster.gro_up.util.TsidGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+/**
+ * 애플리케이션에서 만드는 ID 의 노드 번호를 정한다.
+ * 두 서버가 같은 노드 번호를 쓰면 같은 밀리초에 같은 ID 를 만들 수 있으므로, local, test 가 아니면 TSID_NODE 없이 시작하지 않는다.
+ */
+@Slf4j
+@Configuration
+public class TsidConfig {
+
+    public TsidConfig(@Value("${tsid.node:#{null}}") Integer node, Environment environment) {
+        if (node == null) {
+            if (!environment.acceptsProfiles(Profiles.of("local", "test"))) {
+                throw new IllegalStateException("TSID_NODE must be set to a node number unique per instance (0~" + TsidGenerator.MAX_NODE + ")");
+            }
+            node = TsidGenerator.hostDerivedNode();
+            log.warn("TSID_NODE is not set, using node {} derived from host name", node);
+        }
+        TsidGenerator.initDefault(node);
+    }
+}
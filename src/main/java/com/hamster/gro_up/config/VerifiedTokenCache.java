@@ -0,0 +1,120 @@
+package com.hamster.gro_up.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.hamster.gro_up.exception.auth.ExpiredTokenException;
+import com.hamster.gro_up.util.DigestUtil;
+import com.hamster.gro_up.util.JwtUtil;
+import com.hamster.gro_up.util.ParsedToken;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증이 끝난 Access Token 을 보관하는 캐시.
+ * 같은 토큰이 반복해서 들어오면 서명 검증과 클레임 디코딩을 건너뛴다.
+ * 키는 토큰 원문이 아닌 SHA-256 digest 를 사용하고, 항목은 TTL 또는 토큰 만료 시각 중 빠른 쪽에 만료된다.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, ParsedToken> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              @Value("${jwt.cache.max-size:10000}") int maxSize,
+                              @Value("${jwt.cache.ttl-ms:600000}") long ttlMs) {
+        this(jwtUtil, maxSize, ttlMs, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    // 테스트에서 시간을 돌리고, 크기 제한에 따른 제거를 바로 확인할 수 있도록 ticker 와 executor 를 받는다
+    VerifiedTokenCache(JwtUtil jwtUtil, int maxSize, long ttlMs, Ticker ticker, Executor executor) {
+        this.jwtUtil = jwtUtil;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(TimeUnit.MILLISECONDS.toNanos(ttlMs)))
+                .ticker(ticker)
+                .executor(executor)
+                .removalListener((String key, ParsedToken parsedToken, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        evictions.increment();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환하고, 없으면 토큰을 검증한 뒤 캐시에 적재한다.
+     * 만료된 토큰이면 ExpiredTokenException 을, 그 외 검증 실패 시 jjwt 예외를 그대로 던진다.
+     */
+    public ParsedToken get(String token) {
+        String key = DigestUtil.sha256(token);
+
+        ParsedToken cached = entries.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+
+        ParsedToken parsedToken = jwtUtil.parse(token);
+        if (parsedToken.isExpired()) {
+            throw new ExpiredTokenException();
+        }
+
+        entries.put(key, parsedToken);
+        return parsedToken;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.auth.cache.requests", hits, LongAdder::doubleValue)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("jwt.auth.cache.requests", misses, LongAdder::doubleValue)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("jwt.auth.cache.evictions", evictions, LongAdder::doubleValue)
+                .register(registry);
+        Gauge.builder("jwt.auth.cache.size", entries, Cache::estimatedSize)
+                .register(registry);
+    }
+
+    // ttl 과 토큰 만료 시각 중 빠른 쪽에 만료된다
+    private record TokenExpiry(long ttlNanos) implements Expiry<String, ParsedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, ParsedToken parsedToken, long currentTime) {
+            long untilExpiration = parsedToken.getExpiration().getTime() - System.currentTimeMillis();
+            return Math.min(ttlNanos, TimeUnit.MILLISECONDS.toNanos(Math.max(untilExpiration, 0)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, ParsedToken parsedToken, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, parsedToken, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, ParsedToken parsedToken, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
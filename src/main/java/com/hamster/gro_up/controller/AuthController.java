@@ -6,6 +6,7 @@ import com.hamster.gro_up.dto.request.PasswordCheckRequest;
 import com.hamster.gro_up.dto.request.PasswordUpdateRequest;
 import com.hamster.gro_up.dto.request.SigninRequest;
 import com.hamster.gro_up.dto.request.SignupRequest;
+import com.hamster.gro_up.dto.response.SessionListResponse;
 import com.hamster.gro_up.dto.response.TokenResponse;
 import com.hamster.gro_up.service.AuthService;
 import com.hamster.gro_up.service.EmailVerificationService;
@@ -16,6 +17,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -32,8 +34,10 @@ public class AuthController {
 
     @Operation(summary = "일반 회원가입")
     @PostMapping("/signup")
-    public ResponseEntity<ApiResponse<String>> signUp(@Valid @RequestBody SignupRequest signupRequest, HttpServletResponse servletResponse) {
-        TokenResponse tokenResponse = authService.signUp(signupRequest);
+    public ResponseEntity<ApiResponse<String>> signUp(@Valid @RequestBody SignupRequest signupRequest,
+                                                      @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
+                                                      HttpServletResponse servletResponse) {
+        TokenResponse tokenResponse = authService.signUp(signupRequest, userAgent);
 
         CookieUtil.addRefreshTokenCookie(servletResponse, tokenResponse.getRefreshToken());
 
@@ -43,8 +47,10 @@ public class AuthController {
 
     @Operation(summary = "일반 로그인")
     @PostMapping("/signin")
-    public ResponseEntity<ApiResponse<String>> signIn(@Valid @RequestBody SigninRequest signinRequest, HttpServletResponse servletResponse) {
-        TokenResponse tokenResponse = authService.signIn(signinRequest);
+    public ResponseEntity<ApiResponse<String>> signIn(@Valid @RequestBody SigninRequest signinRequest,
+                                                      @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
+                                                      HttpServletResponse servletResponse) {
+        TokenResponse tokenResponse = authService.signIn(signinRequest, userAgent);
 
         CookieUtil.addRefreshTokenCookie(servletResponse, tokenResponse.getRefreshToken());
 
@@ -62,7 +68,12 @@ public class AuthController {
                     .body(ApiResponse.of(HttpStatus.BAD_REQUEST, "Refresh Token 이 존재하지 않습니다.", null));
         }
 
-        authService.signOut(refreshToken);
+        String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        String accessToken = authorizationHeader != null && authorizationHeader.startsWith("Bearer ")
+                ? authorizationHeader.substring(7)
+                : null;
+
+        authService.signOut(refreshToken, accessToken);
 
         // refresh 쿠키 만료(삭제)
         CookieUtil.addExpiredRefreshTokenCookie(servletResponse);
@@ -98,7 +109,10 @@ public class AuthController {
         TokenResponse tokenResponse = authService.reissueAccessToken(refreshToken);
 
         // 새 Refresh Token 을 쿠키에 저장 (Refresh Token Rotation)
-        CookieUtil.addRefreshTokenCookie(servletResponse, tokenResponse.getRefreshToken());
+        // 동시에 보낸 재발급 요청 중 늦게 온 요청은 Refresh Token 없이 오므로 먼저 온 요청이 저장한 쿠키를 그대로 둔다
+        if (tokenResponse.getRefreshToken() != null) {
+            CookieUtil.addRefreshTokenCookie(servletResponse, tokenResponse.getRefreshToken());
+        }
 
         return ResponseEntity.ok(ApiResponse.ok(tokenResponse.getAccessToken()));
     }
@@ -113,6 +127,21 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.ok(null));
     }
 
+    @Operation(summary = "로그인된 기기(세션) 목록 조회")
+    @GetMapping("/sessions")
+    public ResponseEntity<ApiResponse<SessionListResponse>> findSessions(@AuthenticationPrincipal AuthUser authUser, HttpServletRequest request) {
+        String refreshToken = CookieUtil.extractCookie(request, CookieUtil.REFRESH_TOKEN_COOKIE_NAME);
+        SessionListResponse response = authService.findSessions(authUser, refreshToken);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @Operation(summary = "특정 기기(세션) 로그아웃")
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<ApiResponse<Void>> revokeSession(@AuthenticationPrincipal AuthUser authUser, @PathVariable String sessionId) {
+        authService.revokeSession(authUser, sessionId);
+        return ResponseEntity.ok(ApiResponse.ok(null));
+    }
+
     @Operation(summary = "비밀번호 검증")
     @PostMapping("/check-password")
     public ResponseEntity<ApiResponse<Void>> checkPassword(@AuthenticationPrincipal AuthUser authUser,
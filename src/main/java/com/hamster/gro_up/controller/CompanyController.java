@@ -2,20 +2,26 @@ package com.hamster.gro_up.controller;
 
 import com.hamster.gro_up.dto.ApiResponse;
 import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.CursorPage;
 import com.hamster.gro_up.dto.request.CompanyCreateRequest;
+import com.hamster.gro_up.dto.request.CompanyMergeRequest;
 import com.hamster.gro_up.dto.request.CompanyUpdateRequest;
 import com.hamster.gro_up.dto.response.CompanyListResponse;
+import com.hamster.gro_up.dto.response.CompanyMergeResponse;
 import com.hamster.gro_up.dto.response.CompanyNameListResponse;
 import com.hamster.gro_up.dto.response.CompanyResponse;
+import com.hamster.gro_up.dto.response.SimilarCompanyNameListResponse;
 import com.hamster.gro_up.service.CompanyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "기업", description = "기업 관련 API")
 @RequiredArgsConstructor
@@ -32,11 +38,24 @@ public class CompanyController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
-    @Operation(summary = "해당 사용자의 모든 기업 조회")
+    @Operation(summary = "해당 사용자의 기업 목록 조회", description = "응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회한다. size 는 최대 100. " +
+                          "응답의 ETag 를 If-None-Match 로 보내면 목록이 바뀌지 않은 경우 본문 없이 304 를 반환한다")
     @GetMapping
-    public ResponseEntity<ApiResponse<CompanyListResponse>> findAllCompanies(@AuthenticationPrincipal AuthUser authUser) {
-        CompanyListResponse response = companyService.findAllCompanies(authUser);
-        return ResponseEntity.ok(ApiResponse.ok(response));
+    public ResponseEntity<ApiResponse<CompanyListResponse>> findAllCompanies(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        String eTag = companyService.findCompanyListETag(authUser);
+        // 목록이 바뀌지 않았으면 checkNotModified 가 304 와 ETag 헤더를 채우므로 목록을 조회하지 않고 끝낸다
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        CursorPage<CompanyListResponse> response = companyService.findAllCompanies(authUser, cursor, size);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.ok(response.getContent(), response.getNextCursor()));
     }
 
     @Operation(summary = "기업 생성")
@@ -63,10 +82,35 @@ public class CompanyController {
         return ResponseEntity.ok(ApiResponse.ok(null));
     }
 
-    @Operation(summary = "모든 기업명 조회")
+    @Operation(summary = "기업명 조회(자동완성)",
+            description = "기업과 일정에 쓰인 기업명을 많이 쓴 순으로 조회한다. prefix 를 주면 대소문자 구분 없이 그 접두어로 시작하는 것만, " +
+                          "size 를 주면 그 개수(최대 100)까지만 반환한다")
     @GetMapping("/names")
-    public ResponseEntity<ApiResponse<CompanyNameListResponse>> findAllCompanyNames(@AuthenticationPrincipal AuthUser authUser) {
-        CompanyNameListResponse response = companyService.findAllCompanyNames(authUser);
+    public ResponseEntity<ApiResponse<CompanyNameListResponse>> findAllCompanyNames(@AuthenticationPrincipal AuthUser authUser,
+                                                                                  @RequestParam(required = false) String prefix,
+                                                                                  @RequestParam(required = false) Integer size) {
+        CompanyNameListResponse response = companyService.findAllCompanyNames(authUser, prefix, size);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @Operation(summary = "비슷한 기업명 조회(중복 확인)",
+            description = "기업을 등록하기 전에 입력한 기업명과 같은 기업으로 보이는 기존 기업명을 비슷한 순으로 조회한다. " +
+                          "대소문자, 공백, 법인 표기((주), Corp 등), 한글/영문 표기 차이(네이버, NAVER)를 무시한다. score 는 0 ~ 1, size 는 최대 100")
+    @GetMapping("/similar")
+    public ResponseEntity<ApiResponse<SimilarCompanyNameListResponse>> findSimilarCompanyNames(@AuthenticationPrincipal AuthUser authUser,
+                                                                                              @RequestParam String companyName,
+                                                                                              @RequestParam(defaultValue = "5") int size) {
+        SimilarCompanyNameListResponse response = companyService.findSimilarCompanyNames(authUser, companyName, size);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @Operation(summary = "기업 합치기",
+            description = "sourceNames 로 적힌 기업과 일정을 companyName 하나로 합친다. companyName 으로 등록된 기업이 있으면 그 기업에, " +
+                          "없으면 sourceNames 중 가장 먼저 등록된 기업의 이름을 바꿔 일정을 연결하고 나머지 기업은 삭제한다")
+    @PostMapping("/merge")
+    public ResponseEntity<ApiResponse<CompanyMergeResponse>> mergeCompanies(@AuthenticationPrincipal AuthUser authUser,
+                                                                           @Valid @RequestBody CompanyMergeRequest companyMergeRequest) {
+        CompanyMergeResponse response = companyService.mergeCompanies(authUser, companyMergeRequest);
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 }
@@ -0,0 +1,58 @@
+package com.hamster.gro_up.controller;
+
+import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.service.ExportService;
+import com.hamster.gro_up.service.ExportService.ExportPlan;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+@Tag(name = "내보내기", description = "사용자 데이터 내보내기 API")
+@RequiredArgsConstructor
+@RequestMapping("/api/export")
+@RestController
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @Operation(summary = "일정, 기업, 회고 내보내기",
+            description = "format 은 ndjson(기본) 또는 csv, type 은 all(기본), schedules, companies, retrospects. " +
+                          "csv 는 type 을 하나만 지정해야 한다. gzip=true 면 .gz 파일로 내려준다. userId 는 관리자만 지정할 수 있다")
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(@AuthenticationPrincipal AuthUser authUser,
+                                                        @RequestParam(defaultValue = "ndjson") String format,
+                                                        @RequestParam(required = false) String type,
+                                                        @RequestParam(defaultValue = "false") boolean gzip,
+                                                        @RequestParam(required = false) Long userId) {
+        ExportPlan plan = exportService.plan(authUser, userId, format, type);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                exportService.write(plan, gzipOut);
+                gzipOut.finish();
+            } else {
+                exportService.write(plan, out);
+            }
+        };
+
+        String filename = "gro-up-export-" + plan.userId() + "." + plan.format().getExtension() + (gzip ? ".gz" : "");
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : plan.format().getContentType()))
+                .body(body);
+    }
+}
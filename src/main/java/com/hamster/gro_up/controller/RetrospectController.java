@@ -2,6 +2,7 @@ package com.hamster.gro_up.controller;
 
 import com.hamster.gro_up.dto.ApiResponse;
 import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.CursorPage;
 import com.hamster.gro_up.dto.request.RetrospectCreateRequest;
 import com.hamster.gro_up.dto.request.RetrospectUpdateRequest;
 import com.hamster.gro_up.dto.response.RetrospectListResponse;
@@ -11,10 +12,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "회고", description = "회고 관련 API")
 @RequiredArgsConstructor
@@ -31,11 +34,24 @@ public class RetrospectController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
-    @Operation(summary = "해당 사용자의 모든 회고 조회")
+    @Operation(summary = "해당 사용자의 회고 목록 조회", description = "응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회한다. size 는 최대 100. " +
+                          "응답의 ETag 를 If-None-Match 로 보내면 목록이 바뀌지 않은 경우 본문 없이 304 를 반환한다")
     @GetMapping
-    public ResponseEntity<ApiResponse<RetrospectListResponse>> findAllRetrospects(@AuthenticationPrincipal AuthUser authUser) {
-        RetrospectListResponse response = retrospectService.findAllRetrospects(authUser);
-        return ResponseEntity.ok(ApiResponse.ok(response));
+    public ResponseEntity<ApiResponse<RetrospectListResponse>> findAllRetrospects(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        String eTag = retrospectService.findRetrospectListETag(authUser);
+        // 목록이 바뀌지 않았으면 checkNotModified 가 304 와 ETag 헤더를 채우므로 목록을 조회하지 않고 끝낸다
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        CursorPage<RetrospectListResponse> response = retrospectService.findAllRetrospects(authUser, cursor, size);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.ok(response.getContent(), response.getNextCursor()));
     }
 
     @Operation(summary = "회고 생성")
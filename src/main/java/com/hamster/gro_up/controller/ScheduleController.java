@@ -2,22 +2,30 @@ package com.hamster.gro_up.controller;
 
 import com.hamster.gro_up.dto.ApiResponse;
 import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.CursorPage;
+import com.hamster.gro_up.dto.request.ScheduleBulkCreateRequest;
 import com.hamster.gro_up.dto.request.ScheduleCreateRequest;
 import com.hamster.gro_up.dto.request.ScheduleUpdateRequest;
+import com.hamster.gro_up.dto.response.CalendarMonthResponse;
 import com.hamster.gro_up.dto.response.ScheduleListResponse;
 import com.hamster.gro_up.dto.response.ScheduleResponse;
+import com.hamster.gro_up.dto.response.ScheduleStatResponse;
+import com.hamster.gro_up.dto.response.StepHistoryResponse;
 import com.hamster.gro_up.service.ScheduleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 
 @Tag(name = "일정", description = "일정 관련 API")
 @RequiredArgsConstructor
@@ -34,11 +42,24 @@ public class ScheduleController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
-    @Operation(summary = "해당 사용자의 모든 일정 조회")
+    @Operation(summary = "해당 사용자의 일정 목록 조회", description = "응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회한다. size 는 최대 100. " +
+                          "응답의 ETag 를 If-None-Match 로 보내면 목록이 바뀌지 않은 경우 본문 없이 304 를 반환한다")
     @GetMapping
-    public ResponseEntity<ApiResponse<ScheduleListResponse>> findAllSchedules(@AuthenticationPrincipal AuthUser authUser) {
-        ScheduleListResponse response = scheduleService.findAllSchedules(authUser);
-        return ResponseEntity.ok(ApiResponse.ok(response));
+    public ResponseEntity<ApiResponse<ScheduleListResponse>> findAllSchedules(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        String eTag = scheduleService.findScheduleListETag(authUser);
+        // 목록이 바뀌지 않았으면 checkNotModified 가 304 와 ETag 헤더를 채우므로 목록을 조회하지 않고 끝낸다
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        CursorPage<ScheduleListResponse> response = scheduleService.findAllSchedules(authUser, cursor, size);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.ok(response.getContent(), response.getNextCursor()));
     }
 
     @Operation(summary = "일정 생성")
@@ -49,6 +70,14 @@ public class ScheduleController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.of(HttpStatus.CREATED, response));
     }
 
+    @Operation(summary = "일정 일괄 생성", description = "한 번에 최대 500개까지 생성한다")
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<ScheduleListResponse>> createSchedules(@AuthenticationPrincipal AuthUser authUser,
+                                                                             @Valid @RequestBody ScheduleBulkCreateRequest scheduleBulkCreateRequest) {
+        ScheduleListResponse response = scheduleService.createSchedules(authUser, scheduleBulkCreateRequest);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.of(HttpStatus.CREATED, response));
+    }
+
     @Operation(summary = "일정 수정")
     @PutMapping("/{scheduleId}")
     public ResponseEntity<ApiResponse<Void>> updateSchedule(@AuthenticationPrincipal AuthUser authUser,
@@ -76,6 +105,30 @@ public class ScheduleController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    @Operation(summary = "일정 단계 변경 이력 조회", description = "단계별 진입 시각과 머문 시간(초)을 오래된 순으로 반환한다")
+    @GetMapping("/{scheduleId}/history")
+    public ResponseEntity<ApiResponse<StepHistoryResponse>> findStepHistory(@AuthenticationPrincipal AuthUser authUser, @PathVariable Long scheduleId) {
+        StepHistoryResponse response = scheduleService.findStepHistory(authUser, scheduleId);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @Operation(summary = "단계별 지원 현황 조회", description = "단계별 일정 수와 이전 단계 대비 전환율을 반환한다")
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<ScheduleStatResponse>> findScheduleStats(@AuthenticationPrincipal AuthUser authUser) {
+        ScheduleStatResponse response = scheduleService.findScheduleStats(authUser);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @Operation(summary = "월별 달력 조회", description = "해당 월의 날짜별, 단계별 일정 수를 반환한다. month 는 yyyyMM 형식")
+    @GetMapping("/calendar")
+    public ResponseEntity<ApiResponse<CalendarMonthResponse>> findCalendarMonth(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam @DateTimeFormat(pattern = "yyyyMM") YearMonth month
+    ) {
+        CalendarMonthResponse response = scheduleService.findCalendarMonth(authUser, month);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
     @Operation(summary = "정확한 기업명으로 일정 검색")
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<ScheduleListResponse>> findSchedulesByCompanyName(
@@ -0,0 +1,43 @@
+package com.hamster.gro_up.controller;
+
+import com.hamster.gro_up.dto.ApiResponse;
+import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.response.ScheduleImportResponse;
+import com.hamster.gro_up.service.ScheduleImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@Tag(name = "일정 가져오기", description = "CSV, iCalendar 파일로 일정을 가져오는 API")
+@RequiredArgsConstructor
+@RequestMapping("/api/schedules/import")
+@RestController
+public class ScheduleImportController {
+
+    private final ScheduleImportService scheduleImportService;
+
+    @Operation(summary = "일정 가져오기 시작",
+            description = "csv 는 첫 줄에 companyName, dueDate 열이 있어야 하고 step, position, memo, address, addressDetail 열은 선택이다. " +
+                          "ics 는 VEVENT 의 SUMMARY, DTSTART, LOCATION, DESCRIPTION 을 읽는다. " +
+                          "기업명이 같은 기업이 있으면 연결한다. 백그라운드에서 처리하므로 응답의 jobId 로 진행 상황을 조회한다")
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ScheduleImportResponse>> importSchedules(@AuthenticationPrincipal AuthUser authUser,
+                                                                               @RequestPart MultipartFile file) {
+        ScheduleImportResponse response = scheduleImportService.start(authUser, file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.of(HttpStatus.ACCEPTED, response));
+    }
+
+    @Operation(summary = "일정 가져오기 진행 상황 조회", description = "실패한 행은 errors 에 행 번호와 사유가 담긴다")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<ScheduleImportResponse>> findImportStatus(@AuthenticationPrincipal AuthUser authUser,
+                                                                                @PathVariable String jobId) {
+        ScheduleImportResponse response = scheduleImportService.findStatus(authUser, jobId);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+}
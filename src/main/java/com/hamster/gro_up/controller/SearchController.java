@@ -0,0 +1,37 @@
+package com.hamster.gro_up.controller;
+
+import com.hamster.gro_up.dto.ApiResponse;
+import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.response.SearchResponse;
+import com.hamster.gro_up.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "검색", description = "일정, 회고 검색 API")
+@RequiredArgsConstructor
+@RequestMapping("/api/search")
+@RestController
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @Operation(summary = "일정, 회고 전문 검색",
+            description = "일정의 기업명, 직무, 메모와 회고 메모에서 검색어와 2글자 이상 겹치는 항목을 관련도 순으로 찾는다. " +
+                          "type 은 all(기본), schedules, retrospects. size 는 대상별 최대 개수로 최대 100. " +
+                          "highlights 에는 겹치는 부분을 <em> 으로 감싼 필드 값이 담긴다")
+    @GetMapping
+    public ResponseEntity<ApiResponse<SearchResponse>> search(@AuthenticationPrincipal AuthUser authUser,
+                                                              @RequestParam String q,
+                                                              @RequestParam(required = false) String type,
+                                                              @RequestParam(defaultValue = "20") int size) {
+        SearchResponse response = searchService.search(authUser, q, type, size);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+}
@@ -1,5 +1,6 @@
 package com.hamster.gro_up.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
@@ -11,6 +12,10 @@ public class ApiResponse<T> {
     private Object message;
     private T data;
 
+    // 커서 기반 목록 조회에서만 내려가며, 마지막 페이지면 생략된다
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     public ApiResponse(int code, HttpStatus status, Object message, T data) {
         this.code = code;
         this.status = status;
@@ -40,4 +45,10 @@ public class ApiResponse<T> {
     public static <T> ApiResponse<T> ok(T data) {
         return of(HttpStatus.OK, data);
     }
+
+    public static <T> ApiResponse<T> ok(T data, String nextCursor) {
+        ApiResponse<T> response = of(HttpStatus.OK, data);
+        response.nextCursor = nextCursor;
+        return response;
+    }
 }
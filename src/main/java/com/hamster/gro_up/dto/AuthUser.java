@@ -17,10 +17,10 @@ import java.util.List;
 @Getter
 public class AuthUser {
 
-    private Long id;
-    private String email;
-    private Role role;
-    private UserType userType;
+    private final Long id;
+    private final String email;
+    private final Role role;
+    private final UserType userType;
 
     public Collection<? extends GrantedAuthority> getAuthorities() {
         List<GrantedAuthority> authorities = new ArrayList<>();
@@ -0,0 +1,31 @@
+package com.hamster.gro_up.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 한 페이지 분량의 목록과 다음 페이지 커서. 마지막 페이지면 nextCursor 는 null 이다.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class CursorPage<T> {
+    private T content;
+    private String nextCursor;
+
+    /**
+     * rows 는 pageSize + 1 개까지 조회한 결과여야 한다. 하나가 더 있으면 다음 페이지가 있는 것으로 보고 잘라낸다.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int pageSize, Function<E, String> cursorOf, Function<List<E>, T> mapper) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(mapper.apply(rows), null);
+        }
+
+        List<E> page = rows.subList(0, pageSize);
+        return new CursorPage<>(mapper.apply(page), cursorOf.apply(page.get(pageSize - 1)));
+    }
+}
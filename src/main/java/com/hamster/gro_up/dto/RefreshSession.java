@@ -0,0 +1,40 @@
+package com.hamster.gro_up.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Redis 에 저장되는 Refresh 세션 한 건. 토큰 원문 대신 digest 만 보관한다.
+ * 저장 형식: digest|expiresAt|issuedAt|deviceLabel
+ */
+@AllArgsConstructor
+@Getter
+public class RefreshSession {
+
+    private static final String DELIMITER = "|";
+
+    private String sessionId;
+    private String tokenDigest;
+    private long expiresAt;
+    private long issuedAt;
+    private String deviceLabel;
+
+    public static RefreshSession parse(String sessionId, String value) {
+        String[] parts = value.split("\\|", 4);
+        return new RefreshSession(
+                sessionId,
+                parts[0],
+                Long.parseLong(parts[1]),
+                Long.parseLong(parts[2]),
+                parts.length > 3 ? parts[3] : ""
+        );
+    }
+
+    public String serialize() {
+        return tokenDigest + DELIMITER + expiresAt + DELIMITER + issuedAt + DELIMITER + deviceLabel;
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
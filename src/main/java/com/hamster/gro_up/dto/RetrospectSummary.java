@@ -0,0 +1,29 @@
+package com.hamster.gro_up.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회고 목록, 내보내기, 검색 결과 조회용 요약. 커서로 쓸 회고 id 가 RetrospectResponse 에 없으므로 따로 받는다.
+ * 조회 쿼리의 constructor expression 으로 만든다.
+ */
+@AllArgsConstructor
+@Getter
+public class RetrospectSummary {
+
+    private Long id;
+
+    private Long scheduleId;
+
+    private String memo;
+
+    private Long companyId;
+
+    private String companyName;
+
+    private String position;
+
+    private LocalDateTime createdAt;
+}
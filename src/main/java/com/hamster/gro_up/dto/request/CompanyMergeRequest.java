@@ -0,0 +1,27 @@
+package com.hamster.gro_up.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class CompanyMergeRequest {
+
+    public static final int MAX_SOURCE_NAMES = 100;
+
+    // 합친 뒤 남길 기업명
+    @NotBlank
+    private String companyName;
+
+    // companyName 으로 바꿀 기업명들
+    @NotEmpty
+    @Size(max = MAX_SOURCE_NAMES)
+    private List<String> sourceNames;
+}
@@ -0,0 +1,23 @@
+package com.hamster.gro_up.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class ScheduleBulkCreateRequest {
+
+    public static final int MAX_SIZE = 500;
+
+    @Valid
+    @NotEmpty
+    @Size(max = MAX_SIZE)
+    private List<ScheduleCreateRequest> schedules;
+}
@@ -0,0 +1,22 @@
+package com.hamster.gro_up.dto.response;
+
+import com.hamster.gro_up.entity.Step;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class CalendarDayResponse {
+
+    private LocalDate date;
+
+    private long total;
+
+    // 일정이 있는 단계만 담는다
+    private Map<Step, Long> steps;
+}
@@ -0,0 +1,23 @@
+package com.hamster.gro_up.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class CalendarMonthResponse {
+
+    private YearMonth month;
+
+    // 일정이 있는 날만 날짜순으로 담는다
+    private List<CalendarDayResponse> days;
+
+    public static CalendarMonthResponse of(YearMonth month, List<CalendarDayResponse> days) {
+        return new CalendarMonthResponse(month, days);
+    }
+}
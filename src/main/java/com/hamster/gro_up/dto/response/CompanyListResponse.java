@@ -2,10 +2,12 @@ package com.hamster.gro_up.dto.response;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @AllArgsConstructor
+@NoArgsConstructor
 @Getter
 public class CompanyListResponse {
     List<CompanyResponse> companyList;
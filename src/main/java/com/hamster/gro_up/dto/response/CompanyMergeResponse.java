@@ -0,0 +1,26 @@
+package com.hamster.gro_up.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class CompanyMergeResponse {
+
+    // 합친 뒤 남은 기업. 합친 이름 중 등록된 기업이 하나도 없으면 null
+    private Long companyId;
+
+    private String companyName;
+
+    // 기업명 또는 기업이 바뀐 일정 수
+    private int scheduleCount;
+
+    // 남은 기업으로 합쳐져 삭제된 기업 수
+    private int deletedCompanyCount;
+
+    public static CompanyMergeResponse of(Long companyId, String companyName, int scheduleCount, int deletedCompanyCount) {
+        return new CompanyMergeResponse(companyId, companyName, scheduleCount, deletedCompanyCount);
+    }
+}
@@ -3,10 +3,12 @@ package com.hamster.gro_up.dto.response;
 import com.hamster.gro_up.entity.Company;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @AllArgsConstructor
+@NoArgsConstructor
 @Getter
 public class CompanyResponse {
 
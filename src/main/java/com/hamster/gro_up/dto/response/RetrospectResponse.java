@@ -1,14 +1,17 @@
 package com.hamster.gro_up.dto.response;
 
+import com.hamster.gro_up.dto.RetrospectSummary;
 import com.hamster.gro_up.entity.Company;
 import com.hamster.gro_up.entity.Retrospect;
 import com.hamster.gro_up.entity.Schedule;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @AllArgsConstructor
+@NoArgsConstructor
 @Getter
 public class RetrospectResponse {
 
@@ -24,6 +27,17 @@ public class RetrospectResponse {
 
     private LocalDateTime createdAt;
 
+    public static RetrospectResponse from(RetrospectSummary summary) {
+        return new RetrospectResponse(
+                summary.getScheduleId(),
+                summary.getMemo(),
+                summary.getCompanyId(),
+                summary.getCompanyName(),
+                summary.getPosition(),
+                summary.getCreatedAt()
+        );
+    }
+
     public static RetrospectResponse from(Retrospect retrospect) {
         Schedule schedule = retrospect.getSchedule();
         Company company = schedule.getCompany();
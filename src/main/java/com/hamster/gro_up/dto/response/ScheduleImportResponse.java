@@ -0,0 +1,29 @@
+package com.hamster.gro_up.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class ScheduleImportResponse {
+
+    private String jobId;
+
+    private String status;
+
+    private long processed;
+
+    private long imported;
+
+    private long failed;
+
+    private List<String> errors;
+
+    public static ScheduleImportResponse of(String jobId, String status, long processed, long imported, long failed, List<String> errors) {
+        return new ScheduleImportResponse(jobId, status, processed, imported, failed, errors);
+    }
+}
@@ -1,12 +1,15 @@
 package com.hamster.gro_up.dto.response;
 
 import com.hamster.gro_up.entity.Schedule;
+import com.hamster.gro_up.entity.Step;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @AllArgsConstructor
+@NoArgsConstructor
 @Getter
 public class ScheduleResponse {
 
@@ -32,6 +35,14 @@ public class ScheduleResponse {
 
     private LocalDateTime updatedAt;
 
+    // 목록 조회 쿼리의 constructor expression 에서 사용한다
+    public ScheduleResponse(Long scheduleId, Long companyId, String companyName, String address, String addressDetail,
+                            Step step, String position, String memo,
+                            LocalDateTime dueDate, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(scheduleId, companyId, companyName, address, addressDetail, step != null ? step.getDisplayName() : null,
+                position, memo, dueDate, createdAt, updatedAt);
+    }
+
     public static ScheduleResponse from(Schedule schedule) {
         Long companyId = (schedule.getCompany() != null) ? schedule.getCompany().getId() : null;
 
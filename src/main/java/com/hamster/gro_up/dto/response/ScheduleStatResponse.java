@@ -0,0 +1,19 @@
+package com.hamster.gro_up.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class ScheduleStatResponse {
+
+    private long total;
+
+    private List<StepStatResponse> steps;
+
+    public static ScheduleStatResponse of(long total, List<StepStatResponse> steps) {
+        return new ScheduleStatResponse(total, steps);
+    }
+}
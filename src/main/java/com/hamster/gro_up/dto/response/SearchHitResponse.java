@@ -0,0 +1,24 @@
+package com.hamster.gro_up.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class SearchHitResponse<T> {
+
+    private T item;
+
+    private double score;
+
+    // 검색어와 겹치는 필드만 담기며, 값은 겹치는 부분을 <em> 으로 감싼 HTML
+    private Map<String, String> highlights;
+
+    public static <T> SearchHitResponse<T> of(T item, double score, Map<String, String> highlights) {
+        return new SearchHitResponse<>(item, score, highlights);
+    }
+}
@@ -0,0 +1,22 @@
+package com.hamster.gro_up.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class SearchResponse {
+
+    private List<SearchHitResponse<ScheduleResponse>> schedules;
+
+    private List<SearchHitResponse<RetrospectResponse>> retrospects;
+
+    public static SearchResponse of(List<SearchHitResponse<ScheduleResponse>> schedules,
+                                    List<SearchHitResponse<RetrospectResponse>> retrospects) {
+        return new SearchResponse(schedules, retrospects);
+    }
+}
@@ -0,0 +1,16 @@
+package com.hamster.gro_up.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class SessionListResponse {
+    private List<SessionResponse> sessionList;
+
+    public static SessionListResponse of(List<SessionResponse> sessionList) {
+        return new SessionListResponse(sessionList);
+    }
+}
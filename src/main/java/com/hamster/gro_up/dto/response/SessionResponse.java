@@ -0,0 +1,38 @@
+package com.hamster.gro_up.dto.response;
+
+import com.hamster.gro_up.dto.RefreshSession;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@AllArgsConstructor
+@Getter
+public class SessionResponse {
+
+    private String sessionId;
+
+    private String deviceLabel;
+
+    private LocalDateTime lastUsedAt;
+
+    private LocalDateTime expiresAt;
+
+    private boolean current;
+
+    public static SessionResponse from(RefreshSession session, boolean current) {
+        return new SessionResponse(
+                session.getSessionId(),
+                session.getDeviceLabel(),
+                toLocalDateTime(session.getIssuedAt()),
+                toLocalDateTime(session.getExpiresAt()),
+                current
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,18 @@
+package com.hamster.gro_up.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class SimilarCompanyNameListResponse {
+    private List<SimilarCompanyNameResponse> similarCompanyNameList;
+
+    public static SimilarCompanyNameListResponse of(List<SimilarCompanyNameResponse> similarCompanyNameList) {
+        return new SimilarCompanyNameListResponse(similarCompanyNameList);
+    }
+}
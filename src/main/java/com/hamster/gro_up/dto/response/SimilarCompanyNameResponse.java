@@ -0,0 +1,24 @@
+package com.hamster.gro_up.dto.response;
+
+import com.hamster.gro_up.util.NameSimilarityIndex.Match;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class SimilarCompanyNameResponse {
+
+    private String companyName;
+
+    // 기업과 일정에 쓰인 횟수
+    private long usageCount;
+
+    // 0 ~ 1. 정규화한 이름이 같으면 1
+    private double score;
+
+    public static SimilarCompanyNameResponse from(Match match) {
+        return new SimilarCompanyNameResponse(match.name(), match.usageCount(), match.score());
+    }
+}
@@ -0,0 +1,21 @@
+package com.hamster.gro_up.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class StepHistoryResponse {
+
+    private Long scheduleId;
+
+    private List<StepTransitionResponse> transitions;
+
+    public static StepHistoryResponse of(Long scheduleId, List<StepTransitionResponse> transitions) {
+        return new StepHistoryResponse(scheduleId, transitions);
+    }
+}
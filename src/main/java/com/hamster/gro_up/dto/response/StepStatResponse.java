@@ -0,0 +1,23 @@
+package com.hamster.gro_up.dto.response;
+
+import com.hamster.gro_up.entity.Step;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class StepStatResponse {
+
+    private Step step;
+
+    private String displayName;
+
+    // 현재 이 단계에 있는 일정 수
+    private long count;
+
+    // 이 단계까지 온 일정 수 (이 단계 이후에 있는 일정 포함)
+    private long reached;
+
+    // 이전 단계까지 온 일정 중 이 단계까지 온 비율. 첫 단계와 불합격은 null
+    private Double conversionRate;
+}
@@ -0,0 +1,21 @@
+package com.hamster.gro_up.dto.response;
+
+import com.hamster.gro_up.entity.Step;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class StepTransitionResponse {
+
+    private Step step;
+
+    private LocalDateTime enteredAt;
+
+    // 다음 단계로 넘어가기까지 머문 시간(초). 현재 단계는 null
+    private Long durationSeconds;
+}
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Entity
 public class Company extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @Tsid
     private Long id;
 
     private String companyName;
@@ -48,6 +48,10 @@ public class Company extends BaseEntity {
         this.url = url;
     }
 
+    public void updateCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+
     public void validateOwner(Long userId) {
         if(!this.user.getId().equals(userId)) {
             throw new ForbiddenException();
@@ -0,0 +1,70 @@
+package com.hamster.gro_up.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+public class MailOutbox extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String recipient;
+
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    private MailStatus status;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    private String lastError;
+
+    private LocalDateTime sentAt;
+
+    @Builder
+    public MailOutbox(Long id, String recipient, String subject, String body, LocalDateTime nextAttemptAt) {
+        this.id = id;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.status = MailStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // 워커가 가져간 뒤 leaseUntil 까지 끝나지 않으면(서버 종료 등) 다른 워커가 다시 가져갈 수 있다
+    public void markSending(LocalDateTime leaseUntil) {
+        this.status = MailStatus.SENDING;
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    // 본문에는 인증 코드, 비밀번호 재설정 링크가 들어 있으므로 보낸 뒤에는 남기지 않는다
+    public void markSent(LocalDateTime sentAt) {
+        this.status = MailStatus.SENT;
+        this.sentAt = sentAt;
+        this.lastError = null;
+        this.body = null;
+    }
+
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        this.status = attempts >= maxAttempts ? MailStatus.DEAD : MailStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
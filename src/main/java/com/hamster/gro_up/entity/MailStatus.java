@@ -0,0 +1,8 @@
+package com.hamster.gro_up.entity;
+
+public enum MailStatus {
+    PENDING, // 발송 대기 (재시도 대기 포함)
+    SENDING, // 워커가 가져가 발송 중
+    SENT,
+    DEAD     // 최대 재시도 횟수 초과
+}
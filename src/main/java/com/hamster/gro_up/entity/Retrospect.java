@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Entity
 public class Retrospect extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @Tsid
     private Long id;
 
     private String memo;
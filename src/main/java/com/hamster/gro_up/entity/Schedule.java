@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
 @Entity
 public class Schedule extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @Tsid
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,43 @@
+package com.hamster.gro_up.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정의 단계 변경 이력. 추가만 하고 수정/삭제하지 않으며, 일정이 삭제되어도 분석을 위해 남겨 둔다.
+ * 저장은 ScheduleStepEventService 가 트랜잭션 단위로 모아 한 번에 batch insert 한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+public class ScheduleStepEvent {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long scheduleId;
+
+    private Long userId;
+
+    // 일정이 생성될 때는 이전 단계가 없다
+    @Enumerated(EnumType.STRING)
+    private Step fromStep;
+
+    @Enumerated(EnumType.STRING)
+    private Step toStep;
+
+    private LocalDateTime occurredAt;
+
+    public ScheduleStepEvent(Long id, Long scheduleId, Long userId, Step fromStep, Step toStep, LocalDateTime occurredAt) {
+        this.id = id;
+        this.scheduleId = scheduleId;
+        this.userId = userId;
+        this.fromStep = fromStep;
+        this.toStep = toStep;
+        this.occurredAt = occurredAt;
+    }
+}
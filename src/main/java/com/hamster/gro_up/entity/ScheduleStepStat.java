@@ -0,0 +1,35 @@
+package com.hamster.gro_up.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별, 단계별 일정 수. 일정이 생성/수정/삭제될 때 같은 트랜잭션에서 한 행씩만 갱신한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@IdClass(ScheduleStepStatId.class)
+public class ScheduleStepStat {
+
+    @Id
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private Step step;
+
+    private long scheduleCount;
+
+    public ScheduleStepStat(Long userId, Step step, long scheduleCount) {
+        this.userId = userId;
+        this.step = step;
+        this.scheduleCount = scheduleCount;
+    }
+
+    public void reconcile(long scheduleCount) {
+        this.scheduleCount = scheduleCount;
+    }
+}
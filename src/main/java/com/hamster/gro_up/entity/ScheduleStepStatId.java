@@ -0,0 +1,17 @@
+package com.hamster.gro_up.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ScheduleStepStatId implements Serializable {
+
+    private Long userId;
+
+    private Step step;
+}
@@ -0,0 +1,18 @@
+package com.hamster.gro_up.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 저장 전에 애플리케이션에서 TSID 를 발급한다.
+ * IDENTITY 와 달리 INSERT 전에 ID 를 알 수 있으므로 Hibernate 가 INSERT 를 JDBC batch 로 묶을 수 있다.
+ */
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Tsid {
+}
@@ -0,0 +1,13 @@
+package com.hamster.gro_up.entity;
+
+import com.hamster.gro_up.util.TsidGenerator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+public class TsidIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return TsidGenerator.getDefault().nextId();
+    }
+}
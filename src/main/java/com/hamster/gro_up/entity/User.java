@@ -11,7 +11,7 @@ import lombok.NoArgsConstructor;
 @Entity
 public class User extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @Tsid
     private Long id;
 
     private String email;
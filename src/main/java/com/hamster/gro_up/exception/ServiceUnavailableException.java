@@ -0,0 +1,9 @@
+package com.hamster.gro_up.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    private static final String MESSAGE = "요청이 많아 일시적으로 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    public ServiceUnavailableException() {super(MESSAGE);}
+
+    public ServiceUnavailableException(String message) {super(message);}
+}
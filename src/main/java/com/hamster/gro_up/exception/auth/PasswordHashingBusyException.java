@@ -0,0 +1,11 @@
+package com.hamster.gro_up.exception.auth;
+
+import com.hamster.gro_up.exception.ServiceUnavailableException;
+
+public class PasswordHashingBusyException extends ServiceUnavailableException {
+    private static final String MESSAGE = "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    public PasswordHashingBusyException() {super(MESSAGE);}
+
+    public PasswordHashingBusyException(String message) {super(message);}
+}
@@ -0,0 +1,11 @@
+package com.hamster.gro_up.exception.auth;
+
+import com.hamster.gro_up.exception.NotFoundException;
+
+public class SessionNotFoundException extends NotFoundException {
+    private static final String MESSAGE = "해당 로그인 세션을 찾을 수 없습니다.";
+
+    public SessionNotFoundException() {super(MESSAGE);}
+
+    public SessionNotFoundException(String message) {super(message);}
+}
@@ -0,0 +1,9 @@
+package com.hamster.gro_up.exception.common;
+
+import com.hamster.gro_up.exception.BadRequestException;
+
+public class InvalidCursorException extends BadRequestException {
+    private static final String MESSAGE = "올바르지 않은 페이지 커서입니다.";
+
+    public InvalidCursorException() {super(MESSAGE);}
+}
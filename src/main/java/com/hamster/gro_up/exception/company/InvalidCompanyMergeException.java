@@ -0,0 +1,11 @@
+package com.hamster.gro_up.exception.company;
+
+import com.hamster.gro_up.exception.BadRequestException;
+
+public class InvalidCompanyMergeException extends BadRequestException {
+    private static final String MESSAGE = "합칠 기업명이 올바르지 않습니다.";
+
+    public InvalidCompanyMergeException() {super(MESSAGE);}
+
+    public InvalidCompanyMergeException(String message) {super(message);}
+}
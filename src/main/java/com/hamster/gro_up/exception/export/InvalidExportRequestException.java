@@ -0,0 +1,8 @@
+package com.hamster.gro_up.exception.export;
+
+import com.hamster.gro_up.exception.BadRequestException;
+
+public class InvalidExportRequestException extends BadRequestException {
+
+    public InvalidExportRequestException(String message) {super(message);}
+}
@@ -0,0 +1,11 @@
+package com.hamster.gro_up.exception.schedule;
+
+import com.hamster.gro_up.exception.BadRequestException;
+
+public class InvalidScheduleImportException extends BadRequestException {
+    private static final String MESSAGE = "가져올 수 없는 파일입니다.";
+
+    public InvalidScheduleImportException() {super(MESSAGE);}
+
+    public InvalidScheduleImportException(String message) {super(message);}
+}
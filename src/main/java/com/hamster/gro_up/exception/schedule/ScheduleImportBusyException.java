@@ -0,0 +1,11 @@
+package com.hamster.gro_up.exception.schedule;
+
+import com.hamster.gro_up.exception.ServiceUnavailableException;
+
+public class ScheduleImportBusyException extends ServiceUnavailableException {
+    private static final String MESSAGE = "진행 중인 가져오기 작업이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    public ScheduleImportBusyException() {super(MESSAGE);}
+
+    public ScheduleImportBusyException(String message) {super(message);}
+}
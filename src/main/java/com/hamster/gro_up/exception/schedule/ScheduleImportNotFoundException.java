@@ -0,0 +1,11 @@
+package com.hamster.gro_up.exception.schedule;
+
+import com.hamster.gro_up.exception.NotFoundException;
+
+public class ScheduleImportNotFoundException extends NotFoundException {
+    private static final String MESSAGE = "해당 가져오기 작업을 찾을 수 없습니다.";
+
+    public ScheduleImportNotFoundException() {super(MESSAGE);}
+
+    public ScheduleImportNotFoundException(String message) {super(message);}
+}
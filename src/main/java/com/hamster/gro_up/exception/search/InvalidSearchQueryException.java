@@ -0,0 +1,11 @@
+package com.hamster.gro_up.exception.search;
+
+import com.hamster.gro_up.exception.BadRequestException;
+
+public class InvalidSearchQueryException extends BadRequestException {
+    private static final String MESSAGE = "검색어가 올바르지 않습니다.";
+
+    public InvalidSearchQueryException() {super(MESSAGE);}
+
+    public InvalidSearchQueryException(String message) {super(message);}
+}
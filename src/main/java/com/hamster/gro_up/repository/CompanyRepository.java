@@ -1,17 +1,56 @@
 package com.hamster.gro_up.repository;
 
+import com.hamster.gro_up.dto.response.CompanyResponse;
 import com.hamster.gro_up.entity.Company;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CompanyRepository extends JpaRepository<Company, Long> {
-    List<Company> findByUserId(Long userId);
 
-    @Query(value = "SELECT company_name FROM company WHERE user_id = :userId " +
-                   "UNION " +
-                   "SELECT company_name FROM schedule WHERE user_id = :userId", nativeQuery = true)
-    List<String> findAllCompanyNamesByUserId(@Param("userId") Long userId);
+    String RESPONSE_COLUMNS = "new com.hamster.gro_up.dto.response.CompanyResponse(" +
+            "c.id, c.companyName, c.position, c.url, c.address, c.addressDetail, c.createdAt, c.modifiedAt)";
+
+    // 소유자 확인 때문에 엔티티로 읽지만, 변경 감지용 스냅샷은 만들지 않도록 읽기 전용으로 가져온다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select c from Company c where c.id = :id")
+    Optional<Company> findReadOnlyById(@Param("id") Long id);
+
+    // 목록 조회는 응답에 필요한 컬럼만 DTO 로 바로 읽는다
+    @Query("select " + RESPONSE_COLUMNS + " from Company c where c.user.id = :userId order by c.id asc")
+    List<CompanyResponse> findResponsesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select " + RESPONSE_COLUMNS + " from Company c where c.user.id = :userId and c.id > :id order by c.id asc")
+    List<CompanyResponse> findResponsesByUserIdAfter(@Param("userId") Long userId, @Param("id") Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ScheduleRepository.STREAM_FETCH_SIZE))
+    @Query("select " + RESPONSE_COLUMNS + " from Company c where c.user.id = :userId order by c.id asc")
+    Stream<CompanyResponse> streamResponsesByUserId(@Param("userId") Long userId);
+
+    List<Company> findAllByUserIdAndCompanyNameInOrderByIdAsc(Long userId, Collection<String> companyNames);
+
+    // 기업명 자동완성 목록을 처음 만들 때만 쓴다. 이후에는 기업, 일정이 바뀔 때마다 캐시의 횟수를 증감한다
+    @Query(value = "SELECT name, SUM(usage_count) AS usageCount FROM (" +
+                   "SELECT company_name AS name, COUNT(*) AS usage_count FROM company " +
+                   "WHERE user_id = :userId AND company_name IS NOT NULL GROUP BY company_name " +
+                   "UNION ALL " +
+                   "SELECT company_name AS name, COUNT(*) AS usage_count FROM schedule " +
+                   "WHERE user_id = :userId AND company_name IS NOT NULL GROUP BY company_name" +
+                   ") names GROUP BY name", nativeQuery = true)
+    List<CompanyNameCount> countCompanyNamesByUserId(@Param("userId") Long userId);
+
+    interface CompanyNameCount {
+        String getName();
+
+        Long getUsageCount();
+    }
 }
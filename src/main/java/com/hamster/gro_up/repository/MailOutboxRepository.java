@@ -0,0 +1,32 @@
+package com.hamster.gro_up.repository;
+
+import com.hamster.gro_up.entity.MailOutbox;
+import com.hamster.gro_up.entity.MailStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 발송할 차례가 된 메일을 잠그고 가져온다. 다른 서버가 잠근 행은 건너뛴다 (lock timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select m from MailOutbox m where m.status in :statuses and m.nextAttemptAt <= :now order by m.nextAttemptAt")
+    List<MailOutbox> findDueForUpdate(@Param("statuses") Collection<MailStatus> statuses, @Param("now") LocalDateTime now, Pageable pageable);
+
+    long countByStatusIn(Collection<MailStatus> statuses);
+
+    @Query("select m.id from MailOutbox m where m.status in :statuses and m.modifiedAt < :before order by m.id")
+    List<Long> findIdsByStatusInAndModifiedAtBefore(@Param("statuses") Collection<MailStatus> statuses, @Param("before") LocalDateTime before, Pageable pageable);
+
+    long countByStatus(MailStatus status);
+}
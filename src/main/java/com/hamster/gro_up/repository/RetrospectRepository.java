@@ -1,23 +1,56 @@
 package com.hamster.gro_up.repository;
 
+import com.hamster.gro_up.dto.RetrospectSummary;
 import com.hamster.gro_up.entity.Retrospect;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface RetrospectRepository extends JpaRepository<Retrospect, Long> {
 
+    String SUMMARY_COLUMNS = "new com.hamster.gro_up.dto.RetrospectSummary(" +
+            "r.id, s.id, r.memo, c.id, s.companyName, s.position, r.createdAt)";
+
+    // 소유자 확인 때문에 엔티티로 읽지만, 변경 감지용 스냅샷은 만들지 않도록 읽기 전용으로 가져온다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query("select r from Retrospect r " +
            "join fetch r.schedule s " +
            "where r.id = :id")
     Optional<Retrospect> findByIdWithSchedule(@Param("id") Long id);
 
+    // 목록 조회는 응답에 필요한 컬럼만 읽는다. 커서로 쓸 회고 id 가 응답에 없으므로 RetrospectSummary 로 받는다
+    @Query("select " + SUMMARY_COLUMNS + " from Retrospect r join r.schedule s left join s.company c " +
+           "where r.user.id = :userId " +
+           "order by r.id asc")
+    List<RetrospectSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    @Query("select r from Retrospect r " +
-           "join fetch r.schedule s " +
-           "where r.user.id = :userId")
-    List<Retrospect> findAllByUserIdWithSchedule(@Param("userId") Long userId);
+    @Query("select " + SUMMARY_COLUMNS + " from Retrospect r join r.schedule s left join s.company c " +
+           "where r.user.id = :userId and r.id > :id " +
+           "order by r.id asc")
+    List<RetrospectSummary> findSummariesByUserIdAfter(@Param("userId") Long userId, @Param("id") Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ScheduleRepository.STREAM_FETCH_SIZE))
+    @Query("select " + SUMMARY_COLUMNS + " from Retrospect r join r.schedule s left join s.company c " +
+           "where r.user.id = :userId " +
+           "order by r.id asc")
+    Stream<RetrospectSummary> streamSummariesByUserId(@Param("userId") Long userId);
+
+    @Query(value = "select r.id as id, match(r.memo) against (:query in boolean mode) as score " +
+                   "from retrospect r " +
+                   "where r.user_id = :userId and match(r.memo) against (:query in boolean mode) " +
+                   "order by score desc, r.id desc limit :limit", nativeQuery = true)
+    List<SearchHit> search(@Param("userId") Long userId, @Param("query") String query, @Param("limit") int limit);
+
+    @Query("select " + SUMMARY_COLUMNS + " from Retrospect r join r.schedule s left join s.company c " +
+           "where r.user.id = :userId and r.id in :ids")
+    List<RetrospectSummary> findSummariesByIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
 }
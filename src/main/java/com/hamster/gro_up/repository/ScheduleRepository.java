@@ -1,26 +1,162 @@
 package com.hamster.gro_up.repository;
 
+import com.hamster.gro_up.dto.response.ScheduleResponse;
+import com.hamster.gro_up.entity.Company;
 import com.hamster.gro_up.entity.Schedule;
+import com.hamster.gro_up.entity.Step;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
+
+    String RESPONSE_COLUMNS = "new com.hamster.gro_up.dto.response.ScheduleResponse(" +
+            "s.id, c.id, s.companyName, s.address, s.addressDetail, s.step, s.position, s.memo, s.dueDate, s.createdAt, s.modifiedAt)";
+
+    String REMINDER_COLUMNS = "s.id as id, s.user.id as userId, s.companyName as companyName, s.position as position, " +
+            "s.step as step, s.dueDate as dueDate";
+
+    // 내보내기처럼 끝까지 읽는 조회는 이 크기만큼씩 DB 커서에서 가져온다 (MySQL 은 useCursorFetch 필요)
+    String STREAM_FETCH_SIZE = "1000";
+
+    // 소유자 확인 때문에 엔티티로 읽지만, 변경 감지용 스냅샷은 만들지 않도록 읽기 전용으로 가져온다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query("select s from Schedule s left join fetch s.company where s.id = :id")
     Optional<Schedule> findByIdWithCompany(@Param("id") Long id);
 
-    @Query("select s from Schedule s left join fetch s.company where s.user.id = :userId")
-    List<Schedule> findByUserIdWithCompany(@Param("userId") Long userId);
+    // 목록 조회는 응답에 필요한 컬럼만 DTO 로 바로 읽는다. 엔티티, 스냅샷, 프록시를 만들지 않는다
+    @Query("select " + RESPONSE_COLUMNS + " from Schedule s left join s.company c where s.user.id = :userId " +
+           "order by s.dueDate asc, s.id asc")
+    List<ScheduleResponse> findResponsesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // (dueDate, id) 가 커서보다 뒤인 일정. (user_id, due_date, id) 인덱스를 타고 offset 없이 이어서 읽는다
+    @Query("select " + RESPONSE_COLUMNS + " from Schedule s left join s.company c where s.user.id = :userId " +
+           "and (s.dueDate > :dueDate or (s.dueDate = :dueDate and s.id > :id)) " +
+           "order by s.dueDate asc, s.id asc")
+    List<ScheduleResponse> findResponsesByUserIdAfter(@Param("userId") Long userId,
+                                                      @Param("dueDate") LocalDateTime dueDate,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
+
+    @Query("select " + RESPONSE_COLUMNS + " from Schedule s left join s.company c where s.user.id = :userId " +
+           "and s.dueDate between :start and :end " +
+           "order by s.dueDate asc")
+    List<ScheduleResponse> findResponsesInRange(@Param("userId") Long userId,
+                                                @Param("start") LocalDateTime start,
+                                                @Param("end") LocalDateTime end);
+
+    @Query("select " + RESPONSE_COLUMNS + " from Schedule s left join s.company c where s.user.id = :userId " +
+           "and s.companyName = :companyName")
+    List<ScheduleResponse> findResponsesByCompanyName(@Param("userId") Long userId, @Param("companyName") String companyName);
+
+    // 내보내기용. 한 번에 fetch size 만큼만 읽으므로 일정 수와 관계없이 메모리 사용량이 일정하다. 트랜잭션 안에서 닫을 때까지 소비해야 한다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("select " + RESPONSE_COLUMNS + " from Schedule s left join s.company c where s.user.id = :userId order by s.id asc")
+    Stream<ScheduleResponse> streamResponsesByUserId(@Param("userId") Long userId);
+
+    // MySQL FULLTEXT(ngram) 인덱스로 기업명, 직무, 메모를 찾는다. LIKE '%검색어%' 와 달리 테이블 전체를 읽지 않는다
+    // query 는 +"구문" 형식의 boolean mode 검색식이다
+    @Query(value = "select s.id as id, match(s.company_name, s.position, s.memo) against (:query in boolean mode) as score " +
+                   "from schedule s " +
+                   "where s.user_id = :userId and match(s.company_name, s.position, s.memo) against (:query in boolean mode) " +
+                   "order by score desc, s.id desc limit :limit", nativeQuery = true)
+    List<SearchHit> search(@Param("userId") Long userId, @Param("query") String query, @Param("limit") int limit);
+
+    @Query("select " + RESPONSE_COLUMNS + " from Schedule s left join s.company c where s.user.id = :userId and s.id in :ids")
+    List<ScheduleResponse> findResponsesByIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    // 기업 합치기용. 일정을 하나씩 읽지 않고 한 번에 바꾼다
+    // 벌크 update 는 auditing 을 거치지 않으므로 modifiedAt 을 직접 바꾼다
+    @Modifying
+    @Query("update Schedule s set s.company = :company, s.companyName = :companyName, s.modifiedAt = local datetime " +
+           "where s.user.id = :userId and s.companyName in :companyNames")
+    int updateCompanyByCompanyNameIn(@Param("userId") Long userId,
+                                     @Param("companyNames") Collection<String> companyNames,
+                                     @Param("company") Company company,
+                                     @Param("companyName") String companyName);
+
+    @Modifying
+    @Query("update Schedule s set s.company = :company, s.companyName = :companyName, s.modifiedAt = local datetime " +
+           "where s.user.id = :userId and s.company in :companies")
+    int updateCompanyByCompanyIn(@Param("userId") Long userId,
+                                 @Param("companies") Collection<Company> companies,
+                                 @Param("company") Company company,
+                                 @Param("companyName") String companyName);
+
+    // 합칠 기업명 중 등록된 기업이 없으면 기업 연결은 그대로 두고 기업명만 바꾼다
+    @Modifying
+    @Query("update Schedule s set s.companyName = :companyName, s.modifiedAt = local datetime " +
+           "where s.user.id = :userId and s.companyName in :companyNames")
+    int updateCompanyNameByCompanyNameIn(@Param("userId") Long userId,
+                                         @Param("companyNames") Collection<String> companyNames,
+                                         @Param("companyName") String companyName);
+
+    // 달력 화면용 날짜, 단계별 일정 수. (user_id, due_date, id) 인덱스 범위만 읽고 DB 에서 바로 집계한다
+    @Query("select cast(s.dueDate as LocalDate) as dueDay, s.step as step, count(s) as scheduleCount from Schedule s " +
+           "where s.user.id = :userId and s.dueDate >= :start and s.dueDate < :end " +
+           "group by cast(s.dueDate as LocalDate), s.step")
+    List<DayStepCount> countByDayAndStep(@Param("userId") Long userId,
+                                         @Param("start") LocalDateTime start,
+                                         @Param("end") LocalDateTime end);
+
+    // 단계별 통계 재계산용
+    @Query("select s.user.id as userId, s.step as step, count(s) as scheduleCount from Schedule s " +
+           "where s.user.id in :userIds and s.step is not null " +
+           "group by s.user.id, s.step")
+    List<UserStepCount> countByUserIdInGroupByStep(@Param("userIds") Collection<Long> userIds);
+
+    // 일정 알림용. 알림을 넣을 때가 아니라 보낼 때 읽으므로 그 사이에 바뀐 기업명, 일시가 반영된다
+    @Query("select " + REMINDER_COLUMNS + " from Schedule s where s.id in :ids")
+    List<ReminderView> findReminderViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 일정 알림 적재용. 사용자와 관계없이 (due_date, id) 인덱스를 타고 (dueDate, id) 커서 뒤부터 end 까지 끊어 읽는다
+    @Query("select " + REMINDER_COLUMNS + " from Schedule s where s.dueDate <= :end " +
+           "and (s.dueDate > :dueDate or (s.dueDate = :dueDate and s.id > :id)) " +
+           "order by s.dueDate asc, s.id asc")
+    List<ReminderView> findReminderViewsDueUntil(@Param("end") LocalDateTime end,
+                                                 @Param("dueDate") LocalDateTime dueDate,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    interface DayStepCount {
+        LocalDate getDueDay();
+
+        Step getStep();
+
+        long getScheduleCount();
+    }
+
+    interface UserStepCount {
+        Long getUserId();
+
+        Step getStep();
+
+        long getScheduleCount();
+    }
+
+    interface ReminderView {
+        Long getId();
+
+        Long getUserId();
+
+        String getCompanyName();
+
+        String getPosition();
 
-    @Query("SELECT s FROM Schedule s " + "WHERE s.user.id = :userId " + "AND s.dueDate BETWEEN :start AND :end " + "ORDER BY s.dueDate ASC")
-    List<Schedule> findSchedulesInRange(
-            @Param("userId") Long userId,
-            @Param("start") LocalDateTime start,
-            @Param("end") LocalDateTime end);
+        Step getStep();
 
-    List<Schedule> findByUserIdAndCompanyName(Long userId, String companyName);
+        LocalDateTime getDueDate();
+    }
 }
@@ -0,0 +1,11 @@
+package com.hamster.gro_up.repository;
+
+import com.hamster.gro_up.entity.ScheduleStepEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ScheduleStepEventRepository extends JpaRepository<ScheduleStepEvent, Long> {
+
+    List<ScheduleStepEvent> findByScheduleIdOrderByOccurredAtAscIdAsc(Long scheduleId);
+}
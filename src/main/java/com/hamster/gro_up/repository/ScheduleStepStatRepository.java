@@ -0,0 +1,29 @@
+package com.hamster.gro_up.repository;
+
+import com.hamster.gro_up.entity.ScheduleStepStat;
+import com.hamster.gro_up.entity.ScheduleStepStatId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ScheduleStepStatRepository extends JpaRepository<ScheduleStepStat, ScheduleStepStatId> {
+
+    List<ScheduleStepStat> findByUserId(Long userId);
+
+    // 재계산 중에 들어온 증감이 덮어써지지 않도록 잠그고 읽는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ScheduleStepStat s where s.userId in :userIds")
+    List<ScheduleStepStat> findByUserIdInForUpdate(@Param("userIds") Collection<Long> userIds);
+
+    // 행이 없으면 만들고 있으면 더한다. 어긋난 값이 음수가 되지는 않게 0 에서 멈추고, 재계산 때 바로잡는다
+    @Modifying
+    @Query(value = "INSERT INTO schedule_step_stat (user_id, step, schedule_count) VALUES (:userId, :step, GREATEST(:delta, 0)) " +
+                   "ON DUPLICATE KEY UPDATE schedule_count = GREATEST(schedule_count + :delta, 0)", nativeQuery = true)
+    void addCount(@Param("userId") Long userId, @Param("step") String step, @Param("delta") long delta);
+}
@@ -0,0 +1,8 @@
+package com.hamster.gro_up.repository;
+
+// 전문 검색 결과. score 는 MATCH ... AGAINST 의 관련도 점수
+public interface SearchHit {
+    Long getId();
+
+    Double getScore();
+}
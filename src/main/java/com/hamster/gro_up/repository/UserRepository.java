@@ -3,6 +3,8 @@ package com.hamster.gro_up.repository;
 import com.hamster.gro_up.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,4 +12,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    // 가입 이메일 필터 재구성용. id 기준으로 끊어서 조회해 전체 테이블을 한 번에 올리지 않는다
+    List<EmailView> findTop1000ByIdGreaterThanOrderByIdAsc(Long id);
+
+    List<EmailView> findAllByIdIn(Collection<Long> ids);
+
+    interface EmailView {
+        Long getId();
+
+        String getEmail();
+    }
 }
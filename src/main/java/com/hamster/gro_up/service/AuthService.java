@@ -5,6 +5,8 @@ import com.hamster.gro_up.dto.request.PasswordCheckRequest;
 import com.hamster.gro_up.dto.request.PasswordUpdateRequest;
 import com.hamster.gro_up.dto.request.SigninRequest;
 import com.hamster.gro_up.dto.request.SignupRequest;
+import com.hamster.gro_up.dto.response.SessionListResponse;
+import com.hamster.gro_up.dto.response.SessionResponse;
 import com.hamster.gro_up.dto.response.TokenResponse;
 import com.hamster.gro_up.entity.Role;
 import com.hamster.gro_up.entity.User;
@@ -13,18 +15,19 @@ import com.hamster.gro_up.exception.auth.*;
 import com.hamster.gro_up.exception.user.DuplicateUserException;
 import com.hamster.gro_up.exception.user.UserNotFoundException;
 import com.hamster.gro_up.repository.UserRepository;
+import com.hamster.gro_up.service.RefreshTokenService.RotationResult;
+import com.hamster.gro_up.util.DigestUtil;
 import com.hamster.gro_up.util.JwtUtil;
+import com.hamster.gro_up.util.ParsedToken;
 import com.hamster.gro_up.util.TokenType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -34,20 +37,19 @@ import java.util.concurrent.TimeUnit;
 @Service
 public class AuthService {
 
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final UserRepository userRepository;
     private final EmailVerificationService emailVerificationService;
     private final RefreshTokenService refreshTokenService;
+    private final RegisteredEmailService registeredEmailService;
+    private final TokenRevocationService tokenRevocationService;
     private final JwtUtil jwtUtil;
     private final StringRedisTemplate redisTemplate;
-    private final JavaMailSender mailSender;
-
-    @Value("${spring.mail.from}")
-    private String fromAddress;
+    private final MailOutboxService mailOutboxService;
 
     @Transactional
-    public TokenResponse signUp(SignupRequest signupRequest) {
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
+    public TokenResponse signUp(SignupRequest signupRequest, String deviceLabel) {
+        if (registeredEmailService.existsByEmail(signupRequest.getEmail())) {
             throw new DuplicateUserException();
         }
 
@@ -55,7 +57,7 @@ public class AuthService {
             throw new EmailNotVerifiedException();
         }
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
+        String encodedPassword = passwordHashingService.encode(signupRequest.getPassword());
 
         User user = User.builder()
                 .email(signupRequest.getEmail())
@@ -64,48 +66,78 @@ public class AuthService {
                 .userType(UserType.LOCAL)
                 .build();
 
-        User savedUser = userRepository.save(user);
+        // 필터가 아직 모르는 이메일이 동시에 가입되는 경우는 DB unique 제약으로 막는다
+        // ID 를 애플리케이션에서 만들므로 save 만으로는 INSERT 가 commit 때로 미뤄진다. 바로 flush 해서 여기서 위반을 받는다
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateUserException();
+        }
+
+        registeredEmailService.register(savedUser.getEmail());
 
+        String familyId = UUID.randomUUID().toString();
         String accessToken = jwtUtil.createToken(TokenType.ACCESS, UserType.LOCAL, savedUser.getId(), savedUser.getEmail(), savedUser.getRole());
-        String refreshToken = jwtUtil.createToken(TokenType.REFRESH, UserType.LOCAL, savedUser.getId(), savedUser.getEmail(), savedUser.getRole());
+        String refreshToken = jwtUtil.createToken(TokenType.REFRESH, UserType.LOCAL, savedUser.getId(), savedUser.getEmail(), savedUser.getRole(), familyId);
 
-        refreshTokenService.saveRefreshToken(refreshToken, savedUser.getEmail());
+        refreshTokenService.saveRefreshToken(refreshToken, savedUser.getEmail(), familyId, deviceLabel);
 
         return TokenResponse.of(accessToken, refreshToken);
     }
 
-    public TokenResponse signIn(SigninRequest signinRequest) {
+    @Transactional
+    public TokenResponse signIn(SigninRequest signinRequest, String deviceLabel) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 UserNotFoundException::new);
 
-        if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(signinRequest.getPassword(), user.getPassword())) {
             throw new InvalidCredentialsException();
         }
 
+        // 저장된 해시의 cost 가 현재 설정과 다르면 로그인에 성공한 김에 다시 해시
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            user.updatePassword(passwordHashingService.rehash(signinRequest.getPassword()));
+        }
+
+        String familyId = UUID.randomUUID().toString();
         String accessToken = jwtUtil.createToken(TokenType.ACCESS, UserType.LOCAL, user.getId(), user.getEmail(), user.getRole());
-        String refreshToken = jwtUtil.createToken(TokenType.REFRESH, UserType.LOCAL, user.getId(), user.getEmail(), user.getRole());
+        String refreshToken = jwtUtil.createToken(TokenType.REFRESH, UserType.LOCAL, user.getId(), user.getEmail(), user.getRole(), familyId);
 
-        refreshTokenService.saveRefreshToken(refreshToken, user.getEmail());
+        refreshTokenService.saveRefreshToken(refreshToken, user.getEmail(), familyId, deviceLabel);
 
         return TokenResponse.of(accessToken, refreshToken);
     }
 
-    public void signOut(String refreshToken) {
-        if (jwtUtil.isExpired(refreshToken)) {
+    public void signOut(String refreshToken, String accessToken) {
+        ParsedToken parsedToken = jwtUtil.parse(refreshToken);
+
+        if (parsedToken.isExpired()) {
             throw new ExpiredTokenException();
         }
 
-        String tokenType = jwtUtil.getTokenType(refreshToken);
-        if (!tokenType.equalsIgnoreCase(TokenType.REFRESH.name())) {
+        if (!parsedToken.isTokenType(TokenType.REFRESH)) {
             throw new InvalidTokenException("Refresh Token 이 아닙니다.");
         }
 
-        String email = jwtUtil.getEmail(refreshToken);
-        if (!refreshTokenService.existsByEmail(email)) {
+        // 현재 기기의 세션만 종료. 세션(familyId)이 생기기 전에 발급된 토큰은 이전 방식으로 저장된 토큰을 지운다
+        boolean deleted = parsedToken.getFamilyId() == null
+                ? refreshTokenService.consumeLegacyRefreshToken(parsedToken.getEmail(), refreshToken)
+                : refreshTokenService.deleteSession(parsedToken.getEmail(), parsedToken.getFamilyId());
+        if (!deleted) {
             throw new InvalidTokenException("이미 로그아웃된 사용자입니다.");
         }
 
-        refreshTokenService.deleteRefreshToken(email);
+        // 로그아웃한 기기의 Access Token 은 만료 전이라도 더 이상 사용할 수 없도록 폐기
+        if (accessToken != null) {
+            ParsedToken parsedAccessToken = jwtUtil.parse(accessToken);
+
+            if (!parsedAccessToken.isExpired()
+                    && parsedAccessToken.isTokenType(TokenType.ACCESS)
+                    && parsedAccessToken.getSubject().equals(parsedToken.getSubject())) {
+                tokenRevocationService.revokeToken(parsedAccessToken);
+            }
+        }
     }
 
     public TokenResponse reissueAccessToken(String refreshToken) {
@@ -113,33 +145,55 @@ public class AuthService {
             throw new InvalidTokenException();
         }
 
-        if (jwtUtil.isExpired(refreshToken)) {
+        // 서명 검증은 여기서 한 번만 수행
+        ParsedToken parsedToken = jwtUtil.parse(refreshToken);
+
+        if (parsedToken.isExpired()) {
             throw new ExpiredTokenException();
         }
 
-        String tokenType = jwtUtil.getTokenType(refreshToken);
-        if (!tokenType.equalsIgnoreCase(TokenType.REFRESH.name())) {
+        if (!parsedToken.isTokenType(TokenType.REFRESH)) {
             throw new TokenTypeMismatchException();
         }
 
-        AuthUser authUser = jwtUtil.getAuthUserFromToken(refreshToken);
+        AuthUser authUser = parsedToken.getAuthUser();
         String email = authUser.getEmail();
 
-        String storedRefreshToken = refreshTokenService.getRefreshToken(authUser.getEmail());
-        if (storedRefreshToken == null) {
-            throw new TokenNotFoundException();
+        // familyId 는 세션 ID 로도 쓰이므로 Rotation 후에도 그대로 유지
+        String familyId = parsedToken.getFamilyId();
+        if (familyId == null) {
+            return reissueLegacyToken(authUser, refreshToken);
         }
 
-        if (!storedRefreshToken.equals(refreshToken)) {
-            throw new InvalidTokenException("Refresh Token 이 일치하지 않습니다.");
+        String newAccessToken = jwtUtil.createToken(TokenType.ACCESS, authUser.getUserType(), authUser.getId(), email, authUser.getRole());
+        String newRefreshToken = jwtUtil.createToken(TokenType.REFRESH, authUser.getUserType(), authUser.getId(), email, authUser.getRole(), familyId);
+
+        // Refresh Token Rotation (RTR): 비교와 교체를 Redis 에서 한 번에 처리
+        RotationResult rotationResult = refreshTokenService.rotateRefreshToken(email, refreshToken, newRefreshToken, familyId);
+
+        switch (rotationResult) {
+            case NOT_FOUND -> throw new TokenNotFoundException();
+            case REUSED -> throw new InvalidTokenException("이미 사용된 Refresh Token 입니다. 다시 로그인해주세요.");
+            // 먼저 온 요청이 새 Refresh Token 을 내려 주었으므로 Access Token 만 발급한다
+            case GRACE -> {
+                return TokenResponse.of(newAccessToken, null);
+            }
         }
 
-        String newAccessToken = jwtUtil.createToken(TokenType.ACCESS, authUser.getUserType(), authUser.getId(), email, authUser.getRole());
-        String newRefreshToken = jwtUtil.createToken(TokenType.REFRESH, authUser.getUserType(), authUser.getId(), email, authUser.getRole());
+        return TokenResponse.of(newAccessToken, newRefreshToken);
+    }
 
-        // Refresh Token Rotation (RTR)
-        refreshTokenService.deleteRefreshToken(email);
-        refreshTokenService.saveRefreshToken(newRefreshToken, email);
+    // 세션(familyId)이 생기기 전에 발급된 토큰은 이전 방식으로 저장된 토큰과 같을 때 한 번만 새 세션으로 옮겨 준다
+    private TokenResponse reissueLegacyToken(AuthUser authUser, String refreshToken) {
+        if (!refreshTokenService.consumeLegacyRefreshToken(authUser.getEmail(), refreshToken)) {
+            throw new TokenNotFoundException();
+        }
+
+        String familyId = UUID.randomUUID().toString();
+        String newAccessToken = jwtUtil.createToken(TokenType.ACCESS, authUser.getUserType(), authUser.getId(), authUser.getEmail(), authUser.getRole());
+        String newRefreshToken = jwtUtil.createToken(TokenType.REFRESH, authUser.getUserType(), authUser.getId(), authUser.getEmail(), authUser.getRole(), familyId);
+
+        refreshTokenService.saveRefreshToken(newRefreshToken, authUser.getEmail(), familyId, null);
 
         return TokenResponse.of(newAccessToken, newRefreshToken);
     }
@@ -148,7 +202,8 @@ public class AuthService {
     public void deleteAccount(AuthUser authUser) {
         User user = userRepository.findById(authUser.getId()).orElseThrow(UserNotFoundException::new);
 
-        refreshTokenService.deleteRefreshToken(authUser.getEmail());
+        refreshTokenService.deleteAllSessions(authUser.getEmail());
+        tokenRevocationService.revokeAllTokens(authUser.getId());
 
         userRepository.delete(user);
     }
@@ -156,7 +211,7 @@ public class AuthService {
     public void checkPassword(AuthUser authUser, PasswordCheckRequest passwordCheckRequest) {
         User user = userRepository.findById(authUser.getId()).orElseThrow(UserNotFoundException::new);
 
-        if (!passwordEncoder.matches(passwordCheckRequest.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(passwordCheckRequest.getPassword(), user.getPassword())) {
             throw new InvalidCredentialsException("비밀번호가 일치하지 않습니다.");
         }
     }
@@ -170,12 +225,7 @@ public class AuthService {
         //TODO: front-end url 로 변경해야함.
         String resetUrl = "https://gro-up.shop/reset-password?token=" + token;
 
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(fromAddress);
-        message.setTo(email);
-        message.setSubject("비밀번호 재설정 안내");
-        message.setText("아래 링크를 클릭해 비밀번호를 재설정하세요:\n" + resetUrl);
-        mailSender.send(message);
+        mailOutboxService.enqueue(email, "비밀번호 재설정 안내", "아래 링크를 클릭해 비밀번호를 재설정하세요:\n" + resetUrl);
     }
 
     @Transactional
@@ -188,13 +238,14 @@ public class AuthService {
 
         User user = userRepository.findById(Long.valueOf(userId)).orElseThrow(UserNotFoundException::new);
 
-        String encodedNewPassword = passwordEncoder.encode(passwordUpdateRequest.getPassword());
+        String encodedNewPassword = passwordHashingService.encode(passwordUpdateRequest.getPassword());
 
         user.updatePassword(encodedNewPassword);
 
         redisTemplate.delete(token);
 
-        refreshTokenService.deleteRefreshToken(user.getEmail());
+        refreshTokenService.deleteAllSessions(user.getEmail());
+        tokenRevocationService.revokeAllTokens(user.getId());
     }
 
     @Transactional
@@ -209,7 +260,7 @@ public class AuthService {
             throw new PasswordChangeNotAllowedException();
         }
 
-        String encodedNewPassword = passwordEncoder.encode(passwordUpdateRequest.getPassword());
+        String encodedNewPassword = passwordHashingService.encode(passwordUpdateRequest.getPassword());
 
         user.updatePassword(encodedNewPassword);
     }
@@ -218,15 +269,32 @@ public class AuthService {
     public void updatePassword(AuthUser authUser, PasswordUpdateRequest passwordUpdateRequest) {
         User user = userRepository.findById(authUser.getId()).orElseThrow(UserNotFoundException::new);
 
-        String encodedPassword = passwordEncoder.encode(passwordUpdateRequest.getPassword());
+        String encodedPassword = passwordHashingService.encode(passwordUpdateRequest.getPassword());
 
         user.updatePassword(encodedPassword);
 
-        refreshTokenService.deleteRefreshToken(authUser.getEmail());
+        refreshTokenService.deleteAllSessions(authUser.getEmail());
+        tokenRevocationService.revokeAllTokens(authUser.getId());
+    }
+
+    public SessionListResponse findSessions(AuthUser authUser, String currentRefreshToken) {
+        String currentDigest = currentRefreshToken != null ? DigestUtil.shortSha256(currentRefreshToken) : null;
+
+        List<SessionResponse> responseList = refreshTokenService.findSessions(authUser.getEmail()).stream()
+                .map(session -> SessionResponse.from(session, session.getTokenDigest().equals(currentDigest)))
+                .toList();
+
+        return SessionListResponse.of(responseList);
+    }
+
+    public void revokeSession(AuthUser authUser, String sessionId) {
+        if (!refreshTokenService.deleteSession(authUser.getEmail(), sessionId)) {
+            throw new SessionNotFoundException();
+        }
     }
 
     public void checkEmailDuplicate(String email) {
-        if (userRepository.existsByEmail(email)) {
+        if (registeredEmailService.existsByEmail(email)) {
             throw new DuplicateUserException();
         }
     }
@@ -0,0 +1,334 @@
+package com.hamster.gro_up.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hamster.gro_up.repository.CompanyRepository;
+import com.hamster.gro_up.repository.CompanyRepository.CompanyNameCount;
+import com.hamster.gro_up.util.NamePrefixIndex;
+import com.hamster.gro_up.util.NameSimilarityIndex.Match;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자별 기업명 자동완성.
+ * 기업과 일정에 쓰인 기업명별 사용 횟수를 Redis hash 에 두고, 서버마다 그 내용을 정렬 배열 색인(NamePrefixIndex)으로 들고 있다.
+ * 기업, 일정이 바뀌면 커밋 이후 DB 를 다시 읽지 않고 로컬 색인과 Redis 의 횟수만 증감하며, 다른 서버의 로컬 색인은 pub/sub 으로 지운다.
+ * Redis 에 목록이 없으면 DB 에서 한 번 세어 다시 만들고, Redis 장애 시에는 DB 에서 센 결과로 답한다.
+ */
+@Slf4j
+@Service
+public class CompanyNameSuggestService implements MessageListener, MeterBinder {
+
+    public static final String CHANNEL = "company-name-invalidation";
+
+    private static final String KEY_PREFIX = "companyNames:";
+    // 목록이 비어 있어도 키가 남도록 넣어 두는 field
+    private static final String PLACEHOLDER = "";
+
+    private static final RedisScript<Long> REBUILD_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/rebuild-company-names.lua"), Long.class);
+    private static final RedisScript<Long> UPDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/update-company-names.lua"), Long.class);
+
+    private final CompanyRepository companyRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long ttlMs;
+    private final Cache<Long, NamePrefixIndex> entries;
+
+    // 자기가 보낸 무효화 메시지는 이미 로컬 색인에 반영했으므로 무시한다
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisLoads = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public CompanyNameSuggestService(CompanyRepository companyRepository,
+                                     StringRedisTemplate redisTemplate,
+                                     RedisMessageListenerContainer listenerContainer,
+                                     @Value("${cache.company-names.local.max-size:10000}") int localMaxSize,
+                                     @Value("${cache.company-names.local.ttl-ms:60000}") long localTtlMs,
+                                     @Value("${cache.company-names.redis.ttl-ms:86400000}") long ttlMs) {
+        this.companyRepository = companyRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.ttlMs = ttlMs;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfter(new LocalExpiry(TimeUnit.MILLISECONDS.toNanos(localTtlMs)))
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * prefix 로 시작하는 기업명을 사용 횟수가 많은 순으로 반환한다. limit 이 0 이하면 모두 반환한다.
+     */
+    public List<String> suggest(Long userId, String prefix, int limit) {
+        return index(userId).suggest(prefix, limit);
+    }
+
+    /**
+     * name 과 같은 기업으로 보이는 기업명을 비슷한 순으로 반환한다. 기업을 등록할 때 중복을 알려 주는 데 쓴다.
+     */
+    public List<Match> findSimilar(Long userId, String name, double threshold, int limit) {
+        return index(userId).similarityIndex().findSimilar(name, threshold, limit);
+    }
+
+    public void addAfterCommit(Long userId, Collection<String> names) {
+        Map<String, Long> deltas = new HashMap<>();
+        names.forEach(name -> addDelta(deltas, name, 1));
+        applyAfterCommit(userId, deltas);
+    }
+
+    public void removeAfterCommit(Long userId, String name) {
+        Map<String, Long> deltas = new HashMap<>();
+        addDelta(deltas, name, -1);
+        applyAfterCommit(userId, deltas);
+    }
+
+    // 기업명이 그대로면 아무것도 하지 않는다
+    public void renameAfterCommit(Long userId, String previousName, String name) {
+        Map<String, Long> deltas = new HashMap<>();
+        addDelta(deltas, previousName, -1);
+        addDelta(deltas, name, 1);
+        deltas.values().removeIf(delta -> delta == 0);
+        applyAfterCommit(userId, deltas);
+    }
+
+    private void addDelta(Map<String, Long> deltas, String name, long delta) {
+        if (name != null && !name.isBlank()) {
+            deltas.merge(name, delta, Long::sum);
+        }
+    }
+
+    // 기업명을 한꺼번에 바꿔 증감을 따로 셀 수 없을 때 (기업 합치기) 목록을 지우고 다음 조회 때 DB 에서 다시 만든다
+    public void evictAfterCommit(Long userId) {
+        afterCommit(() -> evict(userId));
+    }
+
+    // 커밋 전에 반영하면 롤백된 기업명이 목록에 남을 수 있으므로 커밋 이후에 반영한다
+    private void applyAfterCommit(Long userId, Map<String, Long> deltas) {
+        if (!deltas.isEmpty()) {
+            afterCommit(() -> apply(userId, deltas));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    void apply(Long userId, Map<String, Long> deltas) {
+        entries.asMap().computeIfPresent(userId, (key, index) -> index.apply(deltas));
+
+        List<String> args = new ArrayList<>(deltas.size() * 2 + 1);
+        args.add(String.valueOf(ttlMs));
+        deltas.forEach((name, delta) -> {
+            args.add(name);
+            args.add(String.valueOf(delta));
+        });
+
+        try {
+            redisTemplate.execute(UPDATE_SCRIPT, List.of(key(userId), versionKey(userId)), args.toArray());
+            redisTemplate.convertAndSend(CHANNEL, instanceId + ":" + userId);
+        } catch (DataAccessException e) {
+            // 반영하지 못한 목록은 틀린 횟수를 주므로 지워서 다음 조회 때 다시 만든다
+            log.warn("Failed to update company names. userId={}", userId, e);
+            try {
+                redisTemplate.delete(key(userId));
+            } catch (DataAccessException ignored) {
+                // TTL 이 지나면 사라진다
+            }
+        }
+    }
+
+    // version 을 올려 두면 진행 중이던 rebuild 가 지운 뒤에 이전 내용으로 다시 채우지 못한다
+    void evict(Long userId) {
+        entries.invalidate(userId);
+
+        try {
+            redisTemplate.opsForValue().increment(versionKey(userId));
+            redisTemplate.expire(versionKey(userId), Duration.ofMillis(ttlMs));
+            redisTemplate.delete(key(userId));
+            redisTemplate.convertAndSend(CHANNEL, instanceId + ":" + userId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict company names. userId={}", userId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+        entries.invalidate(Long.valueOf(body.substring(separator + 1)));
+    }
+
+    private NamePrefixIndex index(Long userId) {
+        NamePrefixIndex cached = entries.getIfPresent(userId);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+
+        NamePrefixIndex index = load(userId);
+        entries.put(userId, index);
+        return index;
+    }
+
+    private NamePrefixIndex load(Long userId) {
+        Map<Object, Object> cached;
+        try {
+            cached = redisTemplate.opsForHash().entries(key(userId));
+        } catch (DataAccessException e) {
+            log.warn("Failed to read company names. userId={}", userId, e);
+            fallbacks.increment();
+            return NamePrefixIndex.of(countFromDatabase(userId));
+        }
+
+        if (cached.isEmpty()) {
+            rebuilds.increment();
+            return rebuild(userId);
+        }
+
+        redisLoads.increment();
+        Map<String, Long> usageCounts = new HashMap<>(cached.size() * 2);
+        cached.forEach((name, count) -> {
+            if (!PLACEHOLDER.equals(name)) {
+                usageCounts.put((String) name, Long.valueOf((String) count));
+            }
+        });
+        return NamePrefixIndex.of(usageCounts);
+    }
+
+    /**
+     * DB 에서 기업명별 사용 횟수를 세어 Redis 에 저장하고 색인을 만든다.
+     * DB 를 읽는 동안 다른 요청이 기업, 일정을 바꿨다면 version 이 달라지므로 저장하지 않고 다음 조회 때 다시 만든다.
+     */
+    private NamePrefixIndex rebuild(Long userId) {
+        String version = readVersion(userId);
+
+        Map<String, Long> usageCounts = countFromDatabase(userId);
+
+        if (version != null) {
+            List<String> args = new ArrayList<>(usageCounts.size() * 2 + 2);
+            args.add(version);
+            args.add(String.valueOf(ttlMs));
+            usageCounts.forEach((name, count) -> {
+                args.add(name);
+                args.add(String.valueOf(count));
+            });
+
+            try {
+                redisTemplate.execute(REBUILD_SCRIPT, List.of(key(userId), versionKey(userId)), args.toArray());
+            } catch (DataAccessException e) {
+                log.warn("Failed to rebuild company names. userId={}", userId, e);
+            }
+        }
+        return NamePrefixIndex.of(usageCounts);
+    }
+
+    private String readVersion(Long userId) {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey(userId));
+            return version != null ? version : "0";
+        } catch (DataAccessException e) {
+            log.warn("Failed to read company names version. userId={}", userId, e);
+            return null;
+        }
+    }
+
+    private Map<String, Long> countFromDatabase(Long userId) {
+        Map<String, Long> usageCounts = new HashMap<>();
+        for (CompanyNameCount row : companyRepository.countCompanyNamesByUserId(userId)) {
+            if (row.getName() != null && !row.getName().isBlank()) {
+                usageCounts.merge(row.getName(), row.getUsageCount(), Long::sum);
+            }
+        }
+        return usageCounts;
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private String versionKey(Long userId) {
+        return KEY_PREFIX + userId + ":version";
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("company.names.requests", localHits, LongAdder::doubleValue)
+                .tag("result", "local_hit")
+                .register(registry);
+        FunctionCounter.builder("company.names.requests", redisLoads, LongAdder::doubleValue)
+                .tag("result", "redis_load")
+                .register(registry);
+        FunctionCounter.builder("company.names.requests", rebuilds, LongAdder::doubleValue)
+                .tag("result", "rebuild")
+                .register(registry);
+        FunctionCounter.builder("company.names.requests", fallbacks, LongAdder::doubleValue)
+                .tag("result", "fallback")
+                .register(registry);
+        Gauge.builder("company.names.local.size", entries, Cache::estimatedSize)
+                .register(registry);
+    }
+
+    // 증감을 반영해도 만료 시각은 처음 읽은 때 기준으로 둔다. 놓친 무효화 메시지가 있어도 ttl 이 지나면 Redis 에서 다시 읽는다
+    private record LocalExpiry(long ttlNanos) implements Expiry<Long, NamePrefixIndex> {
+
+        @Override
+        public long expireAfterCreate(Long userId, NamePrefixIndex index, long currentTime) {
+            return ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long userId, NamePrefixIndex index, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(Long userId, NamePrefixIndex index, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,45 +1,88 @@
 package com.hamster.gro_up.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.CursorPage;
 import com.hamster.gro_up.dto.request.CompanyCreateRequest;
+import com.hamster.gro_up.dto.request.CompanyMergeRequest;
 import com.hamster.gro_up.dto.request.CompanyUpdateRequest;
 import com.hamster.gro_up.dto.response.CompanyListResponse;
+import com.hamster.gro_up.dto.response.CompanyMergeResponse;
 import com.hamster.gro_up.dto.response.CompanyNameListResponse;
 import com.hamster.gro_up.dto.response.CompanyResponse;
+import com.hamster.gro_up.dto.response.SimilarCompanyNameListResponse;
+import com.hamster.gro_up.dto.response.SimilarCompanyNameResponse;
 import com.hamster.gro_up.entity.Company;
 import com.hamster.gro_up.entity.User;
 import com.hamster.gro_up.exception.company.CompanyNotFoundException;
+import com.hamster.gro_up.exception.company.InvalidCompanyMergeException;
 import com.hamster.gro_up.exception.user.UserNotFoundException;
 import com.hamster.gro_up.repository.CompanyRepository;
+import com.hamster.gro_up.repository.ScheduleRepository;
 import com.hamster.gro_up.repository.UserRepository;
+import com.hamster.gro_up.service.ListCacheService.CachedList;
+import com.hamster.gro_up.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Service
 public class CompanyService {
 
+    // 이 점수 이상이면 같은 기업으로 보고 알려 준다
+    private static final double SIMILAR_NAME_THRESHOLD = 0.6;
+
+    private static final TypeReference<CursorPage<CompanyListResponse>> COMPANY_PAGE_TYPE = new TypeReference<>() {};
+
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ListCacheService listCacheService;
+    private final ScheduleTimelineService scheduleTimelineService;
+    private final CompanyNameSuggestService companyNameSuggestService;
 
     public CompanyResponse findCompany(AuthUser authUser, Long companyId) {
-        Company company = companyRepository.findById(companyId).orElseThrow(CompanyNotFoundException::new);
+        Company company = companyRepository.findReadOnlyById(companyId).orElseThrow(CompanyNotFoundException::new);
 
         company.validateOwner(authUser.getId());
 
         return CompanyResponse.from(company);
     }
 
-    public CompanyListResponse findAllCompanies(AuthUser authUser) {
-        List<Company> companyList = companyRepository.findByUserId(authUser.getId());
+    // 목록을 조회하기 전에 읽어, 요청의 If-None-Match 와 같으면 목록을 조회하지 않고 304 로 답한다
+    public String findCompanyListETag(AuthUser authUser) {
+        return listCacheService.eTag(CachedList.COMPANIES, authUser.getId());
+    }
+
+    public CursorPage<CompanyListResponse> findAllCompanies(AuthUser authUser, String cursor, int size) {
+        int pageSize = CursorUtil.pageSize(size);
 
-        List<CompanyResponse> responseList = companyList.stream().map(CompanyResponse::from).toList();
+        if (StringUtils.hasText(cursor)) {
+            return findCompanyPage(authUser.getId(), cursor, pageSize);
+        }
 
-        return CompanyListResponse.of(responseList);
+        return listCacheService.get(CachedList.COMPANIES, authUser.getId(), String.valueOf(pageSize), COMPANY_PAGE_TYPE,
+                () -> findCompanyPage(authUser.getId(), null, pageSize));
+    }
+
+    private CursorPage<CompanyListResponse> findCompanyPage(Long userId, String cursor, int pageSize) {
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<CompanyResponse> companyList = StringUtils.hasText(cursor)
+                ? companyRepository.findResponsesByUserIdAfter(userId, CursorUtil.decodeId(cursor), limit)
+                : companyRepository.findResponsesByUserId(userId, limit);
+
+        return CursorPage.of(companyList, pageSize,
+                last -> CursorUtil.encode(last.getCompanyId()),
+                CompanyListResponse::of);
     }
 
     @Transactional
@@ -57,6 +100,9 @@ public class CompanyService {
 
         Company savedCompany = companyRepository.save(company);
 
+        evictListCache(authUser);
+        companyNameSuggestService.addAfterCommit(authUser.getId(), List.of(savedCompany.getCompanyName()));
+
         return CompanyResponse.from(savedCompany);
     }
 
@@ -66,12 +112,17 @@ public class CompanyService {
 
         company.validateOwner(authUser.getId());
 
+        String previousCompanyName = company.getCompanyName();
+
         company.update(companyUpdateRequest.getCompanyName(),
                 companyUpdateRequest.getPosition(),
                 companyUpdateRequest.getAddress(),
                 companyUpdateRequest.getAddressDetail(),
                 companyUpdateRequest.getUrl()
         );
+
+        evictListCache(authUser);
+        companyNameSuggestService.renameAfterCommit(authUser.getId(), previousCompanyName, company.getCompanyName());
     }
 
     @Transactional
@@ -81,10 +132,86 @@ public class CompanyService {
         company.validateOwner(authUser.getId());
 
         companyRepository.delete(company);
+
+        // 일정, 회고 목록과 타임라인은 일정에 연결된 기업 ID 를 담고 있어 삭제된 기업을 가리키게 되므로 함께 지운다
+        listCacheService.evictAfterCommit(authUser.getId(), CachedList.SCHEDULES, CachedList.RETROSPECTS, CachedList.COMPANIES);
+        scheduleTimelineService.evictAfterCommit(authUser.getId());
+        companyNameSuggestService.removeAfterCommit(authUser.getId(), company.getCompanyName());
+    }
+
+    // 기업, 일정에 쓰인 기업명을 많이 쓴 순으로 반환한다. prefix 가 있으면 그 접두어로 시작하는 것만, size 가 없으면 모두 반환한다
+    public CompanyNameListResponse findAllCompanyNames(AuthUser authUser, String prefix, Integer size) {
+        int limit = size != null ? CursorUtil.pageSize(size) : 0;
+        return CompanyNameListResponse.of(companyNameSuggestService.suggest(authUser.getId(), prefix, limit));
+    }
+
+    // 기업 등록 화면에서 입력한 기업명과 같은 기업으로 보이는 기존 기업명 (대소문자, 공백, 법인 표기, 한글/영문 표기 차이 무시)
+    public SimilarCompanyNameListResponse findSimilarCompanyNames(AuthUser authUser, String companyName, int size) {
+        if (!StringUtils.hasText(companyName)) {
+            return SimilarCompanyNameListResponse.of(List.of());
+        }
+
+        List<SimilarCompanyNameResponse> similarList = companyNameSuggestService
+                .findSimilar(authUser.getId(), companyName, SIMILAR_NAME_THRESHOLD, CursorUtil.pageSize(size))
+                .stream()
+                .map(SimilarCompanyNameResponse::from)
+                .toList();
+        return SimilarCompanyNameListResponse.of(similarList);
+    }
+
+    /**
+     * sourceNames 로 적힌 기업, 일정을 companyName 하나로 합친다.
+     * companyName 으로 등록된 기업이 있으면 그 기업을, 없으면 sourceNames 중 가장 먼저 등록된 기업의 이름을 바꿔 남기고,
+     * 나머지 기업에 연결된 일정과 sourceNames 로 적힌 일정은 한 번의 update 로 남은 기업에 연결한 뒤 나머지 기업을 지운다.
+     */
+    @Transactional
+    public CompanyMergeResponse mergeCompanies(AuthUser authUser, CompanyMergeRequest companyMergeRequest) {
+        Long userId = authUser.getId();
+        String companyName = companyMergeRequest.getCompanyName().strip();
+
+        Set<String> sourceNames = new LinkedHashSet<>();
+        for (String sourceName : companyMergeRequest.getSourceNames()) {
+            if (StringUtils.hasText(sourceName) && !sourceName.strip().equals(companyName)) {
+                sourceNames.add(sourceName.strip());
+            }
+        }
+        if (sourceNames.isEmpty()) {
+            throw new InvalidCompanyMergeException("합칠 기업명이 없습니다.");
+        }
+
+        Set<String> names = new LinkedHashSet<>(sourceNames);
+        names.add(companyName);
+        List<Company> companies = companyRepository.findAllByUserIdAndCompanyNameInOrderByIdAsc(userId, names);
+
+        Company target = companies.stream()
+                .filter(company -> company.getCompanyName().equals(companyName))
+                .findFirst()
+                .orElse(companies.isEmpty() ? null : companies.get(0));
+
+        int scheduleCount;
+        List<Company> duplicates = List.of();
+        if (target == null) {
+            scheduleCount = scheduleRepository.updateCompanyNameByCompanyNameIn(userId, sourceNames, companyName);
+        } else {
+            target.updateCompanyName(companyName);
+            duplicates = companies.stream().filter(company -> company != target).toList();
+
+            scheduleCount = scheduleRepository.updateCompanyByCompanyNameIn(userId, sourceNames, target, companyName);
+            if (!duplicates.isEmpty()) {
+                scheduleCount += scheduleRepository.updateCompanyByCompanyIn(userId, duplicates, target, companyName);
+                companyRepository.deleteAllInBatch(duplicates);
+            }
+        }
+
+        listCacheService.evictAfterCommit(userId, CachedList.SCHEDULES, CachedList.RETROSPECTS, CachedList.COMPANIES);
+        scheduleTimelineService.evictAfterCommit(userId);
+        companyNameSuggestService.evictAfterCommit(userId);
+
+        return CompanyMergeResponse.of(target != null ? target.getId() : null, companyName, scheduleCount, duplicates.size());
     }
 
-    public CompanyNameListResponse findAllCompanyNames(AuthUser authUser) {
-        List<String> companyNames = companyRepository.findAllCompanyNamesByUserId(authUser.getId());
-        return CompanyNameListResponse.of(companyNames);
+    // 일정은 기업명을 복사해 두고 기업 ID 는 그대로이므로 기업을 등록, 수정해도 일정, 회고 목록은 그대로다
+    private void evictListCache(AuthUser authUser) {
+        listCacheService.evictAfterCommit(authUser.getId(), CachedList.COMPANIES);
     }
 }
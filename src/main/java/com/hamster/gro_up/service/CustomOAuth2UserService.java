@@ -6,6 +6,7 @@ import com.hamster.gro_up.entity.User;
 import com.hamster.gro_up.entity.UserType;
 import com.hamster.gro_up.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Service;
 @Service
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     private final UserRepository userRepository;
+    private final RegisteredEmailService registeredEmailService;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -24,14 +26,27 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         String email = oAuth2User.getAttribute("email");
 
         User user = userRepository.findByEmail(email)
-                .orElseGet(() -> userRepository.save(
-                        User.builder()
-                                .email(email)
-                                .role(Role.ROLE_USER)
-                                .userType(UserType.OAUTH)
-                                .build()
-                ));
+                .orElseGet(() -> register(email));
 
         return new CustomOAuth2User(user.getId(), oAuth2User.getAttributes());
     }
+
+    private User register(String email) {
+        User savedUser;
+        try {
+            // INSERT 를 바로 실행해 같은 이메일의 동시 첫 로그인을 unique 제약으로 여기서 확인한다
+            savedUser = userRepository.saveAndFlush(
+                    User.builder()
+                            .email(email)
+                            .role(Role.ROLE_USER)
+                            .userType(UserType.OAUTH)
+                            .build()
+            );
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 가입시켰으면 그 사용자로 로그인한다
+            return userRepository.findByEmail(email).orElseThrow(() -> e);
+        }
+        registeredEmailService.register(email);
+        return savedUser;
+    }
 }
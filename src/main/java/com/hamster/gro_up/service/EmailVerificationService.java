@@ -4,10 +4,7 @@ import com.hamster.gro_up.exception.auth.InvalidEmailVerificationTokenException;
 import com.hamster.gro_up.exception.user.DuplicateUserException;
 import com.hamster.gro_up.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import java.util.Random;
@@ -18,12 +15,9 @@ import java.util.concurrent.TimeUnit;
 public class EmailVerificationService {
 
     private final UserRepository userRepository;
-    private final JavaMailSender mailSender;
+    private final MailOutboxService mailOutboxService;
     private final StringRedisTemplate redisTemplate;
 
-    @Value("${spring.mail.from}")
-    private String fromAddress;
-
     private static final String VERIFICATION_PREFIX = "email_verification:";
     private static final String VERIFIED_SUFFIX = ":verified";
     private static final long VERIFICATION_CODE_TTL_MINUTES = 10L;
@@ -36,13 +30,8 @@ public class EmailVerificationService {
         String key = VERIFICATION_PREFIX + email;
         redisTemplate.opsForValue().set(key, code, VERIFICATION_CODE_TTL_MINUTES, TimeUnit.MINUTES);
 
-        // 이메일 발송
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(fromAddress);
-        message.setTo(email);
-        message.setSubject("이메일 인증 코드");
-        message.setText("인증 코드: " + code);
-        mailSender.send(message);
+        // 발송 대기열에 넣고 바로 반환 (실제 발송은 MailOutboxWorker)
+        mailOutboxService.enqueue(email, "이메일 인증 코드", "인증 코드: " + code);
     }
 
     public void verifyCode(String email, String code) {
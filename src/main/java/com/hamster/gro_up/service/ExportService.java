@@ -0,0 +1,261 @@
+package com.hamster.gro_up.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hamster.gro_up.config.StreamingRoutingDataSource;
+import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.response.CompanyResponse;
+import com.hamster.gro_up.dto.response.RetrospectResponse;
+import com.hamster.gro_up.dto.response.ScheduleResponse;
+import com.hamster.gro_up.entity.Role;
+import com.hamster.gro_up.exception.ForbiddenException;
+import com.hamster.gro_up.exception.export.InvalidExportRequestException;
+import com.hamster.gro_up.exception.user.UserNotFoundException;
+import com.hamster.gro_up.repository.CompanyRepository;
+import com.hamster.gro_up.repository.RetrospectRepository;
+import com.hamster.gro_up.repository.ScheduleRepository;
+import com.hamster.gro_up.repository.UserRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 사용자의 일정, 기업, 회고를 NDJSON 또는 CSV 로 내보낸다.
+ * DB 커서에서 fetch size 만큼씩 읽은 행을 바로 응답에 쓰므로, 행 수와 관계없이 메모리에는 한 묶음만 올라온다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ExportService {
+
+    private static final List<Column<ScheduleResponse>> SCHEDULE_COLUMNS = List.of(
+            new Column<>("scheduleId", ScheduleResponse::getScheduleId),
+            new Column<>("companyId", ScheduleResponse::getCompanyId),
+            new Column<>("companyName", ScheduleResponse::getCompanyName),
+            new Column<>("address", ScheduleResponse::getAddress),
+            new Column<>("addressDetail", ScheduleResponse::getAddressDetail),
+            new Column<>("step", ScheduleResponse::getStep),
+            new Column<>("position", ScheduleResponse::getPosition),
+            new Column<>("memo", ScheduleResponse::getMemo),
+            new Column<>("dueDate", ScheduleResponse::getDueDate),
+            new Column<>("createdAt", ScheduleResponse::getCreatedAt),
+            new Column<>("updatedAt", ScheduleResponse::getUpdatedAt));
+
+    private static final List<Column<CompanyResponse>> COMPANY_COLUMNS = List.of(
+            new Column<>("companyId", CompanyResponse::getCompanyId),
+            new Column<>("companyName", CompanyResponse::getCompanyName),
+            new Column<>("position", CompanyResponse::getPosition),
+            new Column<>("url", CompanyResponse::getUrl),
+            new Column<>("address", CompanyResponse::getAddress),
+            new Column<>("addressDetail", CompanyResponse::getAddressDetail),
+            new Column<>("createdAt", CompanyResponse::getCreatedAt),
+            new Column<>("modifiedAt", CompanyResponse::getModifiedAt));
+
+    private static final List<Column<RetrospectResponse>> RETROSPECT_COLUMNS = List.of(
+            new Column<>("scheduleId", RetrospectResponse::getScheduleId),
+            new Column<>("memo", RetrospectResponse::getMemo),
+            new Column<>("companyId", RetrospectResponse::getCompanyId),
+            new Column<>("companyName", RetrospectResponse::getCompanyName),
+            new Column<>("position", RetrospectResponse::getPosition),
+            new Column<>("createdAt", RetrospectResponse::getCreatedAt));
+
+    private final ScheduleRepository scheduleRepository;
+    private final CompanyRepository companyRepository;
+    private final RetrospectRepository retrospectRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 요청을 검증하고 무엇을 내보낼지 정한다. 응답 스트리밍이 시작되면 오류 응답을 줄 수 없으므로 쓰기 전에 호출한다.
+     * 다른 사용자의 데이터는 관리자만 내보낼 수 있다.
+     */
+    public ExportPlan plan(AuthUser authUser, Long userId, String format, String type) {
+        Long targetUserId = userId != null ? userId : authUser.getId();
+
+        if (!targetUserId.equals(authUser.getId())) {
+            if (authUser.getRole() != Role.ROLE_ADMIN) {
+                throw new ForbiddenException();
+            }
+            if (!userRepository.existsById(targetUserId)) {
+                throw new UserNotFoundException();
+            }
+        }
+
+        Format exportFormat = Format.from(format);
+        List<Resource> resources = Resource.from(type);
+
+        if (exportFormat == Format.CSV && resources.size() > 1) {
+            throw new InvalidExportRequestException("CSV 는 type 을 하나만 지정해야 합니다.");
+        }
+
+        return new ExportPlan(targetUserId, exportFormat, resources);
+    }
+
+    // Stream 조회는 트랜잭션 안에서 끝까지 소비해야 하므로, 스트리밍하는 스레드에서 트랜잭션을 연다
+    // 연결은 첫 쿼리 때 받으므로 그 전에 커서 조회용 연결 풀을 고른다
+    @Transactional(readOnly = true)
+    public void write(ExportPlan plan, OutputStream out) throws IOException {
+        StreamingRoutingDataSource.useStreaming();
+        try {
+            if (plan.format() == Format.NDJSON) {
+                writeNdjson(plan, out);
+            } else {
+                writeCsv(plan, out);
+            }
+        } finally {
+            StreamingRoutingDataSource.clear();
+        }
+    }
+
+    private void writeNdjson(ExportPlan plan, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // 행마다 flush 하지 않고 출력 버퍼가 찰 때만 내보낸다
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        for (Resource resource : plan.resources()) {
+            try (Stream<?> rows = stream(resource, plan.userId())) {
+                Iterator<?> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    generator.writeStartObject();
+                    generator.writeStringField("type", resource.getTypeName());
+                    generator.writeFieldName("data");
+                    writer.writeValue(generator, iterator.next());
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                }
+            }
+        }
+        generator.close();
+    }
+
+    private void writeCsv(ExportPlan plan, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        switch (plan.resources().get(0)) {
+            case SCHEDULES -> {
+                try (Stream<ScheduleResponse> rows = scheduleRepository.streamResponsesByUserId(plan.userId())) {
+                    writeCsvRows(writer, SCHEDULE_COLUMNS, rows);
+                }
+            }
+            case COMPANIES -> {
+                try (Stream<CompanyResponse> rows = companyRepository.streamResponsesByUserId(plan.userId())) {
+                    writeCsvRows(writer, COMPANY_COLUMNS, rows);
+                }
+            }
+            case RETROSPECTS -> {
+                try (Stream<RetrospectResponse> rows = retrospectRepository.streamSummariesByUserId(plan.userId())
+                        .map(RetrospectResponse::from)) {
+                    writeCsvRows(writer, RETROSPECT_COLUMNS, rows);
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private <T> void writeCsvRows(Writer writer, List<Column<T>> columns, Stream<T> rows) throws IOException {
+        writeCsvLine(writer, columns.stream().map(Column::header).toList());
+
+        Iterator<T> iterator = rows.iterator();
+        List<Object> values = new ArrayList<>(columns.size());
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            values.clear();
+            for (Column<T> column : columns) {
+                values.add(column.value().apply(row));
+            }
+            writeCsvLine(writer, values);
+        }
+    }
+
+    private void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180 규칙으로 감싸고, 스프레드시트가 수식으로 해석하지 않도록 =, +, -, @ 로 시작하는 문자열 앞에 ' 를 붙인다
+    static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private Stream<?> stream(Resource resource, Long userId) {
+        return switch (resource) {
+            case SCHEDULES -> scheduleRepository.streamResponsesByUserId(userId);
+            case COMPANIES -> companyRepository.streamResponsesByUserId(userId);
+            case RETROSPECTS -> retrospectRepository.streamSummariesByUserId(userId).map(RetrospectResponse::from);
+        };
+    }
+
+    public record ExportPlan(Long userId, Format format, List<Resource> resources) {
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Format {
+        NDJSON("ndjson", "application/x-ndjson"),
+        CSV("csv", "text/csv;charset=UTF-8");
+
+        private final String extension;
+        private final String contentType;
+
+        static Format from(String format) {
+            for (Format value : values()) {
+                if (value.extension.equalsIgnoreCase(format)) {
+                    return value;
+                }
+            }
+            throw new InvalidExportRequestException("지원하지 않는 내보내기 형식입니다: " + format);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Resource {
+        SCHEDULES("schedule"),
+        COMPANIES("company"),
+        RETROSPECTS("retrospect");
+
+        private final String typeName;
+
+        // type 이 없거나 all 이면 모두 내보낸다
+        static List<Resource> from(String type) {
+            if (type == null || type.equalsIgnoreCase("all")) {
+                return List.of(values());
+            }
+            for (Resource value : values()) {
+                if (value.name().equalsIgnoreCase(type)) {
+                    return List.of(value);
+                }
+            }
+            throw new InvalidExportRequestException("지원하지 않는 내보내기 대상입니다: " + type);
+        }
+    }
+
+    private record Column<T>(String header, Function<T, ?> value) {
+    }
+}
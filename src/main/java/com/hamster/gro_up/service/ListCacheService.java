@@ -0,0 +1,439 @@
+package com.hamster.gro_up.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 목록 조회 결과를 로컬 메모리(L1, Caffeine)와 Redis(L2) 두 단계로 캐시한다.
+ * L1 에 없으면 Redis 를, Redis 에도 없으면 DB 를 조회해 두 곳에 채운다.
+ * L1 은 (목록, 사용자) 하나에 variant 별 값을 모아 두므로, 목록을 지울 때 항목 하나만 지우면 된다.
+ * 일정/기업/회고가 바뀌면 커밋 이후 해당 사용자의 관련 목록만 지우고, 다른 서버의 L1 은 Redis pub/sub 으로 지운다.
+ * 목록마다 사용자별 version 을 두어 지울 때마다 올리고, 목록 조회 API 는 이를 ETag 로 내려 바뀌지 않았으면 304 로 답한다.
+ * 조회 전에 읽은 version 이 그대로일 때만 캐시를 채워, 조회하는 사이 바뀐 목록의 이전 데이터가 캐시에 남지 않게 한다.
+ * Redis 장애 시에는 캐시 없이 DB 를 조회한다.
+ */
+@Slf4j
+@Service
+public class ListCacheService implements MessageListener, MeterBinder {
+
+    public static final String CHANNEL = "list-cache-invalidation";
+
+    private static final String KEY_PREFIX = "listCache:";
+    private static final String VERSION_KEY_PREFIX = "listVersion:";
+    private static final String VERSION_SEPARATOR = "@";
+    private static final String VARIANT_SEPARATOR = "|";
+
+    private static final RedisScript<Long> WRITE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/write-list-cache.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> EVICT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/evict-list-cache.lua"), List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Duration versionTtl;
+    private final Cache<ListKey, LocalEntry> entries;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadTotalNanos = new LongAdder();
+    private final LongAdder sizeEvictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ListCacheService(StringRedisTemplate redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            ObjectMapper objectMapper,
+                            @Value("${cache.list.local.max-size:10000}") int localMaxSize,
+                            @Value("${cache.list.local.ttl-ms:30000}") long localTtlMs,
+                            @Value("${cache.list.redis.ttl-ms:600000}") long redisTtlMs,
+                            @Value("${cache.list.version.ttl-ms:86400000}") long versionTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofMillis(redisTtlMs);
+        this.versionTtl = Duration.ofMillis(versionTtlMs);
+        // variant 는 목록이 L1 에 처음 들어온 때부터 ttl 이 지나면 함께 지워진다
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMillis(localTtlMs))
+                .removalListener((ListKey key, LocalEntry entry, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        sizeEvictions.increment();
+                    }
+                })
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 캐시된 목록을 반환하고, 없으면 loader 로 조회해 L1, L2 에 적재한다.
+     * 한 사용자의 같은 목록이라도 variant(페이지 크기 등)가 다르면 따로 저장한다.
+     */
+    public <T> T get(CachedList list, Long userId, String variant, TypeReference<T> type, Supplier<T> loader) {
+        ListKey key = new ListKey(list, userId);
+        String redisKey = redisKey(list, userId);
+
+        LocalEntry entry = entries.getIfPresent(key);
+        Object local = entry != null ? entry.variants().get(variant) : null;
+        if (local != null) {
+            localHits.increment();
+            @SuppressWarnings("unchecked")
+            T value = (T) local;
+            return value;
+        }
+
+        // version 을 먼저 읽어야 조회하는 사이 목록이 바뀌었는지 알 수 있다. Redis 장애 시에는 캐시 없이 조회한다
+        Long version = currentVersion(list, userId);
+        if (version == null) {
+            misses.increment();
+            return load(loader);
+        }
+
+        T cached = readRedis(redisKey, variant, type);
+        if (cached != null) {
+            redisHits.increment();
+            putLocal(key, version, variant, cached);
+            return cached;
+        }
+
+        misses.increment();
+        T loaded = load(loader);
+
+        if (writeRedis(list, userId, version, variant, loaded)) {
+            putLocal(key, version, variant, loaded);
+        }
+        return loaded;
+    }
+
+    private <T> T load(Supplier<T> loader) {
+        long startedAt = System.nanoTime();
+        T loaded = loader.get();
+        loadTotalNanos.add(System.nanoTime() - startedAt);
+        loadCount.increment();
+        return loaded;
+    }
+
+    /**
+     * 사용자 목록의 현재 version 으로 만든 ETag. 목록을 조회하기 전에 읽어야 응답보다 새 ETag 가 나가지 않는다.
+     * L1 에 이 version 보다 오래된 목록이 있으면 비워, 이어지는 조회가 이전 목록을 새 ETag 로 내려보내지 않게 한다.
+     * version 이 없으면(처음 조회했거나 TTL 이 지난 경우) 지금 시각으로 시작한다. Redis 장애 시에는 null 을 반환한다.
+     */
+    public String eTag(CachedList list, Long userId) {
+        Long version = currentVersion(list, userId);
+        if (version == null) {
+            return null;
+        }
+
+        // 무효화 메시지를 놓쳐 L1 에 이전 version 의 목록이 남아 있으면, 이 ETag 로 그 목록을 내보내지 않도록 비운다
+        entries.asMap().computeIfPresent(new ListKey(list, userId), (key, entry) -> {
+            if (entry.version() >= version) {
+                return entry;
+            }
+            if (!entry.variants().isEmpty()) {
+                invalidations.increment();
+            }
+            return new LocalEntry(version, new ConcurrentHashMap<>());
+        });
+        return "W/\"" + userId + "-" + version + "\"";
+    }
+
+    private Long currentVersion(CachedList list, Long userId) {
+        String versionKey = versionKey(list, userId);
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey);
+            if (version == null) {
+                String initial = String.valueOf(System.currentTimeMillis());
+                version = Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(versionKey, initial, versionTtl))
+                        ? initial
+                        : redisTemplate.opsForValue().get(versionKey);
+            }
+            return version != null ? Long.valueOf(version) : null;
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("Failed to read list version from redis. key={}", versionKey, e);
+            return null;
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 해당 사용자의 목록 캐시를 지운다. 트랜잭션 밖이면 바로 지운다.
+     * 커밋 전에 지우면 그 사이 다른 요청이 변경 전 데이터를 다시 채울 수 있다.
+     */
+    public void evictAfterCommit(Long userId, CachedList... lists) {
+        afterCommit(() -> evict(userId, lists));
+    }
+
+    // 목록 전체가 아니라 특정 variant(예: 달력의 월)만 지운다
+    public void evictVariantsAfterCommit(Long userId, CachedList list, Collection<String> variants) {
+        afterCommit(() -> evictVariants(userId, list, variants));
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    void evict(Long userId, CachedList... lists) {
+        evict(userId, List.of(lists), List.of());
+    }
+
+    void evictVariants(Long userId, CachedList list, Collection<String> variants) {
+        if (!variants.isEmpty()) {
+            evict(userId, List.of(list), variants);
+        }
+    }
+
+    // variants 가 비어 있으면 목록 전체를 지운다
+    private void evict(Long userId, List<CachedList> lists, Collection<String> variants) {
+        List<String> keys = new ArrayList<>(lists.size() * 2);
+        lists.forEach(list -> {
+            keys.add(redisKey(list, userId));
+            keys.add(versionKey(list, userId));
+        });
+        List<String> args = new ArrayList<>(variants.size() + 2);
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(versionTtl.toMillis()));
+        args.addAll(variants);
+
+        List<?> versions;
+        try {
+            versions = redisTemplate.execute(EVICT_SCRIPT, keys, args.toArray());
+        } catch (DataAccessException e) {
+            // version 을 모르므로 L1 만 지운다. Redis 에 남은 항목은 TTL 이 지나면 사라진다
+            log.warn("Failed to evict list cache from redis. keys={}", keys, e);
+            lists.forEach(list -> evictLocal(new ListKey(list, userId), null, variants));
+            return;
+        }
+
+        List<String> messages = new ArrayList<>();
+        for (int i = 0; i < lists.size(); i++) {
+            ListKey key = new ListKey(lists.get(i), userId);
+            Long version = versions != null && i < versions.size() ? ((Number) versions.get(i)).longValue() : null;
+            evictLocal(key, version, variants);
+
+            String message = redisKey(key.list(), userId);
+            if (!variants.isEmpty()) {
+                message += ":" + String.join(VARIANT_SEPARATOR, variants);
+            }
+            messages.add(version != null ? message + VERSION_SEPARATOR + version : message);
+        }
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.join(",", messages));
+        } catch (DataAccessException e) {
+            // 다른 서버의 L1 은 ttl 이 지나면 사라진다
+            log.warn("Failed to publish list cache invalidation. keys={}", keys, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String key : body.split(",")) {
+            evictLocal(key);
+        }
+    }
+
+    // 메시지는 "listCache:{목록}:{userId}[:{variant}|{variant}...]@{version}" 이다.
+    // variant 가 없으면 목록 전체를 지우고, version 이 없으면 (Redis 에서 version 을 올리지 못한 경우) L1 만 지운다
+    private void evictLocal(String message) {
+        String key = message;
+        Long version = null;
+        try {
+            int versionAt = message.lastIndexOf(VERSION_SEPARATOR);
+            if (versionAt >= 0) {
+                key = message.substring(0, versionAt);
+                version = Long.valueOf(message.substring(versionAt + 1));
+            }
+
+            String[] parts = key.split(":", 4);
+            if (parts.length < 3) {
+                return;
+            }
+
+            ListKey listKey = new ListKey(CachedList.valueOf(parts[1].toUpperCase(Locale.ROOT)), Long.valueOf(parts[2]));
+            List<String> variants = parts.length == 4 ? List.of(parts[3].split("\\" + VARIANT_SEPARATOR)) : List.of();
+            evictLocal(listKey, version, variants);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignored malformed list cache invalidation. message={}", message);
+        }
+    }
+
+    // version 을 알면 항목을 지우는 대신 새 version 의 항목으로 바꿔 둔다.
+    // 이전 version 으로 조회하던 요청이 뒤늦게 L1 을 채우려 해도 putLocal 에서 버려진다
+    private void evictLocal(ListKey key, Long version, Collection<String> variants) {
+        if (version == null) {
+            if (variants.isEmpty()) {
+                LocalEntry removed = entries.asMap().remove(key);
+                if (removed != null && !removed.variants().isEmpty()) {
+                    invalidations.increment();
+                }
+            } else {
+                LocalEntry entry = entries.getIfPresent(key);
+                if (entry != null) {
+                    removeVariants(entry.variants(), variants);
+                }
+            }
+            return;
+        }
+
+        entries.asMap().compute(key, (k, entry) -> {
+            if (entry != null && entry.version() > version) {
+                return entry;
+            }
+
+            Map<String, Object> remaining = new ConcurrentHashMap<>();
+            if (entry != null) {
+                // 지우지 않는 variant 는 새 version 에서도 그대로 쓸 수 있다
+                if (!variants.isEmpty()) {
+                    remaining.putAll(entry.variants());
+                    removeVariants(remaining, variants);
+                } else if (!entry.variants().isEmpty()) {
+                    invalidations.increment();
+                }
+            }
+            return new LocalEntry(version, remaining);
+        });
+    }
+
+    private void removeVariants(Map<String, Object> values, Collection<String> variants) {
+        for (String variant : variants) {
+            if (values.remove(variant) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    private <T> T readRedis(String redisKey, String variant, TypeReference<T> type) {
+        try {
+            Object json = redisTemplate.opsForHash().get(redisKey, variant);
+            return json != null ? objectMapper.readValue(json.toString(), type) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read list cache from redis. key={}", redisKey, e);
+            return null;
+        }
+    }
+
+    // version 이 그대로여서 캐시에 넣었으면 true
+    private boolean writeRedis(CachedList list, Long userId, long version, String variant, Object value) {
+        String redisKey = redisKey(list, userId);
+        try {
+            Long written = redisTemplate.execute(WRITE_SCRIPT, List.of(redisKey, versionKey(list, userId)),
+                    String.valueOf(version), variant, objectMapper.writeValueAsString(value),
+                    String.valueOf(redisTtl.toMillis()), String.valueOf(versionTtl.toMillis()));
+            return written != null && written == 1L;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to write list cache to redis. key={}", redisKey, e);
+            return false;
+        }
+    }
+
+    // 더 새 version 의 항목이 이미 있으면 버린다
+    private void putLocal(ListKey key, long version, String variant, Object value) {
+        entries.asMap().compute(key, (k, entry) -> {
+            if (entry == null || entry.version() < version) {
+                entry = new LocalEntry(version, new ConcurrentHashMap<>());
+            } else if (entry.version() > version) {
+                return entry;
+            }
+            entry.variants().put(variant, value);
+            return entry;
+        });
+    }
+
+    private String redisKey(CachedList list, Long userId) {
+        return KEY_PREFIX + list.name().toLowerCase(Locale.ROOT) + ":" + userId;
+    }
+
+    private String versionKey(CachedList list, Long userId) {
+        return VERSION_KEY_PREFIX + list.name().toLowerCase(Locale.ROOT) + ":" + userId;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("list.cache.requests", localHits, LongAdder::doubleValue)
+                .tag("result", "local_hit")
+                .register(registry);
+        FunctionCounter.builder("list.cache.requests", redisHits, LongAdder::doubleValue)
+                .tag("result", "redis_hit")
+                .register(registry);
+        FunctionCounter.builder("list.cache.requests", misses, LongAdder::doubleValue)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionTimer.builder("list.cache.load", this,
+                        cache -> cache.loadCount.sum(),
+                        cache -> cache.loadTotalNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .register(registry);
+        FunctionCounter.builder("list.cache.evictions", sizeEvictions, LongAdder::doubleValue)
+                .tag("cause", "size")
+                .register(registry);
+        FunctionCounter.builder("list.cache.evictions", invalidations, LongAdder::doubleValue)
+                .tag("cause", "invalidation")
+                .register(registry);
+        Gauge.builder("list.cache.local.size", entries, Cache::estimatedSize)
+                .register(registry);
+    }
+
+    public enum CachedList {
+        SCHEDULES, COMPANIES, RETROSPECTS, CALENDAR
+    }
+
+    private record ListKey(CachedList list, Long userId) {
+    }
+
+    // 같은 version 에서 조회한 variant 들을 모아 둔다
+    private record LocalEntry(long version, Map<String, Object> variants) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.entity.MailOutbox;
+import com.hamster.gro_up.entity.MailStatus;
+import com.hamster.gro_up.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 메일 발송 대기열(mail_outbox 테이블).
+ * 요청 처리 중에는 enqueue 로 행만 추가하고 바로 응답하며, 실제 발송은 MailOutboxWorker 가 한다.
+ * 호출한 쪽의 트랜잭션에 함께 묶이므로 롤백되면 메일도 나가지 않는다.
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class MailOutboxService {
+
+    private static final List<MailStatus> DUE_STATUSES = List.of(MailStatus.PENDING, MailStatus.SENDING);
+    private static final List<MailStatus> FINISHED_STATUSES = List.of(MailStatus.SENT, MailStatus.DEAD);
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    @Value("${mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.backoff-base-ms:2000}")
+    private long backoffBaseMs;
+
+    @Value("${mail.outbox.backoff-max-ms:600000}")
+    private long backoffMaxMs;
+
+    @Value("${mail.outbox.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${mail.outbox.retention-ms:604800000}")
+    private long retentionMs;
+
+    @Transactional
+    public void enqueue(String recipient, String subject, String body) {
+        mailOutboxRepository.save(MailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 발송할 차례가 된 메일을 최대 limit 개 가져가 SENDING 으로 바꾼다.
+     * 발송 중 서버가 죽어 SENDING 으로 남은 메일도 lease 가 지나면 다시 가져간다.
+     */
+    @Transactional
+    public List<MailOutbox> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> mails = mailOutboxRepository.findDueForUpdate(DUE_STATUSES, now, PageRequest.of(0, limit));
+
+        LocalDateTime leaseUntil = now.plus(Duration.ofMillis(leaseMs));
+        mails.forEach(mail -> mail.markSending(leaseUntil));
+
+        return mails;
+    }
+
+    @Transactional
+    public void markSent(Long id) {
+        mailOutboxRepository.findById(id).ifPresent(mail -> mail.markSent(LocalDateTime.now()));
+    }
+
+    // 재시도 간격은 2^(시도 횟수 - 1) 배로 늘리고, 최대 횟수를 넘기면 DEAD 로 남긴다
+    @Transactional
+    public MailStatus markFailed(Long id, String error) {
+        MailOutbox mail = mailOutboxRepository.findById(id).orElse(null);
+        if (mail == null) {
+            return null;
+        }
+
+        long backoffMs = Math.min(backoffMaxMs, backoffBaseMs << Math.min(30, Math.max(0, mail.getAttempts() - 1)));
+        mail.markFailed(error, LocalDateTime.now().plus(Duration.ofMillis(backoffMs)), maxAttempts);
+
+        return mail.getStatus();
+    }
+
+    /**
+     * 보존 기간이 지난 SENT / DEAD 메일을 최대 limit 개 지우고 지운 개수를 반환한다.
+     * 한 번에 지우면 잠금이 길어지므로 호출하는 쪽에서 limit 보다 적게 지워질 때까지 반복한다.
+     */
+    @Transactional
+    public int purgeFinished(int limit) {
+        LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(retentionMs));
+        List<Long> ids = mailOutboxRepository.findIdsByStatusInAndModifiedAtBefore(FINISHED_STATUSES, before, PageRequest.of(0, limit));
+        if (!ids.isEmpty()) {
+            mailOutboxRepository.deleteAllByIdInBatch(ids);
+        }
+        return ids.size();
+    }
+
+    public long countPending() {
+        return mailOutboxRepository.countByStatusIn(DUE_STATUSES);
+    }
+
+    public long countDead() {
+        return mailOutboxRepository.countByStatus(MailStatus.DEAD);
+    }
+}
@@ -0,0 +1,238 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.entity.MailOutbox;
+import com.hamster.gro_up.entity.MailStatus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * mail_outbox 에 쌓인 메일을 정해진 수의 스레드로 발송한다.
+ * 한 번에 (스레드 수 x batch-size) 만큼 가져가 batch-size 개씩 한 연결로 보내고, 모두 끝나야 다음 묶음을 가져가므로
+ * SMTP 서버가 느려도 동시 연결 수가 스레드 수를 넘지 않는다.
+ */
+@Slf4j
+@Component
+public class MailOutboxWorker implements MeterBinder {
+
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final MailOutboxService mailOutboxService;
+    private final JavaMailSender mailSender;
+    private final String fromAddress;
+    private final int threads;
+    private final int batchSize;
+    private final long metricsRefreshMs;
+    private final ExecutorService executor;
+
+    // scrape 마다 COUNT(*) 를 하지 않도록 poll 에서 metricsRefreshMs 마다 세어 둔다
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong deadCount = new AtomicLong();
+    private volatile long countsRefreshedAt;
+
+    private final LongAdder sendCount = new LongAdder();
+    private final LongAdder sendTotalNanos = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dead = new LongAdder();
+
+    public MailOutboxWorker(MailOutboxService mailOutboxService,
+                            JavaMailSender mailSender,
+                            @Value("${spring.mail.from}") String fromAddress,
+                            @Value("${mail.outbox.threads:2}") int threads,
+                            @Value("${mail.outbox.batch-size:10}") int batchSize,
+                            @Value("${mail.outbox.metrics-refresh-ms:30000}") long metricsRefreshMs) {
+        this.mailOutboxService = mailOutboxService;
+        this.mailSender = mailSender;
+        this.fromAddress = fromAddress;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.metricsRefreshMs = metricsRefreshMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "mail-outbox-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        refreshCountsIfNecessary();
+
+        List<MailOutbox> mails;
+        try {
+            mails = mailOutboxService.claimDue(threads * batchSize);
+        } catch (RuntimeException e) {
+            log.error("Failed to claim mail outbox", e);
+            return;
+        }
+
+        if (mails.isEmpty()) {
+            return;
+        }
+
+        // batchSize 개씩 묶어 한 묶음은 하나의 SMTP 연결로 보낸다
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int from = 0; from < mails.size(); from += batchSize) {
+            List<MailOutbox> batch = mails.subList(from, Math.min(from + batchSize, mails.size()));
+            tasks.add(() -> {
+                sendBatch(batch);
+                return null;
+            });
+        }
+
+        try {
+            executor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void refreshCountsIfNecessary() {
+        long now = System.currentTimeMillis();
+        if (now - countsRefreshedAt < metricsRefreshMs) {
+            return;
+        }
+
+        countsRefreshedAt = now;
+        try {
+            pendingCount.set(mailOutboxService.countPending());
+            deadCount.set(mailOutboxService.countDead());
+        } catch (RuntimeException e) {
+            log.warn("Failed to count mail outbox", e);
+        }
+    }
+
+    // 보존 기간이 지난 SENT / DEAD 메일을 1000 개씩 지운다
+    @Scheduled(fixedDelayString = "${mail.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        try {
+            int purged;
+            long total = 0;
+            do {
+                purged = mailOutboxService.purgeFinished(PURGE_BATCH_SIZE);
+                total += purged;
+            } while (purged == PURGE_BATCH_SIZE);
+
+            if (total > 0) {
+                log.info("Purged {} finished mails from outbox", total);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to purge mail outbox", e);
+        }
+    }
+
+    void sendBatch(List<MailOutbox> batch) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            MailOutbox mail = batch.get(i);
+            messages[i] = new SimpleMailMessage();
+            messages[i].setFrom(fromAddress);
+            messages[i].setTo(mail.getRecipient());
+            messages[i].setSubject(mail.getSubject());
+            messages[i].setText(mail.getBody());
+        }
+
+        Map<Object, Exception> failedMessages = Map.of();
+        RuntimeException batchFailure = null;
+
+        long startedAt = System.nanoTime();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                batchFailure = e;
+            }
+        } catch (RuntimeException e) {
+            batchFailure = e;
+        }
+        recordSendTime(startedAt, batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            Exception failure = batchFailure != null ? batchFailure : findFailure(failedMessages, messages[i]);
+
+            if (failure == null) {
+                mailOutboxService.markSent(batch.get(i).getId());
+                sent.increment();
+            } else {
+                handleFailure(batch.get(i), failure);
+            }
+        }
+    }
+
+    // SimpleMailMessage 는 내용이 같으면 equals 가 true 이므로 같은 객체인지로 찾는다
+    private Exception findFailure(Map<Object, Exception> failedMessages, SimpleMailMessage message) {
+        for (Map.Entry<Object, Exception> failed : failedMessages.entrySet()) {
+            if (failed.getKey() == message) {
+                return failed.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void handleFailure(MailOutbox mail, Exception e) {
+        failed.increment();
+
+        MailStatus status = mailOutboxService.markFailed(mail.getId(), e.getMessage());
+        if (status == MailStatus.DEAD) {
+            dead.increment();
+            log.error("Mail moved to dead letter. id={}, attempts={}", mail.getId(), mail.getAttempts(), e);
+        } else {
+            log.warn("Mail send failed, will retry. id={}, attempts={}", mail.getId(), mail.getAttempts(), e);
+        }
+    }
+
+    // 묶음으로 보내므로 메일 한 통당 평균 시간으로 기록
+    private void recordSendTime(long startedAt, int count) {
+        sendTotalNanos.add(System.nanoTime() - startedAt);
+        sendCount.add(count);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("mail.outbox.pending", pendingCount, AtomicLong::get)
+                .register(registry);
+        Gauge.builder("mail.outbox.dead", deadCount, AtomicLong::get)
+                .register(registry);
+        FunctionTimer.builder("mail.outbox.send", this,
+                        worker -> worker.sendCount.sum(),
+                        worker -> worker.sendTotalNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .register(registry);
+        FunctionCounter.builder("mail.outbox.results", sent, LongAdder::doubleValue)
+                .tag("result", "sent")
+                .register(registry);
+        FunctionCounter.builder("mail.outbox.results", failed, LongAdder::doubleValue)
+                .tag("result", "failed")
+                .register(registry);
+        FunctionCounter.builder("mail.outbox.results", dead, LongAdder::doubleValue)
+                .tag("result", "dead")
+                .register(registry);
+    }
+}
@@ -0,0 +1,147 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.exception.auth.PasswordHashingBusyException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 해시/검증 전용 스레드 풀.
+ * BCrypt 는 CPU 를 오래 점유하므로 요청 스레드에서 직접 돌리지 않고, 크기가 정해진 별도 풀에서만 실행한다.
+ * 대기열이 가득 차거나 정해진 시간 안에 끝나지 않으면 바로 503 으로 응답해 다른 API 가 함께 밀리지 않게 한다.
+ */
+@Service
+public class PasswordHashingService implements MeterBinder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final int strength;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder waitTotalNanos = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder rehashed = new LongAdder();
+
+    public PasswordHashingService(BCryptPasswordEncoder passwordEncoder,
+                                  @Value("${auth.password.bcrypt-strength:10}") int strength,
+                                  @Value("${auth.password.hashing.threads:2}") int threads,
+                                  @Value("${auth.password.hashing.queue-capacity:50}") int queueCapacity,
+                                  @Value("${auth.password.hashing.timeout-ms:3000}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = strength;
+        this.timeoutMs = timeoutMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정과 다르면 true.
+     * 로그인 성공 시 평문 비밀번호로 다시 해시해 두면 비밀번호 재설정 없이 cost 를 바꿀 수 있다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    // needsRehash 가 true 인 해시를 현재 cost 로 다시 만든다
+    public String rehash(String rawPassword) {
+        String encoded = encode(rawPassword);
+        rehashed.increment();
+        return encoded;
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTotalNanos.add(System.nanoTime() - submittedAt);
+                waitCount.increment();
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            rejected.increment();
+            throw new PasswordHashingBusyException();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .register(registry);
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+        FunctionTimer.builder("auth.password.hashing.wait", this,
+                        service -> service.waitCount.sum(),
+                        service -> service.waitTotalNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .register(registry);
+        FunctionCounter.builder("auth.password.hashing.rejected", rejected, LongAdder::doubleValue)
+                .register(registry);
+        FunctionCounter.builder("auth.password.rehashed", rehashed, LongAdder::doubleValue)
+                .register(registry);
+    }
+}
@@ -0,0 +1,161 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.config.RateLimitProperties;
+import com.hamster.gro_up.config.RateLimitProperties.Policy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Redis 토큰 버킷 기반 rate limiter.
+ * 버킷 상태는 Redis 스크립트로 원자적으로 갱신하고, 각 서버는 정책의 prefetch 만큼 permit 을 미리 받아 두었다가
+ * 로컬에서 차감한다. 받아 둔 permit 은 lease-ttl 이 지나면 버려지므로 한도를 넘겨 허용하는 일은 없다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RateLimitService implements MeterBinder {
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/acquire-rate-limit-permits.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final Map<String, PolicyMetrics> metrics = new ConcurrentHashMap<>();
+
+    public boolean tryAcquire(Policy policy, String key) {
+        String bucketKey = bucketKey(policy, key);
+        PolicyMetrics policyMetrics = metricsOf(policy);
+        long now = System.currentTimeMillis();
+
+        Lease lease = leases.get(bucketKey);
+        if (lease != null && lease.tryTake(now)) {
+            policyMetrics.local.increment();
+            return true;
+        }
+
+        long granted;
+        try {
+            Long result = redisTemplate.execute(
+                    ACQUIRE_SCRIPT,
+                    List.of(bucketKey),
+                    String.valueOf(policy.getCapacity()),
+                    String.valueOf(policy.refillPerMs()),
+                    String.valueOf(Math.max(1, policy.getPrefetch())),
+                    String.valueOf(now)
+            );
+            granted = result != null ? result : 0;
+        } catch (RuntimeException e) {
+            // Redis 장애 시에는 요청을 막기보다 통과시킨다
+            log.warn("Rate limit check failed, allowing request. policy={}", policy.getName(), e);
+            policyMetrics.error.increment();
+            return true;
+        }
+
+        if (granted <= 0) {
+            policyMetrics.rejected.increment();
+            return false;
+        }
+
+        policyMetrics.remote.increment();
+        if (granted > 1) {
+            leases.put(bucketKey, new Lease((int) granted - 1, now + properties.getLeaseTtl().toMillis()));
+        }
+        return true;
+    }
+
+    /**
+     * 받은 permit 하나를 돌려준다. 한 요청에 걸린 뒤쪽 정책에서 거절되면 앞쪽 정책에서 받은 permit 을 돌려주는 데 쓴다.
+     * Redis 버킷에서 이미 빠진 permit 이므로 Redis 로 돌려보내지 않고 이 서버의 lease 에 더해 둔다.
+     * (Redis 장애로 permit 없이 통과시킨 경우에도 더해지지만, 장애 중에는 어차피 모두 통과시키므로 문제 되지 않는다)
+     */
+    public void release(Policy policy, String key) {
+        long now = System.currentTimeMillis();
+        leases.compute(bucketKey(policy, key), (bucketKey, lease) -> {
+            if (lease == null || lease.isExpired(now)) {
+                return new Lease(1, now + properties.getLeaseTtl().toMillis());
+            }
+            lease.giveBack();
+            return lease;
+        });
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpiredLeases() {
+        long now = System.currentTimeMillis();
+        leases.values().removeIf(lease -> lease.isExpired(now));
+    }
+
+    private String bucketKey(Policy policy, String key) {
+        return "rateLimit:" + policy.getName() + ":" + key;
+    }
+
+    private PolicyMetrics metricsOf(Policy policy) {
+        return metrics.computeIfAbsent(policy.getName(), name -> new PolicyMetrics());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Policy policy : properties.getPolicies()) {
+            PolicyMetrics policyMetrics = metricsOf(policy);
+            register(registry, policy, "local", policyMetrics.local);
+            register(registry, policy, "remote", policyMetrics.remote);
+            register(registry, policy, "rejected", policyMetrics.rejected);
+            register(registry, policy, "error", policyMetrics.error);
+        }
+    }
+
+    private void register(MeterRegistry registry, Policy policy, String result, LongAdder counter) {
+        FunctionCounter.builder("rate_limit.requests", counter, LongAdder::doubleValue)
+                .tag("policy", policy.getName())
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static class Lease {
+        private final AtomicInteger remaining;
+        private final long expiresAt;
+
+        private Lease(int remaining, long expiresAt) {
+            this.remaining = new AtomicInteger(remaining);
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean tryTake(long now) {
+            if (isExpired(now)) {
+                return false;
+            }
+            return remaining.getAndUpdate(value -> value > 0 ? value - 1 : value) > 0;
+        }
+
+        private void giveBack() {
+            remaining.incrementAndGet();
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    private static class PolicyMetrics {
+        private final LongAdder local = new LongAdder();
+        private final LongAdder remote = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder error = new LongAdder();
+    }
+}
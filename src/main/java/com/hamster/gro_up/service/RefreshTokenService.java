@@ -1,40 +1,151 @@
 package com.hamster.gro_up.service;
 
+import com.hamster.gro_up.dto.RefreshSession;
+import com.hamster.gro_up.util.DigestUtil;
 import com.hamster.gro_up.util.TokenType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * 사용자별 Refresh 세션 관리. 세션은 refreshSessions:{email} 해시에 기기(로그인) 단위로 저장된다.
+ * 세션 ID 는 Refresh Token 의 familyId 와 같다.
+ */
 @RequiredArgsConstructor
 @Service
 public class RefreshTokenService {
 
+    private static final RedisScript<Long> SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/save-refresh-session.lua"), Long.class);
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/rotate-refresh-session.lua"), Long.class);
+    private static final RedisScript<Long> CONSUME_LEGACY_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/consume-legacy-refresh-token.lua"), Long.class);
+
+    private static final int MAX_DEVICE_LABEL_LENGTH = 100;
+
     private final StringRedisTemplate redisTemplate;
 
-    public void saveRefreshToken(String token, String email) {
-        String key = getRefreshTokenKey(email);
+    @Value("${auth.session.max-count:5}")
+    private int maxSessionCount;
+
+    @Value("${auth.session.rotation-grace-ms:10000}")
+    private long rotationGraceMs;
+
+    public void saveRefreshToken(String token, String email, String familyId, String deviceLabel) {
+        long now = System.currentTimeMillis();
         long expireMs = TokenType.REFRESH.getExpireMs();
-        redisTemplate.opsForValue().set(key, token, expireMs, TimeUnit.MILLISECONDS);
+
+        RefreshSession session = new RefreshSession(familyId, DigestUtil.shortSha256(token), now + expireMs, now, normalizeDeviceLabel(deviceLabel));
+
+        redisTemplate.execute(
+                SAVE_SCRIPT,
+                List.of(getSessionKey(email)),
+                familyId,
+                session.serialize(),
+                String.valueOf(now),
+                String.valueOf(maxSessionCount),
+                String.valueOf(expireMs)
+        );
     }
 
-    public String getRefreshToken(String email) {
-        String key = getRefreshTokenKey(email);
-        return redisTemplate.opsForValue().get(key);
+    /**
+     * 저장된 세션의 digest 가 요청 토큰과 같을 때만 새 토큰으로 교체한다. (Redis 스크립트로 한 번에 원자적으로 수행)
+     * 같은 세션의 이전 토큰이 다시 들어오면 탈취로 보고 해당 세션을 폐기한다.
+     * 단, 방금 교체된 토큰이 유예 시간 안에 다시 들어오면 동시에 보낸 재발급 요청으로 보고 세션을 그대로 둔다.
+     */
+    public RotationResult rotateRefreshToken(String email, String presentedToken, String newToken, String familyId) {
+        long now = System.currentTimeMillis();
+        long expireMs = TokenType.REFRESH.getExpireMs();
+
+        Long result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(getSessionKey(email), getRotatedKey(email, familyId)),
+                familyId,
+                DigestUtil.shortSha256(presentedToken),
+                DigestUtil.shortSha256(newToken),
+                String.valueOf(now + expireMs),
+                String.valueOf(now),
+                String.valueOf(expireMs),
+                String.valueOf(rotationGraceMs)
+        );
+
+        return RotationResult.of(result);
+    }
+
+    /**
+     * 세션이 생기기 전 방식(refreshToken:{email} 에 토큰 원문)으로 저장된 토큰이면 지우고 true 를 반환한다.
+     * 한 번 받아 준 뒤에는 새 세션으로 옮겨 가므로 같은 토큰을 다시 쓸 수 없다.
+     */
+    public boolean consumeLegacyRefreshToken(String email, String token) {
+        Long consumed = redisTemplate.execute(CONSUME_LEGACY_SCRIPT, List.of(getLegacyKey(email)), token);
+        return consumed != null && consumed == 1L;
     }
 
-    public void deleteRefreshToken(String email) {
-        String key = getRefreshTokenKey(email);
-        redisTemplate.delete(key);
+    public List<RefreshSession> findSessions(String email) {
+        long now = System.currentTimeMillis();
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(getSessionKey(email));
+
+        return entries.entrySet().stream()
+                .map(entry -> RefreshSession.parse((String) entry.getKey(), (String) entry.getValue()))
+                .filter(session -> !session.isExpired(now))
+                .sorted(Comparator.comparingLong(RefreshSession::getIssuedAt).reversed())
+                .toList();
     }
 
-    public boolean existsByEmail(String email) {
-        String key = getRefreshTokenKey(email);
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    public boolean existsSession(String email, String familyId) {
+        return redisTemplate.opsForHash().hasKey(getSessionKey(email), familyId);
     }
 
-    private String getRefreshTokenKey(String email) {
+    public boolean deleteSession(String email, String familyId) {
+        Long deleted = redisTemplate.opsForHash().delete(getSessionKey(email), familyId);
+        return deleted != null && deleted > 0;
+    }
+
+    // 모든 기기에서 로그아웃. 세션이 생기기 전 방식으로 저장된 토큰도 함께 지운다
+    public void deleteAllSessions(String email) {
+        redisTemplate.delete(List.of(getSessionKey(email), getLegacyKey(email)));
+    }
+
+    private String getSessionKey(String email) {
+        return "refreshSessions:" + email;
+    }
+
+    private String getLegacyKey(String email) {
         return "refreshToken:" + email;
     }
+
+    private String getRotatedKey(String email, String familyId) {
+        return "refreshRotated:" + email + ":" + familyId;
+    }
+
+    private String normalizeDeviceLabel(String deviceLabel) {
+        if (deviceLabel == null || deviceLabel.isBlank()) {
+            return "unknown";
+        }
+        return deviceLabel.length() > MAX_DEVICE_LABEL_LENGTH ? deviceLabel.substring(0, MAX_DEVICE_LABEL_LENGTH) : deviceLabel;
+    }
+
+    public enum RotationResult {
+        ROTATED, GRACE, NOT_FOUND, REUSED;
+
+        private static RotationResult of(Long result) {
+            if (result == null) {
+                return NOT_FOUND;
+            }
+            return switch (result.intValue()) {
+                case 1 -> ROTATED;
+                case 2 -> GRACE;
+                case -1 -> REUSED;
+                default -> NOT_FOUND;
+            };
+        }
+    }
 }
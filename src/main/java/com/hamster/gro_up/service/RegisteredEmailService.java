@@ -0,0 +1,178 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.repository.UserRepository;
+import com.hamster.gro_up.repository.UserRepository.EmailView;
+import com.hamster.gro_up.util.BloomFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가입된 이메일 목록을 로컬 Bloom filter 로 들고 있다가, 확실히 없는 이메일은 DB 조회 없이 걸러낸다.
+ * 있을 수도 있다고 나온 경우에만 DB 로 확인한다.
+ * 다른 서버에서 가입한 이메일은 Redis pub/sub 으로 전달받고, 탈퇴한 이메일은 지울 수 없으므로 주기적인 재구성 때 빠진다.
+ * 재구성이 한 번도 끝나지 않은 상태에서는 필터를 믿지 않고 항상 DB 로 확인한다.
+ */
+@Slf4j
+@Service
+public class RegisteredEmailService implements MessageListener, MeterBinder {
+
+    public static final String CHANNEL = "registered-email";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile BloomFilter rebuildingFilter;
+    private volatile boolean ready;
+
+    private final LongAdder filterNegatives = new LongAdder();
+    private final LongAdder databaseLookups = new LongAdder();
+
+    public RegisteredEmailService(UserRepository userRepository,
+                                  StringRedisTemplate redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  @Value("${auth.registered-email.bloom.expected-insertions:1000000}") long expectedInsertions,
+                                  @Value("${auth.registered-email.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public boolean existsByEmail(String email) {
+        if (ready && !bloomFilter.mightContain(normalize(email))) {
+            filterNegatives.increment();
+            return false;
+        }
+
+        databaseLookups.increment();
+        return userRepository.existsByEmail(email);
+    }
+
+    // 회원가입, OAuth 최초 로그인 시 호출
+    // 로컬 필터에는 바로 넣고 (롤백되어도 DB 조회가 한 번 늘 뿐이다), 다른 서버에는 커밋된 뒤에 알린다
+    public void register(String email) {
+        String normalized = normalize(email);
+        addToFilters(normalized);
+        afterCommit(() -> publish(normalized));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 이미 커밋된 가입을 실패로 만들지 않는다. 알림을 놓친 서버는 DB 로 확인하므로 다음 재구성까지 조회가 조금 늘 뿐이다
+    private void publish(String normalizedEmail) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, normalizedEmail);
+        } catch (DataAccessException e) {
+            log.warn("Failed to publish registered email", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addToFilters(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void addToFilters(String normalizedEmail) {
+        bloomFilter.put(normalizedEmail);
+
+        BloomFilter rebuilding = rebuildingFilter;
+        if (rebuilding != null) {
+            rebuilding.put(normalizedEmail);
+        }
+    }
+
+    /**
+     * user 테이블을 id 순으로 끊어 읽으면서 필터를 새로 만든다.
+     * 서버 기동 시 한 번, 이후에는 탈퇴한 이메일이 쌓여 DB 조회가 늘지 않도록 주기적으로 수행한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${auth.registered-email.bloom.rebuild-interval-ms:86400000}", initialDelayString = "${auth.registered-email.bloom.rebuild-interval-ms:86400000}")
+    public void rebuild() {
+        BloomFilter rebuilding = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuildingFilter = rebuilding;
+
+        try {
+            long count = 0;
+            long lastId = 0;
+            List<EmailView> page;
+
+            do {
+                page = userRepository.findTop1000ByIdGreaterThanOrderByIdAsc(lastId);
+                for (EmailView view : page) {
+                    if (view.getEmail() != null) {
+                        rebuilding.put(normalize(view.getEmail()));
+                    }
+                    lastId = view.getId();
+                }
+                count += page.size();
+            } while (!page.isEmpty());
+
+            bloomFilter = rebuilding;
+            ready = true;
+            log.info("Registered email bloom filter rebuilt with {} entries", count);
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild registered email bloom filter", e);
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+    // MySQL 기본 collation 은 대소문자를 구분하지 않으므로 필터도 같은 기준으로 맞춘다
+    private String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.registered_email.checks", filterNegatives, LongAdder::doubleValue)
+                .tag("result", "filter_negative")
+                .register(registry);
+        FunctionCounter.builder("auth.registered_email.checks", databaseLookups, LongAdder::doubleValue)
+                .tag("result", "database_lookup")
+                .register(registry);
+    }
+}
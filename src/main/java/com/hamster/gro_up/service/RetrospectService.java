@@ -1,6 +1,9 @@
 package com.hamster.gro_up.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.CursorPage;
+import com.hamster.gro_up.dto.RetrospectSummary;
 import com.hamster.gro_up.dto.request.RetrospectCreateRequest;
 import com.hamster.gro_up.dto.request.RetrospectUpdateRequest;
 import com.hamster.gro_up.dto.response.RetrospectListResponse;
@@ -14,9 +17,13 @@ import com.hamster.gro_up.exception.user.UserNotFoundException;
 import com.hamster.gro_up.repository.RetrospectRepository;
 import com.hamster.gro_up.repository.ScheduleRepository;
 import com.hamster.gro_up.repository.UserRepository;
+import com.hamster.gro_up.service.ListCacheService.CachedList;
+import com.hamster.gro_up.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
 
@@ -25,9 +32,12 @@ import java.util.List;
 @Service
 public class RetrospectService {
 
+    private static final TypeReference<CursorPage<RetrospectListResponse>> RETROSPECT_PAGE_TYPE = new TypeReference<>() {};
+
     private final RetrospectRepository retrospectRepository;
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
+    private final ListCacheService listCacheService;
 
     public RetrospectResponse findRetrospect(AuthUser authUser, Long retrospectId) {
         Retrospect retrospect = retrospectRepository.findByIdWithSchedule(retrospectId).orElseThrow(RetrospectNotFoundException::new);
@@ -37,12 +47,32 @@ public class RetrospectService {
         return RetrospectResponse.from(retrospect);
     }
 
-    public RetrospectListResponse findAllRetrospects(AuthUser authUser) {
-        List<Retrospect> retrospectList = retrospectRepository.findAllByUserIdWithSchedule(authUser.getId());
+    // 목록을 조회하기 전에 읽어, 요청의 If-None-Match 와 같으면 목록을 조회하지 않고 304 로 답한다
+    public String findRetrospectListETag(AuthUser authUser) {
+        return listCacheService.eTag(CachedList.RETROSPECTS, authUser.getId());
+    }
+
+    public CursorPage<RetrospectListResponse> findAllRetrospects(AuthUser authUser, String cursor, int size) {
+        int pageSize = CursorUtil.pageSize(size);
+
+        if (StringUtils.hasText(cursor)) {
+            return findRetrospectPage(authUser.getId(), cursor, pageSize);
+        }
+
+        return listCacheService.get(CachedList.RETROSPECTS, authUser.getId(), String.valueOf(pageSize), RETROSPECT_PAGE_TYPE,
+                () -> findRetrospectPage(authUser.getId(), null, pageSize));
+    }
+
+    private CursorPage<RetrospectListResponse> findRetrospectPage(Long userId, String cursor, int pageSize) {
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
 
-        List<RetrospectResponse> responseList = retrospectList.stream().map(RetrospectResponse::from).toList();
+        List<RetrospectSummary> retrospectList = StringUtils.hasText(cursor)
+                ? retrospectRepository.findSummariesByUserIdAfter(userId, CursorUtil.decodeId(cursor), limit)
+                : retrospectRepository.findSummariesByUserId(userId, limit);
 
-        return RetrospectListResponse.of(responseList);
+        return CursorPage.of(retrospectList, pageSize,
+                last -> CursorUtil.encode(last.getId()),
+                page -> RetrospectListResponse.of(page.stream().map(RetrospectResponse::from).toList()));
     }
 
     @Transactional
@@ -59,6 +89,8 @@ public class RetrospectService {
 
         Retrospect saveRetrospect = retrospectRepository.save(retrospect);
 
+        listCacheService.evictAfterCommit(authUser.getId(), CachedList.RETROSPECTS);
+
         return RetrospectResponse.from(saveRetrospect);
     }
 
@@ -69,6 +101,8 @@ public class RetrospectService {
         retrospect.validateOwner(authUser.getId());
 
         retrospect.update(request.getMemo());
+
+        listCacheService.evictAfterCommit(authUser.getId(), CachedList.RETROSPECTS);
     }
 
     @Transactional
@@ -78,6 +112,8 @@ public class RetrospectService {
         retrospect.validateOwner(authUser.getId());
 
         retrospectRepository.delete(retrospect);
+
+        listCacheService.evictAfterCommit(authUser.getId(), CachedList.RETROSPECTS);
     }
 
 }
@@ -0,0 +1,648 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.request.ScheduleBulkCreateRequest;
+import com.hamster.gro_up.dto.request.ScheduleCreateRequest;
+import com.hamster.gro_up.dto.response.CompanyResponse;
+import com.hamster.gro_up.dto.response.ScheduleImportResponse;
+import com.hamster.gro_up.entity.Step;
+import com.hamster.gro_up.exception.BadRequestException;
+import com.hamster.gro_up.exception.ForbiddenException;
+import com.hamster.gro_up.exception.NotFoundException;
+import com.hamster.gro_up.exception.schedule.InvalidScheduleImportException;
+import com.hamster.gro_up.exception.schedule.ScheduleImportBusyException;
+import com.hamster.gro_up.exception.schedule.ScheduleImportNotFoundException;
+import com.hamster.gro_up.repository.CompanyRepository;
+import com.hamster.gro_up.util.CsvReader;
+import com.hamster.gro_up.util.IcsReader;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CSV, iCalendar(.ics) 파일의 일정을 백그라운드에서 가져온다.
+ * 업로드 파일을 임시 파일로 옮긴 뒤 한 행(이벤트)씩 읽고, chunk-size 개씩 모아 일정 일괄 생성과 같은 경로로 저장한다.
+ * 잘못된 행은 건너뛰고 행 번호와 사유를 남기며, 진행 상황은 Redis 에 두어 어느 서버에서든 조회할 수 있다.
+ */
+@Slf4j
+@Service
+public class ScheduleImportService implements MeterBinder {
+
+    private static final String KEY_PREFIX = "scheduleImport:";
+    private static final String USER_ID = "userId";
+    private static final String STATUS = "status";
+    private static final String PROCESSED = "processed";
+    private static final String IMPORTED = "imported";
+    private static final String FAILED = "failed";
+
+    private static final int MAX_LENGTH = 255;
+    private static final DateTimeFormatter ICS_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final ScheduleService scheduleService;
+    private final CompanyRepository companyRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final int chunkSize;
+    private final int maxRows;
+    private final int maxErrors;
+    private final Duration ttl;
+    private final long shutdownTimeoutMs;
+    private final ZoneId zone;
+    private final Path tempDir;
+    private final ThreadPoolExecutor executor;
+
+    // 아직 끝나지 않은 작업과 그 임시 파일. 종료할 때 끝내지 못한 작업을 실패로 남기는 데 쓴다
+    private final Map<String, Path> activeJobs = new ConcurrentHashMap<>();
+    private volatile boolean stopping;
+
+    private final LongAdder importedRows = new LongAdder();
+    private final LongAdder failedRows = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public ScheduleImportService(ScheduleService scheduleService,
+                                 CompanyRepository companyRepository,
+                                 StringRedisTemplate redisTemplate,
+                                 @Value("${schedule.import.threads:2}") int threads,
+                                 @Value("${schedule.import.queue-capacity:10}") int queueCapacity,
+                                 @Value("${schedule.import.chunk-size:200}") int chunkSize,
+                                 @Value("${schedule.import.max-rows:10000}") int maxRows,
+                                 @Value("${schedule.import.max-errors:100}") int maxErrors,
+                                 @Value("${schedule.import.ttl-ms:86400000}") long ttlMs,
+                                 @Value("${schedule.import.shutdown-timeout-ms:30000}") long shutdownTimeoutMs,
+                                 @Value("${schedule.import.time-zone:Asia/Seoul}") String timeZone,
+                                 @Value("${schedule.import.temp-dir:${java.io.tmpdir}/schedule-import-${tsid.node:0}}") String tempDir) {
+        this.scheduleService = scheduleService;
+        this.companyRepository = companyRepository;
+        this.redisTemplate = redisTemplate;
+        this.chunkSize = Math.min(chunkSize, ScheduleBulkCreateRequest.MAX_SIZE);
+        this.maxRows = maxRows;
+        this.maxErrors = maxErrors;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.zone = ZoneId.of(timeZone);
+        this.tempDir = Path.of(tempDir);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "schedule-import-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 파일을 임시 파일로 옮기고 가져오기 작업을 등록한다.
+     * 요청이 끝나면 업로드 파일이 지워지므로 작업 스레드는 임시 파일을 읽는다.
+     */
+    public ScheduleImportResponse start(AuthUser authUser, MultipartFile file) {
+        Format format = Format.from(file);
+        String jobId = UUID.randomUUID().toString();
+        Path path = saveTemporarily(file);
+
+        try {
+            Map<String, String> fields = new HashMap<>();
+            fields.put(USER_ID, String.valueOf(authUser.getId()));
+            fields.put(STATUS, Status.PENDING.name());
+            fields.put(PROCESSED, "0");
+            fields.put(IMPORTED, "0");
+            fields.put(FAILED, "0");
+            redisTemplate.opsForHash().putAll(key(jobId), fields);
+            redisTemplate.expire(key(jobId), ttl);
+        } catch (RuntimeException e) {
+            deleteQuietly(path);
+            throw e;
+        }
+
+        activeJobs.put(jobId, path);
+        try {
+            executor.execute(() -> run(jobId, authUser, format, path));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            activeJobs.remove(jobId);
+            deleteQuietly(path);
+            redisTemplate.delete(key(jobId));
+            throw new ScheduleImportBusyException();
+        }
+
+        return ScheduleImportResponse.of(jobId, Status.PENDING.name(), 0, 0, 0, List.of());
+    }
+
+    public ScheduleImportResponse findStatus(AuthUser authUser, String jobId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(key(jobId));
+        if (fields.isEmpty()) {
+            throw new ScheduleImportNotFoundException();
+        }
+        if (!String.valueOf(authUser.getId()).equals(fields.get(USER_ID))) {
+            throw new ForbiddenException();
+        }
+
+        List<String> errors = redisTemplate.opsForList().range(errorsKey(jobId), 0, -1);
+        return ScheduleImportResponse.of(jobId,
+                (String) fields.get(STATUS),
+                Long.parseLong((String) fields.get(PROCESSED)),
+                Long.parseLong((String) fields.get(IMPORTED)),
+                Long.parseLong((String) fields.get(FAILED)),
+                errors != null ? errors : List.of());
+    }
+
+    void run(String jobId, AuthUser authUser, Format format, Path path) {
+        Progress progress = new Progress(jobId);
+        progress.status = Status.RUNNING;
+        saveProgress(progress);
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            Map<String, Long> companyIds = findCompanyIds(authUser.getId());
+            RowSource rows = format == Format.CSV ? csvRows(new CsvReader(reader)) : icsRows(new IcsReader(reader));
+
+            List<ScheduleCreateRequest> chunk = new ArrayList<>(chunkSize);
+            List<Long> chunkLines = new ArrayList<>(chunkSize);
+
+            boolean stopped = false;
+            ImportRow row;
+            while ((row = rows.next()) != null) {
+                // 서버가 종료 중이면 저장한 행까지만 남기고 멈춘다
+                if (stopping) {
+                    progress.error("서버가 종료되어 " + row.line() + "행부터는 가져오지 못했습니다.");
+                    stopped = true;
+                    break;
+                }
+                if (progress.processed >= maxRows) {
+                    progress.error("한 번에 " + maxRows + "건까지 가져올 수 있어 " + row.line() + "행부터는 건너뛰었습니다.");
+                    break;
+                }
+
+                progress.processed++;
+                try {
+                    chunk.add(toRequest(row, companyIds));
+                    chunkLines.add(row.line());
+                } catch (IllegalArgumentException e) {
+                    progress.fail(row.line(), e.getMessage());
+                }
+
+                if (chunk.size() == chunkSize) {
+                    write(authUser, chunk, chunkLines, progress);
+                    chunk.clear();
+                    chunkLines.clear();
+                    saveProgress(progress);
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                write(authUser, chunk, chunkLines, progress);
+            }
+            progress.status = stopped ? Status.FAILED : Status.COMPLETED;
+        } catch (IllegalArgumentException e) {
+            // 파일 형식 자체가 잘못된 경우로, 그 전까지 저장한 행은 그대로 둔다
+            progress.status = Status.FAILED;
+            progress.error(e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to import schedules. jobId={}", jobId, e);
+            progress.status = Status.FAILED;
+            progress.error("파일을 처리하는 중 오류가 발생했습니다.");
+        } finally {
+            saveProgress(progress);
+            deleteQuietly(path);
+            activeJobs.remove(jobId);
+        }
+    }
+
+    /**
+     * 한 묶음을 한 트랜잭션으로 저장한다.
+     * 실패하면 어느 행 때문인지 알 수 없으므로 한 행씩 다시 저장해 실패한 행만 남긴다.
+     */
+    private void write(AuthUser authUser, List<ScheduleCreateRequest> chunk, List<Long> lines, Progress progress) {
+        try {
+            scheduleService.createSchedules(authUser, new ScheduleBulkCreateRequest(List.copyOf(chunk)));
+            progress.imported += chunk.size();
+            importedRows.add(chunk.size());
+            return;
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                progress.fail(lines.get(0), failureMessage(e));
+                return;
+            }
+            log.warn("Failed to write schedule import chunk, retrying row by row. jobId={}, lines={}-{}",
+                    progress.jobId, lines.get(0), lines.get(lines.size() - 1), e);
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            try {
+                scheduleService.createSchedules(authUser, new ScheduleBulkCreateRequest(List.of(chunk.get(i))));
+                progress.imported++;
+                importedRows.increment();
+            } catch (RuntimeException e) {
+                progress.fail(lines.get(i), failureMessage(e));
+            }
+        }
+    }
+
+    // 사용자에게 보여 줄 수 있는 예외만 메시지를 그대로 남긴다
+    private String failureMessage(RuntimeException e) {
+        if (e instanceof BadRequestException || e instanceof NotFoundException || e instanceof ForbiddenException) {
+            return e.getMessage();
+        }
+        return "저장하지 못했습니다.";
+    }
+
+    // 기업명은 대소문자와 앞뒤 공백을 무시하고 비교하며, 같은 이름이 여러 개면 먼저 등록한 기업으로 연결한다
+    private Map<String, Long> findCompanyIds(Long userId) {
+        Map<String, Long> companyIds = new HashMap<>();
+        for (CompanyResponse company : companyRepository.findResponsesByUserId(userId, Pageable.unpaged())) {
+            if (company.getCompanyName() != null) {
+                companyIds.putIfAbsent(normalize(company.getCompanyName()), company.getCompanyId());
+            }
+        }
+        return companyIds;
+    }
+
+    private ScheduleCreateRequest toRequest(ImportRow row, Map<String, Long> companyIds) {
+        String companyName = checkLength("companyName", row.companyName());
+        if (companyName == null) {
+            throw new IllegalArgumentException("companyName 이 비어 있습니다.");
+        }
+        if (row.dueDate() == null) {
+            throw new IllegalArgumentException("dueDate 가 비어 있습니다.");
+        }
+
+        // 단계가 비어 있으면 지원을 막 시작한 것으로 보고 서류 단계로 저장한다
+        Step step = Step.DOCUMENT;
+        if (row.step() != null) {
+            step = findStep(row.step());
+            if (step == null) {
+                throw new IllegalArgumentException("알 수 없는 step 입니다: " + row.step());
+            }
+        }
+
+        return new ScheduleCreateRequest(
+                companyIds.get(normalize(companyName)),
+                companyName,
+                checkLength("address", row.address()),
+                checkLength("addressDetail", row.addressDetail()),
+                step,
+                parseDueDate(row.dueDate()),
+                checkLength("position", row.position()),
+                checkLength("memo", row.memo()));
+    }
+
+    private String checkLength(String name, String value) {
+        if (value != null && value.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException(name + " 은 " + MAX_LENGTH + "자를 넘을 수 없습니다.");
+        }
+        return value;
+    }
+
+    // 2025-05-01T10:00, 2025-05-01 10:00:00, 2025-05-01(자정) 형식을 받는다
+    private LocalDateTime parseDueDate(String value) {
+        try {
+            if (value.length() == 10) {
+                return LocalDate.parse(value).atStartOfDay();
+            }
+            return LocalDateTime.parse(value.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("dueDate 형식이 올바르지 않습니다 (예: 2025-05-01T10:00): " + value);
+        }
+    }
+
+    // 내보내기 결과를 다시 가져올 수 있도록 enum 이름과 표시 이름(예: 1차 면접)을 모두 받는다
+    private Step findStep(String value) {
+        for (Step step : Step.values()) {
+            if (step.name().equalsIgnoreCase(value) || step.getDisplayName().equals(value)) {
+                return step;
+            }
+        }
+        return null;
+    }
+
+    private RowSource csvRows(CsvReader csv) throws IOException {
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            return () -> null;
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("companyname") || !columns.containsKey("duedate")) {
+            throw new IllegalArgumentException("CSV 첫 줄에 companyName, dueDate 열이 있어야 합니다.");
+        }
+
+        return () -> {
+            List<String> record;
+            do {
+                record = csv.readRecord();
+            } while (record != null && record.stream().allMatch(String::isBlank));
+
+            if (record == null) {
+                return null;
+            }
+            return new ImportRow(csv.getRecordLineNumber(),
+                    csvField(record, columns, "companyname"),
+                    csvField(record, columns, "duedate"),
+                    csvField(record, columns, "step"),
+                    csvField(record, columns, "position"),
+                    csvField(record, columns, "memo"),
+                    csvField(record, columns, "address"),
+                    csvField(record, columns, "addressdetail"));
+        };
+    }
+
+    private String csvField(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+
+        String value = record.get(index).strip();
+        if (value.isEmpty()) {
+            return null;
+        }
+        // 내보내기에서 수식으로 실행되지 않도록 앞에 붙인 ' 를 뗀다
+        if (value.length() > 1 && value.charAt(0) == '\'' && "=+-@".indexOf(value.charAt(1)) >= 0) {
+            return value.substring(1);
+        }
+        return value;
+    }
+
+    // SUMMARY 는 기업명, DTSTART 는 마감일, LOCATION 은 주소, DESCRIPTION 은 메모, CATEGORIES 중 단계와 같은 이름이 있으면 단계로 쓴다
+    private RowSource icsRows(IcsReader ics) {
+        return () -> {
+            Map<String, IcsReader.Property> event = ics.readEvent();
+            if (event == null) {
+                return null;
+            }
+            return new ImportRow(ics.getEventLineNumber(),
+                    icsText(event.get("SUMMARY")),
+                    icsDateTime(event.get("DTSTART")),
+                    icsStep(event.get("CATEGORIES")),
+                    null,
+                    icsText(event.get("DESCRIPTION")),
+                    icsText(event.get("LOCATION")),
+                    null);
+        };
+    }
+
+    private String icsText(IcsReader.Property property) {
+        if (property == null) {
+            return null;
+        }
+        String text = property.text().strip();
+        return text.isEmpty() ? null : text;
+    }
+
+    // UTC(Z)나 TZID 가 붙은 시각은 schedule.import.time-zone 기준 시각으로 바꾸고, 날짜만 있으면 자정으로 본다
+    private String icsDateTime(IcsReader.Property property) {
+        if (property == null || property.value().isBlank()) {
+            return null;
+        }
+
+        String value = property.value().strip();
+        try {
+            if (value.length() == 8) {
+                return LocalDate.parse(value, DateTimeFormatter.BASIC_ISO_DATE).atStartOfDay().toString();
+            }
+            if (value.endsWith("Z")) {
+                return LocalDateTime.parse(value.substring(0, value.length() - 1), ICS_DATE_TIME)
+                        .atOffset(ZoneOffset.UTC).atZoneSameInstant(zone).toLocalDateTime().toString();
+            }
+
+            LocalDateTime dateTime = LocalDateTime.parse(value, ICS_DATE_TIME);
+            String tzid = property.params().get("TZID");
+            if (tzid != null) {
+                return dateTime.atZone(ZoneId.of(tzid)).withZoneSameInstant(zone).toLocalDateTime().toString();
+            }
+            return dateTime.toString();
+        } catch (DateTimeException e) {
+            return value;
+        }
+    }
+
+    private String icsStep(IcsReader.Property property) {
+        if (property == null) {
+            return null;
+        }
+        for (String category : property.text().split(",")) {
+            Step step = findStep(category.strip());
+            if (step != null) {
+                return step.name();
+            }
+        }
+        return null;
+    }
+
+    // 작업 스레드 하나만 쓰므로 누적 값을 그대로 덮어쓴다
+    private void saveProgress(Progress progress) {
+        try {
+            Map<String, String> fields = new HashMap<>();
+            fields.put(STATUS, progress.status.name());
+            fields.put(PROCESSED, String.valueOf(progress.processed));
+            fields.put(IMPORTED, String.valueOf(progress.imported));
+            fields.put(FAILED, String.valueOf(progress.failed));
+            redisTemplate.opsForHash().putAll(key(progress.jobId), fields);
+
+            if (!progress.pendingErrors.isEmpty()) {
+                redisTemplate.opsForList().rightPushAll(errorsKey(progress.jobId), List.copyOf(progress.pendingErrors));
+                redisTemplate.expire(errorsKey(progress.jobId), ttl);
+                progress.pendingErrors.clear();
+            }
+        } catch (DataAccessException e) {
+            // 다음 묶음을 저장할 때 다시 기록한다
+            log.warn("Failed to save schedule import progress. jobId={}", progress.jobId, e);
+        }
+    }
+
+    private Path saveTemporarily(MultipartFile file) {
+        try {
+            Files.createDirectories(tempDir);
+            Path path = Files.createTempFile(tempDir, "schedule-import-", ".tmp");
+            file.transferTo(path);
+            return path;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete schedule import file. path={}", path, e);
+        }
+    }
+
+    private static String normalize(String companyName) {
+        return companyName.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private String key(String jobId) {
+        return KEY_PREFIX + jobId;
+    }
+
+    private String errorsKey(String jobId) {
+        return KEY_PREFIX + jobId + ":errors";
+    }
+
+    /**
+     * 이 서버가 이전 실행에서 작업 중에 죽어 남긴 임시 파일을 지운다.
+     * 임시 파일은 서버마다 다른 디렉터리(temp-dir)에 만들고 작업을 받기 전에 실행되므로, 이 디렉터리의 파일은 모두 이전 실행이 남긴 것이다.
+     */
+    @PostConstruct
+    void deleteOrphanFiles() {
+        if (!Files.isDirectory(tempDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(tempDir, "schedule-import-*.tmp")) {
+            for (Path file : files) {
+                deleteQuietly(file);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete orphan schedule import files", e);
+        }
+    }
+
+    /**
+     * 새 행은 읽지 않게 하고, 진행 중인 묶음이 끝날 때까지 기다린다.
+     * 기다려도 끝나지 않은 작업은 PENDING, RUNNING 으로 남지 않도록 실패로 표시하고 임시 파일을 지운다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+
+        for (Map.Entry<String, Path> job : activeJobs.entrySet()) {
+            try {
+                redisTemplate.opsForHash().put(key(job.getKey()), STATUS, Status.FAILED.name());
+                redisTemplate.opsForList().rightPush(errorsKey(job.getKey()), "서버가 종료되어 가져오기를 끝내지 못했습니다.");
+                redisTemplate.expire(errorsKey(job.getKey()), ttl);
+            } catch (DataAccessException e) {
+                log.warn("Failed to mark schedule import as failed. jobId={}", job.getKey(), e);
+            }
+            deleteQuietly(job.getValue());
+        }
+        activeJobs.clear();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("schedule.import.rows", importedRows, LongAdder::doubleValue)
+                .tag("result", "imported")
+                .register(registry);
+        FunctionCounter.builder("schedule.import.rows", failedRows, LongAdder::doubleValue)
+                .tag("result", "failed")
+                .register(registry);
+        FunctionCounter.builder("schedule.import.rejected", rejected, LongAdder::doubleValue)
+                .register(registry);
+        Gauge.builder("schedule.import.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+        Gauge.builder("schedule.import.queued", executor, e -> e.getQueue().size())
+                .register(registry);
+    }
+
+    public enum Format {
+        CSV, ICS;
+
+        // 확장자로 판단하고, 확장자가 없으면 Content-Type 으로 판단한다
+        static Format from(MultipartFile file) {
+            if (file.isEmpty()) {
+                throw new InvalidScheduleImportException("빈 파일은 가져올 수 없습니다.");
+            }
+
+            String name = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+            String contentType = file.getContentType() != null ? file.getContentType().toLowerCase(Locale.ROOT) : "";
+
+            if (name.endsWith(".csv") || (!name.contains(".") && contentType.startsWith("text/csv"))) {
+                return CSV;
+            }
+            if (name.endsWith(".ics") || (!name.contains(".") && contentType.startsWith("text/calendar"))) {
+                return ICS;
+            }
+            throw new InvalidScheduleImportException("csv 또는 ics 파일만 가져올 수 있습니다.");
+        }
+    }
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        ImportRow next() throws IOException;
+    }
+
+    // 파일 형식과 관계없이 한 행을 나타낸다. 값이 없으면 null
+    private record ImportRow(long line, String companyName, String dueDate, String step,
+                             String position, String memo, String address, String addressDetail) {
+    }
+
+    private class Progress {
+        private final String jobId;
+        private final List<String> pendingErrors = new ArrayList<>();
+        private Status status;
+        private long processed;
+        private long imported;
+        private long failed;
+        private int errors;
+
+        private Progress(String jobId) {
+            this.jobId = jobId;
+        }
+
+        private void fail(long line, String message) {
+            failed++;
+            failedRows.increment();
+            error(line + "행: " + message);
+        }
+
+        // 너무 많이 실패하면 사유는 max-errors 개까지만 남기고 건수만 센다
+        private void error(String message) {
+            if (errors < maxErrors) {
+                errors++;
+                pendingErrors.add(message);
+            }
+        }
+    }
+}
@@ -0,0 +1,470 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.entity.Schedule;
+import com.hamster.gro_up.repository.ScheduleRepository;
+import com.hamster.gro_up.repository.ScheduleRepository.ReminderView;
+import com.hamster.gro_up.repository.UserRepository;
+import com.hamster.gro_up.repository.UserRepository.EmailView;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 일정 마감 알림.
+ * 알림 시각(dueDate - offset)을 slot-ms 단위 칸으로 나눈 timing wheel 을 Redis 에 두고, 칸마다 SET 하나에 알림을 담는다.
+ * horizon-ms 안에 울릴 알림만 칸에 두고, 그 뒤의 알림은 DB 에 둔 채 loadUpcoming 이 주기적으로 다음 구간을 칸으로 내린다.
+ * 일정이 생기거나 일시가 바뀌면 커밋 이후 해당 칸에만 넣고 빼므로 알림 하나당 O(1) 이고, 발송을 위해 schedule 테이블을 훑지 않는다.
+ * 칸은 Lua 로 cursor 를 올리면서 가져가므로 여러 서버 중 한 서버만 보내고, 한 번에 가져간 한 사용자의 알림은 메일 한 통으로 묶는다.
+ * 가져간 칸은 메일을 mail_outbox 에 넣고 acknowledge 할 때까지 처리 중 칸으로 남아, 그 전에 서버가 죽으면 lease-ms 뒤에 다시 보낸다.
+ */
+@Slf4j
+@Service
+public class ScheduleReminderService implements MeterBinder {
+
+    private static final String SLOT_KEY_PREFIX = "scheduleReminder:slot:";
+    private static final String CURSOR_KEY = "scheduleReminder:cursor";
+    private static final String LOADED_UNTIL_KEY = "scheduleReminder:loadedUntil";
+    private static final String LOADER_LOCK_KEY = "scheduleReminder:loaderLock";
+    private static final String PROCESSING_KEY = "scheduleReminder:processing";
+    private static final String PROCESSING_SLOT_KEY_PREFIX = "scheduleReminder:processing:";
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("M월 d일 (E) HH:mm", Locale.KOREAN);
+
+    private static final RedisScript<Long> UPDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/update-schedule-reminders.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/claim-schedule-reminder-slot.lua"), List.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/reclaim-schedule-reminder-slot.lua"), List.class);
+    private static final RedisScript<Long> ACK_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/ack-schedule-reminder-slot.lua"), Long.class);
+
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final MailOutboxService mailOutboxService;
+    private final StringRedisTemplate redisTemplate;
+    private final long[] offsetsMinutes;
+    private final long slotMs;
+    private final long horizonMs;
+    private final int maxCatchUpSlots;
+    private final long leaseMs;
+    private final ZoneId zoneId;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder reclaimed = new LongAdder();
+    private final LongAdder digests = new LongAdder();
+
+    public ScheduleReminderService(ScheduleRepository scheduleRepository,
+                                   UserRepository userRepository,
+                                   MailOutboxService mailOutboxService,
+                                   StringRedisTemplate redisTemplate,
+                                   @Value("${schedule.reminder.offsets-minutes:1440,60}") long[] offsetsMinutes,
+                                   @Value("${schedule.reminder.slot-ms:300000}") long slotMs,
+                                   @Value("${schedule.reminder.horizon-ms:172800000}") long horizonMs,
+                                   @Value("${schedule.reminder.max-catch-up-slots:288}") int maxCatchUpSlots,
+                                   @Value("${schedule.reminder.lease-ms:300000}") long leaseMs,
+                                   @Value("${schedule.reminder.time-zone:Asia/Seoul}") String timeZone) {
+        this.scheduleRepository = scheduleRepository;
+        this.userRepository = userRepository;
+        this.mailOutboxService = mailOutboxService;
+        this.redisTemplate = redisTemplate;
+        this.offsetsMinutes = offsetsMinutes;
+        this.slotMs = slotMs;
+        this.horizonMs = horizonMs;
+        this.maxCatchUpSlots = maxCatchUpSlots;
+        this.leaseMs = leaseMs;
+        this.zoneId = ZoneId.of(timeZone);
+    }
+
+    public void scheduleAfterCommit(Long userId, Long scheduleId, LocalDateTime dueDate) {
+        rescheduleAfterCommit(userId, scheduleId, null, dueDate);
+    }
+
+    public void scheduleAllAfterCommit(Long userId, Collection<Schedule> schedules) {
+        List<Reminder> additions = new ArrayList<>();
+        for (Schedule schedule : schedules) {
+            additions.addAll(reminders(userId, schedule.getId(), schedule.getDueDate()));
+        }
+        afterCommit(() -> updateQuietly(List.of(), additions));
+    }
+
+    // 일시가 그대로면 아무것도 하지 않는다
+    public void rescheduleAfterCommit(Long userId, Long scheduleId, LocalDateTime previousDueDate, LocalDateTime dueDate) {
+        if (Objects.equals(previousDueDate, dueDate)) {
+            return;
+        }
+
+        List<Reminder> removals = reminders(userId, scheduleId, previousDueDate);
+        List<Reminder> additions = reminders(userId, scheduleId, dueDate);
+        afterCommit(() -> updateQuietly(removals, additions));
+    }
+
+    public void cancelAfterCommit(Long userId, Long scheduleId, LocalDateTime dueDate) {
+        rescheduleAfterCommit(userId, scheduleId, dueDate, null);
+    }
+
+    /**
+     * 발송할 차례가 된 칸(시작 시각이 지난 칸)을 마지막으로 가져간 칸 다음부터 모두 가져간다.
+     * 서버가 오래 멈춰 있었어도 max-catch-up-slots 보다 오래된 칸은 건너뛴다 (TTL 이 지나면 사라진다).
+     * 다른 서버가 가져간 뒤 lease 안에 acknowledge 하지 못한 칸도 다시 가져간다.
+     */
+    public List<ClaimedSlot> claimDue() {
+        long now = System.currentTimeMillis();
+        String leaseDeadline = String.valueOf(now + leaseMs);
+        List<ClaimedSlot> claimed = new ArrayList<>();
+
+        Set<String> expiredSlots = redisTemplate.opsForZSet().rangeByScore(PROCESSING_KEY, 0, now);
+        if (expiredSlots != null) {
+            for (String slot : expiredSlots) {
+                List<?> members = redisTemplate.execute(RECLAIM_SCRIPT, List.of(PROCESSING_KEY, processingSlotKey(Long.parseLong(slot))),
+                        slot, String.valueOf(now), leaseDeadline);
+                if (members != null && !members.isEmpty()) {
+                    reclaimed.increment();
+                    claimed.add(ClaimedSlot.of(Long.parseLong(slot), members));
+                }
+            }
+        }
+
+        long currentSlot = slot(now);
+        String cursor = redisTemplate.opsForValue().get(CURSOR_KEY);
+        long from = Math.max(cursor != null ? Long.parseLong(cursor) + 1 : currentSlot, currentSlot - maxCatchUpSlots);
+
+        for (long slot = from; slot <= currentSlot; slot++) {
+            List<?> members = redisTemplate.execute(CLAIM_SCRIPT,
+                    List.of(CURSOR_KEY, slotKey(slot), PROCESSING_KEY, processingSlotKey(slot)),
+                    String.valueOf(slot), String.valueOf(keyTtlMs()), leaseDeadline);
+            if (members != null && !members.isEmpty()) {
+                claimed.add(ClaimedSlot.of(slot, members));
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 메일을 넣은 알림을 처리 중 칸에서 지운다. failed 는 남겨 두어 lease 가 지난 뒤 다시 보낸다.
+     */
+    public void acknowledge(List<ClaimedSlot> slots, Set<Reminder> failed) {
+        for (ClaimedSlot claimedSlot : slots) {
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(claimedSlot.slot()));
+            for (Reminder reminder : claimedSlot.reminders()) {
+                if (!failed.contains(reminder)) {
+                    args.add(reminder.member());
+                }
+            }
+            redisTemplate.execute(ACK_SCRIPT, List.of(PROCESSING_KEY, processingSlotKey(claimedSlot.slot())), args.toArray());
+        }
+    }
+
+    /**
+     * 가져간 알림을 사용자별로 묶어 메일 한 통씩 mail_outbox 에 넣는다. 발송과 재시도는 MailOutboxWorker 가 한다.
+     * 알림을 넣은 뒤 일정이 지워졌거나 일시가 바뀌었으면(칸에서 빼지 못한 경우), 밀린 칸을 늦게 보내느라 마감이 이미 지났으면 보내지 않는다.
+     * 반환값: mail_outbox 에 넣지 못한 사용자의 알림들
+     */
+    public Set<Reminder> sendDigests(List<Reminder> reminders) {
+        if (reminders.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<Long, ReminderView> schedules = new HashMap<>();
+        for (ReminderView view : scheduleRepository.findReminderViewsByIdIn(
+                reminders.stream().map(Reminder::scheduleId).distinct().toList())) {
+            schedules.put(view.getId(), view);
+        }
+
+        Map<Long, List<Reminder>> remindersByUser = new TreeMap<>();
+        for (Reminder reminder : reminders) {
+            remindersByUser.computeIfAbsent(reminder.userId(), key -> new ArrayList<>()).add(reminder);
+        }
+
+        Map<Long, String> emails = new HashMap<>();
+        for (EmailView user : userRepository.findAllByIdIn(remindersByUser.keySet())) {
+            emails.put(user.getId(), user.getEmail());
+        }
+
+        LocalDateTime now = LocalDateTime.now(zoneId);
+        Set<Reminder> failed = new HashSet<>();
+        remindersByUser.forEach((userId, userReminders) -> {
+            try {
+                sendDigest(userId, emails.get(userId), userReminders, schedules, now);
+            } catch (RuntimeException e) {
+                log.error("Failed to enqueue schedule reminder. userId={}", userId, e);
+                failed.addAll(userReminders);
+            }
+        });
+        return failed;
+    }
+
+    private void sendDigest(Long userId, String email, List<Reminder> reminders, Map<Long, ReminderView> schedules,
+                            LocalDateTime now) {
+        // 같은 일정의 알림이 한 번에 여럿 잡혀도(밀린 칸을 한꺼번에 가져간 경우) 한 줄만 쓴다
+        Map<Long, ReminderView> due = new HashMap<>();
+        for (Reminder reminder : reminders) {
+            ReminderView schedule = schedules.get(reminder.scheduleId());
+            if (schedule == null || !schedule.getUserId().equals(userId) || schedule.getDueDate() == null
+                || epochSecond(schedule.getDueDate()) != reminder.dueEpochSecond()) {
+                stale.increment();
+                continue;
+            }
+            if (!schedule.getDueDate().isAfter(now)) {
+                expired.increment();
+                continue;
+            }
+            due.put(schedule.getId(), schedule);
+        }
+
+        if (due.isEmpty() || email == null) {
+            return;
+        }
+
+        List<ReminderView> sorted = due.values().stream()
+                .sorted(Comparator.comparing(ReminderView::getDueDate).thenComparing(ReminderView::getId))
+                .toList();
+
+        StringBuilder body = new StringBuilder("다가오는 일정이 있습니다.\n\n");
+        for (ReminderView schedule : sorted) {
+            body.append("- ").append(DUE_DATE_FORMAT.format(schedule.getDueDate()))
+                    .append(' ').append(Objects.toString(schedule.getCompanyName(), ""));
+            if (schedule.getPosition() != null) {
+                body.append(' ').append(schedule.getPosition());
+            }
+            if (schedule.getStep() != null) {
+                body.append(" (").append(schedule.getStep().getDisplayName()).append(')');
+            }
+            body.append('\n');
+        }
+
+        mailOutboxService.enqueue(email, "다가오는 일정 " + sorted.size() + "건", body.toString());
+        digests.increment();
+        sent.add(sorted.size());
+    }
+
+    /**
+     * 마지막으로 내린 시각부터 지금 + horizon-ms 까지 울릴 알림을 DB 에서 읽어 칸에 넣는다.
+     * offset 마다 그 구간에 울리는 마감일 범위만 읽으므로, 가장 짧은 offset 부터 가장 긴 offset 까지 걸친 일정을 읽고 버리지 않는다.
+     * 여러 서버가 동시에 돌지 않도록 잠그고, 같은 알림을 다시 넣어도 SET 이라 한 번만 들어간다.
+     */
+    public void loadUpcoming() {
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOADER_LOCK_KEY, instanceId, Duration.ofMillis(slotMs)))) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        String loadedUntilValue = redisTemplate.opsForValue().get(LOADED_UNTIL_KEY);
+        long loadedFrom = loadedUntilValue != null ? Math.max(Long.parseLong(loadedUntilValue), now) : now;
+        long loadUntil = now + horizonMs;
+        if (loadedFrom >= loadUntil) {
+            return;
+        }
+
+        for (long offsetMinutes : offsetsMinutes) {
+            load(offsetMinutes, loadedFrom, loadUntil);
+        }
+
+        redisTemplate.opsForValue().set(LOADED_UNTIL_KEY, String.valueOf(loadUntil), Duration.ofMillis(keyTtlMs()));
+    }
+
+    // (loadedFrom, loadUntil] 에 울리는 offset 알림은 마감일이 (loadedFrom + offset, loadUntil + offset] 인 일정이다
+    private void load(long offsetMinutes, long loadedFrom, long loadUntil) {
+        long offsetMs = offsetMinutes * 60_000;
+        LocalDateTime end = toLocalDateTime(loadUntil + offsetMs);
+        LocalDateTime cursorDueDate = toLocalDateTime(loadedFrom + offsetMs);
+        Long cursorId = Long.MAX_VALUE;
+
+        List<ReminderView> page = scheduleRepository.findReminderViewsDueUntil(end, cursorDueDate, cursorId,
+                PageRequest.of(0, LOAD_PAGE_SIZE));
+        while (!page.isEmpty()) {
+            List<Reminder> additions = new ArrayList<>(page.size());
+            for (ReminderView schedule : page) {
+                Reminder reminder = new Reminder(schedule.getUserId(), schedule.getId(), epochSecond(schedule.getDueDate()), offsetMinutes);
+                if (reminder.fireAtMillis() > loadedFrom && reminder.fireAtMillis() <= loadUntil) {
+                    additions.add(reminder);
+                }
+            }
+            update(List.of(), additions);
+
+            ReminderView last = page.get(page.size() - 1);
+            cursorDueDate = last.getDueDate();
+            cursorId = last.getId();
+            page = page.size() < LOAD_PAGE_SIZE
+                    ? List.of()
+                    : scheduleRepository.findReminderViewsDueUntil(end, cursorDueDate, cursorId, PageRequest.of(0, LOAD_PAGE_SIZE));
+        }
+    }
+
+    // 넣는 알림은 지금부터 horizon-ms 안에 울릴 것만 넣는다. 그 뒤의 알림은 loadUpcoming 이 때가 되면 넣는다
+    private void update(List<Reminder> removals, List<Reminder> additions) {
+        long now = System.currentTimeMillis();
+        // 이미 가져갔을 수 있는 지금 칸 대신 다음 칸에 넣는다
+        long nextSlot = slot(now) + 1;
+
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(keyTtlMs()));
+        args.add(null);
+
+        for (Reminder reminder : removals) {
+            if (reminder.fireAtMillis() > now) {
+                keys.add(slotKey(slot(reminder.fireAtMillis())));
+                args.add(reminder.member());
+            }
+        }
+        int removalCount = keys.size();
+        args.set(1, String.valueOf(removalCount));
+
+        for (Reminder reminder : additions) {
+            if (reminder.fireAtMillis() > now && reminder.fireAtMillis() <= now + horizonMs) {
+                keys.add(slotKey(Math.max(slot(reminder.fireAtMillis()), nextSlot)));
+                args.add(reminder.member());
+            }
+        }
+
+        if (keys.isEmpty()) {
+            return;
+        }
+        redisTemplate.execute(UPDATE_SCRIPT, keys, args.toArray());
+        scheduled.add(keys.size() - removalCount);
+    }
+
+    // 알림을 넣지 못해도 일정 저장은 성공해야 한다. 빠진 알림은 보내지 않을 뿐이다
+    private void updateQuietly(List<Reminder> removals, List<Reminder> additions) {
+        try {
+            update(removals, additions);
+        } catch (DataAccessException e) {
+            log.warn("Failed to update schedule reminders. reminders={}", additions.size() + removals.size(), e);
+        }
+    }
+
+    private List<Reminder> reminders(Long userId, Long scheduleId, LocalDateTime dueDate) {
+        if (dueDate == null) {
+            return List.of();
+        }
+
+        long dueEpochSecond = epochSecond(dueDate);
+        List<Reminder> reminders = new ArrayList<>(offsetsMinutes.length);
+        for (long offsetMinutes : offsetsMinutes) {
+            reminders.add(new Reminder(userId, scheduleId, dueEpochSecond, offsetMinutes));
+        }
+        return reminders;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private long slot(long epochMillis) {
+        return Math.floorDiv(epochMillis, slotMs);
+    }
+
+    private String slotKey(long slot) {
+        return SLOT_KEY_PREFIX + slot;
+    }
+
+    private String processingSlotKey(long slot) {
+        return PROCESSING_SLOT_KEY_PREFIX + slot;
+    }
+
+    // 칸이 울릴 때까지(horizon) 남아 있고, 밀린 칸을 가져갈 수 있는 동안(max-catch-up-slots)까지 둔다
+    private long keyTtlMs() {
+        return horizonMs + slotMs * (maxCatchUpSlots + 1L);
+    }
+
+    private long epochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(zoneId).toEpochSecond();
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zoneId);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("schedule.reminders", scheduled, LongAdder::doubleValue)
+                .tag("result", "scheduled")
+                .register(registry);
+        FunctionCounter.builder("schedule.reminders", sent, LongAdder::doubleValue)
+                .tag("result", "sent")
+                .register(registry);
+        FunctionCounter.builder("schedule.reminders", stale, LongAdder::doubleValue)
+                .tag("result", "stale")
+                .register(registry);
+        FunctionCounter.builder("schedule.reminders", expired, LongAdder::doubleValue)
+                .tag("result", "expired")
+                .register(registry);
+        FunctionCounter.builder("schedule.reminder.digests", digests, LongAdder::doubleValue)
+                .register(registry);
+        FunctionCounter.builder("schedule.reminder.reclaimed.slots", reclaimed, LongAdder::doubleValue)
+                .register(registry);
+    }
+
+    /**
+     * 가져간 칸 하나와 그 칸의 알림들. 다 보낸 뒤 acknowledge 에 그대로 넘긴다.
+     */
+    public record ClaimedSlot(long slot, List<Reminder> reminders) {
+
+        static ClaimedSlot of(long slot, List<?> members) {
+            List<Reminder> reminders = new ArrayList<>(members.size());
+            for (Object member : members) {
+                reminders.add(Reminder.parse((String) member));
+            }
+            return new ClaimedSlot(slot, reminders);
+        }
+    }
+
+    /**
+     * 칸에 담기는 알림 하나. member 는 "userId:scheduleId:dueDate(epoch 초):offset(분)" 으로,
+     * 일정 일시가 바뀌면 이전 일시로 같은 member 를 만들어 칸에서 뺀다.
+     */
+    public record Reminder(long userId, long scheduleId, long dueEpochSecond, long offsetMinutes) {
+
+        long fireAtMillis() {
+            return (dueEpochSecond - offsetMinutes * 60) * 1000;
+        }
+
+        String member() {
+            return userId + ":" + scheduleId + ":" + dueEpochSecond + ":" + offsetMinutes;
+        }
+
+        static Reminder parse(String member) {
+            String[] parts = member.split(":");
+            return new Reminder(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                    Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.service.ScheduleReminderService.ClaimedSlot;
+import com.hamster.gro_up.service.ScheduleReminderService.Reminder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 일정 알림 칸을 주기적으로 가져가 메일로 보내고, 다음 구간의 알림을 DB 에서 칸으로 내린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleReminderWorker {
+
+    private final ScheduleReminderService scheduleReminderService;
+
+    @Scheduled(fixedDelayString = "${schedule.reminder.poll-interval-ms:30000}")
+    public void poll() {
+        try {
+            List<ClaimedSlot> slots = scheduleReminderService.claimDue();
+            if (slots.isEmpty()) {
+                return;
+            }
+
+            List<Reminder> reminders = slots.stream().flatMap(slot -> slot.reminders().stream()).toList();
+            Set<Reminder> failed = scheduleReminderService.sendDigests(reminders);
+            // 메일을 넣은 뒤에 지운다. 그 사이에 죽으면 lease 가 지난 뒤 다른 서버가 다시 보낸다
+            scheduleReminderService.acknowledge(slots, failed);
+        } catch (RuntimeException e) {
+            log.error("Failed to send schedule reminders", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.reminder.load-interval-ms:600000}")
+    public void load() {
+        try {
+            scheduleReminderService.loadUpcoming();
+        } catch (RuntimeException e) {
+            log.error("Failed to load upcoming schedule reminders", e);
+        }
+    }
+}
@@ -1,36 +1,61 @@
 package com.hamster.gro_up.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.CursorPage;
+import com.hamster.gro_up.dto.request.ScheduleBulkCreateRequest;
 import com.hamster.gro_up.dto.request.ScheduleCreateRequest;
 import com.hamster.gro_up.dto.request.ScheduleUpdateRequest;
+import com.hamster.gro_up.dto.response.CalendarDayResponse;
+import com.hamster.gro_up.dto.response.CalendarMonthResponse;
 import com.hamster.gro_up.dto.response.ScheduleListResponse;
 import com.hamster.gro_up.dto.response.ScheduleResponse;
+import com.hamster.gro_up.dto.response.ScheduleStatResponse;
+import com.hamster.gro_up.dto.response.StepHistoryResponse;
 import com.hamster.gro_up.entity.Company;
 import com.hamster.gro_up.entity.Schedule;
+import com.hamster.gro_up.entity.Step;
 import com.hamster.gro_up.entity.User;
 import com.hamster.gro_up.exception.company.CompanyNotFoundException;
 import com.hamster.gro_up.exception.schedule.ScheduleNotFoundException;
 import com.hamster.gro_up.exception.user.UserNotFoundException;
 import com.hamster.gro_up.repository.CompanyRepository;
 import com.hamster.gro_up.repository.ScheduleRepository;
+import com.hamster.gro_up.repository.ScheduleRepository.DayStepCount;
 import com.hamster.gro_up.repository.UserRepository;
+import com.hamster.gro_up.service.ListCacheService.CachedList;
+import com.hamster.gro_up.util.CursorUtil;
+import com.hamster.gro_up.util.CursorUtil.DueDateCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.List;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Service
 public class ScheduleService {
 
+    private static final TypeReference<CursorPage<ScheduleListResponse>> SCHEDULE_PAGE_TYPE = new TypeReference<>() {};
+    private static final TypeReference<CalendarMonthResponse> CALENDAR_MONTH_TYPE = new TypeReference<>() {};
+
     private final ScheduleRepository scheduleRepository;
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
+    private final ListCacheService listCacheService;
+    private final ScheduleTimelineService scheduleTimelineService;
+    private final ScheduleStatService scheduleStatService;
+    private final ScheduleStepEventService scheduleStepEventService;
+    private final CompanyNameSuggestService companyNameSuggestService;
+    private final ScheduleReminderService scheduleReminderService;
 
     public ScheduleResponse findSchedule(AuthUser authUser, Long scheduleId) {
         Schedule schedule = scheduleRepository.findByIdWithCompany(scheduleId).orElseThrow(ScheduleNotFoundException::new);
@@ -40,12 +65,38 @@ public class ScheduleService {
         return ScheduleResponse.from(schedule);
     }
 
-    public ScheduleListResponse findAllSchedules(AuthUser authUser) {
-        List<Schedule> scheduleList = scheduleRepository.findByUserIdWithCompany(authUser.getId());
+    // 목록을 조회하기 전에 읽어, 요청의 If-None-Match 와 같으면 목록을 조회하지 않고 304 로 답한다
+    public String findScheduleListETag(AuthUser authUser) {
+        return listCacheService.eTag(CachedList.SCHEDULES, authUser.getId());
+    }
 
-        List<ScheduleResponse> responseList = scheduleList.stream().map(ScheduleResponse::from).toList();
+    // 대시보드 진입 시 조회하는 첫 페이지만 캐시한다
+    public CursorPage<ScheduleListResponse> findAllSchedules(AuthUser authUser, String cursor, int size) {
+        int pageSize = CursorUtil.pageSize(size);
 
-        return ScheduleListResponse.of(responseList);
+        if (StringUtils.hasText(cursor)) {
+            return findSchedulePage(authUser.getId(), cursor, pageSize);
+        }
+
+        return listCacheService.get(CachedList.SCHEDULES, authUser.getId(), String.valueOf(pageSize), SCHEDULE_PAGE_TYPE,
+                () -> findSchedulePage(authUser.getId(), null, pageSize));
+    }
+
+    // 마감일, id 순으로 pageSize 개씩 조회한다. 다음 페이지가 있는지 알기 위해 하나 더 읽는다
+    private CursorPage<ScheduleListResponse> findSchedulePage(Long userId, String cursor, int pageSize) {
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<ScheduleResponse> scheduleList;
+        if (StringUtils.hasText(cursor)) {
+            DueDateCursor after = CursorUtil.decodeDueDateCursor(cursor);
+            scheduleList = scheduleRepository.findResponsesByUserIdAfter(userId, after.dueDate(), after.id(), limit);
+        } else {
+            scheduleList = scheduleRepository.findResponsesByUserId(userId, limit);
+        }
+
+        return CursorPage.of(scheduleList, pageSize,
+                last -> CursorUtil.encode(last.getDueDate(), last.getScheduleId()),
+                ScheduleListResponse::of);
     }
 
     @Transactional
@@ -84,16 +135,90 @@ public class ScheduleService {
                 .build();
 
         Schedule savedSchedule = scheduleRepository.save(schedule);
+        scheduleStatService.increment(authUser.getId(), savedSchedule.getStep());
+        scheduleStepEventService.record(authUser.getId(), savedSchedule.getId(), null, savedSchedule.getStep());
+
+        evictListCache(authUser);
+        evictCalendarCache(authUser, savedSchedule.getDueDate());
+        scheduleTimelineService.putAfterCommit(savedSchedule);
+        companyNameSuggestService.addAfterCommit(authUser.getId(), List.of(savedSchedule.getCompanyName()));
+        scheduleReminderService.scheduleAfterCommit(authUser.getId(), savedSchedule.getId(), savedSchedule.getDueDate());
 
         return ScheduleResponse.from(savedSchedule);
     }
 
+    /**
+     * 여러 일정을 한 번에 만든다. 기업은 한 번에 조회하고, 일정 INSERT 는 hibernate.jdbc.batch_size 단위로 묶여 나간다.
+     * 통계는 단계별로 모아 갱신하고, 타임라인은 일정마다 반영하지 않고 지워서 다음 조회 때 다시 만든다.
+     */
+    @Transactional
+    public ScheduleListResponse createSchedules(AuthUser authUser, ScheduleBulkCreateRequest request) {
+        Map<Long, Company> companies = findOwnedCompanies(authUser, request.getSchedules().stream()
+                .map(ScheduleCreateRequest::getCompanyId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        User user = userRepository.findById(authUser.getId()).orElseThrow(UserNotFoundException::new);
+
+        List<Schedule> schedules = new ArrayList<>(request.getSchedules().size());
+        for (ScheduleCreateRequest scheduleRequest : request.getSchedules()) {
+            Company company = scheduleRequest.getCompanyId() != null ? companies.get(scheduleRequest.getCompanyId()) : null;
+
+            schedules.add(Schedule.builder()
+                    .user(user)
+                    .company(company)
+                    .companyName(company != null ? company.getCompanyName() : scheduleRequest.getCompanyName())
+                    .address(company != null ? company.getAddress() : scheduleRequest.getAddress())
+                    .addressDetail(company != null ? company.getAddressDetail() : scheduleRequest.getAddressDetail())
+                    .dueDate(scheduleRequest.getDueDate())
+                    .step(scheduleRequest.getStep())
+                    .position(scheduleRequest.getPosition())
+                    .memo(scheduleRequest.getMemo())
+                    .build());
+        }
+
+        List<Schedule> savedSchedules = scheduleRepository.saveAll(schedules);
+
+        scheduleStatService.incrementAll(authUser.getId(), savedSchedules.stream().map(Schedule::getStep).toList());
+        for (Schedule savedSchedule : savedSchedules) {
+            scheduleStepEventService.record(authUser.getId(), savedSchedule.getId(), null, savedSchedule.getStep());
+        }
+
+        evictListCache(authUser);
+        evictCalendarCache(authUser, savedSchedules.stream().map(Schedule::getDueDate).toArray(LocalDateTime[]::new));
+        scheduleTimelineService.evictAfterCommit(authUser.getId());
+        companyNameSuggestService.addAfterCommit(authUser.getId(), savedSchedules.stream().map(Schedule::getCompanyName).toList());
+        scheduleReminderService.scheduleAllAfterCommit(authUser.getId(), savedSchedules);
+
+        return ScheduleListResponse.of(savedSchedules.stream().map(ScheduleResponse::from).toList());
+    }
+
+    private Map<Long, Company> findOwnedCompanies(AuthUser authUser, Set<Long> companyIds) {
+        if (companyIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Company> companies = new HashMap<>();
+        for (Company company : companyRepository.findAllById(companyIds)) {
+            company.validateOwner(authUser.getId());
+            companies.put(company.getId(), company);
+        }
+
+        if (companies.size() != companyIds.size()) {
+            throw new CompanyNotFoundException();
+        }
+        return companies;
+    }
+
     @Transactional
     public void updateSchedule(AuthUser authUser, Long scheduleId, ScheduleUpdateRequest scheduleUpdateRequest) {
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(ScheduleNotFoundException::new);
 
         schedule.validateOwner(authUser.getId());
 
+        LocalDateTime previousDueDate = schedule.getDueDate();
+        Step previousStep = schedule.getStep();
+        String previousCompanyName = schedule.getCompanyName();
         Company company = null;
         Long companyId = scheduleUpdateRequest.getCompanyId();
         String companyName = scheduleUpdateRequest.getCompanyName();
@@ -120,6 +245,15 @@ public class ScheduleService {
                 scheduleUpdateRequest.getPosition(),
                 scheduleUpdateRequest.getStep()
         );
+
+        scheduleStatService.move(authUser.getId(), previousStep, schedule.getStep());
+        scheduleStepEventService.record(authUser.getId(), scheduleId, previousStep, schedule.getStep());
+
+        evictListCache(authUser);
+        evictCalendarCache(authUser, previousDueDate, schedule.getDueDate());
+        scheduleTimelineService.putAfterCommit(schedule);
+        companyNameSuggestService.renameAfterCommit(authUser.getId(), previousCompanyName, schedule.getCompanyName());
+        scheduleReminderService.rescheduleAfterCommit(authUser.getId(), scheduleId, previousDueDate, schedule.getDueDate());
     }
 
     @Transactional
@@ -129,24 +263,79 @@ public class ScheduleService {
         schedule.validateOwner(authUser.getId());
 
         scheduleRepository.delete(schedule);
+        scheduleStatService.decrement(authUser.getId(), schedule.getStep());
+
+        evictListCache(authUser);
+        evictCalendarCache(authUser, schedule.getDueDate());
+        scheduleTimelineService.removeAfterCommit(authUser.getId(), scheduleId);
+        companyNameSuggestService.removeAfterCommit(authUser.getId(), schedule.getCompanyName());
+        scheduleReminderService.cancelAfterCommit(authUser.getId(), scheduleId, schedule.getDueDate());
+    }
+
+    // 회고 목록도 일정의 기업명, 포지션을 보여주므로 함께 지운다. 기업명 자동완성은 CompanyNameSuggestService 가 따로 증감한다
+    private void evictListCache(AuthUser authUser) {
+        listCacheService.evictAfterCommit(authUser.getId(), CachedList.SCHEDULES, CachedList.RETROSPECTS);
+    }
+
+    // 바뀐 일정이 걸친 달의 달력만 지운다 (수정이면 변경 전, 후 달 모두)
+    private void evictCalendarCache(AuthUser authUser, LocalDateTime... dueDates) {
+        Set<String> months = Arrays.stream(dueDates)
+                .filter(Objects::nonNull)
+                .map(dueDate -> YearMonth.from(dueDate).toString())
+                .collect(Collectors.toSet());
+
+        listCacheService.evictVariantsAfterCommit(authUser.getId(), CachedList.CALENDAR, months);
     }
 
     public ScheduleListResponse findSchedulesInRange(AuthUser authUser, LocalDate startDate, LocalDate endDate) {
         LocalDateTime startDateTime = startDate.atStartOfDay();
         LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
 
-        List<Schedule> schedules = scheduleRepository.findSchedulesInRange(authUser.getId(), startDateTime, endDateTime);
-
-        List<ScheduleResponse> responseList = schedules.stream().map(ScheduleResponse::from).toList();
+        List<ScheduleResponse> responseList = scheduleTimelineService.findInRange(authUser.getId(), startDateTime, endDateTime);
 
         return ScheduleListResponse.of(responseList);
     }
 
     public ScheduleListResponse findSchedulesByCompanyName(AuthUser authUser, String companyName) {
-        List<Schedule> schedules = scheduleRepository.findByUserIdAndCompanyName(authUser.getId(), companyName);
-
-        List<ScheduleResponse> responseList = schedules.stream().map(ScheduleResponse::from).toList();
+        List<ScheduleResponse> responseList = scheduleRepository.findResponsesByCompanyName(authUser.getId(), companyName);
 
         return ScheduleListResponse.of(responseList);
     }
+
+    public StepHistoryResponse findStepHistory(AuthUser authUser, Long scheduleId) {
+        Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(ScheduleNotFoundException::new);
+
+        schedule.validateOwner(authUser.getId());
+
+        return scheduleStepEventService.findHistory(scheduleId);
+    }
+
+    public ScheduleStatResponse findScheduleStats(AuthUser authUser) {
+        return scheduleStatService.findStats(authUser.getId());
+    }
+
+    public CalendarMonthResponse findCalendarMonth(AuthUser authUser, YearMonth month) {
+        return listCacheService.get(CachedList.CALENDAR, authUser.getId(), month.toString(), CALENDAR_MONTH_TYPE,
+                () -> countCalendarMonth(authUser.getId(), month));
+    }
+
+    private CalendarMonthResponse countCalendarMonth(Long userId, YearMonth month) {
+        List<DayStepCount> counts = scheduleRepository.countByDayAndStep(userId,
+                month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+
+        Map<LocalDate, Map<Step, Long>> stepsByDay = new TreeMap<>();
+        for (DayStepCount count : counts) {
+            stepsByDay.computeIfAbsent(count.getDueDay(), day -> new EnumMap<>(Step.class))
+                    .put(count.getStep(), count.getScheduleCount());
+        }
+
+        List<CalendarDayResponse> days = stepsByDay.entrySet().stream()
+                .map(day -> new CalendarDayResponse(
+                        day.getKey(),
+                        day.getValue().values().stream().mapToLong(Long::longValue).sum(),
+                        day.getValue()))
+                .toList();
+
+        return CalendarMonthResponse.of(month, days);
+    }
 }
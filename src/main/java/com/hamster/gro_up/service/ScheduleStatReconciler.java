@@ -0,0 +1,45 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.repository.UserRepository;
+import com.hamster.gro_up.repository.UserRepository.EmailView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 단계 통계를 schedule 테이블에서 주기적으로 다시 계산한다.
+ * 사용자를 id 순으로 1000 명씩 끊어 한 묶음을 한 트랜잭션으로 처리하므로, 한 번에 잠그는 범위가 커지지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ScheduleStatReconciler {
+
+    private final UserRepository userRepository;
+    private final ScheduleStatService scheduleStatService;
+
+    @Scheduled(cron = "${schedule.stats.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        long lastId = 0;
+        long users = 0;
+        List<EmailView> page = userRepository.findTop1000ByIdGreaterThanOrderByIdAsc(lastId);
+
+        while (!page.isEmpty()) {
+            List<Long> userIds = page.stream().map(EmailView::getId).toList();
+            try {
+                scheduleStatService.reconcile(userIds);
+            } catch (RuntimeException e) {
+                log.error("Failed to reconcile schedule step stats. fromUserId={}", userIds.get(0), e);
+            }
+
+            lastId = userIds.get(userIds.size() - 1);
+            users += userIds.size();
+            page = userRepository.findTop1000ByIdGreaterThanOrderByIdAsc(lastId);
+        }
+
+        log.info("Schedule step stats reconciled for {} users", users);
+    }
+}
@@ -0,0 +1,137 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.dto.response.ScheduleStatResponse;
+import com.hamster.gro_up.dto.response.StepStatResponse;
+import com.hamster.gro_up.entity.ScheduleStepStat;
+import com.hamster.gro_up.entity.Step;
+import com.hamster.gro_up.repository.ScheduleRepository;
+import com.hamster.gro_up.repository.ScheduleRepository.UserStepCount;
+import com.hamster.gro_up.repository.ScheduleStepStatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 사용자별 단계 통계(schedule_step_stat).
+ * 일정이 바뀔 때마다 해당 단계의 행만 증감하므로, 조회는 일정 수와 관계없이 단계 수만큼의 행만 읽는다.
+ * 증감은 호출한 쪽의 트랜잭션에 묶이고, 어긋난 값은 ScheduleStatReconciler 가 주기적으로 원본에서 다시 계산한다.
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class ScheduleStatService {
+
+    // 합격까지의 진행 순서. 불합격은 어느 단계에서 떨어졌는지 알 수 없으므로 첫 단계에만 포함한다
+    private static final List<Step> FUNNEL = List.of(
+            Step.DOCUMENT,
+            Step.CODING_TEST,
+            Step.ASSIGNMENT_TEST,
+            Step.FIRST_INTERVIEW,
+            Step.SECOND_INTERVIEW,
+            Step.THIRD_INTERVIEW,
+            Step.FINAL_PASS);
+
+    private final ScheduleStepStatRepository scheduleStepStatRepository;
+    private final ScheduleRepository scheduleRepository;
+
+    @Transactional
+    public void increment(Long userId, Step step) {
+        addCount(userId, step, 1);
+    }
+
+    // 여러 일정을 한 번에 만들 때 단계별로 모아 단계 수만큼만 갱신한다
+    @Transactional
+    public void incrementAll(Long userId, Collection<Step> steps) {
+        Map<Step, Long> counts = new EnumMap<>(Step.class);
+        for (Step step : steps) {
+            if (step != null) {
+                counts.merge(step, 1L, Long::sum);
+            }
+        }
+        counts.forEach((step, count) -> addCount(userId, step, count));
+    }
+
+    @Transactional
+    public void decrement(Long userId, Step step) {
+        addCount(userId, step, -1);
+    }
+
+    @Transactional
+    public void move(Long userId, Step from, Step to) {
+        if (from == to) {
+            return;
+        }
+        decrement(userId, from);
+        increment(userId, to);
+    }
+
+    // 단계 없이 저장된 일정은 통계에서 제외한다
+    private void addCount(Long userId, Step step, long delta) {
+        if (step != null) {
+            scheduleStepStatRepository.addCount(userId, step.name(), delta);
+        }
+    }
+
+    public ScheduleStatResponse findStats(Long userId) {
+        Map<Step, Long> counts = new EnumMap<>(Step.class);
+        for (ScheduleStepStat stat : scheduleStepStatRepository.findByUserId(userId)) {
+            counts.put(stat.getStep(), stat.getScheduleCount());
+        }
+
+        long failed = counts.getOrDefault(Step.FAIL, 0L);
+        long[] reached = new long[FUNNEL.size()];
+        for (int i = FUNNEL.size() - 1; i >= 0; i--) {
+            long after = i + 1 < FUNNEL.size() ? reached[i + 1] : 0;
+            reached[i] = after + counts.getOrDefault(FUNNEL.get(i), 0L);
+        }
+        reached[0] += failed;
+
+        List<StepStatResponse> steps = new ArrayList<>(FUNNEL.size() + 1);
+        for (int i = 0; i < FUNNEL.size(); i++) {
+            Step step = FUNNEL.get(i);
+            Double conversionRate = i > 0 && reached[i - 1] > 0 ? (double) reached[i] / reached[i - 1] : null;
+            steps.add(new StepStatResponse(step, step.getDisplayName(), counts.getOrDefault(step, 0L), reached[i], conversionRate));
+        }
+        steps.add(new StepStatResponse(Step.FAIL, Step.FAIL.getDisplayName(), failed, failed, null));
+
+        return ScheduleStatResponse.of(reached[0], steps);
+    }
+
+    /**
+     * 주어진 사용자들의 통계를 schedule 테이블에서 다시 계산해 덮어쓴다.
+     * 통계 행을 먼저 잠가서, 재계산 도중 커밋되려던 일정 변경은 재계산이 끝난 뒤에 반영되게 한다.
+     */
+    @Transactional
+    public void reconcile(Collection<Long> userIds) {
+        Map<Long, Map<Step, ScheduleStepStat>> stats = new HashMap<>();
+        for (ScheduleStepStat stat : scheduleStepStatRepository.findByUserIdInForUpdate(userIds)) {
+            stats.computeIfAbsent(stat.getUserId(), id -> new EnumMap<>(Step.class)).put(stat.getStep(), stat);
+        }
+
+        Map<Long, Map<Step, Long>> actual = new HashMap<>();
+        for (UserStepCount count : scheduleRepository.countByUserIdInGroupByStep(userIds)) {
+            actual.computeIfAbsent(count.getUserId(), id -> new EnumMap<>(Step.class)).put(count.getStep(), count.getScheduleCount());
+        }
+
+        List<ScheduleStepStat> created = new ArrayList<>();
+        for (Long userId : userIds) {
+            Map<Step, ScheduleStepStat> userStats = stats.getOrDefault(userId, Map.of());
+            Map<Step, Long> userCounts = actual.getOrDefault(userId, Map.of());
+
+            for (Step step : Step.values()) {
+                long count = userCounts.getOrDefault(step, 0L);
+                ScheduleStepStat stat = userStats.get(step);
+
+                if (stat != null) {
+                    stat.reconcile(count);
+                } else if (count > 0) {
+                    created.add(new ScheduleStepStat(userId, step, count));
+                }
+            }
+        }
+
+        scheduleStepStatRepository.saveAll(created);
+    }
+}
@@ -0,0 +1,112 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.dto.response.StepHistoryResponse;
+import com.hamster.gro_up.dto.response.StepTransitionResponse;
+import com.hamster.gro_up.entity.ScheduleStepEvent;
+import com.hamster.gro_up.entity.Step;
+import com.hamster.gro_up.repository.ScheduleStepEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정 단계 변경 이력(schedule_step_event).
+ * 한 트랜잭션에서 생긴 이벤트는 모아 두었다가 커밋 직전에 같은 트랜잭션 안에서 batch insert 하므로,
+ * 일정 변경이 롤백되면 이력도 남지 않고, 여러 건을 바꿔도 INSERT 왕복은 batch 단위로만 생긴다.
+ * schedule 테이블은 건드리지 않으므로 분석 쿼리는 이 테이블만 읽으면 된다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ScheduleStepEventService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO schedule_step_event (schedule_id, user_id, from_step, to_step, occurred_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final ScheduleStepEventRepository scheduleStepEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 단계가 바뀌었으면 이벤트를 남긴다. 생성 시에는 from 을 null 로 넘긴다.
+     * 트랜잭션 안이면 커밋 직전에 한 번에 저장하고, 밖이면 바로 저장한다.
+     */
+    public void record(Long userId, Long scheduleId, Step from, Step to) {
+        if (from == to) {
+            return;
+        }
+
+        PendingEvent event = new PendingEvent(scheduleId, userId, from, to, LocalDateTime.now());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(List.of(event));
+            return;
+        }
+
+        pendingEvents().add(event);
+    }
+
+    public StepHistoryResponse findHistory(Long scheduleId) {
+        List<ScheduleStepEvent> events = scheduleStepEventRepository.findByScheduleIdOrderByOccurredAtAscIdAsc(scheduleId);
+
+        List<StepTransitionResponse> transitions = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            ScheduleStepEvent event = events.get(i);
+            Long durationSeconds = i + 1 < events.size()
+                    ? Duration.between(event.getOccurredAt(), events.get(i + 1).getOccurredAt()).toSeconds()
+                    : null;
+            transitions.add(new StepTransitionResponse(event.getToStep(), event.getOccurredAt(), durationSeconds));
+        }
+
+        return StepHistoryResponse.of(scheduleId, transitions);
+    }
+
+    // 트랜잭션마다 하나의 목록을 묶어 두고, 처음 추가될 때 커밋 직전 저장을 등록한다
+    @SuppressWarnings("unchecked")
+    private List<PendingEvent> pendingEvents() {
+        List<PendingEvent> pending = (List<PendingEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        List<PendingEvent> created = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                insert(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ScheduleStepEventService.this);
+            }
+        });
+        return created;
+    }
+
+    void insert(List<PendingEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, BATCH_SIZE, (ps, event) -> {
+            ps.setLong(1, event.scheduleId());
+            ps.setLong(2, event.userId());
+            ps.setString(3, event.from() != null ? event.from().name() : null);
+            ps.setString(4, event.to() != null ? event.to().name() : null);
+            ps.setTimestamp(5, Timestamp.valueOf(event.occurredAt()));
+        });
+    }
+
+    record PendingEvent(Long scheduleId, Long userId, Step from, Step to, LocalDateTime occurredAt) {
+    }
+}
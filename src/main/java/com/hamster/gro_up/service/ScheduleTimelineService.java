@@ -0,0 +1,246 @@
+package com.hamster.gro_up.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamster.gro_up.dto.response.ScheduleResponse;
+import com.hamster.gro_up.entity.Schedule;
+import com.hamster.gro_up.repository.ScheduleRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캘린더 화면의 날짜 범위 조회를 위한 사용자별 일정 타임라인.
+ * Redis sorted set 에 dueDate 를 score 로 일정 요약(ScheduleResponse JSON)을 넣어 두고, 범위 조회는 ZRANGEBYSCORE 한 번으로 끝낸다.
+ * 일정이 바뀌면 커밋 이후 scheduleId -> member 해시로 이전 member 를 찾아 해당 일정만 갱신하고, 타임라인이 없으면 조회 시점에 DB 에서 다시 만든다.
+ * Redis 장애 시에는 DB 에서 바로 조회한다.
+ */
+@Slf4j
+@Service
+public class ScheduleTimelineService implements MeterBinder {
+
+    private static final String KEY_PREFIX = "scheduleTimeline:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/read-schedule-timeline.lua"), List.class);
+    private static final RedisScript<Long> REBUILD_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/rebuild-schedule-timeline.lua"), Long.class);
+    private static final RedisScript<Long> UPDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/update-schedule-timeline.lua"), Long.class);
+
+    private final ScheduleRepository scheduleRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long ttlMs;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public ScheduleTimelineService(ScheduleRepository scheduleRepository,
+                                   StringRedisTemplate redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Value("${schedule.timeline.ttl-ms:86400000}") long ttlMs) {
+        this.scheduleRepository = scheduleRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttlMs = ttlMs;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<ScheduleResponse> findInRange(Long userId, LocalDateTime start, LocalDateTime end) {
+        List<String> members;
+        try {
+            members = redisTemplate.execute(READ_SCRIPT, List.of(key(userId)),
+                    String.valueOf(score(start)), String.valueOf(score(end)));
+        } catch (DataAccessException e) {
+            log.warn("Failed to read schedule timeline. userId={}", userId, e);
+            fallbacks.increment();
+            return findInRangeFromDatabase(userId, start, end);
+        }
+
+        if (members == null) {
+            rebuilds.increment();
+            return rebuild(userId).stream()
+                    .filter(schedule -> !schedule.getDueDate().isBefore(start) && !schedule.getDueDate().isAfter(end))
+                    .toList();
+        }
+
+        hits.increment();
+        List<ScheduleResponse> responseList = new ArrayList<>(members.size());
+        for (String member : members) {
+            responseList.add(fromMember(member));
+        }
+        return responseList;
+    }
+
+    // 커밋 전에 반영하면 롤백된 일정이 타임라인에 남을 수 있으므로 커밋 이후에 반영한다
+    public void putAfterCommit(Schedule schedule) {
+        afterCommit(() -> update(schedule.getUser().getId(), schedule.getId(), ScheduleResponse.from(schedule)));
+    }
+
+    public void removeAfterCommit(Long userId, Long scheduleId) {
+        afterCommit(() -> update(userId, scheduleId, null));
+    }
+
+    // 여러 일정이 한 번에 바뀌면 하나씩 반영하지 않고 지워서 다음 조회 때 다시 만든다
+    public void evictAfterCommit(Long userId) {
+        afterCommit(() -> evict(userId));
+    }
+
+    /**
+     * 사용자의 일정을 모두 읽어 타임라인을 새로 만들고, 읽은 일정을 반환한다.
+     * DB 를 읽는 동안 다른 요청이 일정을 바꿨다면 version 이 달라지므로 저장하지 않고 다음 조회 때 다시 만든다.
+     */
+    private List<ScheduleResponse> rebuild(Long userId) {
+        String version = readVersion(userId);
+
+        List<ScheduleResponse> schedules = scheduleRepository.findResponsesByUserId(userId, Pageable.unpaged());
+
+        if (version == null) {
+            return schedules;
+        }
+
+        List<String> args = new ArrayList<>(schedules.size() * 3 + 2);
+        args.add(version);
+        args.add(String.valueOf(ttlMs));
+        for (ScheduleResponse schedule : schedules) {
+            args.add(String.valueOf(score(schedule.getDueDate())));
+            args.add(String.valueOf(schedule.getScheduleId()));
+            args.add(toMember(schedule));
+        }
+
+        try {
+            redisTemplate.execute(REBUILD_SCRIPT, List.of(key(userId), versionKey(userId), membersKey(userId)), args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("Failed to rebuild schedule timeline. userId={}", userId, e);
+        }
+        return schedules;
+    }
+
+    private String readVersion(Long userId) {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey(userId));
+            return version != null ? version : "0";
+        } catch (DataAccessException e) {
+            log.warn("Failed to read schedule timeline version. userId={}", userId, e);
+            return null;
+        }
+    }
+
+    private void update(Long userId, Long scheduleId, ScheduleResponse schedule) {
+        List<String> keys = List.of(key(userId), versionKey(userId), membersKey(userId));
+        String id = String.valueOf(scheduleId);
+
+        try {
+            if (schedule == null) {
+                redisTemplate.execute(UPDATE_SCRIPT, keys, id, String.valueOf(ttlMs));
+            } else {
+                redisTemplate.execute(UPDATE_SCRIPT, keys, id, String.valueOf(ttlMs),
+                        String.valueOf(score(schedule.getDueDate())), toMember(schedule));
+            }
+        } catch (DataAccessException e) {
+            // 갱신에 실패한 타임라인은 남겨 두면 틀린 결과를 주므로 지워서 다음 조회 때 다시 만든다
+            log.warn("Failed to update schedule timeline. userId={}, scheduleId={}", userId, scheduleId, e);
+            try {
+                redisTemplate.delete(List.of(key(userId), membersKey(userId)));
+            } catch (DataAccessException ignored) {
+                // TTL 이 지나면 사라진다
+            }
+        }
+    }
+
+    // version 을 올려 두면 진행 중이던 rebuild 가 지운 뒤에 이전 내용으로 다시 채우지 못한다
+    private void evict(Long userId) {
+        try {
+            redisTemplate.opsForValue().increment(versionKey(userId));
+            redisTemplate.expire(versionKey(userId), Duration.ofMillis(ttlMs));
+            redisTemplate.delete(List.of(key(userId), membersKey(userId)));
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict schedule timeline. userId={}", userId, e);
+        }
+    }
+
+    private List<ScheduleResponse> findInRangeFromDatabase(Long userId, LocalDateTime start, LocalDateTime end) {
+        return scheduleRepository.findResponsesInRange(userId, start, end);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // member 는 "scheduleId:json" 형태로, 같은 내용의 일정이 여러 개여도 member 가 겹치지 않는다
+    private String toMember(ScheduleResponse schedule) {
+        try {
+            return schedule.getScheduleId() + ":" + objectMapper.writeValueAsString(schedule);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ScheduleResponse fromMember(String member) {
+        try {
+            return objectMapper.readValue(member.substring(member.indexOf(':') + 1), ScheduleResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // dueDate 는 시간대 없이 저장되므로 UTC 로 간주해 초 단위 score 로 바꾼다
+    private long score(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private String versionKey(Long userId) {
+        return KEY_PREFIX + userId + ":version";
+    }
+
+    private String membersKey(Long userId) {
+        return KEY_PREFIX + userId + ":members";
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("schedule.timeline.requests", hits, LongAdder::doubleValue)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("schedule.timeline.requests", rebuilds, LongAdder::doubleValue)
+                .tag("result", "rebuild")
+                .register(registry);
+        FunctionCounter.builder("schedule.timeline.requests", fallbacks, LongAdder::doubleValue)
+                .tag("result", "fallback")
+                .register(registry);
+    }
+}
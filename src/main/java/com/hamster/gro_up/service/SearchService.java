@@ -0,0 +1,168 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.RetrospectSummary;
+import com.hamster.gro_up.dto.response.RetrospectResponse;
+import com.hamster.gro_up.dto.response.ScheduleResponse;
+import com.hamster.gro_up.dto.response.SearchHitResponse;
+import com.hamster.gro_up.dto.response.SearchResponse;
+import com.hamster.gro_up.exception.search.InvalidSearchQueryException;
+import com.hamster.gro_up.repository.RetrospectRepository;
+import com.hamster.gro_up.repository.ScheduleRepository;
+import com.hamster.gro_up.repository.SearchHit;
+import com.hamster.gro_up.util.CursorUtil;
+import com.hamster.gro_up.util.NgramHighlighter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 일정(기업명, 직무, 메모)과 회고(메모) 전문 검색.
+ * MySQL FULLTEXT ngram 인덱스에서 관련도 순으로 id 만 찾고, 응답에 필요한 컬럼은 그 id 로 한 번 더 읽는다.
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class SearchService {
+
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final ScheduleRepository scheduleRepository;
+    private final RetrospectRepository retrospectRepository;
+
+    public SearchResponse search(AuthUser authUser, String query, String type, int size) {
+        String normalizedQuery = normalize(query);
+        Set<Target> targets = Target.from(type);
+        int limit = CursorUtil.pageSize(size);
+        String booleanQuery = toBooleanQuery(normalizedQuery);
+        NgramHighlighter highlighter = new NgramHighlighter(normalizedQuery);
+
+        List<SearchHitResponse<ScheduleResponse>> schedules = targets.contains(Target.SCHEDULES)
+                ? searchSchedules(authUser.getId(), booleanQuery, limit, highlighter)
+                : List.of();
+        List<SearchHitResponse<RetrospectResponse>> retrospects = targets.contains(Target.RETROSPECTS)
+                ? searchRetrospects(authUser.getId(), booleanQuery, limit, highlighter)
+                : List.of();
+
+        return SearchResponse.of(schedules, retrospects);
+    }
+
+    private List<SearchHitResponse<ScheduleResponse>> searchSchedules(Long userId, String query, int limit,
+                                                                      NgramHighlighter highlighter) {
+        List<SearchHit> hits = scheduleRepository.search(userId, query, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ScheduleResponse> schedules = index(scheduleRepository.findResponsesByIdIn(userId, ids(hits)),
+                ScheduleResponse::getScheduleId);
+
+        List<SearchHitResponse<ScheduleResponse>> results = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            ScheduleResponse schedule = schedules.get(hit.getId());
+            if (schedule == null) {
+                continue;
+            }
+
+            Map<String, String> highlights = new LinkedHashMap<>();
+            putHighlight(highlights, "companyName", highlighter.highlight(schedule.getCompanyName()));
+            putHighlight(highlights, "position", highlighter.highlight(schedule.getPosition()));
+            putHighlight(highlights, "memo", highlighter.highlight(schedule.getMemo()));
+            results.add(SearchHitResponse.of(schedule, hit.getScore(), highlights));
+        }
+        return results;
+    }
+
+    private List<SearchHitResponse<RetrospectResponse>> searchRetrospects(Long userId, String query, int limit,
+                                                                          NgramHighlighter highlighter) {
+        List<SearchHit> hits = retrospectRepository.search(userId, query, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, RetrospectSummary> retrospects = index(retrospectRepository.findSummariesByIdIn(userId, ids(hits)),
+                RetrospectSummary::getId);
+
+        List<SearchHitResponse<RetrospectResponse>> results = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            RetrospectSummary retrospect = retrospects.get(hit.getId());
+            if (retrospect == null) {
+                continue;
+            }
+
+            Map<String, String> highlights = new LinkedHashMap<>();
+            putHighlight(highlights, "memo", highlighter.highlight(retrospect.getMemo()));
+            results.add(SearchHitResponse.of(RetrospectResponse.from(retrospect), hit.getScore(), highlights));
+        }
+        return results;
+    }
+
+    // 한 글자 검색어는 ngram 색인에 조각이 없어 찾을 수 없으므로 받지 않는다
+    private String normalize(String query) {
+        String normalized = query != null ? query.strip().replaceAll("\\s+", " ") : "";
+        if (normalized.length() < NgramHighlighter.TOKEN_SIZE) {
+            throw new InvalidSearchQueryException("검색어는 " + NgramHighlighter.TOKEN_SIZE + "자 이상이어야 합니다.");
+        }
+        if (normalized.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidSearchQueryException("검색어는 " + MAX_QUERY_LENGTH + "자를 넘을 수 없습니다.");
+        }
+        return normalized;
+    }
+
+    /**
+     * 단어마다 따옴표로 묶어 필수 구문으로 만든다 (카카오 백엔드 -> +"카카오" +"백엔드").
+     * natural language mode 는 ngram 조각 중 하나만 겹쳐도 찾으므로 '카카오뱅크' 로 '카오' 만 들어간 글까지 나온다.
+     * 구문 검색은 조각이 이어서 나오는 글만 찾는다. 따옴표는 구문을 끊으므로 빼고, 색인에 조각이 없는 한 글자 단어는 건너뛴다.
+     */
+    private String toBooleanQuery(String query) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (String word : query.split(" ")) {
+            String phrase = word.replace("\"", "");
+            if (phrase.length() >= NgramHighlighter.TOKEN_SIZE) {
+                joiner.add("+\"" + phrase + "\"");
+            }
+        }
+        if (joiner.length() == 0) {
+            throw new InvalidSearchQueryException("검색어는 " + NgramHighlighter.TOKEN_SIZE + "자 이상인 단어를 하나 이상 포함해야 합니다.");
+        }
+        return joiner.toString();
+    }
+
+    private void putHighlight(Map<String, String> highlights, String field, String highlighted) {
+        if (highlighted != null) {
+            highlights.put(field, highlighted);
+        }
+    }
+
+    private List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getId).toList();
+    }
+
+    private <T> Map<Long, T> index(List<T> rows, Function<T, Long> id) {
+        Map<Long, T> indexed = new HashMap<>(rows.size() * 2);
+        for (T row : rows) {
+            indexed.put(id.apply(row), row);
+        }
+        return indexed;
+    }
+
+    public enum Target {
+        SCHEDULES, RETROSPECTS;
+
+        // type 이 없거나 all 이면 모두 검색한다
+        static Set<Target> from(String type) {
+            if (type == null || type.equalsIgnoreCase("all")) {
+                return EnumSet.allOf(Target.class);
+            }
+            for (Target value : values()) {
+                if (value.name().equalsIgnoreCase(type)) {
+                    return EnumSet.of(value);
+                }
+            }
+            throw new InvalidSearchQueryException("지원하지 않는 검색 대상입니다: " + type);
+        }
+    }
+}
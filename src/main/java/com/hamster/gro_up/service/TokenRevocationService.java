@@ -0,0 +1,304 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.util.BloomFilter;
+import com.hamster.gro_up.util.ParsedToken;
+import com.hamster.gro_up.util.TokenType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Access Token 폐기 목록.
+ * 폐기된 토큰(jti)과 사용자별 폐기 시각은 Redis 에 남은 수명만큼 저장한다.
+ * 각 서버는 폐기된 토큰을 로컬 Bloom filter 로, 사용자별 폐기 시각은 로컬 맵으로 그대로 들고 있다.
+ * 사용자 단위 폐기는 로컬에서 발급 시각만 비교하고, Redis 는 토큰 단위 Bloom filter 가 양성일 때만 조회한다.
+ * 다른 서버에서 발생한 폐기는 Redis pub/sub 으로 전달받는다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements MessageListener, MeterBinder {
+
+    public static final String CHANNEL = "token-revocation";
+
+    private static final String REVOKED_TOKEN_PREFIX = "revokedToken:";
+    private static final String REVOKED_USER_PREFIX = "revokedUser:";
+    private static final String TOKEN_MEMBER_PREFIX = "token:";
+    private static final String USER_MEMBER_PREFIX = "user:";
+    // 이 값보다 작은 폐기 시각은 ms 로 바꾸기 전에 초 단위로 저장된 값이다
+    private static final long MIN_EPOCH_MILLIS = 1_000_000_000_000L;
+    private static final int MULTI_GET_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile BloomFilter rebuildingFilter;
+
+    // 사용자 ID -> 폐기 시각(ms). 폐기 시각보다 먼저 발급된 Access Token 은 모두 폐기된 것이다
+    private volatile Map<String, Long> userRevokedAt = new ConcurrentHashMap<>();
+    private volatile Map<String, Long> rebuildingUserRevokedAt;
+
+    private final LongAdder bloomNegatives = new LongAdder();
+    private final LongAdder redisLookups = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder redisFailures = new LongAdder();
+
+    public TokenRevocationService(StringRedisTemplate redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  @Value("${auth.revocation.bloom.expected-insertions:100000}") long expectedInsertions,
+                                  @Value("${auth.revocation.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 로그아웃한 기기의 Access Token 하나만 폐기
+    public void revokeToken(ParsedToken accessToken) {
+        if (accessToken.getTokenId() == null) {
+            return;
+        }
+
+        long remainingMs = accessToken.getExpiration().getTime() - System.currentTimeMillis();
+        if (remainingMs <= 0) {
+            return;
+        }
+
+        redisTemplate.opsForValue().set(REVOKED_TOKEN_PREFIX + accessToken.getTokenId(), "1", remainingMs, TimeUnit.MILLISECONDS);
+        publish(TOKEN_MEMBER_PREFIX + accessToken.getTokenId());
+    }
+
+    // 지금까지 발급된 해당 사용자의 모든 Access Token 폐기 (비밀번호 변경, 계정 삭제 등)
+    // 폐기 직후 다시 로그인해 같은 초에 발급된 토큰이 함께 폐기되지 않도록 ms 단위로 비교한다
+    public void revokeAllTokens(Long userId) {
+        long revokedAtMs = System.currentTimeMillis();
+
+        redisTemplate.opsForValue().set(REVOKED_USER_PREFIX + userId, String.valueOf(revokedAtMs), TokenType.ACCESS.getExpireMs(), TimeUnit.MILLISECONDS);
+        putRevokedAt(String.valueOf(userId), revokedAtMs);
+        redisTemplate.convertAndSend(CHANNEL, USER_MEMBER_PREFIX + userId + ":" + revokedAtMs);
+    }
+
+    /**
+     * 사용자 단위 폐기는 로컬에 들고 있는 폐기 시각과 발급 시각을 비교해 Redis 조회 없이 판단한다.
+     * 토큰 단위 Bloom filter 가 음성이면 바로 false 를 반환한다.
+     * 양성인데 Redis 를 조회하지 못하면 폐기된 것으로 본다. 양성은 실제 폐기 이벤트(또는 1% 내외의 오탐)에서만 나오고,
+     * Redis 장애 중에는 어차피 재발급도 할 수 없으므로 폐기된 토큰을 통과시키지 않는 쪽을 택한다.
+     */
+    public boolean isRevoked(ParsedToken accessToken) {
+        if (isIssuedBeforeRevocation(accessToken)) {
+            rejected.increment();
+            return true;
+        }
+
+        String tokenMember = accessToken.getTokenId() != null ? TOKEN_MEMBER_PREFIX + accessToken.getTokenId() : null;
+        if (tokenMember == null || !bloomFilter.mightContain(tokenMember)) {
+            bloomNegatives.increment();
+            return false;
+        }
+
+        redisLookups.increment();
+
+        boolean revoked;
+        try {
+            revoked = Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_TOKEN_PREFIX + accessToken.getTokenId()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to check token revocation from redis. jti={}", accessToken.getTokenId(), e);
+            redisFailures.increment();
+            revoked = true;
+        }
+
+        if (revoked) {
+            rejected.increment();
+        }
+        return revoked;
+    }
+
+    private boolean isIssuedBeforeRevocation(ParsedToken accessToken) {
+        Long revokedAtMs = userRevokedAt.get(accessToken.getSubject());
+        if (revokedAtMs == null || accessToken.getIssuedAt() == null) {
+            return false;
+        }
+        return accessToken.getIssuedAt().getTime() < revokedAtMs;
+    }
+
+    private void publish(String member) {
+        addToFilters(member);
+        redisTemplate.convertAndSend(CHANNEL, member);
+    }
+
+    /**
+     * token:{jti} 는 Bloom filter 에, user:{id}:{폐기 시각} 은 로컬 맵에 기록한다.
+     * 폐기 시각 없이 user:{id} 만 오면(이전 버전 서버) Redis 에서 읽고, 읽지 못하면 받은 시각까지 폐기된 것으로 본다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String member = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!member.startsWith(USER_MEMBER_PREFIX)) {
+            addToFilters(member);
+            return;
+        }
+
+        String[] parts = member.substring(USER_MEMBER_PREFIX.length()).split(":", 2);
+        if (parts.length == 2) {
+            putRevokedAt(parts[0], toMillis(Long.parseLong(parts[1])));
+            return;
+        }
+
+        long receivedAtMs = System.currentTimeMillis();
+        try {
+            String revokedAt = redisTemplate.opsForValue().get(REVOKED_USER_PREFIX + parts[0]);
+            putRevokedAt(parts[0], revokedAt != null ? toMillis(Long.parseLong(revokedAt)) : receivedAtMs);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read user revocation from redis. userId={}", parts[0], e);
+            redisFailures.increment();
+            putRevokedAt(parts[0], receivedAtMs);
+        }
+    }
+
+    private void putRevokedAt(String userId, long revokedAtMs) {
+        userRevokedAt.merge(userId, revokedAtMs, Math::max);
+
+        Map<String, Long> rebuilding = rebuildingUserRevokedAt;
+        if (rebuilding != null) {
+            rebuilding.merge(userId, revokedAtMs, Math::max);
+        }
+    }
+
+    private long toMillis(long revokedAt) {
+        return revokedAt < MIN_EPOCH_MILLIS ? TimeUnit.SECONDS.toMillis(revokedAt) : revokedAt;
+    }
+
+    private void addToFilters(String member) {
+        bloomFilter.put(member);
+
+        BloomFilter rebuilding = rebuildingFilter;
+        if (rebuilding != null) {
+            rebuilding.put(member);
+        }
+    }
+
+    /**
+     * Redis 에 남아 있는 폐기 목록으로 Bloom filter 와 사용자별 폐기 시각을 새로 만든다.
+     * 서버 기동 시 한 번, 이후에는 만료된 항목이 남아 오탐률이 올라가거나 맵이 커지지 않도록 주기적으로 수행한다.
+     * 재구성 중에 들어온 pub/sub 메시지는 새 필터와 맵에도 기록되므로 유실되지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${auth.revocation.bloom.rebuild-interval-ms:21600000}", initialDelayString = "${auth.revocation.bloom.rebuild-interval-ms:21600000}")
+    public void rebuild() {
+        BloomFilter rebuilding = new BloomFilter(expectedInsertions, falsePositiveRate);
+        Map<String, Long> rebuildingRevokedAt = new ConcurrentHashMap<>();
+        rebuildingFilter = rebuilding;
+        rebuildingUserRevokedAt = rebuildingRevokedAt;
+
+        try {
+            int tokenCount = scanTokensInto(rebuilding);
+            int userCount = scanUsersInto(rebuildingRevokedAt);
+
+            bloomFilter = rebuilding;
+            userRevokedAt = rebuildingRevokedAt;
+            log.info("Token revocation list rebuilt with {} tokens and {} users", tokenCount, userCount);
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild token revocation list", e);
+        } finally {
+            rebuildingFilter = null;
+            rebuildingUserRevokedAt = null;
+        }
+    }
+
+    private int scanTokensInto(BloomFilter filter) {
+        int count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(REVOKED_TOKEN_PREFIX + "*").count(1000).build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                filter.put(TOKEN_MEMBER_PREFIX + cursor.next().substring(REVOKED_TOKEN_PREFIX.length()));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 폐기 시각은 MULTI_GET_SIZE 개씩 모아 한 번에 읽는다
+    private int scanUsersInto(Map<String, Long> revokedAt) {
+        int count = 0;
+        List<String> keys = new ArrayList<>(MULTI_GET_SIZE);
+        ScanOptions options = ScanOptions.scanOptions().match(REVOKED_USER_PREFIX + "*").count(1000).build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == MULTI_GET_SIZE) {
+                    count += loadRevokedAt(keys, revokedAt);
+                    keys.clear();
+                }
+            }
+        }
+        if (!keys.isEmpty()) {
+            count += loadRevokedAt(keys, revokedAt);
+        }
+        return count;
+    }
+
+    private int loadRevokedAt(List<String> keys, Map<String, Long> revokedAt) {
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return 0;
+        }
+
+        int count = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            // 조회 사이에 만료된 키는 값이 없다
+            if (values.get(i) != null) {
+                revokedAt.merge(keys.get(i).substring(REVOKED_USER_PREFIX.length()), toMillis(Long.parseLong(values.get(i))), Math::max);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.revocation.checks", bloomNegatives, LongAdder::doubleValue)
+                .tag("result", "bloom_negative")
+                .register(registry);
+        FunctionCounter.builder("auth.revocation.checks", redisLookups, LongAdder::doubleValue)
+                .tag("result", "redis_lookup")
+                .register(registry);
+        FunctionCounter.builder("auth.revocation.checks", redisFailures, LongAdder::doubleValue)
+                .tag("result", "redis_failure")
+                .register(registry);
+        FunctionCounter.builder("auth.revocation.rejected", rejected, LongAdder::doubleValue)
+                .register(registry);
+    }
+}
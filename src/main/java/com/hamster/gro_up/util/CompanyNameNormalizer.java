@@ -0,0 +1,159 @@
+package com.hamster.gro_up.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 중복 기업명을 찾기 위한 기업명 정규화.
+ * "네이버", "NAVER", "Naver Corp." 처럼 같은 기업을 다르게 적은 이름이 같은 키 또는 가까운 키가 되도록
+ * 대소문자, 공백, 문장부호, 법인 표기를 지우고(normalize), 한글을 자모 단위로 분해해 로마자로 옮기며(romanize),
+ * 한글과 영문 표기 사이에서 흔히 갈리는 소리를 하나로 모은다(phoneticKey).
+ */
+public class CompanyNameNormalizer {
+
+    private static final Set<String> LEGAL_SUFFIXES = Set.of(
+            "corp", "corporation", "inc", "incorporated", "co", "company", "ltd", "limited", "llc", "plc", "gmbh");
+    private static final String[] KOREAN_LEGAL_FORMS = {"(주)", "주식회사", "유한회사", "유한책임회사"};
+
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int VOWEL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    // 국어의 로마자 표기법 기준. 받침은 대표음으로 옮긴다
+    private static final String[] INITIALS = {
+            "g", "kk", "n", "d", "tt", "r", "m", "b", "pp", "s", "ss", "", "j", "jj", "ch", "k", "t", "p", "h"};
+    private static final String[] VOWELS = {
+            "a", "ae", "ya", "yae", "eo", "e", "yeo", "ye", "o", "wa", "wae", "oe", "yo", "u", "wo", "we", "wi", "yu",
+            "eu", "ui", "i"};
+    private static final String[] FINALS = {
+            "", "k", "k", "k", "n", "n", "n", "t", "l", "k", "m", "l", "l", "l", "p", "l", "m", "p", "p", "t", "t",
+            "ng", "t", "t", "k", "t", "p", "t"};
+
+    /**
+     * 소문자로 바꾸고 법인 표기, 공백, 문장부호를 지운다. 법인 표기만 있는 이름이면 법인 표기를 남긴다.
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+
+        String lowerCase = Normalizer.normalize(name, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        String withoutForms = lowerCase;
+        for (String form : KOREAN_LEGAL_FORMS) {
+            withoutForms = withoutForms.replace(form, " ");
+        }
+
+        StringBuilder normalized = new StringBuilder(withoutForms.length());
+        for (String token : withoutForms.split("[^\\p{L}\\p{N}]+")) {
+            if (!LEGAL_SUFFIXES.contains(token)) {
+                normalized.append(token);
+            }
+        }
+
+        return normalized.isEmpty() ? lettersAndDigits(lowerCase) : normalized.toString();
+    }
+
+    /**
+     * 한글 음절을 초성, 중성, 종성으로 나눠 로마자로 옮긴다. 한글이 아닌 글자는 그대로 둔다.
+     */
+    public static String romanize(String normalized) {
+        StringBuilder romanized = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c < HANGUL_BASE || c > HANGUL_LAST) {
+                romanized.append(c);
+                continue;
+            }
+
+            int offset = c - HANGUL_BASE;
+            romanized.append(INITIALS[offset / (VOWEL_COUNT * FINAL_COUNT)])
+                    .append(VOWELS[offset % (VOWEL_COUNT * FINAL_COUNT) / FINAL_COUNT])
+                    .append(FINALS[offset % FINAL_COUNT]);
+        }
+        return romanized.toString();
+    }
+
+    /**
+     * 한글과 영문 표기 사이에 갈리는 소리를 모은 키. ("네이버", "naver" -> "napa")
+     * 한글은 로마자로 옮기고, 영문 단어는 한글로 옮길 때 사라지는 끝소리(묵음 e, -er 의 r)를 뗀 뒤,
+     * 유성음과 무성음(g/k, d/t, b/p), v/b, f/p, l/r 을 같게 보고, 이어진 모음은 하나로, 겹자음은 하나로 줄인다.
+     */
+    public static String phoneticKey(String normalized) {
+        StringBuilder romanized = new StringBuilder(normalized.length() * 3);
+        int i = 0;
+        while (i < normalized.length()) {
+            int end = i;
+            while (end < normalized.length() && isLatin(normalized.charAt(end))) {
+                end++;
+            }
+
+            if (end > i) {
+                romanized.append(dropSilentEnding(normalized.substring(i, end)));
+                i = end;
+            } else {
+                romanized.append(romanize(normalized.substring(i, i + 1)));
+                i++;
+            }
+        }
+
+        String folded = romanized.toString()
+                .replace("ph", "f")
+                .replace("sh", "s")
+                .replace("th", "t")
+                .replace("ch", "j")
+                .replace("ck", "k")
+                .replace("x", "ks");
+
+        StringBuilder key = new StringBuilder(folded.length());
+        for (int j = 0; j < folded.length(); j++) {
+            char c = fold(folded.charAt(j));
+            if (!key.isEmpty() && key.charAt(key.length() - 1) == c) {
+                continue;
+            }
+            key.append(c);
+        }
+        return key.toString();
+    }
+
+    // line -> 라인, google -> 구글 처럼 끝의 e 는 읽지 않고, naver -> 네이버 처럼 -er 의 r 은 한글 표기에 없다
+    private static String dropSilentEnding(String word) {
+        String result = word;
+        if (result.length() > 3 && result.endsWith("e") && !isVowel(result.charAt(result.length() - 2))) {
+            result = result.substring(0, result.length() - 1);
+        }
+        if (result.length() > 2 && result.endsWith("r") && isVowel(result.charAt(result.length() - 2))) {
+            result = result.substring(0, result.length() - 1);
+        }
+        return result;
+    }
+
+    private static boolean isLatin(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u';
+    }
+
+    private static char fold(char c) {
+        return switch (c) {
+            case 'a', 'e', 'i', 'o', 'u', 'y', 'w' -> 'a';
+            case 'b', 'v', 'f' -> 'p';
+            case 'g', 'c', 'q' -> 'k';
+            case 'd' -> 't';
+            case 'z' -> 'j';
+            case 'l' -> 'r';
+            default -> c;
+        };
+    }
+
+    private static String lettersAndDigits(String value) {
+        StringBuilder result = new StringBuilder(value.length());
+        value.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(result::appendCodePoint);
+        return result.toString();
+    }
+}
@@ -0,0 +1,119 @@
+package com.hamster.gro_up.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 형식의 CSV 를 한 레코드씩 읽는다.
+ * 따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이중 따옴표("")를 처리하며 파일 전체를 메모리에 올리지 않는다.
+ * 형식이 잘못되면 IllegalArgumentException 을 던진다.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private long lineNumber = 1;
+    private long recordLineNumber;
+    private int pushedBack = NONE;
+    private boolean started;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+    }
+
+    /**
+     * 다음 레코드의 필드 목록을 반환한다. 더 읽을 레코드가 없으면 null.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException(recordLineNumber + "행: 닫는 따옴표가 없습니다.");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pushedBack = next;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '"' && field.isEmpty() && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushedBack = next;
+                    }
+                }
+                if (c != -1) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                if (wasQuoted) {
+                    throw new IllegalArgumentException(lineNumber + "행: 닫는 따옴표 뒤에는 쉼표나 줄바꿈이 와야 합니다.");
+                }
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    // 마지막으로 읽은 레코드가 시작된 줄 번호 (1부터)
+    public long getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+
+        int c = reader.read();
+        // 엑셀에서 저장한 UTF-8 CSV 는 BOM 으로 시작한다
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
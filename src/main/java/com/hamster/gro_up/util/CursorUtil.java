@@ -0,0 +1,62 @@
+package com.hamster.gro_up.util;
+
+import com.hamster.gro_up.exception.common.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 목록 조회용 keyset 커서.
+ * 마지막으로 내려준 행의 정렬 키를 Base64 로 감싸 내려주고, 다음 요청에서 그 키 뒤부터 조회한다.
+ */
+public class CursorUtil {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String DELIMITER = "|";
+
+    public static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    public static String encode(Long id) {
+        return encodeRaw(String.valueOf(id));
+    }
+
+    public static String encode(LocalDateTime dueDate, Long id) {
+        return encodeRaw(dueDate + DELIMITER + id);
+    }
+
+    public static Long decodeId(String cursor) {
+        try {
+            return Long.parseLong(decodeRaw(cursor));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public static DueDateCursor decodeDueDateCursor(String cursor) {
+        try {
+            String raw = decodeRaw(cursor);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+
+            return new DueDateCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeRaw(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
+    public record DueDateCursor(LocalDateTime dueDate, Long id) {
+    }
+}
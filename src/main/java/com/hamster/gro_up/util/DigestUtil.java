@@ -0,0 +1,31 @@
+package com.hamster.gro_up.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+public class DigestUtil {
+
+    private static final int SHORT_DIGEST_BYTES = 16;
+
+    public static String sha256(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash(value));
+    }
+
+    // 저장 공간을 줄이기 위해 SHA-256 앞 16바이트만 사용 (Base64 22자)
+    public static String shortSha256(String value) {
+        byte[] truncated = Arrays.copyOf(hash(value), SHORT_DIGEST_BYTES);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(truncated);
+    }
+
+    private static byte[] hash(String value) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return messageDigest.digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.hamster.gro_up.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * iCalendar(.ics, RFC 5545) 파일에서 VEVENT 를 하나씩 읽는다.
+ * 여러 줄로 접힌 속성을 펼쳐 읽고, 메모리에는 이벤트 하나 분량만 둔다.
+ * VEVENT 안의 VALARM 같은 하위 컴포넌트 속성은 이벤트 속성으로 보지 않는다.
+ */
+public class IcsReader implements Closeable {
+
+    private final BufferedReader reader;
+    private String lookahead;
+    private long lookaheadLineNumber;
+    private long physicalLineNumber;
+    private long currentLineNumber;
+    private long eventLineNumber;
+
+    public IcsReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 VEVENT 의 속성을 이름(대문자)별로 반환한다. 같은 이름이 여러 번 나오면 처음 것만 남긴다.
+     * 더 읽을 이벤트가 없으면 null.
+     */
+    public Map<String, Property> readEvent() throws IOException {
+        Map<String, Property> properties = null;
+        int depth = 0;
+
+        String line;
+        while ((line = readUnfoldedLine()) != null) {
+            Property property = Property.parse(line);
+            if (property == null) {
+                continue;
+            }
+
+            boolean begin = property.name().equals("BEGIN");
+            boolean end = property.name().equals("END");
+            boolean event = property.value().equalsIgnoreCase("VEVENT");
+
+            if (properties == null) {
+                if (begin && event) {
+                    properties = new HashMap<>();
+                    eventLineNumber = currentLineNumber;
+                }
+                continue;
+            }
+
+            if (begin) {
+                depth++;
+            } else if (end) {
+                if (depth == 0 && event) {
+                    return properties;
+                }
+                depth = Math.max(0, depth - 1);
+            } else if (depth == 0) {
+                properties.putIfAbsent(property.name(), property);
+            }
+        }
+
+        if (properties != null) {
+            throw new IllegalArgumentException(eventLineNumber + "행: END:VEVENT 없이 파일이 끝났습니다.");
+        }
+        return null;
+    }
+
+    // 마지막으로 읽은 이벤트의 BEGIN:VEVENT 줄 번호 (1부터)
+    public long getEventLineNumber() {
+        return eventLineNumber;
+    }
+
+    // 공백이나 탭으로 시작하는 줄은 앞 줄에 이어 붙인다 (RFC 5545 3.1)
+    private String readUnfoldedLine() throws IOException {
+        if (lookahead == null && !readLookahead()) {
+            return null;
+        }
+
+        currentLineNumber = lookaheadLineNumber;
+        StringBuilder line = new StringBuilder(lookahead);
+        while (readLookahead() && !lookahead.isEmpty()
+                && (lookahead.charAt(0) == ' ' || lookahead.charAt(0) == '\t')) {
+            line.append(lookahead, 1, lookahead.length());
+        }
+        return line.toString();
+    }
+
+    private boolean readLookahead() throws IOException {
+        lookahead = reader.readLine();
+        if (lookahead == null) {
+            return false;
+        }
+
+        physicalLineNumber++;
+        lookaheadLineNumber = physicalLineNumber;
+        if (physicalLineNumber == 1 && lookahead.startsWith("\uFEFF")) {
+            lookahead = lookahead.substring(1);
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * "NAME;PARAM=VALUE:value" 형태의 속성 한 줄.
+     */
+    public record Property(String name, Map<String, String> params, String value) {
+
+        static Property parse(String line) {
+            int colon = -1;
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (c == ':' && !quoted) {
+                    colon = i;
+                    break;
+                }
+            }
+            if (colon < 0) {
+                return null;
+            }
+
+            String[] head = line.substring(0, colon).split(";");
+            Map<String, String> params = new HashMap<>();
+            for (int i = 1; i < head.length; i++) {
+                int equals = head[i].indexOf('=');
+                if (equals > 0) {
+                    params.put(head[i].substring(0, equals).toUpperCase(Locale.ROOT),
+                            head[i].substring(equals + 1).replace("\"", ""));
+                }
+            }
+            return new Property(head[0].strip().toUpperCase(Locale.ROOT), params, line.substring(colon + 1));
+        }
+
+        // TEXT 값의 이스케이프(\n, \,, \;, \\)를 푼다
+        public String text() {
+            StringBuilder text = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '\\' && i + 1 < value.length()) {
+                    char next = value.charAt(++i);
+                    text.append(next == 'n' || next == 'N' ? '\n' : next);
+                } else {
+                    text.append(c);
+                }
+            }
+            return text.toString();
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package com.hamster.gro_up.util;
 
-import com.hamster.gro_up.dto.AuthUser;
 import com.hamster.gro_up.entity.Role;
 import com.hamster.gro_up.entity.UserType;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -16,6 +17,7 @@ import org.springframework.util.StringUtils;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
@@ -24,30 +26,44 @@ public class JwtUtil {
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
+    private JwtParser jwtParser; // 불변 객체라 스레드 간 공유 가능
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     public String createToken(TokenType tokenType, UserType userType, Long userId, String email, Role role) {
+        return createToken(tokenType, userType, userId, email, role, null);
+    }
+
+    // familyId: 같은 로그인에서 Rotation 으로 이어지는 Refresh Token 들이 공유하는 식별자
+    public String createToken(TokenType tokenType, UserType userType, Long userId, String email, Role role, String familyId) {
         long currentTimeMillis = System.currentTimeMillis();
         Date expirationDate = new Date(currentTimeMillis + tokenType.getExpireMs()); // 만료일
         Date issuedAt = new Date(currentTimeMillis); // 발급일
 
 
-        String token = Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // 폐기(revocation) 시 식별자로 사용
                 .setSubject(String.valueOf(userId))
                 .claim("email", email)
                 .claim("role", role.name())
                 .claim("userType", userType.name())
                 .claim("tokenType", tokenType.name())
+                // iat 는 초 단위라, 같은 초 안에 발급과 일괄 폐기가 일어나도 구분할 수 있도록 ms 단위 발급 시각을 함께 넣는다
+                .claim("iatMs", currentTimeMillis)
                 .setExpiration(expirationDate)
-                .setIssuedAt(issuedAt)
-                .signWith(key, signatureAlgorithm)
-                .compact();
+                .setIssuedAt(issuedAt);
+
+        if (familyId != null) {
+            builder.claim("familyId", familyId);
+        }
+
+        String token = builder.signWith(key, signatureAlgorithm).compact();
 
         return TokenType.ACCESS.equals(tokenType) ? BEARER_PREFIX + token : token;
     }
@@ -60,37 +76,18 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
-    public boolean isExpired(String token) {
+    /**
+     * 서명을 한 번만 검증해서 토큰 정보를 꺼낸다.
+     * 만료된 토큰은 예외 대신 expired 가 true 인 ParsedToken 을 반환한다.
+     */
+    public ParsedToken parse(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return false; // 정상 토큰
+            return ParsedToken.of(extractClaims(token), false);
         } catch (ExpiredJwtException e) {
-            return true; // 만료된 토큰
+            return ParsedToken.of(e.getClaims(), true);
         }
     }
-
-    public String getTokenType(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().get("tokenType", String.class);
-    }
-
-    public String getEmail(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().get("email", String.class);
-    }
-
-    public AuthUser getAuthUserFromToken(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
-        Long userId = Long.valueOf(claims.getSubject());
-        String email = claims.get("email", String.class);
-        Role role = Role.of(claims.get("role", String.class));
-        UserType userType = UserType.of(claims.get("userType", String.class));
-
-        return AuthUser.builder().id(userId).email(email).role(role).userType(userType).build();
-    }
 }
@@ -0,0 +1,139 @@
+package com.hamster.gro_up.util;
+
+import java.util.*;
+
+/**
+ * 이름별 사용 횟수를 소문자 기준으로 정렬된 배열에 담은 자동완성 색인.
+ * 접두어에 해당하는 구간을 이진 탐색으로 찾고, 그 구간에서 사용 횟수가 많은 순으로 limit 개를 고른다.
+ * 한 번 만든 색인은 바꾸지 않으며, apply 는 증감을 반영한 새 색인을 반환한다 (여러 스레드가 잠금 없이 읽는다).
+ * 중복 기업명 찾기에 쓰는 NameSimilarityIndex 는 처음 필요할 때 같은 내용으로 만들어 함께 들고 있는다.
+ */
+public final class NamePrefixIndex {
+
+    private static final NamePrefixIndex EMPTY = new NamePrefixIndex(new String[0], new String[0], new long[0]);
+
+    private final String[] keys;
+    private final String[] names;
+    private final long[] counts;
+
+    // 여러 스레드가 동시에 만들어도 내용이 같으므로 잠그지 않는다
+    private volatile NameSimilarityIndex similarityIndex;
+
+    private NamePrefixIndex(String[] keys, String[] names, long[] counts) {
+        this.keys = keys;
+        this.names = names;
+        this.counts = counts;
+    }
+
+    // 빈 이름과 사용 횟수가 0 이하인 이름은 넣지 않는다
+    public static NamePrefixIndex of(Map<String, Long> usageCounts) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(usageCounts.size());
+        for (Map.Entry<String, Long> entry : usageCounts.entrySet()) {
+            if (entry.getKey() != null && !entry.getKey().isBlank() && entry.getValue() != null && entry.getValue() > 0) {
+                entries.add(entry);
+            }
+        }
+        if (entries.isEmpty()) {
+            return EMPTY;
+        }
+
+        entries.sort(Comparator.comparing((Map.Entry<String, Long> entry) -> key(entry.getKey()))
+                .thenComparing(Map.Entry::getKey));
+
+        String[] keys = new String[entries.size()];
+        String[] names = new String[entries.size()];
+        long[] counts = new long[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            keys[i] = key(entries.get(i).getKey());
+            names[i] = entries.get(i).getKey();
+            counts[i] = entries.get(i).getValue();
+        }
+        return new NamePrefixIndex(keys, names, counts);
+    }
+
+    /**
+     * 대소문자 구분 없이 prefix 로 시작하는 이름을 사용 횟수가 많은 순으로 반환한다. 횟수가 같으면 이름 순.
+     * limit 이 0 이하면 모두 반환한다.
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String keyPrefix = prefix != null ? key(prefix.strip()) : "";
+        int from = lowerBound(keyPrefix);
+        int to = keyPrefix.isEmpty() ? keys.length : lowerBound(keyPrefix + Character.MAX_VALUE);
+        int matched = to - from;
+        if (matched <= 0) {
+            return List.of();
+        }
+
+        // 정렬 순서(이름 순)가 동점 처리 기준이므로 배열 위치를 비교한다
+        Comparator<Integer> ranking = (a, b) -> counts[a] != counts[b] ? Long.compare(counts[b], counts[a]) : Integer.compare(a, b);
+
+        if (limit <= 0 || matched <= limit) {
+            List<Integer> positions = new ArrayList<>(matched);
+            for (int i = from; i < to; i++) {
+                positions.add(i);
+            }
+            positions.sort(ranking);
+            return positions.stream().map(i -> names[i]).toList();
+        }
+
+        // 가장 순위가 낮은 것을 맨 위에 두는 크기 limit 의 heap 으로 상위 limit 개만 남긴다
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit, ranking.reversed());
+        for (int i = from; i < to; i++) {
+            top.offer(i);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Integer> positions = new ArrayList<>(top);
+        positions.sort(ranking);
+        return positions.stream().map(i -> names[i]).toList();
+    }
+
+    /**
+     * 이름별 증감을 반영한 새 색인. 0 이하가 된 이름은 뺀다.
+     */
+    public NamePrefixIndex apply(Map<String, Long> deltas) {
+        Map<String, Long> usageCounts = toMap();
+        deltas.forEach((name, delta) -> usageCounts.merge(name, delta, Long::sum));
+        return of(usageCounts);
+    }
+
+    public NameSimilarityIndex similarityIndex() {
+        NameSimilarityIndex index = similarityIndex;
+        if (index == null) {
+            index = NameSimilarityIndex.of(toMap());
+            similarityIndex = index;
+        }
+        return index;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    private Map<String, Long> toMap() {
+        Map<String, Long> usageCounts = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            usageCounts.put(names[i], counts[i]);
+        }
+        return usageCounts;
+    }
+
+    private int lowerBound(String target) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(target) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
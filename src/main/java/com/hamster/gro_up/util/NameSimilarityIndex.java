@@ -0,0 +1,165 @@
+package com.hamster.gro_up.util;
+
+import java.util.*;
+
+/**
+ * 비슷한 이름(중복으로 의심되는 기업명)을 찾는 trigram 색인.
+ * 이름마다 CompanyNameNormalizer 로 정규화, 로마자, 발음 키를 미리 만들어 두고, 발음 키의 trigram 으로 역색인을 만든다.
+ * 조회할 때는 trigram 을 하나라도 공유하는 이름만 후보로 골라 편집 거리로 점수를 매긴다.
+ */
+public final class NameSimilarityIndex {
+
+    private static final int GRAM_SIZE = 3;
+    // 발음 키만 같은 이름은 철자까지 같은 이름보다 낮게 본다 ("코코", "카카오" 도 발음 키가 같다)
+    private static final double PHONETIC_WEIGHT = 0.9;
+
+    private final String[] names;
+    private final long[] counts;
+    private final String[] normalized;
+    private final String[] romanized;
+    private final String[] phonetic;
+    private final Map<String, int[]> postings;
+
+    private NameSimilarityIndex(String[] names, long[] counts) {
+        this.names = names;
+        this.counts = counts;
+        this.normalized = new String[names.length];
+        this.romanized = new String[names.length];
+        this.phonetic = new String[names.length];
+
+        Map<String, List<Integer>> grams = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            normalized[i] = CompanyNameNormalizer.normalize(names[i]);
+            romanized[i] = CompanyNameNormalizer.romanize(normalized[i]);
+            phonetic[i] = CompanyNameNormalizer.phoneticKey(normalized[i]);
+            for (String gram : trigrams(phonetic[i])) {
+                grams.computeIfAbsent(gram, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        this.postings = new HashMap<>(grams.size() * 2);
+        grams.forEach((gram, ids) -> postings.put(gram, ids.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    public static NameSimilarityIndex of(Map<String, Long> usageCounts) {
+        String[] names = new String[usageCounts.size()];
+        long[] counts = new long[usageCounts.size()];
+        int i = 0;
+        for (Map.Entry<String, Long> entry : usageCounts.entrySet()) {
+            names[i] = entry.getKey();
+            counts[i] = entry.getValue();
+            i++;
+        }
+        return new NameSimilarityIndex(names, counts);
+    }
+
+    /**
+     * name 과 비슷한 이름을 점수(0 ~ 1)가 높은 순으로 limit 개까지 반환한다. 점수가 같으면 많이 쓴 이름이 먼저다.
+     * 정규화한 결과가 같으면 1, 아니면 로마자 편집 거리 유사도와 (발음 키 편집 거리 유사도)^2 * 0.9 중 높은 값이다.
+     */
+    public List<Match> findSimilar(String name, double threshold, int limit) {
+        String queryNormalized = CompanyNameNormalizer.normalize(name);
+        if (queryNormalized.isEmpty()) {
+            return List.of();
+        }
+        String queryRomanized = CompanyNameNormalizer.romanize(queryNormalized);
+        String queryPhonetic = CompanyNameNormalizer.phoneticKey(queryNormalized);
+
+        boolean[] candidates = new boolean[names.length];
+        for (String gram : trigrams(queryPhonetic)) {
+            int[] ids = postings.get(gram);
+            if (ids == null) {
+                continue;
+            }
+            for (int id : ids) {
+                candidates[id] = true;
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            if (!candidates[i]) {
+                continue;
+            }
+
+            double score = queryNormalized.equals(normalized[i])
+                    ? 1.0
+                    : Math.max(similarity(queryRomanized, romanized[i], threshold),
+                               phoneticScore(queryPhonetic, phonetic[i], threshold));
+            if (score >= threshold) {
+                matches.add(new Match(names[i], counts[i], Math.round(score * 1000) / 1000.0));
+            }
+        }
+
+        matches.sort(Comparator.comparingDouble(Match::score).reversed()
+                .thenComparing(Comparator.comparingLong(Match::usageCount).reversed())
+                .thenComparing(Match::name));
+        return limit > 0 && matches.size() > limit ? matches.subList(0, limit) : matches;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    // 발음 키는 짧아서 한두 글자만 달라도 다른 이름인 경우가 많으므로 ("카카오" kaka, "구글" kakar) 유사도를 제곱해서 반영한다
+    private static double phoneticScore(String a, String b, double threshold) {
+        double similarity = similarity(a, b, Math.sqrt(threshold / PHONETIC_WEIGHT));
+        return PHONETIC_WEIGHT * similarity * similarity;
+    }
+
+    // 1 - 편집 거리 / 긴 쪽 길이. threshold 에 못 미칠 것이 확실하면 끝까지 계산하지 않고 0 을 반환한다
+    private static double similarity(String a, String b, double threshold) {
+        int longer = Math.max(a.length(), b.length());
+        if (longer == 0 || threshold > 1) {
+            return 0;
+        }
+
+        int maxDistance = (int) Math.floor((1 - threshold) * longer);
+        int distance = levenshtein(a, b, maxDistance);
+        return distance > maxDistance ? 0 : 1 - (double) distance / longer;
+    }
+
+    // maxDistance 를 넘으면 maxDistance + 1 을 반환한다
+    private static int levenshtein(String a, String b, int maxDistance) {
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    // 앞에 공백 두 칸, 뒤에 한 칸을 붙여 짧은 키도 trigram 이 나오게 한다 (pg_trgm 과 같은 방식)
+    private static Set<String> trigrams(String key) {
+        String padded = "  " + key + " ";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    public record Match(String name, long usageCount, double score) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.hamster.gro_up.util;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 검색 결과 강조 표시.
+ * MySQL ngram 파서와 같은 방식으로 검색어를 TOKEN_SIZE 글자씩 잘라, 본문에서 그 조각과 겹치는 구간을 &lt;em&gt; 으로 감싼다.
+ * 나머지 본문은 HTML 이스케이프하므로 응답을 그대로 화면에 넣어도 된다.
+ */
+public class NgramHighlighter {
+
+    // MySQL ngram_token_size 기본값
+    public static final int TOKEN_SIZE = 2;
+
+    private final Set<String> grams = new HashSet<>();
+
+    public NgramHighlighter(String query) {
+        for (String token : query.split("\\s+")) {
+            String lowerCase = lowerCase(token);
+            for (int i = 0; i + TOKEN_SIZE <= lowerCase.length(); i++) {
+                grams.add(lowerCase.substring(i, i + TOKEN_SIZE));
+            }
+        }
+    }
+
+    /**
+     * 검색어 조각과 겹치는 구간을 강조한 본문. 겹치는 곳이 없으면 null.
+     */
+    public String highlight(String text) {
+        if (text == null || text.length() < TOKEN_SIZE || grams.isEmpty()) {
+            return null;
+        }
+
+        String lowerCase = lowerCase(text);
+        boolean[] matched = new boolean[text.length()];
+        boolean found = false;
+        for (int i = 0; i + TOKEN_SIZE <= text.length(); i++) {
+            if (grams.contains(lowerCase.substring(i, i + TOKEN_SIZE))) {
+                for (int j = i; j < i + TOKEN_SIZE; j++) {
+                    matched[j] = true;
+                }
+                found = true;
+            }
+        }
+        if (!found) {
+            return null;
+        }
+
+        StringBuilder highlighted = new StringBuilder(text.length() + 16);
+        int start = 0;
+        while (start < text.length()) {
+            int end = start;
+            while (end < text.length() && matched[end] == matched[start]) {
+                end++;
+            }
+            String part = HtmlUtils.htmlEscape(text.substring(start, end));
+            highlighted.append(matched[start] ? "<em>" + part + "</em>" : part);
+            start = end;
+        }
+        return highlighted.toString();
+    }
+
+    // 글자 단위로 바꿔야 원문과 인덱스가 어긋나지 않는다
+    private static String lowerCase(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,71 @@
+package com.hamster.gro_up.util;
+
+import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.entity.Role;
+import com.hamster.gro_up.entity.UserType;
+import io.jsonwebtoken.Claims;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명 검증을 한 번 거친 토큰의 클레임.
+ * 만료된 토큰도 서명이 유효하면 expired = true 로 만들어지므로, 호출하는 쪽에서 만료 여부를 확인해야 한다.
+ */
+@Getter
+public class ParsedToken {
+
+    private final String tokenId;
+    private final String subject;
+    private final String email;
+    private final Role role;
+    private final UserType userType;
+    private final TokenType tokenType;
+    private final String familyId;
+    private final Date issuedAt;
+    private final Date expiration;
+    private final boolean expired;
+    private final AuthUser authUser;
+
+    @Builder
+    public ParsedToken(String tokenId, String subject, String email, Role role, UserType userType, TokenType tokenType, String familyId, Date issuedAt, Date expiration, boolean expired) {
+        this.tokenId = tokenId;
+        this.subject = subject;
+        this.email = email;
+        this.role = role;
+        this.userType = userType;
+        this.tokenType = tokenType;
+        this.familyId = familyId;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+        this.expired = expired;
+        this.authUser = AuthUser.builder().id(Long.valueOf(subject)).email(email).role(role).userType(userType).build();
+    }
+
+    public static ParsedToken of(Claims claims, boolean expired) {
+        // ms 단위 발급 시각이 없는 이전 토큰은 초 단위 iat 를 쓴다
+        Long issuedAtMs = claims.get("iatMs", Long.class);
+
+        return ParsedToken.builder()
+                .tokenId(claims.getId())
+                .subject(claims.getSubject())
+                .email(claims.get("email", String.class))
+                .role(Role.of(claims.get("role", String.class)))
+                .userType(UserType.of(claims.get("userType", String.class)))
+                .tokenType(TokenType.of(claims.get("tokenType", String.class)))
+                .familyId(claims.get("familyId", String.class))
+                .issuedAt(issuedAtMs != null ? new Date(issuedAtMs) : claims.getIssuedAt())
+                .expiration(claims.getExpiration())
+                .expired(expired)
+                .build();
+    }
+
+    public Long getUserId() {
+        return Long.valueOf(subject);
+    }
+
+    public boolean isTokenType(TokenType tokenType) {
+        return this.tokenType == tokenType;
+    }
+}
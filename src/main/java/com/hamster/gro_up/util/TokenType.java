@@ -1,5 +1,7 @@
 package com.hamster.gro_up.util;
 
+import java.util.Arrays;
+
 public enum TokenType {
     ACCESS(14 * 24 * 60 * 60 * 1000L),  // 2주
     REFRESH(2 * 14 * 24 * 60 * 60 * 1000L); // 4주
@@ -13,4 +15,11 @@ public enum TokenType {
     public long getExpireMs() {
         return expireMs;
     }
+
+    public static TokenType of(String tokenType) {
+        return Arrays.stream(TokenType.values())
+                .filter(t -> t.name().equalsIgnoreCase(tokenType))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("유효하지 않은 TokenType"));
+    }
 }
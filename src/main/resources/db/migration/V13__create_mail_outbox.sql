@@ -0,0 +1,16 @@
+CREATE TABLE mail_outbox (
+                             id BIGINT NOT NULL AUTO_INCREMENT,
+                             recipient VARCHAR(255) NOT NULL,
+                             subject VARCHAR(255) NOT NULL,
+                             body TEXT NOT NULL,
+                             status ENUM ('PENDING','SENDING','SENT','DEAD') NOT NULL,
+                             attempts INT NOT NULL DEFAULT 0,
+                             next_attempt_at DATETIME(6) NOT NULL,
+                             last_error VARCHAR(1000),
+                             sent_at DATETIME(6),
+                             created_at DATETIME(6),
+                             modified_at DATETIME(6),
+                             PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_mail_outbox_status_next_attempt ON mail_outbox (status, next_attempt_at);
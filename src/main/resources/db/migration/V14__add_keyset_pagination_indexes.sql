@@ -0,0 +1,3 @@
+CREATE INDEX idx_schedule_user_due_date_id ON schedule (user_id, due_date, id);
+CREATE INDEX idx_company_user_id ON company (user_id, id);
+CREATE INDEX idx_retrospect_user_id ON retrospect (user_id, id);
@@ -0,0 +1,9 @@
+CREATE TABLE schedule_step_stat (
+                                    user_id BIGINT NOT NULL,
+                                    step ENUM ('ASSIGNMENT_TEST','CODING_TEST','DOCUMENT','FAIL','FINAL_PASS','FIRST_INTERVIEW','SECOND_INTERVIEW','THIRD_INTERVIEW') NOT NULL,
+                                    schedule_count BIGINT NOT NULL DEFAULT 0,
+                                    PRIMARY KEY (user_id, step)
+);
+
+INSERT INTO schedule_step_stat (user_id, step, schedule_count)
+SELECT user_id, step, COUNT(*) FROM schedule WHERE step IS NOT NULL GROUP BY user_id, step;
@@ -0,0 +1,15 @@
+CREATE TABLE schedule_step_event (
+                                     id BIGINT NOT NULL AUTO_INCREMENT,
+                                     schedule_id BIGINT NOT NULL,
+                                     user_id BIGINT NOT NULL,
+                                     from_step ENUM ('ASSIGNMENT_TEST','CODING_TEST','DOCUMENT','FAIL','FINAL_PASS','FIRST_INTERVIEW','SECOND_INTERVIEW','THIRD_INTERVIEW'),
+                                     to_step ENUM ('ASSIGNMENT_TEST','CODING_TEST','DOCUMENT','FAIL','FINAL_PASS','FIRST_INTERVIEW','SECOND_INTERVIEW','THIRD_INTERVIEW'),
+                                     occurred_at DATETIME(6) NOT NULL,
+                                     PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_schedule_step_event_schedule_occurred_at ON schedule_step_event (schedule_id, occurred_at, id);
+CREATE INDEX idx_schedule_step_event_user_occurred_at ON schedule_step_event (user_id, occurred_at);
+
+INSERT INTO schedule_step_event (schedule_id, user_id, from_step, to_step, occurred_at)
+SELECT id, user_id, NULL, step, COALESCE(created_at, NOW(6)) FROM schedule;
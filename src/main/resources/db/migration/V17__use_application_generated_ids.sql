@@ -0,0 +1,5 @@
+-- ID 를 애플리케이션(TSID)에서 발급하므로 AUTO_INCREMENT 를 제거한다. 기존 ID 는 그대로 유지되고, 새 ID 는 기존 값보다 항상 크다.
+ALTER TABLE user MODIFY id BIGINT NOT NULL;
+ALTER TABLE company MODIFY id BIGINT NOT NULL;
+ALTER TABLE schedule MODIFY id BIGINT NOT NULL;
+ALTER TABLE retrospect MODIFY id BIGINT NOT NULL;
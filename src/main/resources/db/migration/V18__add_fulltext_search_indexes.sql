@@ -0,0 +1,3 @@
+-- 검색어를 2글자(ngram_token_size 기본값) 단위로 쪼개 색인하므로 띄어쓰기 없는 한글도 부분 일치로 찾는다
+CREATE FULLTEXT INDEX ft_schedule_search ON schedule (company_name, position, memo) WITH PARSER ngram;
+CREATE FULLTEXT INDEX ft_retrospect_search ON retrospect (memo) WITH PARSER ngram;
@@ -0,0 +1,2 @@
+-- 알림 적재 때 사용자와 관계없이 다가오는 일정을 due_date 순으로 끊어 읽는다
+CREATE INDEX idx_schedule_due_date_id ON schedule (due_date, id);
@@ -0,0 +1,4 @@
+-- 발송한 메일은 본문(인증 코드, 재설정 링크)을 지우고, 보존 기간이 지난 SENT / DEAD 행은 주기적으로 삭제한다
+ALTER TABLE mail_outbox MODIFY body TEXT NULL;
+
+CREATE INDEX idx_mail_outbox_status_modified ON mail_outbox (status, modified_at);
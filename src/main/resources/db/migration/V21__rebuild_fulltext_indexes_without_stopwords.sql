@@ -0,0 +1,9 @@
+-- InnoDB 기본 stopword(a, an, in, is, the ...)가 들어간 ngram 조각은 색인되지 않아 'in', 'IT', 'Android'(an) 같은 영문 검색어가 빠진다
+-- stopword 목록은 인덱스를 만들 때 정해지므로 이 세션에서 stopword 를 끄고 다시 만든다. 서버 전역 설정(innodb_ft_enable_stopword)은 바꾸지 않는다
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+DROP INDEX ft_schedule_search ON schedule;
+DROP INDEX ft_retrospect_search ON retrospect;
+
+CREATE FULLTEXT INDEX ft_schedule_search ON schedule (company_name, position, memo) WITH PARSER ngram;
+CREATE FULLTEXT INDEX ft_retrospect_search ON retrospect (memo) WITH PARSER ngram;
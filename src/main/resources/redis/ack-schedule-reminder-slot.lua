@@ -0,0 +1,14 @@
+-- 메일을 넣은 알림을 처리 중 칸에서 뺀다. 칸이 비면 처리 중 목록에서도 뺀다
+-- 넣지 못한 알림은 남겨 두어 lease 가 지난 뒤 다시 보낸다
+-- KEYS[1] = scheduleReminder:processing, KEYS[2] = scheduleReminder:processing:{slot}
+-- ARGV[1] = 칸 번호, ARGV[2..] = 뺄 알림들
+-- 반환값: 칸에 남은 알림 수
+for i = 2, #ARGV do
+    redis.call('SREM', KEYS[2], ARGV[i])
+end
+
+local remaining = redis.call('SCARD', KEYS[2])
+if remaining == 0 then
+    redis.call('ZREM', KEYS[1], ARGV[1])
+end
+return remaining
@@ -0,0 +1,29 @@
+-- 토큰 버킷에서 permit 을 최대 요청한 개수만큼 가져간다
+-- KEYS[1] = rateLimit:{policy}:{key}  (HASH, tokens / ts)
+-- ARGV[1] = 버킷 용량, ARGV[2] = ms 당 충전량, ARGV[3] = 요청 permit 수, ARGV[4] = 현재 시각(ms)
+-- 남은 토큰이 요청보다 적으면 남은 만큼만 내준다.
+-- 반환값: 실제로 내준 permit 수 (0 이면 거절)
+local capacity = tonumber(ARGV[1])
+local refillPerMs = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+local now = tonumber(ARGV[4])
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * refillPerMs)
+
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+-- 가득 찰 때까지 걸리는 시간이 지나면 키가 없어도 같은 상태이므로 정리
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refillPerMs))
+
+return granted
@@ -0,0 +1,24 @@
+-- 발송할 차례가 된 알림 칸 하나를 가져간다. 여러 서버가 동시에 불러도 한 칸은 한 서버만 가져간다
+-- 칸은 지우지 않고 처리 중 칸으로 옮겨 두며, 메일을 넣은 뒤 ack 해야 지워진다. 그 전에 서버가 죽으면 lease 가 지난 뒤 다시 가져간다
+-- KEYS[1] = scheduleReminder:cursor  (마지막으로 가져간 칸 번호)
+-- KEYS[2] = scheduleReminder:slot:{slot}
+-- KEYS[3] = scheduleReminder:processing  (처리 중인 칸 번호 -> lease 만료 시각(ms) ZSET)
+-- KEYS[4] = scheduleReminder:processing:{slot}
+-- ARGV[1] = 칸 번호, ARGV[2] = TTL(ms), ARGV[3] = lease 만료 시각(ms)
+-- 반환값: 칸에 들어 있던 알림들, 이미 다른 서버가 가져간 칸이면 빈 목록
+local cursor = tonumber(redis.call('GET', KEYS[1]) or '-1')
+if cursor >= tonumber(ARGV[1]) then
+    return {}
+end
+
+redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+local members = redis.call('SMEMBERS', KEYS[2])
+if #members == 0 then
+    return members
+end
+
+redis.call('RENAME', KEYS[2], KEYS[4])
+redis.call('PEXPIRE', KEYS[4], ARGV[2])
+redis.call('ZADD', KEYS[3], ARGV[3], ARGV[1])
+redis.call('PEXPIRE', KEYS[3], ARGV[2])
+return members
@@ -0,0 +1,10 @@
+-- 세션(familyId)이 생기기 전에 발급된 Refresh Token 을 한 번만 받아 준다
+-- KEYS[1] = refreshToken:{email}  (이전 방식으로 저장된 토큰 원문)
+-- ARGV[1] = 요청 토큰
+-- 반환값: 저장된 토큰과 같아 지웠으면 1, 아니면 0
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+
+redis.call('DEL', KEYS[1])
+return 1
@@ -0,0 +1,24 @@
+-- 목록 캐시를 지우고 version 을 올린다. 목록이 바뀔 때마다 커밋 이후에 부른다
+-- 지우기와 올리기를 한 번에 해야, 그 사이 이전 version 으로 조회한 목록이 캐시를 다시 채우지 못한다
+-- KEYS = listCache:{list}:{userId}, listVersion:{list}:{userId} 를 목록마다 번갈아 넣는다
+-- ARGV[1] = 지금 시각(ms), ARGV[2] = version TTL(ms), ARGV[3..] = 지울 variant (없으면 목록 전체를 지운다)
+-- version 은 max(이전 version + 1, 지금 시각) 이라, TTL 이 지나 다시 시작해도 이전에 내준 ETag 와 겹치지 않는다
+-- 반환값: 목록마다 올린 version
+local now = tonumber(ARGV[1])
+local versions = {}
+for i = 1, #KEYS, 2 do
+    if #ARGV > 2 then
+        redis.call('HDEL', KEYS[i], unpack(ARGV, 3))
+    else
+        redis.call('DEL', KEYS[i])
+    end
+
+    local version = redis.call('INCR', KEYS[i + 1])
+    if version < now then
+        redis.call('SET', KEYS[i + 1], ARGV[1])
+        version = now
+    end
+    redis.call('PEXPIRE', KEYS[i + 1], ARGV[2])
+    versions[#versions + 1] = version
+end
+return versions
@@ -0,0 +1,9 @@
+-- 사용자별 일정 타임라인에서 dueDate 범위의 일정을 조회한다
+-- KEYS[1] = scheduleTimeline:{userId}  (ZSET, score = dueDate epoch seconds, member = scheduleId:json)
+-- ARGV[1] = 시작(포함), ARGV[2] = 끝(포함)
+-- 반환값: 범위 안의 member 목록, 타임라인이 아직 만들어지지 않았으면 nil
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return false
+end
+
+return redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[2])
@@ -0,0 +1,21 @@
+-- DB 에서 센 기업명별 사용 횟수로 자동완성 목록을 통째로 다시 만든다
+-- KEYS[1] = companyNames:{userId}  (HASH, field = 기업명, value = 기업, 일정에서 쓰인 횟수)
+-- KEYS[2] = companyNames:{userId}:version
+-- ARGV[1] = DB 를 읽기 전에 확인한 version, ARGV[2] = 키 TTL(ms), ARGV[3..] = 기업명, 사용 횟수 쌍
+-- DB 를 읽는 사이에 기업, 일정이 바뀌었으면(version 증가) 오래된 목록이므로 저장하지 않는다.
+-- 기업명이 하나도 없어도 키가 남도록 빈 field('')를 함께 넣는다.
+-- 반환값: 1 = 저장, 0 = version 이 달라 건너뜀
+local version = redis.call('GET', KEYS[2]) or '0'
+if version ~= ARGV[1] then
+    return 0
+end
+
+redis.call('DEL', KEYS[1])
+redis.call('HSET', KEYS[1], '', 0)
+for i = 3, #ARGV, 2 do
+    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+redis.call('SET', KEYS[2], version, 'PX', ARGV[2])
+return 1
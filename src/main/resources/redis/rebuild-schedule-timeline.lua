@@ -0,0 +1,23 @@
+-- DB 에서 읽은 일정으로 타임라인을 통째로 다시 만든다
+-- KEYS[1] = scheduleTimeline:{userId}, KEYS[2] = scheduleTimeline:{userId}:version, KEYS[3] = scheduleTimeline:{userId}:members
+-- ARGV[1] = DB 를 읽기 전에 확인한 version, ARGV[2] = 키 TTL(ms), ARGV[3..] = score, scheduleId, member 묶음
+-- DB 를 읽는 사이에 일정이 바뀌었으면(version 증가) 오래된 목록이므로 저장하지 않는다.
+-- 일정이 하나도 없어도 키가 남도록 score -inf 인 빈 자리 member('#')를 함께 넣는다.
+-- 수정, 삭제 때 이전 member 를 바로 찾을 수 있도록 scheduleId -> member 해시도 함께 만든다.
+-- 반환값: 1 = 저장, 0 = version 이 달라 건너뜀
+local version = redis.call('GET', KEYS[2]) or '0'
+if version ~= ARGV[1] then
+    return 0
+end
+
+redis.call('DEL', KEYS[1], KEYS[3])
+redis.call('ZADD', KEYS[1], '-inf', '#')
+for i = 3, #ARGV, 3 do
+    redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 2])
+    redis.call('HSET', KEYS[3], ARGV[i + 1], ARGV[i + 2])
+end
+
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+redis.call('PEXPIRE', KEYS[3], ARGV[2])
+redis.call('SET', KEYS[2], version, 'PX', ARGV[2])
+return 1
@@ -0,0 +1,17 @@
+-- lease 가 지난 처리 중 칸을 다시 가져간다. 가져간 서버가 메일을 넣기 전에 죽은 경우다
+-- KEYS[1] = scheduleReminder:processing, KEYS[2] = scheduleReminder:processing:{slot}
+-- ARGV[1] = 칸 번호, ARGV[2] = 지금(ms), ARGV[3] = 새 lease 만료 시각(ms)
+-- 반환값: 칸에 남아 있는 알림들, 다른 서버가 먼저 가져갔거나 이미 끝난 칸이면 빈 목록
+local deadline = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if not deadline or tonumber(deadline) > tonumber(ARGV[2]) then
+    return {}
+end
+
+local members = redis.call('SMEMBERS', KEYS[2])
+if #members == 0 then
+    redis.call('ZREM', KEYS[1], ARGV[1])
+    return members
+end
+
+redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1])
+return members
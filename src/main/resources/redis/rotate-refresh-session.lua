@@ -0,0 +1,26 @@
+-- Refresh Token Rotation (compare-and-swap)
+-- KEYS[1] = refreshSessions:{email}, KEYS[2] = refreshRotated:{email}:{sessionId}  (방금 교체된 토큰 digest)
+-- ARGV[1] = sessionId(familyId), ARGV[2] = 요청 토큰 digest, ARGV[3] = 새 토큰 digest,
+-- ARGV[4] = 새 만료 시각(ms), ARGV[5] = 현재 시각(ms), ARGV[6] = 키 TTL(ms), ARGV[7] = 교체 유예 시간(ms)
+-- 반환값: 1 = 교체 성공, 2 = 유예 시간 안에 방금 교체된 토큰이 다시 들어옴(교체하지 않음),
+--         0 = 세션 없음, -1 = 재사용 감지(해당 세션 폐기)
+local value = redis.call('HGET', KEYS[1], ARGV[1])
+if not value then
+    return 0
+end
+
+local digest, deviceLabel = string.match(value, '^([^|]*)|%d+|%d+|(.*)$')
+if digest ~= ARGV[2] then
+    -- 여러 탭이 동시에 재발급을 요청하면 늦게 온 요청은 방금 교체된 토큰을 들고 온다. 이는 탈취로 보지 않는다
+    if redis.call('GET', KEYS[2]) == ARGV[2] then
+        return 2
+    end
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    redis.call('DEL', KEYS[2])
+    return -1
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. '|' .. ARGV[4] .. '|' .. ARGV[5] .. '|' .. (deviceLabel or ''))
+redis.call('PEXPIRE', KEYS[1], ARGV[6])
+redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[7])
+return 1
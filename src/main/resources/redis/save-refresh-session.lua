@@ -0,0 +1,32 @@
+-- 사용자별 Refresh 세션 추가
+-- KEYS[1] = refreshSessions:{email}  (HASH, field = sessionId, value = digest|expiresAt|issuedAt|deviceLabel)
+-- ARGV[1] = sessionId, ARGV[2] = value, ARGV[3] = 현재 시각(ms), ARGV[4] = 최대 세션 수, ARGV[5] = 키 TTL(ms)
+-- 만료된 세션은 정리하고, 최대 세션 수를 넘으면 가장 오래 사용하지 않은 세션부터 제거한다.
+-- 반환값: 제거된 세션 수
+local now = tonumber(ARGV[3])
+local maxSessions = tonumber(ARGV[4])
+local entries = redis.call('HGETALL', KEYS[1])
+local live = {}
+local removed = 0
+
+for i = 1, #entries, 2 do
+    local id = entries[i]
+    local expiresAt, issuedAt = string.match(entries[i + 1], '^[^|]*|(%d+)|(%d+)|')
+    if expiresAt == nil or tonumber(expiresAt) <= now then
+        redis.call('HDEL', KEYS[1], id)
+    elseif id ~= ARGV[1] then
+        table.insert(live, { id = id, issuedAt = tonumber(issuedAt) })
+    end
+end
+
+table.sort(live, function(a, b) return a.issuedAt < b.issuedAt end)
+
+local overflow = #live - maxSessions + 1
+for i = 1, overflow do
+    redis.call('HDEL', KEYS[1], live[i].id)
+    removed = removed + 1
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[5])
+return removed
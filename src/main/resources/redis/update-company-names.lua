@@ -0,0 +1,19 @@
+-- 기업명별 사용 횟수를 증감한다 (기업, 일정의 생성, 수정, 삭제)
+-- KEYS[1] = companyNames:{userId}, KEYS[2] = companyNames:{userId}:version
+-- ARGV[1] = 키 TTL(ms), ARGV[2..] = 기업명, 증감 쌍
+-- 0 이하가 된 기업명은 지운다.
+-- 목록이 없으면 다음 조회 때 DB 에서 만들어지므로 version 만 올린다.
+-- 반환값: 1 = 반영, 0 = 목록 없음
+redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[1])
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+
+for i = 2, #ARGV, 2 do
+    if redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) <= 0 then
+        redis.call('HDEL', KEYS[1], ARGV[i])
+    end
+end
+return 1
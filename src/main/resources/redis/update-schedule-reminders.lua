@@ -0,0 +1,15 @@
+-- 일정 알림을 시간 칸(slot)에 넣고 뺀다. 칸 하나에 넣고 빼는 비용은 O(1) 이다 (SADD, SREM)
+-- KEYS = scheduleReminder:slot:{slot} 들
+-- ARGV[1] = 칸 TTL(ms), ARGV[2] = 빼는 항목 수 n
+-- KEYS[1..n] 에서 각각 ARGV[3..n+2] 를 빼고, KEYS[n+1..] 에 각각 ARGV[n+3..] 를 넣는다.
+-- 반환값: 넣은 항목 수
+local removals = tonumber(ARGV[2])
+for i = 1, removals do
+    redis.call('SREM', KEYS[i], ARGV[i + 2])
+end
+
+for i = removals + 1, #KEYS do
+    redis.call('SADD', KEYS[i], ARGV[i + 2])
+    redis.call('PEXPIRE', KEYS[i], ARGV[1])
+end
+return #KEYS - removals
@@ -0,0 +1,35 @@
+-- 일정 하나를 타임라인에 반영한다 (생성, 수정, 삭제)
+-- KEYS[1] = scheduleTimeline:{userId}, KEYS[2] = scheduleTimeline:{userId}:version, KEYS[3] = scheduleTimeline:{userId}:members
+-- ARGV[1] = scheduleId, ARGV[2] = 키 TTL(ms), ARGV[3] = score, ARGV[4] = member (삭제면 생략)
+-- 같은 일정의 이전 member 는 scheduleId -> member 해시(KEYS[3])에서 찾아 지우므로 타임라인 크기와 관계없이 O(log N) 이다.
+-- 타임라인이 없으면 다음 조회 때 DB 에서 만들어지므로 version 만 올린다.
+-- 해시 없이 만들어진 이전 타임라인은 이전 member 를 찾을 수 없으므로 지워서 다시 만들게 한다.
+-- 반환값: 1 = 반영, 0 = 타임라인 없음
+redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[2])
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+
+if redis.call('EXISTS', KEYS[3]) == 0 and redis.call('ZCARD', KEYS[1]) > 1 then
+    redis.call('DEL', KEYS[1])
+    return 0
+end
+
+local previous = redis.call('HGET', KEYS[3], ARGV[1])
+if previous then
+    redis.call('ZREM', KEYS[1], previous)
+end
+
+if ARGV[4] then
+    redis.call('ZADD', KEYS[1], ARGV[3], ARGV[4])
+    redis.call('HSET', KEYS[3], ARGV[1], ARGV[4])
+    local ttl = redis.call('PTTL', KEYS[1])
+    if ttl > 0 then
+        redis.call('PEXPIRE', KEYS[3], ttl)
+    end
+elseif previous then
+    redis.call('HDEL', KEYS[3], ARGV[1])
+end
+return 1
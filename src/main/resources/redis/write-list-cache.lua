@@ -0,0 +1,14 @@
+-- 조회한 목록을 version 이 그대로일 때만 캐시에 넣는다
+-- 조회하는 사이 목록이 바뀌어 version 이 올라갔으면, 바뀌기 전 데이터로 캐시를 다시 채우지 않는다
+-- KEYS[1] = listCache:{list}:{userId}, KEYS[2] = listVersion:{list}:{userId}
+-- ARGV[1] = 조회 전에 읽은 version, ARGV[2] = variant, ARGV[3] = 목록 json, ARGV[4] = 캐시 TTL(ms), ARGV[5] = version TTL(ms)
+-- 반환값: 넣었으면 1, version 이 바뀌었으면 0
+if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+-- 캐시보다 version 이 먼저 사라지지 않도록 함께 늘린다
+redis.call('PEXPIRE', KEYS[2], ARGV[5])
+return 1
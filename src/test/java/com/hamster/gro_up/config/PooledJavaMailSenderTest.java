@@ -0,0 +1,107 @@
+package com.hamster.gro_up.config;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+class PooledJavaMailSenderTest {
+
+    private Transport transport;
+    private int connectCount;
+    private PooledJavaMailSender mailSender;
+
+    @BeforeEach
+    void setUp() {
+        transport = mock(Transport.class);
+        connectCount = 0;
+
+        mailSender = new PooledJavaMailSender(2, 60_000, 5_000) {
+            @Override
+            protected Transport connectTransport() {
+                connectCount++;
+                return transport;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("한 번 맺은 SMTP 연결을 다음 발송에 재사용한다")
+    void send_reusesConnection() throws MessagingException {
+        // when
+        mailSender.send(message("a@example.com"));
+        mailSender.send(message("b@example.com"));
+
+        // then
+        assertThat(connectCount).isEqualTo(1);
+        verify(transport, times(2)).sendMessage(any(MimeMessage.class), any(Address[].class));
+        verify(transport, never()).close();
+    }
+
+    @Test
+    @DisplayName("여러 메시지를 한 번에 보내면 하나의 연결로 이어서 보낸다")
+    void send_batchOverOneConnection() throws MessagingException {
+        // when
+        mailSender.send(message("a@example.com"), message("b@example.com"), message("c@example.com"));
+
+        // then
+        assertThat(connectCount).isEqualTo(1);
+        verify(transport, times(3)).sendMessage(any(MimeMessage.class), any(Address[].class));
+    }
+
+    @Test
+    @DisplayName("발송 중 연결이 끊기면 남은 메시지는 실패로 돌리고 연결을 버린다")
+    void send_connectionLost() throws MessagingException {
+        // given
+        SimpleMailMessage first = message("a@example.com");
+        SimpleMailMessage second = message("b@example.com");
+        willThrow(new MessagingException("connection reset")).given(transport).sendMessage(any(MimeMessage.class), any(Address[].class));
+        given(transport.isConnected()).willReturn(false);
+
+        // when
+        MailSendException exception = assertThrows(MailSendException.class, () -> mailSender.send(first, second));
+
+        // then
+        assertThat(exception.getFailedMessages()).containsKeys(first, second);
+        verify(transport, times(1)).sendMessage(any(MimeMessage.class), any(Address[].class));
+        verify(transport).close();
+    }
+
+    @Test
+    @DisplayName("발송 중 예상하지 못한 예외가 나면 연결을 풀에 돌려놓지 않고 닫는다")
+    void send_runtimeException() throws MessagingException {
+        // given
+        willThrow(new IllegalStateException("unexpected")).given(transport).sendMessage(any(MimeMessage.class), any(Address[].class));
+
+        // when
+        assertThrows(IllegalStateException.class, () -> mailSender.send(message("a@example.com")));
+        willDoNothing().given(transport).sendMessage(any(MimeMessage.class), any(Address[].class));
+        mailSender.send(message("b@example.com"));
+
+        // then
+        verify(transport).close();
+        assertThat(connectCount).isEqualTo(2);
+    }
+
+    private SimpleMailMessage message(String to) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@gro-up.shop");
+        message.setTo(to);
+        message.setSubject("이메일 인증 코드");
+        message.setText("인증 코드: 1234");
+        return message;
+    }
+}
@@ -0,0 +1,130 @@
+package com.hamster.gro_up.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamster.gro_up.config.RateLimitProperties.KeyType;
+import com.hamster.gro_up.config.RateLimitProperties.Policy;
+import com.hamster.gro_up.service.RateLimitService;
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    @Mock
+    private RateLimitService rateLimitService;
+
+    private Policy policy;
+    private RemoteIpFilter remoteIpFilter;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        policy = new Policy();
+        policy.setName("reset-request-ip");
+        policy.setPath("/api/auth/reset-request");
+        policy.setKey(KeyType.IP);
+        policy.setCapacity(1);
+        policy.setPeriod(Duration.ofMinutes(10));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPolicies(List.of(policy));
+        rateLimitFilter = new RateLimitFilter(properties, rateLimitService, new ObjectMapper());
+
+        // server.forward-headers-strategy: native 에서 Tomcat 이 적용하는 RemoteIpValve 와 같은 처리를 한다
+        remoteIpFilter = new RemoteIpFilter();
+        remoteIpFilter.init(new MockFilterConfig());
+    }
+
+    @Test
+    @DisplayName("nginx 가 넘겨준 클라이언트 IP 가 다르면 서로 다른 버킷을 쓴다")
+    void forwardedIps_separateBuckets() throws Exception {
+        // given
+        given(rateLimitService.tryAcquire(eq(policy), any())).willReturn(true, false);
+
+        // when
+        MockHttpServletResponse first = perform("203.0.113.1");
+        MockHttpServletResponse second = perform("203.0.113.2");
+
+        // then
+        verify(rateLimitService).tryAcquire(policy, "203.0.113.1");
+        verify(rateLimitService).tryAcquire(policy, "203.0.113.2");
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("클라이언트가 X-Forwarded-For 를 꾸며 보내도 nginx 가 붙인 실제 접속 IP 를 키로 쓴다")
+    void spoofedForwardedFor_usesConnectingIp() throws Exception {
+        // given
+        given(rateLimitService.tryAcquire(eq(policy), any())).willReturn(true);
+
+        // when
+        perform("198.51.100.7, 203.0.113.1");
+
+        // then
+        verify(rateLimitService).tryAcquire(policy, "203.0.113.1");
+    }
+
+    @Test
+    @DisplayName("뒤쪽 정책에서 거절되면 앞쪽 정책에서 받은 permit 을 돌려준다")
+    void laterPolicyRejected_releasesEarlierPermits() throws Exception {
+        // given
+        Policy emailPolicy = new Policy();
+        emailPolicy.setName("reset-request-email");
+        emailPolicy.setPath("/api/auth/reset-request");
+        emailPolicy.setKey(KeyType.EMAIL);
+        emailPolicy.setCapacity(1);
+        emailPolicy.setPeriod(Duration.ofMinutes(10));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPolicies(List.of(policy, emailPolicy));
+        RateLimitFilter filter = new RateLimitFilter(properties, rateLimitService, new ObjectMapper());
+
+        given(rateLimitService.tryAcquire(policy, "203.0.113.1")).willReturn(true);
+        given(rateLimitService.tryAcquire(emailPolicy, "ham@test.com")).willReturn(false);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/reset-request");
+        request.setRemoteAddr("203.0.113.1");
+        request.setParameter("email", "ham@test.com");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+        verify(rateLimitService).release(policy, "203.0.113.1");
+        verify(rateLimitService, never()).release(eq(emailPolicy), any());
+    }
+
+    // docker 네트워크의 nginx(172.18.0.2)를 거쳐 들어온 요청
+    private MockHttpServletResponse perform(String forwardedFor) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/reset-request");
+        request.setRemoteAddr("172.18.0.2");
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        remoteIpFilter.doFilter(request, response,
+                (req, res) -> rateLimitFilter.doFilter(req, res, new MockFilterChain()));
+        return response;
+    }
+}
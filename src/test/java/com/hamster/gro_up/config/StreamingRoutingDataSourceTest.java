@@ -0,0 +1,47 @@
+package com.hamster.gro_up.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class StreamingRoutingDataSourceTest {
+
+    private final DataSource defaultDataSource = mock(DataSource.class);
+    private final DataSource streamingDataSource = mock(DataSource.class);
+    private final Connection defaultConnection = mock(Connection.class);
+    private final Connection streamingConnection = mock(Connection.class);
+
+    @AfterEach
+    void tearDown() {
+        StreamingRoutingDataSource.clear();
+    }
+
+    @Test
+    @DisplayName("스트리밍으로 표시한 스레드만 커서 조회용 연결을 받는다")
+    void getConnection_routesByThread() throws SQLException {
+        // given
+        given(defaultDataSource.getConnection()).willReturn(defaultConnection);
+        given(streamingDataSource.getConnection()).willReturn(streamingConnection);
+        StreamingRoutingDataSource dataSource = new StreamingRoutingDataSource(defaultDataSource, streamingDataSource);
+
+        // when
+        Connection before = dataSource.getConnection();
+        StreamingRoutingDataSource.useStreaming();
+        Connection streaming = dataSource.getConnection();
+        StreamingRoutingDataSource.clear();
+        Connection after = dataSource.getConnection();
+
+        // then
+        assertThat(before).isSameAs(defaultConnection);
+        assertThat(streaming).isSameAs(streamingConnection);
+        assertThat(after).isSameAs(defaultConnection);
+    }
+}
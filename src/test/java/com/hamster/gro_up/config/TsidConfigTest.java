@@ -0,0 +1,36 @@
+package com.hamster.gro_up.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TsidConfigTest {
+
+    @Test
+    @DisplayName("local, test 가 아닌데 TSID_NODE 가 없으면 시작하지 않는다")
+    void missingNode_fails() {
+        // given
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("prod");
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> new TsidConfig(null, environment));
+    }
+
+    @Test
+    @DisplayName("노드 번호가 지정되었거나 local, test 이면 시작한다")
+    void configuredOrLocal_succeeds() {
+        // given
+        MockEnvironment production = new MockEnvironment();
+        production.setActiveProfiles("prod");
+        MockEnvironment local = new MockEnvironment();
+        local.setActiveProfiles("local");
+
+        // when & then
+        assertDoesNotThrow(() -> new TsidConfig(3, production));
+        assertDoesNotThrow(() -> new TsidConfig(null, local));
+    }
+}
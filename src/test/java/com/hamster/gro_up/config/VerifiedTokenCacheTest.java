@@ -0,0 +1,131 @@
+package com.hamster.gro_up.config;
+
+import com.hamster.gro_up.entity.Role;
+import com.hamster.gro_up.entity.UserType;
+import com.hamster.gro_up.exception.auth.ExpiredTokenException;
+import com.hamster.gro_up.util.JwtUtil;
+import com.hamster.gro_up.util.ParsedToken;
+import com.hamster.gro_up.util.TokenType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, 2, 600000, nanos::get, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("한 번 검증한 토큰은 다시 검증하지 않는다")
+    void get_hit() {
+        // given
+        given(jwtUtil.parse("token")).willReturn(parsedTokenExpiringIn(1800000, false));
+
+        // when
+        verifiedTokenCache.get("token");
+        ParsedToken parsedToken = verifiedTokenCache.get("token");
+
+        // then
+        assertThat(parsedToken.getSubject()).isEqualTo("1");
+        verify(jwtUtil, times(1)).parse("token");
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 다시 검증한다")
+    void get_ttlExpired() {
+        // given
+        given(jwtUtil.parse("token")).willReturn(parsedTokenExpiringIn(1800000, false));
+        verifiedTokenCache.get("token");
+
+        // when
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(600000));
+        verifiedTokenCache.get("token");
+
+        // then
+        verify(jwtUtil, times(2)).parse("token");
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 TTL 보다 빠르면 만료 시각에 캐시에서 사라진다")
+    void get_tokenExpiresBeforeTtl() {
+        // given
+        given(jwtUtil.parse("token")).willReturn(parsedTokenExpiringIn(60000, false));
+        verifiedTokenCache.get("token");
+
+        // when
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(60000));
+        verifiedTokenCache.get("token");
+
+        // then
+        verify(jwtUtil, times(2)).parse("token");
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시에 넣지 않고 ExpiredTokenException 을 던진다")
+    void get_expiredToken() {
+        // given
+        given(jwtUtil.parse("token")).willReturn(parsedTokenExpiringIn(-1000, true));
+
+        // when & then
+        assertThrows(ExpiredTokenException.class, () -> verifiedTokenCache.get("token"));
+        assertThrows(ExpiredTokenException.class, () -> verifiedTokenCache.get("token"));
+        verify(jwtUtil, times(2)).parse("token");
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 항목을 내보내고 제거 횟수를 센다")
+    void get_sizeBound() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        verifiedTokenCache.bindTo(registry);
+        given(jwtUtil.parse(anyString())).willReturn(parsedTokenExpiringIn(1800000, false));
+
+        // when
+        verifiedTokenCache.get("token-1");
+        verifiedTokenCache.get("token-2");
+        verifiedTokenCache.get("token-3");
+
+        // then
+        assertThat(registry.get("jwt.auth.cache.size").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("jwt.auth.cache.evictions").functionCounter().count()).isEqualTo(1);
+    }
+
+    private ParsedToken parsedTokenExpiringIn(long millis, boolean expired) {
+        return ParsedToken.builder()
+                .tokenId("jti")
+                .subject("1")
+                .email("ham@test.com")
+                .role(Role.ROLE_USER)
+                .userType(UserType.LOCAL)
+                .tokenType(TokenType.ACCESS)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + millis))
+                .expired(expired)
+                .build();
+    }
+}
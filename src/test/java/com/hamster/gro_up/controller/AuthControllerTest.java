@@ -7,6 +7,8 @@ import com.hamster.gro_up.dto.request.PasswordCheckRequest;
 import com.hamster.gro_up.dto.request.PasswordUpdateRequest;
 import com.hamster.gro_up.dto.request.SigninRequest;
 import com.hamster.gro_up.dto.request.SignupRequest;
+import com.hamster.gro_up.dto.response.SessionListResponse;
+import com.hamster.gro_up.dto.response.SessionResponse;
 import com.hamster.gro_up.dto.response.TokenResponse;
 import com.hamster.gro_up.entity.Role;
 import com.hamster.gro_up.exception.auth.*;
@@ -15,6 +17,7 @@ import com.hamster.gro_up.exception.user.UserNotFoundException;
 import com.hamster.gro_up.service.AuthService;
 import com.hamster.gro_up.service.CustomOAuth2UserService;
 import com.hamster.gro_up.service.EmailVerificationService;
+import com.hamster.gro_up.service.TokenRevocationService;
 import com.hamster.gro_up.util.CookieUtil;
 import com.hamster.gro_up.util.JwtUtil;
 import org.hamcrest.Matchers;
@@ -28,6 +31,9 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockCookie;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -38,7 +44,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = {AuthController.class})
-@Import({SecurityConfig.class, JwtUtil.class})
+@Import({SecurityConfig.class, JwtUtil.class, VerifiedTokenCache.class})
 class AuthControllerTest {
 
     @Autowired
@@ -65,13 +71,16 @@ class AuthControllerTest {
     @MockBean
     private CustomAccessDeniedHandler customAccessDeniedHandler;
 
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
     @Test
     @DisplayName("회원가입에 성공하면 토큰을 반환한다")
     void signUp_success() throws Exception {
         // given
         SignupRequest signupRequest = new SignupRequest("test@test.com", "password");
         TokenResponse token = new TokenResponse("AccessToken", "RefreshToken");
-        given(authService.signUp(any(SignupRequest.class))).willReturn(token);
+        given(authService.signUp(any(SignupRequest.class), any())).willReturn(token);
 
         // when & then
         mockMvc.perform(post("/api/auth/signup")
@@ -91,7 +100,7 @@ class AuthControllerTest {
         // given
         SigninRequest signinRequest = new SigninRequest("test@test.com", "password");
         TokenResponse token = new TokenResponse("AccessToken", "RefreshToken");
-        given(authService.signIn(any(SigninRequest.class))).willReturn(token);
+        given(authService.signIn(any(SigninRequest.class), any())).willReturn(token);
 
         // when & then
         mockMvc.perform(post("/api/auth/signin")
@@ -208,7 +217,7 @@ class AuthControllerTest {
                 .andExpect(cookie().maxAge(CookieUtil.REFRESH_TOKEN_COOKIE_NAME, 0)); // 쿠키 만료 확인
 
         // verify 서비스 호출
-        verify(authService).signOut(refreshToken);
+        verify(authService).signOut(refreshToken, null);
     }
 
     @Test
@@ -244,6 +253,22 @@ class AuthControllerTest {
                 .andExpect(cookie().value(CookieUtil.REFRESH_TOKEN_COOKIE_NAME, "newRefreshToken"));
     }
 
+    @Test
+    @DisplayName("Refresh Token 없이 재발급되면 Refresh Token 쿠키를 바꾸지 않는다")
+    void reissue_grace() throws Exception {
+        // given
+        String refreshToken = "refresh-token-value";
+        MockCookie refreshCookie = new MockCookie(CookieUtil.REFRESH_TOKEN_COOKIE_NAME, refreshToken);
+        given(authService.reissueAccessToken(refreshToken)).willReturn(new TokenResponse("newAccessToken", null));
+
+        // when & then
+        mockMvc.perform(post("/api/auth/reissue")
+                        .cookie(refreshCookie))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value("newAccessToken"))
+                .andExpect(cookie().doesNotExist(CookieUtil.REFRESH_TOKEN_COOKIE_NAME));
+    }
+
     @Test
     @DisplayName("Refresh Token 이 없으면 토큰 재발급 시 400 을 반환한다")
     void reissue_fail_noRefreshToken() throws Exception {
@@ -260,7 +285,7 @@ class AuthControllerTest {
         // given
         String refreshToken = "expiredRefreshToken";
         MockCookie refreshCookie = new MockCookie(CookieUtil.REFRESH_TOKEN_COOKIE_NAME, refreshToken);
-        doThrow(new ExpiredTokenException()).when(authService).signOut(refreshToken);
+        doThrow(new ExpiredTokenException()).when(authService).signOut(refreshToken, null);
 
         // when & then
         mockMvc.perform(post("/api/auth/logout")
@@ -276,7 +301,7 @@ class AuthControllerTest {
         // given
         String refreshToken = "invalidTypeToken";
         MockCookie refreshCookie = new MockCookie(CookieUtil.REFRESH_TOKEN_COOKIE_NAME, refreshToken);
-        doThrow(new TokenTypeMismatchException()).when(authService).signOut(refreshToken);
+        doThrow(new TokenTypeMismatchException()).when(authService).signOut(refreshToken, null);
 
         // when & then
         mockMvc.perform(post("/api/auth/logout")
@@ -313,6 +338,35 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.code").value(404));
     }
 
+    @Test
+    @DisplayName("로그인된 기기 목록 조회에 성공한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void findSessions_success() throws Exception {
+        // given
+        SessionResponse session = new SessionResponse("session-1", "Chrome", LocalDateTime.now(), LocalDateTime.now().plusDays(28), true);
+        given(authService.findSessions(any(AuthUser.class), eq("refreshToken"))).willReturn(SessionListResponse.of(List.of(session)));
+
+        // when & then
+        mockMvc.perform(get("/api/auth/sessions")
+                        .cookie(new MockCookie(CookieUtil.REFRESH_TOKEN_COOKIE_NAME, "refreshToken")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.sessionList[0].sessionId").value("session-1"))
+                .andExpect(jsonPath("$.data.sessionList[0].current").value(true));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 기기(세션) 로그아웃 시 404를 반환한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void revokeSession_notFound() throws Exception {
+        // given
+        doThrow(new SessionNotFoundException()).when(authService).revokeSession(any(AuthUser.class), eq("unknown"));
+
+        // when & then
+        mockMvc.perform(delete("/api/auth/sessions/unknown"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(404));
+    }
+
     @Test
     @DisplayName("비밀번호 검증에 성공한다")
     @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
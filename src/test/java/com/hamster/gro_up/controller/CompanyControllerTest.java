@@ -2,15 +2,21 @@ package com.hamster.gro_up.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hamster.gro_up.config.*;
+import com.hamster.gro_up.dto.CursorPage;
 import com.hamster.gro_up.dto.request.CompanyCreateRequest;
+import com.hamster.gro_up.dto.request.CompanyMergeRequest;
 import com.hamster.gro_up.dto.request.CompanyUpdateRequest;
 import com.hamster.gro_up.dto.response.CompanyListResponse;
+import com.hamster.gro_up.dto.response.CompanyMergeResponse;
 import com.hamster.gro_up.dto.response.CompanyNameListResponse;
 import com.hamster.gro_up.dto.response.CompanyResponse;
+import com.hamster.gro_up.dto.response.SimilarCompanyNameListResponse;
+import com.hamster.gro_up.dto.response.SimilarCompanyNameResponse;
 import com.hamster.gro_up.entity.Role;
 import com.hamster.gro_up.exception.company.CompanyNotFoundException;
 import com.hamster.gro_up.service.CompanyService;
 import com.hamster.gro_up.service.CustomOAuth2UserService;
+import com.hamster.gro_up.service.TokenRevocationService;
 import com.hamster.gro_up.util.JwtUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +31,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
@@ -33,7 +40,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CompanyController.class)
-@Import({SecurityConfig.class, JwtUtil.class})
+@Import({SecurityConfig.class, JwtUtil.class, VerifiedTokenCache.class})
 class CompanyControllerTest {
 
     @Autowired
@@ -57,6 +64,9 @@ class CompanyControllerTest {
     @MockBean
     private CustomAccessDeniedHandler customAccessDeniedHandler;
 
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
     @Test
     @DisplayName("기업 조회에 성공한다")
     @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
@@ -182,7 +192,7 @@ class CompanyControllerTest {
                 LocalDateTime.now(),
                 LocalDateTime.now());
         CompanyListResponse companyListResponse = CompanyListResponse.of(List.of(company1, company2));
-        given(companyService.findAllCompanies(any())).willReturn(companyListResponse);
+        given(companyService.findAllCompanies(any(), any(), anyInt())).willReturn(new CursorPage<>(companyListResponse, null));
 
         // when & then
         mockMvc.perform(get("/api/companies"))
@@ -203,7 +213,7 @@ class CompanyControllerTest {
     void findAllCompanies_empty() throws Exception {
         // given
         CompanyListResponse emptyResponse = CompanyListResponse.of(List.of());
-        given(companyService.findAllCompanies(any())).willReturn(emptyResponse);
+        given(companyService.findAllCompanies(any(), any(), anyInt())).willReturn(new CursorPage<>(emptyResponse, null));
 
         // when & then
         mockMvc.perform(get("/api/companies"))
@@ -244,7 +254,7 @@ class CompanyControllerTest {
         // given
         List<String> companyNames = List.of("네이버", "카카오", "라인");
         CompanyNameListResponse response = CompanyNameListResponse.of(companyNames);
-        given(companyService.findAllCompanyNames(any())).willReturn(response);
+        given(companyService.findAllCompanyNames(any(), any(), any())).willReturn(response);
 
         // when & then
         mockMvc.perform(get("/api/companies/names"))
@@ -257,4 +267,71 @@ class CompanyControllerTest {
                 .andExpect(jsonPath("$.data.companyNameList[1]").value("카카오"))
                 .andExpect(jsonPath("$.data.companyNameList[2]").value("라인"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("prefix 와 size 로 기업명 자동완성 조회에 성공한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void findAllCompanyNames_prefix() throws Exception {
+        // given
+        CompanyNameListResponse response = CompanyNameListResponse.of(List.of("카카오", "카카오뱅크"));
+        given(companyService.findAllCompanyNames(any(), eq("카"), eq(5))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/companies/names")
+                        .param("prefix", "카")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.companyNameList[0]").value("카카오"))
+                .andExpect(jsonPath("$.data.companyNameList[1]").value("카카오뱅크"));
+    }
+
+    @Test
+    @DisplayName("비슷한 기업명 조회에 성공한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void findSimilarCompanyNames_success() throws Exception {
+        // given
+        SimilarCompanyNameListResponse response = SimilarCompanyNameListResponse.of(List.of(
+                new SimilarCompanyNameResponse("NAVER", 3L, 0.9)));
+        given(companyService.findSimilarCompanyNames(any(), eq("네이버"), eq(5))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/companies/similar")
+                        .param("companyName", "네이버"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.similarCompanyNameList[0].companyName").value("NAVER"))
+                .andExpect(jsonPath("$.data.similarCompanyNameList[0].usageCount").value(3))
+                .andExpect(jsonPath("$.data.similarCompanyNameList[0].score").value(0.9));
+    }
+
+    @Test
+    @DisplayName("기업 합치기에 성공한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void mergeCompanies_success() throws Exception {
+        // given
+        CompanyMergeRequest request = new CompanyMergeRequest("NAVER", List.of("네이버", "Naver Corp."));
+        given(companyService.mergeCompanies(any(), any())).willReturn(CompanyMergeResponse.of(10L, "NAVER", 4, 1));
+
+        // when & then
+        mockMvc.perform(post("/api/companies/merge")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.companyId").value(10L))
+                .andExpect(jsonPath("$.data.scheduleCount").value(4))
+                .andExpect(jsonPath("$.data.deletedCompanyCount").value(1));
+    }
+
+    @Test
+    @DisplayName("합칠 기업명이 없으면 기업 합치기에 실패한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void mergeCompanies_fail_emptySourceNames() throws Exception {
+        // given
+        CompanyMergeRequest request = new CompanyMergeRequest("NAVER", List.of());
+
+        // when & then
+        mockMvc.perform(post("/api/companies/merge")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,98 @@
+package com.hamster.gro_up.controller;
+
+import com.hamster.gro_up.config.*;
+import com.hamster.gro_up.entity.Role;
+import com.hamster.gro_up.exception.export.InvalidExportRequestException;
+import com.hamster.gro_up.service.CustomOAuth2UserService;
+import com.hamster.gro_up.service.ExportService;
+import com.hamster.gro_up.service.ExportService.ExportPlan;
+import com.hamster.gro_up.service.ExportService.Format;
+import com.hamster.gro_up.service.ExportService.Resource;
+import com.hamster.gro_up.service.TokenRevocationService;
+import com.hamster.gro_up.util.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ExportController.class)
+@Import({SecurityConfig.class, JwtUtil.class, VerifiedTokenCache.class})
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExportService exportService;
+
+    @MockBean
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @MockBean
+    private CustomOAuth2SuccessHandler customOAuth2SuccessHandler;
+
+    @MockBean
+    private CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
+
+    @MockBean
+    private CustomAccessDeniedHandler customAccessDeniedHandler;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @Test
+    @DisplayName("내보내기 결과를 첨부 파일로 스트리밍한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void export_success() throws Exception {
+        // given
+        ExportPlan plan = new ExportPlan(1L, Format.NDJSON, List.of(Resource.SCHEDULES));
+        given(exportService.plan(any(), isNull(), eq("ndjson"), eq("schedules"))).willReturn(plan);
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("{\"type\":\"schedule\"}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(exportService).write(eq(plan), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/export").param("type", "schedules"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"gro-up-export-1.ndjson\""))
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string("{\"type\":\"schedule\"}\n"));
+    }
+
+    @Test
+    @DisplayName("잘못된 내보내기 요청이면 스트리밍을 시작하지 않고 400 을 반환한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void export_fail_invalidRequest() throws Exception {
+        // given
+        given(exportService.plan(any(), any(), any(), any()))
+                .willThrow(new InvalidExportRequestException("CSV 는 type 을 하나만 지정해야 합니다."));
+
+        // when & then
+        mockMvc.perform(get("/api/export").param("format", "csv"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("CSV 는 type 을 하나만 지정해야 합니다."));
+    }
+}
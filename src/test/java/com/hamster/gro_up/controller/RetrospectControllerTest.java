@@ -2,6 +2,7 @@ package com.hamster.gro_up.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hamster.gro_up.config.*;
+import com.hamster.gro_up.dto.CursorPage;
 import com.hamster.gro_up.dto.request.RetrospectCreateRequest;
 import com.hamster.gro_up.dto.request.RetrospectUpdateRequest;
 import com.hamster.gro_up.dto.response.RetrospectListResponse;
@@ -10,6 +11,7 @@ import com.hamster.gro_up.entity.Role;
 import com.hamster.gro_up.exception.retrospect.RetrospectNotFoundException;
 import com.hamster.gro_up.service.CustomOAuth2UserService;
 import com.hamster.gro_up.service.RetrospectService;
+import com.hamster.gro_up.service.TokenRevocationService;
 import com.hamster.gro_up.util.JwtUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
@@ -32,7 +35,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(RetrospectController.class)
-@Import({SecurityConfig.class, JwtUtil.class})
+@Import({SecurityConfig.class, JwtUtil.class, VerifiedTokenCache.class})
 class RetrospectControllerTest {
 
     @Autowired
@@ -56,6 +59,9 @@ class RetrospectControllerTest {
     @MockBean
     private CustomAccessDeniedHandler customAccessDeniedHandler;
 
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
     @Test
     @DisplayName("회고 단건 조회에 성공한다")
     @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
@@ -103,7 +109,7 @@ class RetrospectControllerTest {
                 101L, "회고2", 11L, "egg-corp", "프론트엔드", LocalDateTime.now()
         );
         RetrospectListResponse response = RetrospectListResponse.of(List.of(retrospect1, retrospect2));
-        given(retrospectService.findAllRetrospects(any())).willReturn(response);
+        given(retrospectService.findAllRetrospects(any(), any(), anyInt())).willReturn(new CursorPage<>(response, null));
 
         // when & then
         mockMvc.perform(get("/api/retrospects"))
@@ -174,7 +180,7 @@ class RetrospectControllerTest {
     void findAllRetrospects_empty() throws Exception {
         // given
         RetrospectListResponse emptyResponse = RetrospectListResponse.of(List.of());
-        given(retrospectService.findAllRetrospects(any())).willReturn(emptyResponse);
+        given(retrospectService.findAllRetrospects(any(), any(), anyInt())).willReturn(new CursorPage<>(emptyResponse, null));
 
         // when & then
         mockMvc.perform(get("/api/retrospects"))
@@ -2,15 +2,24 @@ package com.hamster.gro_up.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hamster.gro_up.config.*;
+import com.hamster.gro_up.dto.CursorPage;
+import com.hamster.gro_up.dto.request.ScheduleBulkCreateRequest;
 import com.hamster.gro_up.dto.request.ScheduleCreateRequest;
 import com.hamster.gro_up.dto.request.ScheduleUpdateRequest;
+import com.hamster.gro_up.dto.response.CalendarDayResponse;
+import com.hamster.gro_up.dto.response.CalendarMonthResponse;
 import com.hamster.gro_up.dto.response.ScheduleListResponse;
 import com.hamster.gro_up.dto.response.ScheduleResponse;
+import com.hamster.gro_up.dto.response.ScheduleStatResponse;
+import com.hamster.gro_up.dto.response.StepHistoryResponse;
+import com.hamster.gro_up.dto.response.StepStatResponse;
+import com.hamster.gro_up.dto.response.StepTransitionResponse;
 import com.hamster.gro_up.entity.Role;
 import com.hamster.gro_up.entity.Step;
 import com.hamster.gro_up.exception.schedule.ScheduleNotFoundException;
 import com.hamster.gro_up.service.CustomOAuth2UserService;
 import com.hamster.gro_up.service.ScheduleService;
+import com.hamster.gro_up.service.TokenRevocationService;
 import com.hamster.gro_up.util.JwtUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,23 +27,31 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ScheduleController.class)
-@Import({SecurityConfig.class, JwtUtil.class})
+@Import({SecurityConfig.class, JwtUtil.class, VerifiedTokenCache.class})
 class ScheduleControllerTest {
 
     @Autowired
@@ -58,6 +75,9 @@ class ScheduleControllerTest {
     @MockBean
     private CustomAccessDeniedHandler customAccessDeniedHandler;
 
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
     @Test
     @DisplayName("일정 단건 조회에 성공한다")
     @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
@@ -134,7 +154,7 @@ class ScheduleControllerTest {
                 LocalDateTime.now()
         );
         ScheduleListResponse response = ScheduleListResponse.of(List.of(schedule1, schedule2));
-        given(scheduleService.findAllSchedules(any())).willReturn(response);
+        given(scheduleService.findAllSchedules(any(), any(), anyInt())).willReturn(new CursorPage<>(response, "next-cursor"));
 
         // when & then
         mockMvc.perform(get("/api/schedules"))
@@ -144,7 +164,39 @@ class ScheduleControllerTest {
                 .andExpect(jsonPath("$.message").value("OK"))
                 .andExpect(jsonPath("$.data.scheduleList").isArray())
                 .andExpect(jsonPath("$.data.scheduleList[0].companyId").value(10L))
-                .andExpect(jsonPath("$.data.scheduleList[1].companyId").value(11L));
+                .andExpect(jsonPath("$.data.scheduleList[1].companyId").value(11L))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 목록의 ETag 와 같으면 목록을 조회하지 않고 304 를 반환한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void findAllSchedules_notModified() throws Exception {
+        // given
+        given(scheduleService.findScheduleListETag(any())).willReturn("W/\"1-1747000000000\"");
+
+        // when & then
+        mockMvc.perform(get("/api/schedules").header(HttpHeaders.IF_NONE_MATCH, "W/\"1-1747000000000\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1-1747000000000\""))
+                .andExpect(content().string(""));
+        verify(scheduleService, never()).findAllSchedules(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 목록의 ETag 와 다르면 목록과 새 ETag 를 반환한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void findAllSchedules_modified() throws Exception {
+        // given
+        given(scheduleService.findScheduleListETag(any())).willReturn("W/\"1-1747000000001\"");
+        given(scheduleService.findAllSchedules(any(), any(), anyInt()))
+                .willReturn(new CursorPage<>(ScheduleListResponse.of(List.of()), null));
+
+        // when & then
+        mockMvc.perform(get("/api/schedules").header(HttpHeaders.IF_NONE_MATCH, "W/\"1-1747000000000\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1-1747000000001\""))
+                .andExpect(jsonPath("$.data.scheduleList").isArray());
     }
 
     @Test
@@ -181,6 +233,43 @@ class ScheduleControllerTest {
                 .andExpect(jsonPath("$.data.companyId").value(10L));
     }
 
+    @Test
+    @DisplayName("일정 일괄 생성에 성공한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void createSchedules_success() throws Exception {
+        // given
+        ScheduleBulkCreateRequest request = new ScheduleBulkCreateRequest(List.of(
+                new ScheduleCreateRequest(10L, "ham-corp", "서울", "상세주소", Step.DOCUMENT, LocalDateTime.now(), "백엔드", "메모"),
+                new ScheduleCreateRequest(null, "egg-corp", null, null, Step.CODING_TEST, LocalDateTime.now(), "백엔드", null)));
+        ScheduleListResponse response = ScheduleListResponse.of(List.of(
+                new ScheduleResponse(1L, 10L, "ham-corp", "서울", "상세주소", "DOCUMENT", "백엔드", "메모",
+                        LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now()),
+                new ScheduleResponse(2L, null, "egg-corp", null, null, "CODING_TEST", "백엔드", null,
+                        LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now())));
+        given(scheduleService.createSchedules(any(), any())).willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/api/schedules/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.scheduleList.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("일정 일괄 생성 시 목록이 비어 있으면 400 을 반환한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void createSchedules_fail_empty() throws Exception {
+        // given
+        ScheduleBulkCreateRequest request = new ScheduleBulkCreateRequest(List.of());
+
+        // when & then
+        mockMvc.perform(post("/api/schedules/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("일정 수정에 성공한다")
     @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
@@ -216,14 +305,15 @@ class ScheduleControllerTest {
     void findAllSchedules_empty() throws Exception {
         // given
         ScheduleListResponse emptyResponse = ScheduleListResponse.of(List.of());
-        given(scheduleService.findAllSchedules(any())).willReturn(emptyResponse);
+        given(scheduleService.findAllSchedules(any(), any(), anyInt())).willReturn(new CursorPage<>(emptyResponse, null));
 
         // when & then
         mockMvc.perform(get("/api/schedules"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value(200))
                 .andExpect(jsonPath("$.data.scheduleList").isArray())
-                .andExpect(jsonPath("$.data.scheduleList").isEmpty());
+                .andExpect(jsonPath("$.data.scheduleList").isEmpty())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
     }
 
     @Test
@@ -324,6 +414,61 @@ class ScheduleControllerTest {
                 .andExpect(jsonPath("$.message").exists());
     }
 
+    @Test
+    @DisplayName("일정 단계 변경 이력 조회에 성공한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void findStepHistory_success() throws Exception {
+        // given
+        StepHistoryResponse response = StepHistoryResponse.of(1L, List.of(
+                new StepTransitionResponse(Step.DOCUMENT, LocalDateTime.of(2025, 5, 1, 10, 0), 86400L),
+                new StepTransitionResponse(Step.CODING_TEST, LocalDateTime.of(2025, 5, 2, 10, 0), null)));
+        given(scheduleService.findStepHistory(any(), eq(1L))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/schedules/1/history"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.scheduleId").value(1))
+                .andExpect(jsonPath("$.data.transitions[0].step").value("DOCUMENT"))
+                .andExpect(jsonPath("$.data.transitions[0].durationSeconds").value(86400))
+                .andExpect(jsonPath("$.data.transitions[1].durationSeconds").isEmpty());
+    }
+
+    @Test
+    @DisplayName("단계별 지원 현황 조회에 성공한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void findScheduleStats_success() throws Exception {
+        // given
+        ScheduleStatResponse response = ScheduleStatResponse.of(10, List.of(
+                new StepStatResponse(Step.DOCUMENT, "서류", 7, 10, null),
+                new StepStatResponse(Step.CODING_TEST, "코딩 테스트", 3, 3, 0.3)));
+        given(scheduleService.findScheduleStats(any())).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/schedules/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.total").value(10))
+                .andExpect(jsonPath("$.data.steps[0].step").value("DOCUMENT"))
+                .andExpect(jsonPath("$.data.steps[1].conversionRate").value(0.3));
+    }
+
+    @Test
+    @DisplayName("월별 달력 조회에 성공한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void findCalendarMonth_success() throws Exception {
+        // given
+        CalendarMonthResponse response = CalendarMonthResponse.of(YearMonth.of(2025, 5), List.of(
+                new CalendarDayResponse(LocalDate.of(2025, 5, 11), 3, Map.of(Step.DOCUMENT, 2L, Step.CODING_TEST, 1L))));
+        given(scheduleService.findCalendarMonth(any(), eq(YearMonth.of(2025, 5)))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/schedules/calendar").param("month", "202505"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.month").value("2025-05"))
+                .andExpect(jsonPath("$.data.days[0].date").value("2025-05-11"))
+                .andExpect(jsonPath("$.data.days[0].total").value(3))
+                .andExpect(jsonPath("$.data.days[0].steps.DOCUMENT").value(2));
+    }
+
     @Test
     @DisplayName("정확한 기업명으로 일정 검색에 성공한다")
     @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
@@ -0,0 +1,101 @@
+package com.hamster.gro_up.controller;
+
+import com.hamster.gro_up.config.*;
+import com.hamster.gro_up.dto.response.ScheduleImportResponse;
+import com.hamster.gro_up.entity.Role;
+import com.hamster.gro_up.exception.schedule.InvalidScheduleImportException;
+import com.hamster.gro_up.service.CustomOAuth2UserService;
+import com.hamster.gro_up.service.ScheduleImportService;
+import com.hamster.gro_up.service.TokenRevocationService;
+import com.hamster.gro_up.util.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ScheduleImportController.class)
+@Import({SecurityConfig.class, JwtUtil.class, VerifiedTokenCache.class})
+class ScheduleImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ScheduleImportService scheduleImportService;
+
+    @MockBean
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @MockBean
+    private CustomOAuth2SuccessHandler customOAuth2SuccessHandler;
+
+    @MockBean
+    private CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
+
+    @MockBean
+    private CustomAccessDeniedHandler customAccessDeniedHandler;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    private final MockMultipartFile file = new MockMultipartFile("file", "schedules.csv", "text/csv",
+            "companyName,dueDate\nham-corp,2025-05-01T10:00\n".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    @DisplayName("가져오기 작업을 등록하면 202 와 jobId 를 반환한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void importSchedules_success() throws Exception {
+        // given
+        given(scheduleImportService.start(any(), any()))
+                .willReturn(ScheduleImportResponse.of("job-1", "PENDING", 0, 0, 0, List.of()));
+
+        // when & then
+        mockMvc.perform(multipart("/api/schedules/import").file(file))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.jobId").value("job-1"))
+                .andExpect(jsonPath("$.data.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("가져올 수 없는 파일이면 400 을 반환한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void importSchedules_fail_invalidFile() throws Exception {
+        // given
+        given(scheduleImportService.start(any(), any()))
+                .willThrow(new InvalidScheduleImportException("csv 또는 ics 파일만 가져올 수 있습니다."));
+
+        // when & then
+        mockMvc.perform(multipart("/api/schedules/import").file(file))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("가져오기 진행 상황을 조회한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void findImportStatus_success() throws Exception {
+        // given
+        given(scheduleImportService.findStatus(any(), eq("job-1")))
+                .willReturn(ScheduleImportResponse.of("job-1", "COMPLETED", 2, 1, 1, List.of("3행: dueDate 가 비어 있습니다.")));
+
+        // when & then
+        mockMvc.perform(get("/api/schedules/import/{jobId}", "job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(1))
+                .andExpect(jsonPath("$.data.errors[0]").value("3행: dueDate 가 비어 있습니다."));
+    }
+}
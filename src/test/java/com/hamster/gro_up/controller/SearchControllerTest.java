@@ -0,0 +1,89 @@
+package com.hamster.gro_up.controller;
+
+import com.hamster.gro_up.config.*;
+import com.hamster.gro_up.dto.response.ScheduleResponse;
+import com.hamster.gro_up.dto.response.SearchHitResponse;
+import com.hamster.gro_up.dto.response.SearchResponse;
+import com.hamster.gro_up.entity.Role;
+import com.hamster.gro_up.entity.Step;
+import com.hamster.gro_up.exception.search.InvalidSearchQueryException;
+import com.hamster.gro_up.service.CustomOAuth2UserService;
+import com.hamster.gro_up.service.SearchService;
+import com.hamster.gro_up.service.TokenRevocationService;
+import com.hamster.gro_up.util.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SearchController.class)
+@Import({SecurityConfig.class, JwtUtil.class, VerifiedTokenCache.class})
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SearchService searchService;
+
+    @MockBean
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @MockBean
+    private CustomOAuth2SuccessHandler customOAuth2SuccessHandler;
+
+    @MockBean
+    private CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
+
+    @MockBean
+    private CustomAccessDeniedHandler customAccessDeniedHandler;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @Test
+    @DisplayName("검색 결과와 강조 표시를 반환한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void search_success() throws Exception {
+        // given
+        ScheduleResponse schedule = new ScheduleResponse(100L, null, "카카오뱅크", null, null, Step.DOCUMENT, "백엔드", null,
+                LocalDateTime.of(2025, 5, 1, 10, 0), null, null);
+        given(searchService.search(any(), eq("카카오"), isNull(), eq(20))).willReturn(SearchResponse.of(
+                List.of(SearchHitResponse.of(schedule, 1.5, Map.of("companyName", "<em>카카오</em>뱅크"))), List.of()));
+
+        // when & then
+        mockMvc.perform(get("/api/search").param("q", "카카오"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.schedules[0].item.scheduleId").value(100L))
+                .andExpect(jsonPath("$.data.schedules[0].highlights.companyName").value("<em>카카오</em>뱅크"))
+                .andExpect(jsonPath("$.data.retrospects").isEmpty());
+    }
+
+    @Test
+    @DisplayName("검색어가 올바르지 않으면 400 을 반환한다")
+    @WithMockAuthUser(userId = 1L, email = "ham@example.com", role = Role.ROLE_USER)
+    void search_fail_invalidQuery() throws Exception {
+        // given
+        given(searchService.search(any(), any(), any(), eq(20)))
+                .willThrow(new InvalidSearchQueryException("검색어는 2자 이상이어야 합니다."));
+
+        // when & then
+        mockMvc.perform(get("/api/search").param("q", "카"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,116 @@
+package com.hamster.gro_up.repository;
+
+import com.hamster.gro_up.config.TsidConfig;
+import com.hamster.gro_up.dto.response.ScheduleResponse;
+import com.hamster.gro_up.entity.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일정 목록 조회를 엔티티로 읽어 변환하는 방식과 DTO projection 으로 바로 읽는 방식의 할당량, 지연 시간 비교.
+ * 기본 test 에서는 제외되고 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import(TsidConfig.class)
+@ActiveProfiles("test")
+class ReadPathBenchmarkTest {
+
+    private static final int SCHEDULES = 2_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    private static final String ENTITY_QUERY = "select s from Schedule s left join fetch s.company where s.user.id = :userId " +
+                                               "order by s.dueDate asc, s.id asc";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().email("bench@test.com").role(Role.ROLE_USER).userType(UserType.LOCAL).build();
+        entityManager.persist(user);
+        userId = user.getId();
+
+        Company company = Company.builder().user(user).companyName("ham-corp").position("백엔드").address("seoul").build();
+        entityManager.persist(company);
+
+        LocalDateTime dueDate = LocalDateTime.of(2025, 1, 1, 10, 0);
+        for (int i = 0; i < SCHEDULES; i++) {
+            entityManager.persist(Schedule.builder()
+                    .user(user)
+                    .company(i % 2 == 0 ? company : null)
+                    .companyName(company.getCompanyName())
+                    .dueDate(dueDate.plusHours(i))
+                    .step(Step.values()[i % Step.values().length])
+                    .position("백엔드")
+                    .memo("메모 " + i)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("projection 으로 읽으면 엔티티로 읽어 변환할 때보다 할당량이 적다")
+    void entityVersusProjection() {
+        Result entity = measure(() -> entityManager.createQuery(ENTITY_QUERY, Schedule.class)
+                .setParameter("userId", userId)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList().stream()
+                .map(ScheduleResponse::from)
+                .toList());
+
+        Result projection = measure(() -> scheduleRepository.findResponsesByUserId(userId, PageRequest.of(0, PAGE_SIZE)));
+
+        System.out.printf("entity     : %,8d bytes/op %,8.1f us/op%n", entity.bytesPerOp(), entity.microsPerOp());
+        System.out.printf("projection : %,8d bytes/op %,8.1f us/op%n", projection.bytesPerOp(), projection.microsPerOp());
+
+        assertThat(projection.bytesPerOp()).isLessThan(entity.bytesPerOp());
+    }
+
+    // 요청마다 새 영속성 컨텍스트에서 읽는 것과 같도록 매번 비운다
+    private Result measure(Supplier<List<ScheduleResponse>> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            assertThat(query.get()).hasSize(PAGE_SIZE);
+            entityManager.clear();
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long startBytes = threads.getCurrentThreadAllocatedBytes();
+        long startNanos = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+            entityManager.clear();
+        }
+
+        long nanos = System.nanoTime() - startNanos;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - startBytes;
+        return new Result(bytes / ITERATIONS, nanos / 1_000.0 / ITERATIONS);
+    }
+
+    private record Result(long bytesPerOp, double microsPerOp) {
+    }
+}
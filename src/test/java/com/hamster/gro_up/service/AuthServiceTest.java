@@ -1,10 +1,12 @@
 package com.hamster.gro_up.service;
 
 import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.RefreshSession;
 import com.hamster.gro_up.dto.request.PasswordCheckRequest;
 import com.hamster.gro_up.dto.request.PasswordUpdateRequest;
 import com.hamster.gro_up.dto.request.SigninRequest;
 import com.hamster.gro_up.dto.request.SignupRequest;
+import com.hamster.gro_up.dto.response.SessionListResponse;
 import com.hamster.gro_up.dto.response.TokenResponse;
 import com.hamster.gro_up.entity.Role;
 import com.hamster.gro_up.entity.User;
@@ -13,7 +15,10 @@ import com.hamster.gro_up.exception.auth.*;
 import com.hamster.gro_up.exception.user.DuplicateUserException;
 import com.hamster.gro_up.exception.user.UserNotFoundException;
 import com.hamster.gro_up.repository.UserRepository;
+import com.hamster.gro_up.service.RefreshTokenService.RotationResult;
+import com.hamster.gro_up.util.DigestUtil;
 import com.hamster.gro_up.util.JwtUtil;
+import com.hamster.gro_up.util.ParsedToken;
 import com.hamster.gro_up.util.TokenType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,12 +27,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -42,6 +47,9 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
 
+    private static final String FAMILY_ID = "family-id";
+    private static final String DEVICE_LABEL = "Mozilla/5.0";
+
     @Mock
     private UserRepository userRepository;
 
@@ -52,7 +60,13 @@ class AuthServiceTest {
     private RefreshTokenService refreshTokenService;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private RegisteredEmailService registeredEmailService;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
 
     @Mock
     private StringRedisTemplate redisTemplate;
@@ -61,7 +75,7 @@ class AuthServiceTest {
     private JwtUtil jwtUtil;
 
     @Mock
-    private JavaMailSender mailSender;
+    private MailOutboxService mailOutboxService;
 
     @InjectMocks
     private AuthService authService;
@@ -97,15 +111,15 @@ class AuthServiceTest {
     @DisplayName("회원가입에 성공하면 토큰을 반환한다")
     void signUp_success() {
         // given
-        given(userRepository.existsByEmail(signupRequest.getEmail())).willReturn(false);
-        given(passwordEncoder.encode(signupRequest.getPassword())).willReturn("encoded_password");
-        given(userRepository.save(any(User.class))).willReturn(user);
+        given(registeredEmailService.existsByEmail(signupRequest.getEmail())).willReturn(false);
+        given(passwordHashingService.encode(signupRequest.getPassword())).willReturn("encoded_password");
+        given(userRepository.saveAndFlush(any(User.class))).willReturn(user);
         given(jwtUtil.createToken(eq(TokenType.ACCESS), eq(UserType.LOCAL),anyLong(), anyString(), any(Role.class))).willReturn("Access Token");
-        given(jwtUtil.createToken(eq(TokenType.REFRESH), eq(UserType.LOCAL),anyLong(), anyString(), any(Role.class))).willReturn("Refresh Token");
+        given(jwtUtil.createToken(eq(TokenType.REFRESH), eq(UserType.LOCAL),anyLong(), anyString(), any(Role.class), anyString())).willReturn("Refresh Token");
         given(emailVerificationService.isEmailVerified(signupRequest.getEmail())).willReturn(true);
 
         // when
-        TokenResponse response = authService.signUp(signupRequest);
+        TokenResponse response = authService.signUp(signupRequest, DEVICE_LABEL);
 
         // then
         assertThat(response.getAccessToken()).isEqualTo("Access Token");
@@ -117,31 +131,65 @@ class AuthServiceTest {
     void signUp_fail_duplicatedEmail() {
         // given
         String duplicatedEmail = "test@example.com";
-        given(userRepository.existsByEmail(duplicatedEmail)).willReturn(true);
+        given(registeredEmailService.existsByEmail(duplicatedEmail)).willReturn(true);
 
         // when & then
-        DuplicateUserException exception = assertThrows(DuplicateUserException.class, () -> authService.signUp(signupRequest));
+        DuplicateUserException exception = assertThrows(DuplicateUserException.class, () -> authService.signUp(signupRequest, DEVICE_LABEL));
         assertThat(exception.getMessage()).isEqualTo("중복된 사용자가 존재합니다.");
     }
 
 
+    @Test
+    @DisplayName("동시에 같은 이메일로 가입해 unique 제약에 걸리면 중복 예외가 발생한다")
+    void signUp_fail_concurrentDuplicate() {
+        // given
+        given(registeredEmailService.existsByEmail(signupRequest.getEmail())).willReturn(false);
+        given(emailVerificationService.isEmailVerified(signupRequest.getEmail())).willReturn(true);
+        given(passwordHashingService.encode(signupRequest.getPassword())).willReturn("encoded_password");
+        given(userRepository.saveAndFlush(any(User.class))).willThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when & then
+        assertThrows(DuplicateUserException.class, () -> authService.signUp(signupRequest, DEVICE_LABEL));
+        verify(registeredEmailService, never()).register(anyString());
+        verify(refreshTokenService, never()).saveRefreshToken(anyString(), anyString(), anyString(), any());
+    }
+
     @Test
     @DisplayName("로그인에 성공하면 토큰을 반환한다")
     void signIn_success() {
         // given
         given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
-        given(passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())).willReturn(true);
+        given(passwordHashingService.matches(signinRequest.getPassword(), user.getPassword())).willReturn(true);
         given(jwtUtil.createToken(eq(TokenType.ACCESS), eq(UserType.LOCAL), anyLong(), anyString(), any(Role.class))).willReturn("Access Token");
-        given(jwtUtil.createToken(eq(TokenType.REFRESH), eq(UserType.LOCAL), anyLong(), anyString(), any(Role.class))).willReturn("Refresh Token");
+        given(jwtUtil.createToken(eq(TokenType.REFRESH), eq(UserType.LOCAL), anyLong(), anyString(), any(Role.class), anyString())).willReturn("Refresh Token");
 
         // when
-        TokenResponse response = authService.signIn(signinRequest);
+        TokenResponse response = authService.signIn(signinRequest, DEVICE_LABEL);
 
         // then
         assertThat(response.getAccessToken()).isEqualTo("Access Token");
         assertThat(response.getRefreshToken()).isEqualTo("Refresh Token");
     }
 
+    @Test
+    @DisplayName("저장된 해시의 cost 가 현재 설정과 다르면 로그인 시 다시 해시한다")
+    void signIn_rehashesOutdatedHash() {
+        // given
+        String oldHash = user.getPassword();
+        given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
+        given(passwordHashingService.matches(signinRequest.getPassword(), oldHash)).willReturn(true);
+        given(passwordHashingService.needsRehash(oldHash)).willReturn(true);
+        given(passwordHashingService.rehash(signinRequest.getPassword())).willReturn("rehashed_password");
+        given(jwtUtil.createToken(eq(TokenType.ACCESS), eq(UserType.LOCAL), anyLong(), anyString(), any(Role.class))).willReturn("Access Token");
+        given(jwtUtil.createToken(eq(TokenType.REFRESH), eq(UserType.LOCAL), anyLong(), anyString(), any(Role.class), anyString())).willReturn("Refresh Token");
+
+        // when
+        authService.signIn(signinRequest, DEVICE_LABEL);
+
+        // then
+        assertThat(user.getPassword()).isEqualTo("rehashed_password");
+    }
+
     @Test
     @DisplayName("존재하지 않는 이메일로 로그인 시 예외가 발생한다")
     void signIn_fail_userNotFound() {
@@ -150,7 +198,7 @@ class AuthServiceTest {
         given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.empty());
 
         // when & then
-        UserNotFoundException exception = assertThrows(UserNotFoundException.class, () -> authService.signIn(request));
+        UserNotFoundException exception = assertThrows(UserNotFoundException.class, () -> authService.signIn(request, DEVICE_LABEL));
         assertThat(exception.getMessage()).isEqualTo("해당 사용자를 찾을 수 없습니다.");
     }
 
@@ -162,7 +210,7 @@ class AuthServiceTest {
         given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(user));
 
         // when & then
-        InvalidCredentialsException exception = assertThrows(InvalidCredentialsException.class, () -> authService.signIn(request));
+        InvalidCredentialsException exception = assertThrows(InvalidCredentialsException.class, () -> authService.signIn(request, DEVICE_LABEL));
         assertThat(exception.getMessage()).isEqualTo("이메일 또는 비밀번호가 일치하지 않습니다.");
     }
 
@@ -171,16 +219,48 @@ class AuthServiceTest {
     void signOut_success() {
         // given
         String refreshToken = "validRefreshToken";
-        given(jwtUtil.isExpired(refreshToken)).willReturn(false);
-        given(jwtUtil.getTokenType(refreshToken)).willReturn(TokenType.REFRESH.name());
-        given(jwtUtil.getEmail(refreshToken)).willReturn("test@example.com");
-        given(refreshTokenService.existsByEmail("test@example.com")).willReturn(true);
+        given(jwtUtil.parse(refreshToken)).willReturn(parsedToken(TokenType.REFRESH, "test@example.com", false));
+        given(refreshTokenService.deleteSession("test@example.com", FAMILY_ID)).willReturn(true);
 
         // when
-        authService.signOut(refreshToken);
+        authService.signOut(refreshToken, null);
 
         // then
-        verify(refreshTokenService).deleteRefreshToken("test@example.com");
+        verify(refreshTokenService).deleteSession("test@example.com", FAMILY_ID);
+    }
+
+    @Test
+    @DisplayName("세션 정보(familyId)가 없는 Refresh Token 으로 로그아웃하면 이전 방식으로 저장된 토큰을 지운다")
+    void signOut_legacyToken() {
+        // given
+        String refreshToken = "legacyRefreshToken";
+        given(jwtUtil.parse(refreshToken)).willReturn(legacyToken());
+        given(refreshTokenService.consumeLegacyRefreshToken(authUser.getEmail(), refreshToken)).willReturn(true);
+
+        // when
+        authService.signOut(refreshToken, null);
+
+        // then
+        verify(refreshTokenService).consumeLegacyRefreshToken(authUser.getEmail(), refreshToken);
+        verify(refreshTokenService, never()).deleteSession(any(), any());
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 함께 전달된 Access Token 은 폐기된다")
+    void signOut_revokesAccessToken() {
+        // given
+        String refreshToken = "validRefreshToken";
+        String accessToken = "validAccessToken";
+        ParsedToken parsedAccessToken = parsedToken(TokenType.ACCESS, "test@example.com", false);
+        given(jwtUtil.parse(refreshToken)).willReturn(parsedToken(TokenType.REFRESH, "test@example.com", false));
+        given(jwtUtil.parse(accessToken)).willReturn(parsedAccessToken);
+        given(refreshTokenService.deleteSession("test@example.com", FAMILY_ID)).willReturn(true);
+
+        // when
+        authService.signOut(refreshToken, accessToken);
+
+        // then
+        verify(tokenRevocationService).revokeToken(parsedAccessToken);
     }
 
     @Test
@@ -188,10 +268,10 @@ class AuthServiceTest {
     void signOut_fail_expiredToken() {
         // given
         String refreshToken = "expiredRefreshToken";
-        given(jwtUtil.isExpired(refreshToken)).willReturn(true);
+        given(jwtUtil.parse(refreshToken)).willReturn(parsedToken(TokenType.REFRESH, authUser.getEmail(), true));
 
         // when & then
-        assertThrows(ExpiredTokenException.class, () -> authService.signOut(refreshToken));
+        assertThrows(ExpiredTokenException.class, () -> authService.signOut(refreshToken, null));
     }
 
     @Test
@@ -199,11 +279,10 @@ class AuthServiceTest {
     void signOut_fail_invalidTokenType() {
         // given
         String refreshToken = "accessToken";
-        given(jwtUtil.isExpired(refreshToken)).willReturn(false);
-        given(jwtUtil.getTokenType(refreshToken)).willReturn(TokenType.ACCESS.name());
+        given(jwtUtil.parse(refreshToken)).willReturn(parsedToken(TokenType.ACCESS, authUser.getEmail(), false));
 
         // when & then
-        assertThrows(InvalidTokenException.class, () -> authService.signOut(refreshToken));
+        assertThrows(InvalidTokenException.class, () -> authService.signOut(refreshToken, null));
     }
 
     @Test
@@ -211,13 +290,11 @@ class AuthServiceTest {
     void signOut_fail_alreadyLoggedOut() {
         // given
         String refreshToken = "validRefreshToken";
-        given(jwtUtil.isExpired(refreshToken)).willReturn(false);
-        given(jwtUtil.getTokenType(refreshToken)).willReturn(TokenType.REFRESH.name());
-        given(jwtUtil.getEmail(refreshToken)).willReturn("test@example.com");
-        given(refreshTokenService.existsByEmail("test@example.com")).willReturn(false);
+        given(jwtUtil.parse(refreshToken)).willReturn(parsedToken(TokenType.REFRESH, "test@example.com", false));
+        given(refreshTokenService.deleteSession("test@example.com", FAMILY_ID)).willReturn(false);
 
         // when & then
-        assertThrows(InvalidTokenException.class, () -> authService.signOut(refreshToken));
+        assertThrows(InvalidTokenException.class, () -> authService.signOut(refreshToken, null));
     }
 
     @Test
@@ -228,12 +305,10 @@ class AuthServiceTest {
         String newAccessToken = "newAccessToken";
         String newRefreshToken = "newRefreshToken";
 
-        given(jwtUtil.isExpired(refreshToken)).willReturn(false);
-        given(jwtUtil.getTokenType(refreshToken)).willReturn(TokenType.REFRESH.name());
-        given(jwtUtil.getAuthUserFromToken(refreshToken)).willReturn(authUser);
-        given(refreshTokenService.getRefreshToken(authUser.getEmail())).willReturn(refreshToken);
+        given(jwtUtil.parse(refreshToken)).willReturn(parsedToken(TokenType.REFRESH, authUser.getEmail(), false));
         given(jwtUtil.createToken(eq(TokenType.ACCESS), any(), anyLong(), anyString(), any(Role.class))).willReturn(newAccessToken);
-        given(jwtUtil.createToken(eq(TokenType.REFRESH), any(), anyLong(), anyString(), any(Role.class))).willReturn(newRefreshToken);
+        given(jwtUtil.createToken(eq(TokenType.REFRESH), any(), anyLong(), anyString(), any(Role.class), eq(FAMILY_ID))).willReturn(newRefreshToken);
+        given(refreshTokenService.rotateRefreshToken(authUser.getEmail(), refreshToken, newRefreshToken, FAMILY_ID)).willReturn(RotationResult.ROTATED);
 
         // when
         TokenResponse response = authService.reissueAccessToken(refreshToken);
@@ -241,8 +316,7 @@ class AuthServiceTest {
         // then
         assertThat(response.getAccessToken()).isEqualTo(newAccessToken);
         assertThat(response.getRefreshToken()).isEqualTo(newRefreshToken);
-        verify(refreshTokenService).deleteRefreshToken(authUser.getEmail());
-        verify(refreshTokenService).saveRefreshToken(newRefreshToken, authUser.getEmail());
+        verify(refreshTokenService).rotateRefreshToken(authUser.getEmail(), refreshToken, newRefreshToken, FAMILY_ID);
     }
 
     @Test
@@ -257,7 +331,7 @@ class AuthServiceTest {
     void reissueAccessToken_fail_expiredToken() {
         // given
         String refreshToken = "expiredRefreshToken";
-        given(jwtUtil.isExpired(refreshToken)).willReturn(true);
+        given(jwtUtil.parse(refreshToken)).willReturn(parsedToken(TokenType.REFRESH, authUser.getEmail(), true));
 
         // when & then
         assertThrows(ExpiredTokenException.class, () -> authService.reissueAccessToken(refreshToken));
@@ -268,8 +342,7 @@ class AuthServiceTest {
     void reissueAccessToken_fail_invalidTokenType() {
         // given
         String refreshToken = "accessToken";
-        given(jwtUtil.isExpired(refreshToken)).willReturn(false);
-        given(jwtUtil.getTokenType(refreshToken)).willReturn(TokenType.ACCESS.name());
+        given(jwtUtil.parse(refreshToken)).willReturn(parsedToken(TokenType.ACCESS, authUser.getEmail(), false));
 
         // when & then
         assertThrows(TokenTypeMismatchException.class, () -> authService.reissueAccessToken(refreshToken));
@@ -281,30 +354,74 @@ class AuthServiceTest {
         // given
         String refreshToken = "validRefreshToken";
 
-        given(jwtUtil.isExpired(refreshToken)).willReturn(false);
-        given(jwtUtil.getTokenType(refreshToken)).willReturn(TokenType.REFRESH.name());
-        given(jwtUtil.getAuthUserFromToken(refreshToken)).willReturn(authUser);
-        given(refreshTokenService.getRefreshToken(authUser.getEmail())).willReturn(null);
+        given(jwtUtil.parse(refreshToken)).willReturn(parsedToken(TokenType.REFRESH, authUser.getEmail(), false));
+        given(refreshTokenService.rotateRefreshToken(eq(authUser.getEmail()), eq(refreshToken), any(), eq(FAMILY_ID))).willReturn(RotationResult.NOT_FOUND);
+
+        // when & then
+        assertThrows(TokenNotFoundException.class, () -> authService.reissueAccessToken(refreshToken));
+    }
+
+    @Test
+    @DisplayName("세션 정보(familyId)가 없는 Refresh Token 은 이전 방식으로 저장된 토큰과 같으면 한 번만 새 세션으로 재발급한다")
+    void reissueAccessToken_legacyToken() {
+        // given
+        String refreshToken = "legacyRefreshToken";
+        given(jwtUtil.parse(refreshToken)).willReturn(legacyToken());
+        given(refreshTokenService.consumeLegacyRefreshToken(authUser.getEmail(), refreshToken)).willReturn(true);
+        given(jwtUtil.createToken(eq(TokenType.ACCESS), any(), anyLong(), anyString(), any(Role.class))).willReturn("newAccessToken");
+        given(jwtUtil.createToken(eq(TokenType.REFRESH), any(), anyLong(), anyString(), any(Role.class), anyString())).willReturn("newRefreshToken");
+
+        // when
+        TokenResponse response = authService.reissueAccessToken(refreshToken);
+
+        // then
+        assertThat(response.getRefreshToken()).isEqualTo("newRefreshToken");
+        verify(refreshTokenService).saveRefreshToken(eq("newRefreshToken"), eq(authUser.getEmail()), anyString(), isNull());
+        verify(refreshTokenService, never()).rotateRefreshToken(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("세션 정보(familyId)가 없는 Refresh Token 이 저장된 토큰과 다르거나 이미 옮겨졌으면 예외가 발생한다")
+    void reissueAccessToken_fail_legacyTokenConsumed() {
+        // given
+        String refreshToken = "legacyRefreshToken";
+        given(jwtUtil.parse(refreshToken)).willReturn(legacyToken());
+        given(refreshTokenService.consumeLegacyRefreshToken(authUser.getEmail(), refreshToken)).willReturn(false);
 
         // when & then
         assertThrows(TokenNotFoundException.class, () -> authService.reissueAccessToken(refreshToken));
+        verify(refreshTokenService, never()).saveRefreshToken(any(), any(), any(), any());
     }
 
     @Test
-    @DisplayName("저장된 Refresh Token 과 요청값이 다르면 예외가 발생한다")
-    void reissueAccessToken_fail_tokenMismatch() {
+    @DisplayName("동시에 보낸 재발급 요청이 방금 교체된 토큰을 들고 오면 Access Token 만 발급한다")
+    void reissueAccessToken_grace() {
         // given
-        String refreshToken = "requestToken";
-        String storedToken = "storedToken";
+        String refreshToken = "justRotatedRefreshToken";
+        given(jwtUtil.parse(refreshToken)).willReturn(parsedToken(TokenType.REFRESH, authUser.getEmail(), false));
+        given(jwtUtil.createToken(eq(TokenType.ACCESS), any(), anyLong(), anyString(), any(Role.class))).willReturn("newAccessToken");
+        given(refreshTokenService.rotateRefreshToken(eq(authUser.getEmail()), eq(refreshToken), any(), eq(FAMILY_ID))).willReturn(RotationResult.GRACE);
 
-        given(jwtUtil.isExpired(refreshToken)).willReturn(false);
-        given(jwtUtil.getTokenType(refreshToken)).willReturn(TokenType.REFRESH.name());
-        given(jwtUtil.getAuthUserFromToken(refreshToken)).willReturn(authUser);
-        given(refreshTokenService.getRefreshToken(authUser.getEmail())).willReturn(storedToken);
+        // when
+        TokenResponse response = authService.reissueAccessToken(refreshToken);
+
+        // then
+        assertThat(response.getAccessToken()).isEqualTo("newAccessToken");
+        assertThat(response.getRefreshToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 교체된 Refresh Token 이 다시 사용되면 예외가 발생한다")
+    void reissueAccessToken_fail_reusedToken() {
+        // given
+        String refreshToken = "rotatedRefreshToken";
+
+        given(jwtUtil.parse(refreshToken)).willReturn(parsedToken(TokenType.REFRESH, authUser.getEmail(), false));
+        given(refreshTokenService.rotateRefreshToken(eq(authUser.getEmail()), eq(refreshToken), any(), eq(FAMILY_ID))).willReturn(RotationResult.REUSED);
 
         // when & then
         InvalidTokenException exception = assertThrows(InvalidTokenException.class, () -> authService.reissueAccessToken(refreshToken));
-        assertThat(exception.getMessage()).isEqualTo("Refresh Token 이 일치하지 않습니다.");
+        assertThat(exception.getMessage()).isEqualTo("이미 사용된 Refresh Token 입니다. 다시 로그인해주세요.");
     }
 
     @Test
@@ -318,7 +435,8 @@ class AuthServiceTest {
 
         // then
         verify(userRepository).findById(authUser.getId());
-        verify(refreshTokenService).deleteRefreshToken(authUser.getEmail());
+        verify(refreshTokenService).deleteAllSessions(authUser.getEmail());
+        verify(tokenRevocationService).revokeAllTokens(authUser.getId());
         verify(userRepository).delete(user);
     }
 
@@ -340,12 +458,12 @@ class AuthServiceTest {
         // given
         PasswordCheckRequest req = new PasswordCheckRequest("plain_password");
         given(userRepository.findById(authUser.getId())).willReturn(Optional.of(user));
-        given(passwordEncoder.matches("plain_password", user.getPassword())).willReturn(true);
+        given(passwordHashingService.matches("plain_password", user.getPassword())).willReturn(true);
 
         // when & then
         assertDoesNotThrow(() -> authService.checkPassword(authUser, req));
         verify(userRepository).findById(authUser.getId());
-        verify(passwordEncoder).matches("plain_password", user.getPassword());
+        verify(passwordHashingService).matches("plain_password", user.getPassword());
     }
 
     @Test
@@ -354,7 +472,7 @@ class AuthServiceTest {
         // given
         PasswordCheckRequest req = new PasswordCheckRequest("wrong_password");
         given(userRepository.findById(authUser.getId())).willReturn(Optional.of(user));
-        given(passwordEncoder.matches("wrong_password", user.getPassword())).willReturn(false);
+        given(passwordHashingService.matches("wrong_password", user.getPassword())).willReturn(false);
 
         // when & then
         InvalidCredentialsException exception = assertThrows(InvalidCredentialsException.class,
@@ -375,7 +493,7 @@ class AuthServiceTest {
         assertDoesNotThrow(() -> authService.requestPasswordReset(email));
         verify(userRepository).findByEmail(email);
         verify(valueOps).set(anyString(), eq(user.getId().toString()), eq(10L), eq(TimeUnit.MINUTES));
-        verify(mailSender).send(any(SimpleMailMessage.class));
+        verify(mailOutboxService).enqueue(eq(email), eq("비밀번호 재설정 안내"), anyString());
     }
 
     @Test
@@ -401,14 +519,14 @@ class AuthServiceTest {
         given(valueOps.get(token)).willReturn("1");
 
         given(userRepository.findById(1L)).willReturn(Optional.of(user));
-        given(passwordEncoder.encode("new_password")).willReturn("encoded_new_password");
+        given(passwordHashingService.encode("new_password")).willReturn("encoded_new_password");
 
         // when & then
         assertDoesNotThrow(() -> authService.resetPasswordWithToken(token, req));
         verify(userRepository).findById(1L);
-        verify(passwordEncoder).encode("new_password");
+        verify(passwordHashingService).encode("new_password");
         verify(redisTemplate).delete(token);
-        verify(refreshTokenService).deleteRefreshToken(user.getEmail());
+        verify(refreshTokenService).deleteAllSessions(user.getEmail());
     }
 
     @Test
@@ -433,13 +551,13 @@ class AuthServiceTest {
         PasswordUpdateRequest req = new PasswordUpdateRequest("new_password");
 
         given(userRepository.findById(authUser.getId())).willReturn(Optional.of(user));
-        given(passwordEncoder.encode("new_password")).willReturn("encoded_pw");
+        given(passwordHashingService.encode("new_password")).willReturn("encoded_pw");
 
         // when & then
         assertDoesNotThrow(() -> authService.updatePassword(authUser, req));
         verify(userRepository).findById(authUser.getId());
-        verify(passwordEncoder).encode("new_password");
-        verify(refreshTokenService).deleteRefreshToken(authUser.getEmail());
+        verify(passwordHashingService).encode("new_password");
+        verify(refreshTokenService).deleteAllSessions(authUser.getEmail());
     }
 
     @Test
@@ -467,13 +585,13 @@ class AuthServiceTest {
 
         given(emailVerificationService.isEmailVerified(email)).willReturn(true);
         given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
-        given(passwordEncoder.encode("new_password")).willReturn("encoded_new_password");
+        given(passwordHashingService.encode("new_password")).willReturn("encoded_new_password");
 
         // when & then
         assertDoesNotThrow(() -> authService.resetPasswordWithEmail(email, req));
         verify(emailVerificationService).isEmailVerified(email);
         verify(userRepository).findByEmail(email);
-        verify(passwordEncoder).encode("new_password");
+        verify(passwordHashingService).encode("new_password");
         verify(user).updatePassword("encoded_new_password");
     }
 
@@ -526,4 +644,60 @@ class AuthServiceTest {
         verify(userRepository).findByEmail(email);
         verify(user).getUserType();
     }
+
+    @Test
+    @DisplayName("로그인된 기기 목록을 조회하면 현재 기기가 표시된다")
+    void findSessions_success() {
+        // given
+        String currentRefreshToken = "currentRefreshToken";
+        long now = System.currentTimeMillis();
+        RefreshSession current = new RefreshSession("session-1", DigestUtil.shortSha256(currentRefreshToken), now + 1000L, now, "Chrome");
+        RefreshSession other = new RefreshSession("session-2", DigestUtil.shortSha256("otherRefreshToken"), now + 1000L, now - 1000L, "iPhone");
+        given(refreshTokenService.findSessions(authUser.getEmail())).willReturn(List.of(current, other));
+
+        // when
+        SessionListResponse response = authService.findSessions(authUser, currentRefreshToken);
+
+        // then
+        assertThat(response.getSessionList()).hasSize(2);
+        assertThat(response.getSessionList().get(0).isCurrent()).isTrue();
+        assertThat(response.getSessionList().get(1).isCurrent()).isFalse();
+        assertThat(response.getSessionList().get(1).getDeviceLabel()).isEqualTo("iPhone");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 세션을 로그아웃하면 예외가 발생한다")
+    void revokeSession_fail_notFound() {
+        // given
+        given(refreshTokenService.deleteSession(authUser.getEmail(), "unknown")).willReturn(false);
+
+        // when & then
+        assertThrows(SessionNotFoundException.class, () -> authService.revokeSession(authUser, "unknown"));
+    }
+
+    private ParsedToken legacyToken() {
+        return ParsedToken.builder()
+                .subject(String.valueOf(user.getId()))
+                .email(authUser.getEmail())
+                .role(Role.ROLE_USER)
+                .userType(UserType.LOCAL)
+                .tokenType(TokenType.REFRESH)
+                .expired(false)
+                .build();
+    }
+
+    private ParsedToken parsedToken(TokenType tokenType, String email, boolean expired) {
+        return ParsedToken.builder()
+                .subject(String.valueOf(user.getId()))
+                .email(email)
+                .role(Role.ROLE_USER)
+                .userType(UserType.LOCAL)
+                .tokenType(tokenType)
+                .tokenId("token-id")
+                .familyId(FAMILY_ID)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + tokenType.getExpireMs()))
+                .expired(expired)
+                .build();
+    }
 }
@@ -0,0 +1,212 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.repository.CompanyRepository;
+import com.hamster.gro_up.repository.CompanyRepository.CompanyNameCount;
+import com.hamster.gro_up.util.NameSimilarityIndex.Match;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyNameSuggestServiceTest {
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    private CompanyNameSuggestService companyNameSuggestService;
+
+    @BeforeEach
+    void setUp() {
+        companyNameSuggestService = new CompanyNameSuggestService(companyRepository, redisTemplate, listenerContainer,
+                100, 60000, 86400000);
+        given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("prefix 로 시작하는 기업명을 사용 횟수 순으로 반환하고 두 번째 조회부터는 Redis 를 읽지 않는다")
+    void suggest_localHit() {
+        // given
+        given(hashOperations.entries("companyNames:1"))
+                .willReturn(Map.of("", "0", "카카오", "3", "카카오뱅크", "5", "네이버", "1", "Kakao Mobility", "2"));
+
+        // when
+        List<String> first = companyNameSuggestService.suggest(1L, "카카", 10);
+        List<String> second = companyNameSuggestService.suggest(1L, "ka", 10);
+        List<String> all = companyNameSuggestService.suggest(1L, null, 2);
+
+        // then
+        assertThat(first).containsExactly("카카오뱅크", "카카오");
+        assertThat(second).containsExactly("Kakao Mobility");
+        assertThat(all).containsExactly("카카오뱅크", "카카오");
+        verify(hashOperations, times(1)).entries("companyNames:1");
+        verify(companyRepository, never()).countCompanyNamesByUserId(any());
+    }
+
+    @Test
+    @DisplayName("Redis 에 목록이 없으면 DB 에서 세어 version 과 함께 다시 저장한다")
+    void suggest_rebuild() {
+        // given
+        given(hashOperations.entries("companyNames:1")).willReturn(Map.of());
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("companyNames:1:version")).willReturn("2");
+        given(companyRepository.countCompanyNamesByUserId(1L)).willReturn(List.of(countOf("ham-corp", 2L)));
+
+        // when
+        List<String> result = companyNameSuggestService.suggest(1L, "ham", 10);
+
+        // then
+        assertThat(result).containsExactly("ham-corp");
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("companyNames:1", "companyNames:1:version")),
+                eq("2"), eq("86400000"), eq("ham-corp"), eq("2"));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 DB 에서 센 결과로 답한다")
+    void suggest_fallback() {
+        // given
+        given(hashOperations.entries("companyNames:1")).willThrow(new RedisConnectionFailureException("connection refused"));
+        given(companyRepository.countCompanyNamesByUserId(1L))
+                .willReturn(List.of(countOf("egg-corp", 1L), countOf("ham-corp", 3L)));
+
+        // when
+        List<String> result = companyNameSuggestService.suggest(1L, "", 10);
+
+        // then
+        assertThat(result).containsExactly("ham-corp", "egg-corp");
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("기업명이 추가되면 DB 를 다시 읽지 않고 로컬 색인과 Redis 횟수를 증가시킨다")
+    void addAfterCommit_incremental() {
+        // given
+        given(hashOperations.entries("companyNames:1")).willReturn(Map.of("카카오", "1"));
+        companyNameSuggestService.suggest(1L, "카", 10);
+
+        // when
+        companyNameSuggestService.addAfterCommit(1L, List.of("카카오뱅크", "카카오뱅크"));
+        List<String> result = companyNameSuggestService.suggest(1L, "카", 10);
+
+        // then
+        assertThat(result).containsExactly("카카오뱅크", "카카오");
+        verify(hashOperations, times(1)).entries("companyNames:1");
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("companyNames:1", "companyNames:1:version")),
+                eq("86400000"), eq("카카오뱅크"), eq("2"));
+        verify(redisTemplate).convertAndSend(eq(CompanyNameSuggestService.CHANNEL), anyString());
+        verify(companyRepository, never()).countCompanyNamesByUserId(any());
+    }
+
+    @Test
+    @DisplayName("기업명이 바뀌어 사용 횟수가 0 이 된 이름은 자동완성에서 빠진다")
+    void renameAfterCommit_removesUnused() {
+        // given
+        given(hashOperations.entries("companyNames:1")).willReturn(Map.of("ham-corp", "1", "egg-corp", "1"));
+        companyNameSuggestService.suggest(1L, null, 0);
+
+        // when
+        companyNameSuggestService.renameAfterCommit(1L, "ham-corp", "hamster-corp");
+        List<String> result = companyNameSuggestService.suggest(1L, null, 0);
+
+        // then
+        assertThat(result).containsExactly("egg-corp", "hamster-corp");
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 메시지를 받으면 로컬 색인을 지우고 다음 조회 때 Redis 에서 다시 읽는다")
+    void onMessage_evictsLocal() {
+        // given
+        given(hashOperations.entries("companyNames:1")).willReturn(Map.of("ham-corp", "1"));
+        companyNameSuggestService.suggest(1L, null, 0);
+
+        // when
+        companyNameSuggestService.onMessage(new DefaultMessage(
+                CompanyNameSuggestService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "other-instance:1".getBytes(StandardCharsets.UTF_8)), null);
+        companyNameSuggestService.suggest(1L, null, 0);
+
+        // then
+        verify(hashOperations, times(2)).entries("companyNames:1");
+    }
+
+    @Test
+    @DisplayName("대소문자, 법인 표기, 한글/영문 표기가 달라도 같은 기업으로 보이는 기업명을 찾는다")
+    void findSimilar_success() {
+        // given
+        given(hashOperations.entries("companyNames:1"))
+                .willReturn(Map.of("NAVER", "3", "Naver Corp.", "1", "카카오", "2", "토스", "4"));
+
+        // when
+        List<Match> result = companyNameSuggestService.findSimilar(1L, "네이버", 0.6, 5);
+        List<Match> exact = companyNameSuggestService.findSimilar(1L, "(주) 카카오", 0.6, 5);
+
+        // then
+        assertThat(result).extracting(Match::name).containsExactly("NAVER", "Naver Corp.");
+        assertThat(exact).extracting(Match::name).containsExactly("카카오");
+        assertThat(exact).extracting(Match::score).containsExactly(1.0);
+        verify(hashOperations, times(1)).entries("companyNames:1");
+    }
+
+    @Test
+    @DisplayName("목록을 지우면 version 을 올리고 로컬 색인과 Redis 목록을 함께 지운다")
+    void evictAfterCommit_success() {
+        // given
+        given(hashOperations.entries("companyNames:1")).willReturn(Map.of("ham-corp", "1"));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        companyNameSuggestService.suggest(1L, null, 0);
+
+        // when
+        companyNameSuggestService.evictAfterCommit(1L);
+        companyNameSuggestService.suggest(1L, null, 0);
+
+        // then
+        verify(valueOperations).increment("companyNames:1:version");
+        verify(redisTemplate).delete("companyNames:1");
+        verify(hashOperations, times(2)).entries("companyNames:1");
+    }
+
+    private CompanyNameCount countOf(String name, long usageCount) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", name);
+        values.put("usageCount", usageCount);
+        return projectionFactory.createProjection(CompanyNameCount.class, values);
+    }
+}
@@ -1,19 +1,27 @@
 package com.hamster.gro_up.service;
 
 import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.CursorPage;
 import com.hamster.gro_up.dto.request.CompanyCreateRequest;
+import com.hamster.gro_up.dto.request.CompanyMergeRequest;
 import com.hamster.gro_up.dto.request.CompanyUpdateRequest;
 import com.hamster.gro_up.dto.response.CompanyListResponse;
+import com.hamster.gro_up.dto.response.CompanyMergeResponse;
 import com.hamster.gro_up.dto.response.CompanyNameListResponse;
 import com.hamster.gro_up.dto.response.CompanyResponse;
+import com.hamster.gro_up.dto.response.SimilarCompanyNameListResponse;
 import com.hamster.gro_up.entity.Company;
 import com.hamster.gro_up.entity.Role;
 import com.hamster.gro_up.entity.User;
 import com.hamster.gro_up.entity.UserType;
 import com.hamster.gro_up.exception.ForbiddenException;
 import com.hamster.gro_up.exception.company.CompanyNotFoundException;
+import com.hamster.gro_up.exception.company.InvalidCompanyMergeException;
 import com.hamster.gro_up.repository.CompanyRepository;
+import com.hamster.gro_up.repository.ScheduleRepository;
 import com.hamster.gro_up.repository.UserRepository;
+import com.hamster.gro_up.service.ListCacheService.CachedList;
+import com.hamster.gro_up.util.NameSimilarityIndex.Match;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,14 +29,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +55,18 @@ class CompanyServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private ListCacheService listCacheService;
+
+    @Mock
+    private ScheduleTimelineService scheduleTimelineService;
+
+    @Mock
+    private CompanyNameSuggestService companyNameSuggestService;
+
     @InjectMocks
     private CompanyService companyService;
 
@@ -49,6 +76,10 @@ class CompanyServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 캐시는 항상 비어 있는 것으로 두고 DB 조회 결과를 그대로 돌려준다
+        lenient().when(listCacheService.get(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+
         user = User.builder()
                 .id(1L)
                 .email("test@test.com")
@@ -97,7 +128,7 @@ class CompanyServiceTest {
     void findCompany_success() {
         // given
         Long companyId = 1L;
-        given(companyRepository.findById(companyId)).willReturn(Optional.of(company));
+        given(companyRepository.findReadOnlyById(companyId)).willReturn(Optional.of(company));
 
         // when
         CompanyResponse companyResponse = companyService.findCompany(authUser, companyId);
@@ -114,7 +145,7 @@ class CompanyServiceTest {
     void findCompany_fail_notExist() {
         // given
         long companyId = 999L;
-        given(companyRepository.findById(companyId)).willReturn(Optional.empty());
+        given(companyRepository.findReadOnlyById(companyId)).willReturn(Optional.empty());
 
         // when & then
         CompanyNotFoundException exception = assertThrows(CompanyNotFoundException.class,
@@ -144,6 +175,7 @@ class CompanyServiceTest {
         assertThat(company.getPosition()).isEqualTo("front-end");
         assertThat(company.getAddress()).isEqualTo("busan");
         assertThat(company.getUrl()).isEqualTo("www.new.com");
+        verify(companyNameSuggestService).renameAfterCommit(authUser.getId(), "ham-corp", "new-corp");
     }
 
     @Test
@@ -168,7 +200,7 @@ class CompanyServiceTest {
     }
 
     @Test
-    @DisplayName("기업 삭제에 성공한다")
+    @DisplayName("기업 삭제에 성공하고, 삭제된 기업을 가리키는 일정, 회고 목록과 타임라인 캐시도 지운다")
     void deleteCompany_success() {
         // given
         given(companyRepository.findById(10L)).willReturn(Optional.of(company));
@@ -178,6 +210,9 @@ class CompanyServiceTest {
 
         // then
         verify(companyRepository).delete(company);
+        verify(listCacheService).evictAfterCommit(authUser.getId(), CachedList.SCHEDULES, CachedList.RETROSPECTS, CachedList.COMPANIES);
+        verify(scheduleTimelineService).evictAfterCommit(authUser.getId());
+        verify(companyNameSuggestService).removeAfterCommit(authUser.getId(), company.getCompanyName());
     }
 
     @Test
@@ -214,29 +249,29 @@ class CompanyServiceTest {
                 .address("busan")
                 .build();
 
-        List<Company> companyList = List.of(company2, company3);
+        List<CompanyResponse> companyList = List.of(CompanyResponse.from(company2), CompanyResponse.from(company3));
 
-        given(companyRepository.findByUserId(authUser.getId())).willReturn(companyList);
+        given(companyRepository.findResponsesByUserId(eq(authUser.getId()), any(Pageable.class))).willReturn(companyList);
 
         // when
-        CompanyListResponse response = companyService.findAllCompanies(authUser);
+        CursorPage<CompanyListResponse> response = companyService.findAllCompanies(authUser, null, 20);
 
         // then
-        assertThat(response.getCompanyList()).hasSize(2);
-        assertThat(response.getCompanyList()).extracting("companyName").containsExactlyInAnyOrder("ham-corp", "egg-corp");
+        assertThat(response.getContent().getCompanyList()).hasSize(2);
+        assertThat(response.getContent().getCompanyList()).extracting("companyName").containsExactlyInAnyOrder("ham-corp", "egg-corp");
     }
 
     @Test
     @DisplayName("해당 유저가 소유한 기업이 없으면 빈 리스트를 반환한다")
     void findAllCompanies_empty() {
         // given
-        given(companyRepository.findByUserId(authUser.getId())).willReturn(List.of());
+        given(companyRepository.findResponsesByUserId(eq(authUser.getId()), any(Pageable.class))).willReturn(List.of());
 
         // when
-        CompanyListResponse response = companyService.findAllCompanies(authUser);
+        CursorPage<CompanyListResponse> response = companyService.findAllCompanies(authUser, null, 20);
 
         // then
-        assertThat(response.getCompanyList()).isEmpty();
+        assertThat(response.getContent().getCompanyList()).isEmpty();
     }
 
     @Test
@@ -245,13 +280,100 @@ class CompanyServiceTest {
         // given
         List<String> companyNames = List.of("네이버", "카카오", "라인");
 
-        given(companyRepository.findAllCompanyNamesByUserId(authUser.getId())).willReturn(companyNames);
+        given(companyNameSuggestService.suggest(authUser.getId(), null, 0)).willReturn(companyNames);
+
+        // when
+        CompanyNameListResponse response = companyService.findAllCompanyNames(authUser, null, null);
+
+        // then
+        assertThat(response.getCompanyNameList()).containsExactlyElementsOf(companyNames);
+    }
+
+    @Test
+    @DisplayName("prefix 와 size 로 기업명 자동완성 조회 성공")
+    void findAllCompanyNames_prefix() {
+        // given
+        given(companyNameSuggestService.suggest(authUser.getId(), "카", 100)).willReturn(List.of("카카오", "카카오뱅크"));
+
+        // when
+        CompanyNameListResponse response = companyService.findAllCompanyNames(authUser, "카", 500);
+
+        // then
+        assertThat(response.getCompanyNameList()).containsExactly("카카오", "카카오뱅크");
+    }
+
+    @Test
+    @DisplayName("비슷한 기업명 조회 성공")
+    void findSimilarCompanyNames_success() {
+        // given
+        given(companyNameSuggestService.findSimilar(eq(authUser.getId()), eq("네이버"), anyDouble(), eq(5)))
+                .willReturn(List.of(new Match("NAVER", 3L, 0.9)));
+
+        // when
+        SimilarCompanyNameListResponse response = companyService.findSimilarCompanyNames(authUser, "네이버", 5);
+
+        // then
+        assertThat(response.getSimilarCompanyNameList()).extracting("companyName").containsExactly("NAVER");
+        assertThat(response.getSimilarCompanyNameList()).extracting("score").containsExactly(0.9);
+    }
+
+    @Test
+    @DisplayName("기업 합치기에 성공하고 나머지 기업에 연결된 일정을 남은 기업으로 옮긴 뒤 삭제한다")
+    void mergeCompanies_success() {
+        // given
+        Company duplicate = Company.builder()
+                .id(11L)
+                .user(user)
+                .companyName("Ham Corp.")
+                .build();
+        CompanyMergeRequest request = new CompanyMergeRequest("ham-corp", List.of("Ham Corp.", "햄코프", "ham-corp"));
+        given(companyRepository.findAllByUserIdAndCompanyNameInOrderByIdAsc(eq(authUser.getId()), any()))
+                .willReturn(List.of(company, duplicate));
+        given(scheduleRepository.updateCompanyByCompanyNameIn(authUser.getId(), Set.of("Ham Corp.", "햄코프"), company, "ham-corp"))
+                .willReturn(3);
+        given(scheduleRepository.updateCompanyByCompanyIn(authUser.getId(), List.of(duplicate), company, "ham-corp"))
+                .willReturn(1);
 
         // when
-        CompanyNameListResponse response = companyService.findAllCompanyNames(authUser);
+        CompanyMergeResponse response = companyService.mergeCompanies(authUser, request);
 
         // then
-        assertThat(response.getCompanyNameList()).hasSize(3);
-        assertThat(response.getCompanyNameList()).containsExactlyInAnyOrderElementsOf(companyNames);
+        assertThat(response.getCompanyId()).isEqualTo(company.getId());
+        assertThat(response.getScheduleCount()).isEqualTo(4);
+        assertThat(response.getDeletedCompanyCount()).isEqualTo(1);
+        verify(companyRepository).deleteAllInBatch(List.of(duplicate));
+        verify(listCacheService).evictAfterCommit(authUser.getId(), CachedList.SCHEDULES, CachedList.RETROSPECTS, CachedList.COMPANIES);
+        verify(scheduleTimelineService).evictAfterCommit(authUser.getId());
+        verify(companyNameSuggestService).evictAfterCommit(authUser.getId());
+    }
+
+    @Test
+    @DisplayName("합칠 기업명으로 등록된 기업이 없으면 일정의 기업명만 바꾼다")
+    void mergeCompanies_withoutCompany() {
+        // given
+        CompanyMergeRequest request = new CompanyMergeRequest("카카오", List.of("kakao", "(주)카카오"));
+        given(companyRepository.findAllByUserIdAndCompanyNameInOrderByIdAsc(eq(authUser.getId()), any())).willReturn(List.of());
+        given(scheduleRepository.updateCompanyNameByCompanyNameIn(authUser.getId(), Set.of("kakao", "(주)카카오"), "카카오"))
+                .willReturn(2);
+
+        // when
+        CompanyMergeResponse response = companyService.mergeCompanies(authUser, request);
+
+        // then
+        assertThat(response.getCompanyId()).isNull();
+        assertThat(response.getScheduleCount()).isEqualTo(2);
+        verify(scheduleRepository, never()).updateCompanyByCompanyNameIn(any(), any(), any(), any());
+        verify(companyRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    @DisplayName("합칠 기업명이 남길 기업명뿐이면 예외가 발생한다")
+    void mergeCompanies_fail_noSource() {
+        // given
+        CompanyMergeRequest request = new CompanyMergeRequest("ham-corp", List.of(" ham-corp "));
+
+        // when & then
+        assertThrows(InvalidCompanyMergeException.class, () -> companyService.mergeCompanies(authUser, request));
+        verify(scheduleRepository, never()).updateCompanyNameByCompanyNameIn(any(), any(), any());
     }
 }
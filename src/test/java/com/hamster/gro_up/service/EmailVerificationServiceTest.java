@@ -6,15 +6,11 @@ import com.hamster.gro_up.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 
 import java.util.concurrent.TimeUnit;
 
@@ -32,7 +28,7 @@ class EmailVerificationServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private JavaMailSender mailSender;
+    private MailOutboxService mailOutboxService;
 
     @Mock
     private StringRedisTemplate redisTemplate;
@@ -43,9 +39,6 @@ class EmailVerificationServiceTest {
     @InjectMocks
     private EmailVerificationService emailVerificationService;
 
-    @Captor
-    private ArgumentCaptor<SimpleMailMessage> mailCaptor;
-
     private static final String VERIFICATION_PREFIX = "email_verification:";
     private static final String VERIFIED_SUFFIX = ":verified";
     private static final long VERIFICATION_CODE_TTL_MINUTES = 10L;
@@ -67,11 +60,7 @@ class EmailVerificationServiceTest {
                 eq(VERIFICATION_CODE_TTL_MINUTES),
                 eq(TimeUnit.MINUTES)
         );
-        verify(mailSender).send(mailCaptor.capture());
-        SimpleMailMessage message = mailCaptor.getValue();
-        assertThat(message.getTo()).contains(email);
-        assertThat(message.getSubject()).isEqualTo("이메일 인증 코드");
-        assertThat(message.getText()).contains("인증 코드:");
+        verify(mailOutboxService).enqueue(eq(email), eq("이메일 인증 코드"), startsWith("인증 코드:"));
     }
 
     @Test
@@ -0,0 +1,163 @@
+package com.hamster.gro_up.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.response.CompanyResponse;
+import com.hamster.gro_up.dto.response.ScheduleResponse;
+import com.hamster.gro_up.entity.Role;
+import com.hamster.gro_up.entity.Step;
+import com.hamster.gro_up.entity.UserType;
+import com.hamster.gro_up.exception.ForbiddenException;
+import com.hamster.gro_up.exception.export.InvalidExportRequestException;
+import com.hamster.gro_up.repository.CompanyRepository;
+import com.hamster.gro_up.repository.RetrospectRepository;
+import com.hamster.gro_up.repository.ScheduleRepository;
+import com.hamster.gro_up.repository.UserRepository;
+import com.hamster.gro_up.service.ExportService.ExportPlan;
+import com.hamster.gro_up.service.ExportService.Format;
+import com.hamster.gro_up.service.ExportService.Resource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private RetrospectRepository retrospectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ExportService exportService;
+
+    private AuthUser authUser;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 5, 1, 10, 0);
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportService(scheduleRepository, companyRepository, retrospectRepository, userRepository, objectMapper);
+        authUser = new AuthUser(1L, "test@test.com", Role.ROLE_USER, UserType.LOCAL);
+    }
+
+    @Test
+    @DisplayName("NDJSON 은 한 줄에 한 행씩 type 과 data 로 내보낸다")
+    void write_ndjson() throws Exception {
+        // given
+        given(scheduleRepository.streamResponsesByUserId(1L)).willReturn(Stream.of(
+                new ScheduleResponse(100L, 10L, "ham-corp", "seoul", null, Step.DOCUMENT, "백엔드", "메모", now, now, now)));
+        given(companyRepository.streamResponsesByUserId(1L)).willReturn(Stream.of(
+                new CompanyResponse(10L, "ham-corp", "백엔드", "www.ham.com", "seoul", null, now, now)));
+        given(retrospectRepository.streamSummariesByUserId(1L)).willReturn(Stream.empty());
+        ExportPlan plan = exportService.plan(authUser, null, "ndjson", null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        exportService.write(plan, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+
+        JsonNode schedule = objectMapper.readTree(lines[0]);
+        assertThat(schedule.get("type").asText()).isEqualTo("schedule");
+        assertThat(schedule.get("data").get("scheduleId").asLong()).isEqualTo(100L);
+        assertThat(schedule.get("data").get("dueDate").asText()).isEqualTo("2025-05-01T10:00:00");
+
+        JsonNode company = objectMapper.readTree(lines[1]);
+        assertThat(company.get("type").asText()).isEqualTo("company");
+        assertThat(company.get("data").get("url").asText()).isEqualTo("www.ham.com");
+    }
+
+    @Test
+    @DisplayName("CSV 는 헤더를 쓰고 쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감싼다")
+    void write_csv() throws Exception {
+        // given
+        given(companyRepository.streamResponsesByUserId(1L)).willReturn(Stream.of(
+                new CompanyResponse(10L, "ham, \"corp\"", "백엔드", "=HYPERLINK()", "seoul", "1층\n2층", now, now)));
+        ExportPlan plan = exportService.plan(authUser, null, "csv", "companies");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        exportService.write(plan, out);
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "companyId,companyName,position,url,address,addressDetail,createdAt,modifiedAt\r\n" +
+                "10,\"ham, \"\"corp\"\"\",백엔드,'=HYPERLINK(),seoul,\"1층\n2층\",2025-05-01T10:00,2025-05-01T10:00\r\n");
+    }
+
+    @Test
+    @DisplayName("형식과 대상은 대소문자 없이 해석하고, 지정하지 않으면 모두 내보낸다")
+    void plan_defaults() {
+        // when
+        ExportPlan plan = exportService.plan(authUser, null, "NDJSON", null);
+
+        // then
+        assertThat(plan.userId()).isEqualTo(1L);
+        assertThat(plan.format()).isEqualTo(Format.NDJSON);
+        assertThat(plan.resources()).containsExactly(Resource.SCHEDULES, Resource.COMPANIES, Resource.RETROSPECTS);
+    }
+
+    @Test
+    @DisplayName("CSV 로 여러 대상을 내보내려 하면 예외가 발생한다")
+    void plan_fail_csvWithAllTypes() {
+        // when & then
+        assertThrows(InvalidExportRequestException.class, () -> exportService.plan(authUser, null, "csv", "all"));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이면 예외가 발생한다")
+    void plan_fail_unknownFormat() {
+        // when & then
+        assertThrows(InvalidExportRequestException.class, () -> exportService.plan(authUser, null, "xlsx", null));
+    }
+
+    @Test
+    @DisplayName("관리자가 아니면 다른 사용자의 데이터를 내보낼 수 없다")
+    void plan_fail_otherUser() {
+        // when & then
+        assertThrows(ForbiddenException.class, () -> exportService.plan(authUser, 2L, "ndjson", null));
+    }
+
+    @Test
+    @DisplayName("관리자는 다른 사용자의 데이터를 내보낼 수 있다")
+    void plan_admin() {
+        // given
+        AuthUser admin = new AuthUser(99L, "admin@test.com", Role.ROLE_ADMIN, UserType.LOCAL);
+        given(userRepository.existsById(2L)).willReturn(true);
+
+        // when
+        ExportPlan plan = exportService.plan(admin, 2L, "csv", "schedules");
+
+        // then
+        assertThat(plan.userId()).isEqualTo(2L);
+        assertThat(plan.resources()).containsExactly(Resource.SCHEDULES);
+    }
+}
@@ -0,0 +1,274 @@
+package com.hamster.gro_up.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamster.gro_up.dto.response.CompanyNameListResponse;
+import com.hamster.gro_up.service.ListCacheService.CachedList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ListCacheServiceTest {
+
+    private static final TypeReference<CompanyNameListResponse> TYPE = new TypeReference<>() {};
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ListCacheService listCacheService;
+
+    @BeforeEach
+    void setUp() {
+        listCacheService = new ListCacheService(redisTemplate, listenerContainer, objectMapper, 100, 30000, 600000, 86400000);
+        lenient().when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.get(anyString())).thenReturn("5");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 목록은 로컬 캐시에서 반환하고 DB, Redis 를 다시 조회하지 않는다")
+    void get_localHit() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        givenWritten(1L);
+
+        // when
+        listCacheService.get(CachedList.COMPANIES, 1L, "all", TYPE, () -> load(loads));
+        CompanyNameListResponse response = listCacheService.get(CachedList.COMPANIES, 1L, "all", TYPE, () -> load(loads));
+
+        // then
+        assertThat(response.getCompanyNameList()).containsExactly("ham-corp");
+        assertThat(loads.get()).isEqualTo(1);
+        verify(hashOperations, times(1)).get("listCache:companies:1", "all");
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("listCache:companies:1", "listVersion:companies:1")),
+                eq("5"), eq("all"), anyString(), eq("600000"), eq("86400000"));
+    }
+
+    @Test
+    @DisplayName("조회하는 사이 version 이 올라가 Redis 에 넣지 못한 목록은 로컬 캐시에도 넣지 않는다")
+    void get_versionChanged() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        givenWritten(0L);
+
+        // when
+        listCacheService.get(CachedList.COMPANIES, 1L, "all", TYPE, () -> load(loads));
+        listCacheService.get(CachedList.COMPANIES, 1L, "all", TYPE, () -> load(loads));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회하는 사이 다른 서버에서 목록이 바뀌었으면, 뒤늦게 조회를 마친 이전 목록으로 로컬 캐시를 채우지 않는다")
+    void get_invalidatedWhileLoading() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        givenWritten(1L);
+        Supplier<CompanyNameListResponse> loadingWhileChanged = () -> {
+            listCacheService.onMessage(new DefaultMessage(new byte[0],
+                    "listCache:companies:1@6".getBytes(StandardCharsets.UTF_8)), null);
+            return load(loads);
+        };
+
+        // when
+        listCacheService.get(CachedList.COMPANIES, 1L, "all", TYPE, loadingWhileChanged);
+        listCacheService.get(CachedList.COMPANIES, 1L, "all", TYPE, () -> load(loads));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없고 Redis 에 있으면 DB 를 조회하지 않는다")
+    void get_redisHit() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        given(hashOperations.get("listCache:companies:1", "all")).willReturn("{\"companyNameList\":[\"egg-corp\"]}");
+
+        // when
+        CompanyNameListResponse response = listCacheService.get(CachedList.COMPANIES, 1L, "all", TYPE, () -> load(loads));
+
+        // then
+        assertThat(response.getCompanyNameList()).containsExactly("egg-corp");
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 DB 조회 결과를 그대로 반환한다")
+    void get_redisFailure() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        given(valueOperations.get(any())).willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        CompanyNameListResponse response = listCacheService.get(CachedList.COMPANIES, 1L, "all", TYPE, () -> load(loads));
+
+        // then
+        assertThat(response.getCompanyNameList()).containsExactly("ham-corp");
+        assertThat(loads.get()).isEqualTo(1);
+        verify(hashOperations, never()).get(any(), any());
+    }
+
+    @Test
+    @DisplayName("커밋 이후에 해당 사용자의 목록 캐시만 지운다")
+    void evictAfterCommit() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        givenWritten(1L);
+        listCacheService.get(CachedList.COMPANIES, 1L, "all", TYPE, () -> load(loads));
+        listCacheService.get(CachedList.COMPANIES, 2L, "all", TYPE, () -> load(loads));
+        List<String> evictKeys = List.of("listCache:companies:1", "listVersion:companies:1");
+        given(redisTemplate.execute(any(RedisScript.class), eq(evictKeys), anyString(), anyString())).willReturn(List.of(6L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        listCacheService.evictAfterCommit(1L, CachedList.COMPANIES);
+
+        // then
+        verify(redisTemplate, never()).execute(any(RedisScript.class), eq(evictKeys), anyString(), anyString());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(evictKeys), anyString(), eq("86400000"));
+        verify(redisTemplate).convertAndSend(ListCacheService.CHANNEL, "listCache:companies:1@6");
+
+        listCacheService.get(CachedList.COMPANIES, 1L, "all", TYPE, () -> load(loads));
+        listCacheService.get(CachedList.COMPANIES, 2L, "all", TYPE, () -> load(loads));
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("특정 variant 만 지우면 같은 목록의 다른 variant 는 로컬 캐시에 남는다")
+    void evictVariants() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        givenWritten(1L);
+        listCacheService.get(CachedList.CALENDAR, 1L, "2025-05", TYPE, () -> load(loads));
+        listCacheService.get(CachedList.CALENDAR, 1L, "2025-06", TYPE, () -> load(loads));
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("listCache:calendar:1", "listVersion:calendar:1")),
+                anyString(), anyString(), eq("2025-05"))).willReturn(List.of(6L));
+
+        // when
+        listCacheService.evictVariants(1L, CachedList.CALENDAR, List.of("2025-05"));
+
+        // then
+        verify(redisTemplate).convertAndSend(ListCacheService.CHANNEL, "listCache:calendar:1:2025-05@6");
+
+        listCacheService.get(CachedList.CALENDAR, 1L, "2025-05", TYPE, () -> load(loads));
+        listCacheService.get(CachedList.CALENDAR, 1L, "2025-06", TYPE, () -> load(loads));
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("목록 version 이 있으면 사용자 id 와 version 으로 ETag 를 만든다")
+    void eTag_existingVersion() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("listVersion:schedules:1")).willReturn("1747000000000");
+
+        // when
+        String eTag = listCacheService.eTag(CachedList.SCHEDULES, 1L);
+
+        // then
+        assertThat(eTag).isEqualTo("W/\"1-1747000000000\"");
+        verify(valueOperations, never()).setIfAbsent(any(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("목록 version 이 없으면 지금 시각으로 시작하고, Redis 장애 시에는 ETag 를 만들지 않는다")
+    void eTag_initialAndFailure() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("listVersion:companies:1")).willReturn(null);
+        given(valueOperations.setIfAbsent(eq("listVersion:companies:1"), anyString(), eq(Duration.ofDays(1)))).willReturn(true);
+        given(valueOperations.get("listVersion:retrospects:1")).willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        String initial = listCacheService.eTag(CachedList.COMPANIES, 1L);
+        String failed = listCacheService.eTag(CachedList.RETROSPECTS, 1L);
+
+        // then
+        assertThat(initial).startsWith("W/\"1-").endsWith("\"");
+        assertThat(failed).isNull();
+    }
+
+    @Test
+    @DisplayName("ETag 의 version 보다 오래된 로컬 캐시 목록은 내보내지 않고 다시 조회한다")
+    void eTag_staleLocalEntry() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        givenWritten(1L);
+        listCacheService.get(CachedList.COMPANIES, 1L, "all", TYPE, () -> load(loads));
+        listCacheService.eTag(CachedList.COMPANIES, 1L);
+        listCacheService.get(CachedList.COMPANIES, 1L, "all", TYPE, () -> load(loads));
+        // 무효화 메시지를 놓친 채 다른 서버에서 version 이 올라갔다
+        given(valueOperations.get("listVersion:companies:1")).willReturn("6");
+
+        // when
+        String eTag = listCacheService.eTag(CachedList.COMPANIES, 1L);
+        listCacheService.get(CachedList.COMPANIES, 1L, "all", TYPE, () -> load(loads));
+
+        // then
+        assertThat(eTag).isEqualTo("W/\"1-6\"");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private void givenWritten(Long written) {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString(), anyString(), anyString()))
+                .willReturn(written);
+    }
+
+    private CompanyNameListResponse load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return CompanyNameListResponse.of(List.of("ham-corp"));
+    }
+}
@@ -0,0 +1,133 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.entity.MailOutbox;
+import com.hamster.gro_up.entity.MailStatus;
+import com.hamster.gro_up.repository.MailOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    @InjectMocks
+    private MailOutboxService mailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(mailOutboxService, "maxAttempts", 2);
+        ReflectionTestUtils.setField(mailOutboxService, "backoffBaseMs", 1000L);
+        ReflectionTestUtils.setField(mailOutboxService, "backoffMaxMs", 60000L);
+        ReflectionTestUtils.setField(mailOutboxService, "leaseMs", 60000L);
+        ReflectionTestUtils.setField(mailOutboxService, "retentionMs", 604800000L);
+    }
+
+    @Test
+    @DisplayName("발송할 메일을 가져가면 발송 중으로 바뀌고 시도 횟수가 늘어난다")
+    void claimDue() {
+        // given
+        MailOutbox mail = mail();
+        given(mailOutboxRepository.findDueForUpdate(any(), any(), any())).willReturn(List.of(mail));
+
+        // when
+        List<MailOutbox> claimed = mailOutboxService.claimDue(10);
+
+        // then
+        assertThat(claimed).containsExactly(mail);
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.SENDING);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("발송에 실패하면 지수적으로 늘어나는 간격 뒤에 다시 시도한다")
+    void markFailed_retry() {
+        // given
+        MailOutbox mail = mail();
+        mail.markSending(LocalDateTime.now());
+        given(mailOutboxRepository.findById(1L)).willReturn(Optional.of(mail));
+
+        // when
+        MailStatus status = mailOutboxService.markFailed(1L, "timeout");
+
+        // then
+        assertThat(status).isEqualTo(MailStatus.PENDING);
+        assertThat(mail.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(mail.getLastError()).isEqualTo("timeout");
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 dead letter 로 남긴다")
+    void markFailed_dead() {
+        // given
+        MailOutbox mail = mail();
+        mail.markSending(LocalDateTime.now());
+        mail.markSending(LocalDateTime.now());
+        given(mailOutboxRepository.findById(1L)).willReturn(Optional.of(mail));
+
+        // when
+        MailStatus status = mailOutboxService.markFailed(1L, "timeout");
+
+        // then
+        assertThat(status).isEqualTo(MailStatus.DEAD);
+    }
+
+    @Test
+    @DisplayName("발송한 메일은 인증 코드가 든 본문을 지운다")
+    void markSent_clearsBody() {
+        // given
+        MailOutbox mail = mail();
+        mail.markSending(LocalDateTime.now());
+        given(mailOutboxRepository.findById(1L)).willReturn(Optional.of(mail));
+
+        // when
+        mailOutboxService.markSent(1L);
+
+        // then
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.SENT);
+        assertThat(mail.getBody()).isNull();
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 SENT, DEAD 메일을 지운다")
+    void purgeFinished() {
+        // given
+        given(mailOutboxRepository.findIdsByStatusInAndModifiedAtBefore(
+                eq(List.of(MailStatus.SENT, MailStatus.DEAD)), any(), eq(PageRequest.of(0, 100)))).willReturn(List.of(1L, 2L));
+
+        // when
+        int purged = mailOutboxService.purgeFinished(100);
+
+        // then
+        assertThat(purged).isEqualTo(2);
+        verify(mailOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    private MailOutbox mail() {
+        return MailOutbox.builder()
+                .id(1L)
+                .recipient("test@example.com")
+                .subject("이메일 인증 코드")
+                .body("인증 코드: 1234")
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.entity.MailOutbox;
+import com.hamster.gro_up.entity.MailStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxWorkerTest {
+
+    @Mock
+    private MailOutboxService mailOutboxService;
+
+    private InMemoryMailSender mailSender;
+    private MailOutboxWorker mailOutboxWorker;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new InMemoryMailSender();
+        mailOutboxWorker = new MailOutboxWorker(mailOutboxService, mailSender, "noreply@gro-up.shop", 2, 10, 30000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxWorker.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기 중인 메일을 발송하고 발송 완료로 표시한다")
+    void poll_success() throws MessagingException {
+        // given
+        given(mailOutboxService.claimDue(20)).willReturn(List.of(mail(1L, "test@example.com")));
+
+        // when
+        mailOutboxWorker.poll();
+
+        // then
+        assertThat(mailSender.sent).hasSize(1);
+        assertThat(mailSender.sent.get(0).getSubject()).isEqualTo("이메일 인증 코드");
+        verify(mailOutboxService).markSent(1L);
+    }
+
+    @Test
+    @DisplayName("SMTP 발송에 실패하면 재시도 대상으로 표시한다")
+    void poll_failure() {
+        // given
+        mailSender.failuresLeft = 1;
+        given(mailOutboxService.claimDue(20)).willReturn(List.of(mail(1L, "test@example.com")));
+        given(mailOutboxService.markFailed(eq(1L), anyString())).willReturn(MailStatus.PENDING);
+
+        // when
+        mailOutboxWorker.poll();
+
+        // then
+        assertThat(mailSender.sent).isEmpty();
+        verify(mailOutboxService).markFailed(eq(1L), anyString());
+        verify(mailOutboxService, never()).markSent(1L);
+    }
+
+    @Test
+    @DisplayName("대기, dead 메일 수는 scrape 마다 세지 않고 poll 에서 주기적으로 센 값을 내보낸다")
+    void gauges_refreshedFromPoll() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        mailOutboxWorker.bindTo(registry);
+        given(mailOutboxService.claimDue(20)).willReturn(List.of());
+        given(mailOutboxService.countPending()).willReturn(3L);
+        given(mailOutboxService.countDead()).willReturn(1L);
+
+        // when
+        mailOutboxWorker.poll();
+        mailOutboxWorker.poll();
+
+        // then
+        assertThat(registry.get("mail.outbox.pending").gauge().value()).isEqualTo(3);
+        assertThat(registry.get("mail.outbox.dead").gauge().value()).isEqualTo(1);
+        verify(mailOutboxService, times(1)).countPending();
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 메일은 한 묶음보다 적게 지워질 때까지 나눠 지운다")
+    void purge() {
+        // given
+        given(mailOutboxService.purgeFinished(1000)).willReturn(1000, 1000, 10);
+
+        // when
+        mailOutboxWorker.purge();
+
+        // then
+        verify(mailOutboxService, times(3)).purgeFinished(1000);
+    }
+
+    private MailOutbox mail(Long id, String recipient) {
+        MailOutbox mail = MailOutbox.builder()
+                .id(id)
+                .recipient(recipient)
+                .subject("이메일 인증 코드")
+                .body("인증 코드: 1234")
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        mail.markSending(LocalDateTime.now().plusMinutes(1));
+        return mail;
+    }
+
+    // 실제 SMTP 서버 대신 MIME 메시지까지 만들어 메모리에 쌓아 두는 발송기
+    private static class InMemoryMailSender extends JavaMailSenderImpl {
+        private final List<MimeMessage> sent = new ArrayList<>();
+        private int failuresLeft;
+
+        // 실행 환경의 기본 문자셋과 관계없이 한글 제목, 본문을 그대로 비교할 수 있게 한다
+        InMemoryMailSender() {
+            setDefaultEncoding("UTF-8");
+        }
+
+        @Override
+        protected synchronized void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new MailSendException("SMTP server unavailable");
+            }
+            sent.addAll(List.of(mimeMessages));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.hamster.gro_up.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashingServiceTest {
+
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        passwordHashingService = new PasswordHashingService(new BCryptPasswordEncoder(4), 4, 1, 10, 3000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("전용 스레드 풀에서 해시한 비밀번호를 검증할 수 있다")
+    void encodeAndMatches() {
+        // when
+        String encoded = passwordHashingService.encode("password");
+
+        // then
+        assertThat(passwordHashingService.matches("password", encoded)).isTrue();
+        assertThat(passwordHashingService.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost 가 설정과 다를 때만 재해시가 필요하다")
+    void needsRehash() {
+        // given
+        String sameCost = new BCryptPasswordEncoder(4).encode("password");
+        String otherCost = new BCryptPasswordEncoder(5).encode("password");
+
+        // when & then
+        assertThat(passwordHashingService.needsRehash(sameCost)).isFalse();
+        assertThat(passwordHashingService.needsRehash(otherCost)).isTrue();
+        assertThat(passwordHashingService.needsRehash(null)).isFalse();
+    }
+}
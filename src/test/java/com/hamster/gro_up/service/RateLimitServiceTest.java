@@ -0,0 +1,98 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.config.RateLimitProperties;
+import com.hamster.gro_up.config.RateLimitProperties.Policy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private RateLimitService rateLimitService;
+    private Policy policy;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setLeaseTtl(Duration.ofMinutes(1));
+
+        policy = new Policy();
+        policy.setName("signin-ip");
+        policy.setCapacity(30);
+        policy.setPeriod(Duration.ofMinutes(1));
+        policy.setPrefetch(5);
+        properties.getPolicies().add(policy);
+
+        rateLimitService = new RateLimitService(redisTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("Redis 에서 받아 온 permit 을 다 쓸 때까지는 Redis 를 다시 호출하지 않는다")
+    void tryAcquire_usesLocalLease() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(5L);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimitService.tryAcquire(policy, "127.0.0.1")).isTrue();
+        }
+        rateLimitService.tryAcquire(policy, "127.0.0.1");
+
+        // then
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("버킷에 남은 permit 이 없으면 거절한다")
+    void tryAcquire_rejected() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(0L);
+
+        // when & then
+        assertThat(rateLimitService.tryAcquire(policy, "127.0.0.1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("돌려받은 permit 은 Redis 를 다시 호출하지 않고 다음 요청에 쓴다")
+    void release_returnsPermitToLocalLease() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(1L);
+        rateLimitService.tryAcquire(policy, "127.0.0.1");
+
+        // when
+        rateLimitService.release(policy, "127.0.0.1");
+
+        // then
+        assertThat(rateLimitService.tryAcquire(policy, "127.0.0.1")).isTrue();
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 요청을 통과시킨다")
+    void tryAcquire_failOpen() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any()))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when & then
+        assertThat(rateLimitService.tryAcquire(policy, "127.0.0.1")).isTrue();
+    }
+}
@@ -0,0 +1,87 @@
+package com.hamster.gro_up.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    private static final String EMAIL = "test@test.com";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private RefreshTokenService refreshTokenService;
+
+    // Redis 대신 키를 보관하는 저장소
+    private final Map<String, String> store = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("모든 세션을 지우면 세션이 생기기 전 방식으로 저장된 토큰도 함께 지운다")
+    void deleteAllSessions_deletesLegacyToken() {
+        // given
+        store.put("refreshSessions:" + EMAIL, "session");
+        store.put("refreshToken:" + EMAIL, "legacyRefreshToken");
+        willAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            long deleted = keys.stream().filter(key -> store.remove(key) != null).count();
+            return deleted;
+        }).given(redisTemplate).delete(anyCollection());
+
+        // when
+        refreshTokenService.deleteAllSessions(EMAIL);
+
+        // then
+        assertThat(store).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비밀번호 재설정으로 모든 세션을 지운 뒤에는 이전 방식의 Refresh Token 으로 재발급할 수 없다")
+    @SuppressWarnings("unchecked")
+    void consumeLegacyRefreshToken_afterDeleteAllSessions() {
+        // given
+        String legacyToken = "legacyRefreshToken";
+        store.put("refreshToken:" + EMAIL, legacyToken);
+        willAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            keys.forEach(store::remove);
+            return (long) keys.size();
+        }).given(redisTemplate).delete(anyCollection());
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString())).willAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(1);
+            String token = invocation.getArgument(2);
+            return store.remove(keys.get(0), token) ? 1L : 0L;
+        });
+
+        // when
+        refreshTokenService.deleteAllSessions(EMAIL);
+        boolean consumed = refreshTokenService.consumeLegacyRefreshToken(EMAIL, legacyToken);
+
+        // then
+        assertThat(consumed).isFalse();
+    }
+}
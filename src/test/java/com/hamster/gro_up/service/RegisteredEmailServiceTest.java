@@ -0,0 +1,127 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.repository.UserRepository;
+import com.hamster.gro_up.repository.UserRepository.EmailView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RegisteredEmailServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private RegisteredEmailService registeredEmailService;
+
+    @BeforeEach
+    void setUp() {
+        registeredEmailService = new RegisteredEmailService(userRepository, redisTemplate, listenerContainer, 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("필터 재구성 전에는 항상 DB 로 확인한다")
+    void existsByEmail_beforeRebuild() {
+        // given
+        given(userRepository.existsByEmail("new@example.com")).willReturn(false);
+
+        // when & then
+        assertThat(registeredEmailService.existsByEmail("new@example.com")).isFalse();
+        verify(userRepository).existsByEmail("new@example.com");
+    }
+
+    @Test
+    @DisplayName("재구성 후 필터에 없는 이메일은 DB 조회 없이 없다고 판단한다")
+    void existsByEmail_filterNegative() {
+        // given
+        given(userRepository.findTop1000ByIdGreaterThanOrderByIdAsc(0L)).willReturn(List.of(emailView(1L, "Test@Example.com")));
+        given(userRepository.findTop1000ByIdGreaterThanOrderByIdAsc(1L)).willReturn(List.of());
+        registeredEmailService.rebuild();
+
+        // when & then
+        assertThat(registeredEmailService.existsByEmail("new@example.com")).isFalse();
+        verify(userRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("필터에 있을 수도 있는 이메일은 DB 로 확인한다")
+    void existsByEmail_filterPositive() {
+        // given
+        given(userRepository.findTop1000ByIdGreaterThanOrderByIdAsc(0L)).willReturn(List.of(emailView(1L, "Test@Example.com")));
+        given(userRepository.findTop1000ByIdGreaterThanOrderByIdAsc(1L)).willReturn(List.of());
+        given(userRepository.existsByEmail("test@example.com")).willReturn(true);
+        registeredEmailService.rebuild();
+
+        // when & then
+        assertThat(registeredEmailService.existsByEmail("test@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("가입한 이메일은 필터에 추가되고 다른 서버로 전파된다")
+    void register() {
+        // given
+        given(userRepository.findTop1000ByIdGreaterThanOrderByIdAsc(0L)).willReturn(List.of());
+        given(userRepository.existsByEmail("new@example.com")).willReturn(true);
+        registeredEmailService.rebuild();
+
+        // when
+        registeredEmailService.register("new@example.com");
+
+        // then
+        assertThat(registeredEmailService.existsByEmail("new@example.com")).isTrue();
+        verify(redisTemplate).convertAndSend(RegisteredEmailService.CHANNEL, "new@example.com");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 가입하면 커밋된 뒤에 다른 서버로 전파한다")
+    void register_afterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            registeredEmailService.register("new@example.com");
+
+            // then
+            verify(redisTemplate, never()).convertAndSend(any(), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(redisTemplate).convertAndSend(RegisteredEmailService.CHANNEL, "new@example.com");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private EmailView emailView(Long id, String email) {
+        return new EmailView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
@@ -1,6 +1,8 @@
 package com.hamster.gro_up.service;
 
 import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.CursorPage;
+import com.hamster.gro_up.dto.RetrospectSummary;
 import com.hamster.gro_up.dto.request.RetrospectCreateRequest;
 import com.hamster.gro_up.dto.request.RetrospectUpdateRequest;
 import com.hamster.gro_up.dto.response.RetrospectListResponse;
@@ -12,6 +14,7 @@ import com.hamster.gro_up.exception.schedule.ScheduleNotFoundException;
 import com.hamster.gro_up.repository.RetrospectRepository;
 import com.hamster.gro_up.repository.ScheduleRepository;
 import com.hamster.gro_up.repository.UserRepository;
+import com.hamster.gro_up.service.ListCacheService.CachedList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,14 +22,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +49,9 @@ class RetrospectServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ListCacheService listCacheService;
+
     @InjectMocks
     private RetrospectService retrospectService;
 
@@ -52,6 +62,10 @@ class RetrospectServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 캐시는 항상 비어 있는 것으로 두고 DB 조회 결과를 그대로 돌려준다
+        lenient().when(listCacheService.get(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+
         user = User.builder()
                 .id(1L)
                 .email("test@test.com")
@@ -139,28 +153,28 @@ class RetrospectServiceTest {
                 .user(user)
                 .build();
 
-        List<Retrospect> retrospectList = List.of(retrospect, retrospect2);
-        given(retrospectRepository.findAllByUserIdWithSchedule(authUser.getId())).willReturn(retrospectList);
+        List<RetrospectSummary> retrospectList = List.of(summaryOf(retrospect), summaryOf(retrospect2));
+        given(retrospectRepository.findSummariesByUserId(eq(authUser.getId()), any(Pageable.class))).willReturn(retrospectList);
 
         // when
-        RetrospectListResponse response = retrospectService.findAllRetrospects(authUser);
+        CursorPage<RetrospectListResponse> response = retrospectService.findAllRetrospects(authUser, null, 20);
 
         // then
-        assertThat(response.getRetrospectList()).hasSize(2);
-        assertThat(response.getRetrospectList()).extracting("memo").contains("회고 메모", "두번째 회고");
+        assertThat(response.getContent().getRetrospectList()).hasSize(2);
+        assertThat(response.getContent().getRetrospectList()).extracting("memo").contains("회고 메모", "두번째 회고");
     }
 
     @Test
     @DisplayName("해당 사용자가 소유한 회고가 없으면 빈 리스트를 반환한다")
     void findAllRetrospects_empty() {
         // given
-        given(retrospectRepository.findAllByUserIdWithSchedule(authUser.getId())).willReturn(List.of());
+        given(retrospectRepository.findSummariesByUserId(eq(authUser.getId()), any(Pageable.class))).willReturn(List.of());
 
         // when
-        RetrospectListResponse response = retrospectService.findAllRetrospects(authUser);
+        CursorPage<RetrospectListResponse> response = retrospectService.findAllRetrospects(authUser, null, 20);
 
         // then
-        assertThat(response.getRetrospectList()).isEmpty();
+        assertThat(response.getContent().getRetrospectList()).isEmpty();
     }
 
     @Test
@@ -236,6 +250,7 @@ class RetrospectServiceTest {
 
         // then
         verify(retrospectRepository).delete(retrospect);
+        verify(listCacheService).evictAfterCommit(authUser.getId(), CachedList.RETROSPECTS);
     }
 
     @Test
@@ -250,4 +265,16 @@ class RetrospectServiceTest {
                 () -> retrospectService.deleteRetrospect(otherUser, retrospect.getId()));
         assertThat(exception.getMessage()).isEqualTo("해당 리소스에 접근할 권한이 없습니다.");
     }
-}
\ No newline at end of file
+
+    // 목록 조회 쿼리가 돌려주는 요약과 같은 값을 가진 객체
+    private RetrospectSummary summaryOf(Retrospect retrospect) {
+        return new RetrospectSummary(
+                retrospect.getId(),
+                retrospect.getSchedule().getId(),
+                retrospect.getMemo(),
+                retrospect.getSchedule().getCompany() != null ? retrospect.getSchedule().getCompany().getId() : null,
+                retrospect.getSchedule().getCompanyName(),
+                retrospect.getSchedule().getPosition(),
+                retrospect.getCreatedAt());
+    }
+}
@@ -0,0 +1,339 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.request.ScheduleBulkCreateRequest;
+import com.hamster.gro_up.dto.request.ScheduleCreateRequest;
+import com.hamster.gro_up.dto.response.CompanyResponse;
+import com.hamster.gro_up.dto.response.ScheduleImportResponse;
+import com.hamster.gro_up.entity.Role;
+import com.hamster.gro_up.entity.Schedule;
+import com.hamster.gro_up.entity.Step;
+import com.hamster.gro_up.entity.User;
+import com.hamster.gro_up.entity.UserType;
+import com.hamster.gro_up.exception.ForbiddenException;
+import com.hamster.gro_up.exception.company.CompanyNotFoundException;
+import com.hamster.gro_up.exception.schedule.InvalidScheduleImportException;
+import com.hamster.gro_up.repository.CompanyRepository;
+import com.hamster.gro_up.repository.ScheduleRepository;
+import com.hamster.gro_up.repository.UserRepository;
+import com.hamster.gro_up.service.ScheduleImportService.Format;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleImportServiceTest {
+
+    @Mock
+    private ScheduleService scheduleService;
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    private ScheduleImportService scheduleImportService;
+
+    @TempDir
+    private Path tempDir;
+
+    private final AuthUser authUser = new AuthUser(1L, "ham@example.com", Role.ROLE_USER, UserType.LOCAL);
+
+    @BeforeEach
+    void setUp() {
+        scheduleImportService = new ScheduleImportService(scheduleService, companyRepository, redisTemplate,
+                1, 1, 2, 10000, 100, 86400000, 1000, "Asia/Seoul", tempDir.toString());
+        lenient().when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        lenient().when(redisTemplate.opsForList()).thenReturn(listOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduleImportService.shutdown();
+    }
+
+    @Test
+    @DisplayName("CSV 를 chunk-size 개씩 저장하고, 잘못된 행은 행 번호와 사유를 남기고 건너뛴다")
+    void run_csv() throws Exception {
+        // given
+        given(companyRepository.findResponsesByUserId(eq(1L), any(Pageable.class))).willReturn(List.of(
+                new CompanyResponse(10L, "Ham-Corp", "백엔드", null, "서울", "1층", null, null)));
+        Path path = write("""
+                companyName,dueDate,step,memo
+                " ham-corp ",2025-05-01T10:00,서류,"첫 줄
+                둘째 줄"
+                egg-corp,2025-05-02,FIRST_INTERVIEW,'=SUM(A1)
+                egg-corp,내일,,
+
+                bean-corp,2025-05-03 09:30,,
+                """);
+
+        // when
+        scheduleImportService.run("job-1", authUser, Format.CSV, path);
+
+        // then
+        ArgumentCaptor<ScheduleBulkCreateRequest> captor = ArgumentCaptor.forClass(ScheduleBulkCreateRequest.class);
+        verify(scheduleService, times(2)).createSchedules(eq(authUser), captor.capture());
+
+        List<ScheduleCreateRequest> first = captor.getAllValues().get(0).getSchedules();
+        assertThat(first).extracting("companyId").containsExactly(10L, null);
+        assertThat(first).extracting("step").containsExactly(Step.DOCUMENT, Step.FIRST_INTERVIEW);
+        assertThat(first).extracting("memo").containsExactly("첫 줄\n둘째 줄", "=SUM(A1)");
+        assertThat(first.get(1).getDueDate()).isEqualTo(LocalDateTime.of(2025, 5, 2, 0, 0));
+
+        List<ScheduleCreateRequest> second = captor.getAllValues().get(1).getSchedules();
+        assertThat(second).extracting("companyName").containsExactly("bean-corp");
+        assertThat(second.get(0).getDueDate()).isEqualTo(LocalDateTime.of(2025, 5, 3, 9, 30));
+
+        verify(hashOperations).putAll("scheduleImport:job-1",
+                Map.of("status", "COMPLETED", "processed", "4", "imported", "3", "failed", "1"));
+        verify(listOperations).rightPushAll(eq("scheduleImport:job-1:errors"),
+                argThat((List<String> errors) -> errors.size() == 1 && errors.get(0).startsWith("5행: dueDate")));
+        assertThat(Files.exists(path)).isFalse();
+    }
+
+    @Test
+    @DisplayName("ics 의 VEVENT 를 일정으로 가져오고 UTC 시각은 설정한 시간대로 바꾼다")
+    void run_ics() throws Exception {
+        // given
+        given(companyRepository.findResponsesByUserId(eq(1L), any(Pageable.class))).willReturn(List.of());
+        Path path = write("""
+                BEGIN:VCALENDAR
+                BEGIN:VEVENT
+                SUMMARY:ham-corp 1차
+                  면접
+                DTSTART:20250501T010000Z
+                LOCATION:서울시 강남구
+                CATEGORIES:채용,1차 면접
+                BEGIN:VALARM
+                DESCRIPTION:알림
+                END:VALARM
+                END:VEVENT
+                END:VCALENDAR
+                """);
+
+        // when
+        scheduleImportService.run("job-1", authUser, Format.ICS, path);
+
+        // then
+        ArgumentCaptor<ScheduleBulkCreateRequest> captor = ArgumentCaptor.forClass(ScheduleBulkCreateRequest.class);
+        verify(scheduleService).createSchedules(eq(authUser), captor.capture());
+
+        ScheduleCreateRequest request = captor.getValue().getSchedules().get(0);
+        assertThat(request.getCompanyName()).isEqualTo("ham-corp 1차 면접");
+        assertThat(request.getDueDate()).isEqualTo(LocalDateTime.of(2025, 5, 1, 10, 0));
+        assertThat(request.getAddress()).isEqualTo("서울시 강남구");
+        assertThat(request.getStep()).isEqualTo(Step.FIRST_INTERVIEW);
+        assertThat(request.getMemo()).isNull();
+    }
+
+    @Test
+    @DisplayName("묶음 저장이 실패하면 한 행씩 다시 저장해 실패한 행만 남긴다")
+    void run_chunkFailure() throws Exception {
+        // given
+        given(companyRepository.findResponsesByUserId(eq(1L), any(Pageable.class))).willReturn(List.of());
+        // 두 행 묶음과 egg-corp 한 행만 실패한다
+        given(scheduleService.createSchedules(eq(authUser), any())).willAnswer(invocation -> {
+            ScheduleBulkCreateRequest request = invocation.getArgument(1);
+            if (request.getSchedules().size() == 2 || request.getSchedules().get(0).getCompanyName().equals("egg-corp")) {
+                throw new CompanyNotFoundException();
+            }
+            return null;
+        });
+        Path path = write("""
+                companyName,dueDate
+                ham-corp,2025-05-01T10:00
+                egg-corp,2025-05-02T10:00
+                """);
+
+        // when
+        scheduleImportService.run("job-1", authUser, Format.CSV, path);
+
+        // then
+        verify(scheduleService, times(3)).createSchedules(eq(authUser), any());
+        verify(hashOperations).putAll("scheduleImport:job-1",
+                Map.of("status", "COMPLETED", "processed", "2", "imported", "1", "failed", "1"));
+        verify(listOperations).rightPushAll("scheduleImport:job-1:errors", List.of("3행: 해당 기업을 찾을 수 없습니다."));
+    }
+
+    @Test
+    @DisplayName("step 이 비어 있는 행은 서류 단계로 실제 일정 생성까지 마친다")
+    @SuppressWarnings("unchecked")
+    void run_emptyStep() throws Exception {
+        // given
+        ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        ScheduleService realScheduleService = new ScheduleService(scheduleRepository, companyRepository, userRepository,
+                mock(ListCacheService.class), mock(ScheduleTimelineService.class), mock(ScheduleStatService.class),
+                mock(ScheduleStepEventService.class), mock(CompanyNameSuggestService.class), mock(ScheduleReminderService.class));
+        ScheduleImportService service = new ScheduleImportService(realScheduleService, companyRepository, redisTemplate,
+                1, 1, 2, 10000, 100, 86400000, 1000, "Asia/Seoul", tempDir.toString());
+
+        given(companyRepository.findResponsesByUserId(eq(1L), any(Pageable.class))).willReturn(List.of());
+        given(userRepository.findById(1L)).willReturn(Optional.of(User.builder().id(1L).email(authUser.getEmail()).build()));
+        given(scheduleRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        Path path = write("""
+                companyName,dueDate,step
+                ham-corp,2025-05-01T10:00,
+                """);
+
+        // when
+        try {
+            service.run("job-1", authUser, Format.CSV, path);
+        } finally {
+            service.shutdown();
+        }
+
+        // then
+        ArgumentCaptor<List<Schedule>> captor = ArgumentCaptor.forClass(List.class);
+        verify(scheduleRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting("step").containsExactly(Step.DOCUMENT);
+        verify(hashOperations).putAll("scheduleImport:job-1",
+                Map.of("status", "COMPLETED", "processed", "1", "imported", "1", "failed", "0"));
+    }
+
+    @Test
+    @DisplayName("CSV 첫 줄에 필수 열이 없으면 작업을 실패로 끝낸다")
+    void run_fail_missingHeader() throws Exception {
+        // given
+        given(companyRepository.findResponsesByUserId(eq(1L), any(Pageable.class))).willReturn(List.of());
+        Path path = write("name,date\nham-corp,2025-05-01\n");
+
+        // when
+        scheduleImportService.run("job-1", authUser, Format.CSV, path);
+
+        // then
+        verify(scheduleService, never()).createSchedules(any(), any());
+        verify(hashOperations, atLeastOnce()).putAll(eq("scheduleImport:job-1"), argThat(fields -> "FAILED".equals(fields.get("status"))));
+        verify(listOperations).rightPushAll(eq("scheduleImport:job-1:errors"), anyList());
+    }
+
+    @Test
+    @DisplayName("csv, ics 가 아닌 파일은 가져올 수 없다")
+    void start_fail_unsupportedFile() {
+        // given
+        MockMultipartFile file = new MockMultipartFile("file", "schedules.xlsx", "application/octet-stream", new byte[]{1});
+
+        // when & then
+        assertThatThrownBy(() -> scheduleImportService.start(authUser, file))
+                .isInstanceOf(InvalidScheduleImportException.class);
+    }
+
+    @Test
+    @DisplayName("진행 상황과 실패 사유를 조회한다")
+    void findStatus_success() {
+        // given
+        given(hashOperations.entries("scheduleImport:job-1")).willReturn(Map.of(
+                "userId", "1", "status", "RUNNING", "processed", "400", "imported", "399", "failed", "1"));
+        given(listOperations.range("scheduleImport:job-1:errors", 0, -1)).willReturn(List.of("5행: companyName 이 비어 있습니다."));
+
+        // when
+        ScheduleImportResponse response = scheduleImportService.findStatus(authUser, "job-1");
+
+        // then
+        assertThat(response.getStatus()).isEqualTo("RUNNING");
+        assertThat(response.getImported()).isEqualTo(399);
+        assertThat(response.getErrors()).containsExactly("5행: companyName 이 비어 있습니다.");
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 가져오기 작업은 조회할 수 없다")
+    void findStatus_fail_forbidden() {
+        // given
+        given(hashOperations.entries("scheduleImport:job-1")).willReturn(Map.of(
+                "userId", "2", "status", "RUNNING", "processed", "0", "imported", "0", "failed", "0"));
+
+        // when & then
+        assertThatThrownBy(() -> scheduleImportService.findStatus(authUser, "job-1"))
+                .isInstanceOf(ForbiddenException.class);
+    }
+
+    @Test
+    @DisplayName("서버가 종료 중이면 남은 행을 읽지 않고 작업을 실패로 끝낸다")
+    void run_afterShutdown() throws Exception {
+        // given
+        given(companyRepository.findResponsesByUserId(eq(1L), any(Pageable.class))).willReturn(List.of());
+        Path path = write("""
+                companyName,dueDate
+                ham-corp,2025-05-01T10:00
+                """);
+        scheduleImportService.shutdown();
+
+        // when
+        scheduleImportService.run("job-1", authUser, Format.CSV, path);
+
+        // then
+        verify(scheduleService, never()).createSchedules(any(), any());
+        verify(hashOperations).putAll("scheduleImport:job-1",
+                Map.of("status", "FAILED", "processed", "0", "imported", "0", "failed", "0"));
+        verify(listOperations).rightPushAll("scheduleImport:job-1:errors", List.of("서버가 종료되어 2행부터는 가져오지 못했습니다."));
+        assertThat(path).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("이 서버의 임시 디렉터리에 남은 가져오기 파일만 지우고 다른 서버의 파일은 그대로 둔다")
+    void deleteOrphanFiles() throws Exception {
+        // given
+        Path orphan = Files.createTempFile(tempDir, "schedule-import-", ".tmp");
+        Path otherInstanceDir = Files.createDirectory(tempDir.resolveSibling(tempDir.getFileName() + "-other"));
+        Path otherInstanceFile = Files.createTempFile(otherInstanceDir, "schedule-import-", ".tmp");
+
+        try {
+            // when
+            scheduleImportService.deleteOrphanFiles();
+
+            // then
+            assertThat(orphan).doesNotExist();
+            assertThat(otherInstanceFile).exists();
+        } finally {
+            Files.deleteIfExists(otherInstanceFile);
+            Files.deleteIfExists(otherInstanceDir);
+        }
+    }
+
+    private Path write(String content) throws Exception {
+        Path path = Files.createTempFile("schedule-import-test-", ".tmp");
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+        return path;
+    }
+}
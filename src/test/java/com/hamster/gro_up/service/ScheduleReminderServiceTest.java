@@ -0,0 +1,315 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.entity.Step;
+import com.hamster.gro_up.repository.ScheduleRepository;
+import com.hamster.gro_up.repository.ScheduleRepository.ReminderView;
+import com.hamster.gro_up.repository.UserRepository;
+import com.hamster.gro_up.repository.UserRepository.EmailView;
+import com.hamster.gro_up.service.ScheduleReminderService.ClaimedSlot;
+import com.hamster.gro_up.service.ScheduleReminderService.Reminder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleReminderServiceTest {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MailOutboxService mailOutboxService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    private ScheduleReminderService scheduleReminderService;
+
+    @BeforeEach
+    void setUp() {
+        scheduleReminderService = new ScheduleReminderService(scheduleRepository, userRepository, mailOutboxService,
+                redisTemplate, new long[]{1440, 60}, 300000, 172800000, 288, 300000, "Asia/Seoul");
+    }
+
+    @Test
+    @DisplayName("일정이 생기면 horizon 안에 울릴 알림만 알림 시각의 칸에 넣는다")
+    void scheduleAfterCommit_withinHorizon() {
+        // given
+        LocalDateTime dueDate = LocalDateTime.now(ZONE_ID).plusHours(3).truncatedTo(ChronoUnit.SECONDS);
+        long dueEpochSecond = dueDate.atZone(ZONE_ID).toEpochSecond();
+
+        // when
+        scheduleReminderService.scheduleAfterCommit(1L, 100L, dueDate);
+
+        // then
+        // 하루 전 알림은 이미 지났으므로 한 시간 전 알림만 넣는다
+        long slot = Math.floorDiv((dueEpochSecond - 3600) * 1000, 300000);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("scheduleReminder:slot:" + slot)),
+                anyString(), eq("0"), eq("1:100:" + dueEpochSecond + ":60"));
+    }
+
+    @Test
+    @DisplayName("일시가 바뀌면 이전 일시의 알림을 빼고 새 일시의 알림을 넣는다")
+    void rescheduleAfterCommit_movesReminder() {
+        // given
+        LocalDateTime previousDueDate = LocalDateTime.now(ZONE_ID).plusHours(3).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime dueDate = previousDueDate.plusHours(2);
+        long previousEpochSecond = previousDueDate.atZone(ZONE_ID).toEpochSecond();
+        long dueEpochSecond = dueDate.atZone(ZONE_ID).toEpochSecond();
+
+        // when
+        scheduleReminderService.rescheduleAfterCommit(1L, 100L, previousDueDate, dueDate);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), argThat(keys -> keys != null && keys.size() == 2),
+                anyString(), eq("1"), eq("1:100:" + previousEpochSecond + ":60"), eq("1:100:" + dueEpochSecond + ":60"));
+    }
+
+    @Test
+    @DisplayName("horizon 밖의 일정이나 일시가 그대로인 수정은 Redis 를 건드리지 않는다")
+    void scheduleAfterCommit_beyondHorizon() {
+        // given
+        LocalDateTime farDueDate = LocalDateTime.now(ZONE_ID).plusDays(10);
+        LocalDateTime dueDate = LocalDateTime.now(ZONE_ID).plusHours(3);
+
+        // when
+        scheduleReminderService.scheduleAfterCommit(1L, 100L, farDueDate);
+        scheduleReminderService.rescheduleAfterCommit(1L, 100L, dueDate, dueDate);
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("cursor 다음 칸부터 지금 칸까지 처리 중 칸으로 옮기며 가져가고, 다른 서버가 이미 가져간 칸은 비어 있다")
+    void claimDue_success() {
+        // given
+        long currentSlot = Math.floorDiv(System.currentTimeMillis(), 300000);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.rangeByScore(eq("scheduleReminder:processing"), eq(0.0), anyDouble())).willReturn(Set.of());
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("scheduleReminder:cursor")).willReturn(String.valueOf(currentSlot - 2));
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+                .willReturn(List.of("1:100:1747000000:60", "2:200:1747000000:1440"), List.of());
+
+        // when
+        List<ClaimedSlot> result = scheduleReminderService.claimDue();
+
+        // then
+        assertThat(result).containsExactly(new ClaimedSlot(currentSlot - 1,
+                List.of(new Reminder(1L, 100L, 1747000000L, 60L), new Reminder(2L, 200L, 1747000000L, 1440L))));
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("scheduleReminder:cursor", "scheduleReminder:slot:" + (currentSlot - 1),
+                        "scheduleReminder:processing", "scheduleReminder:processing:" + (currentSlot - 1))),
+                eq(String.valueOf(currentSlot - 1)), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("가져간 서버가 lease 안에 끝내지 못한 처리 중 칸을 다시 가져간다")
+    void claimDue_reclaimsExpiredLease() {
+        // given
+        long currentSlot = Math.floorDiv(System.currentTimeMillis(), 300000);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.rangeByScore(eq("scheduleReminder:processing"), eq(0.0), anyDouble()))
+                .willReturn(Set.of(String.valueOf(currentSlot - 5)));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("scheduleReminder:cursor")).willReturn(String.valueOf(currentSlot));
+        given(redisTemplate.execute(any(RedisScript.class),
+                eq(List.of("scheduleReminder:processing", "scheduleReminder:processing:" + (currentSlot - 5))),
+                eq(String.valueOf(currentSlot - 5)), anyString(), anyString()))
+                .willReturn(List.of("1:100:1747000000:60"));
+
+        // when
+        List<ClaimedSlot> result = scheduleReminderService.claimDue();
+
+        // then
+        assertThat(result).containsExactly(new ClaimedSlot(currentSlot - 5, List.of(new Reminder(1L, 100L, 1747000000L, 60L))));
+    }
+
+    @Test
+    @DisplayName("메일을 넣은 알림만 처리 중 칸에서 지우고, 넣지 못한 알림은 남긴다")
+    void acknowledge_keepsFailed() {
+        // given
+        Reminder sent = new Reminder(1L, 100L, 1747000000L, 60L);
+        Reminder failed = new Reminder(2L, 200L, 1747000000L, 60L);
+
+        // when
+        scheduleReminderService.acknowledge(List.of(new ClaimedSlot(7L, List.of(sent, failed))), Set.of(failed));
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("scheduleReminder:processing", "scheduleReminder:processing:7")),
+                eq("7"), eq(sent.member()));
+    }
+
+    @Test
+    @DisplayName("한 사용자의 알림은 메일 한 통으로 묶고, 지워졌거나 일시가 바뀐 일정의 알림은 보내지 않는다")
+    void sendDigests_coalescesPerUser() {
+        // given
+        LocalDateTime dueDate = LocalDateTime.now(ZONE_ID).plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime otherDueDate = dueDate.plusHours(4);
+        long dueEpochSecond = dueDate.atZone(ZONE_ID).toEpochSecond();
+        long otherEpochSecond = otherDueDate.atZone(ZONE_ID).toEpochSecond();
+        given(scheduleRepository.findReminderViewsByIdIn(List.of(100L, 101L, 200L))).willReturn(List.of(
+                reminderViewOf(100L, 1L, "ham-corp", dueDate),
+                reminderViewOf(101L, 1L, "egg-corp", otherDueDate),
+                reminderViewOf(200L, 2L, "spam-corp", dueDate.plusDays(1))));
+        given(userRepository.findAllByIdIn(any())).willReturn(List.of(
+                emailViewOf(1L, "ham@test.com"), emailViewOf(2L, "egg@test.com")));
+
+        // when
+        Set<Reminder> failed = scheduleReminderService.sendDigests(List.of(
+                new Reminder(1L, 100L, dueEpochSecond, 60L),
+                new Reminder(1L, 101L, otherEpochSecond, 1440L),
+                new Reminder(1L, 100L, dueEpochSecond, 1440L),
+                new Reminder(2L, 200L, dueEpochSecond, 60L)));
+
+        // then
+        assertThat(failed).isEmpty();
+        verify(mailOutboxService).enqueue(eq("ham@test.com"), eq("다가오는 일정 2건"), contains("ham-corp"));
+        verify(mailOutboxService, never()).enqueue(eq("egg@test.com"), any(), any());
+    }
+
+    @Test
+    @DisplayName("밀린 칸을 늦게 가져가 마감이 이미 지난 일정은 알리지 않는다")
+    void sendDigests_skipsPastDue() {
+        // given
+        LocalDateTime pastDueDate = LocalDateTime.now(ZONE_ID).minusMinutes(10).truncatedTo(ChronoUnit.SECONDS);
+        given(scheduleRepository.findReminderViewsByIdIn(List.of(100L))).willReturn(List.of(
+                reminderViewOf(100L, 1L, "ham-corp", pastDueDate)));
+        given(userRepository.findAllByIdIn(any())).willReturn(List.of(emailViewOf(1L, "ham@test.com")));
+
+        // when
+        Set<Reminder> failed = scheduleReminderService.sendDigests(List.of(
+                new Reminder(1L, 100L, pastDueDate.atZone(ZONE_ID).toEpochSecond(), 60L)));
+
+        // then
+        assertThat(failed).isEmpty();
+        verifyNoInteractions(mailOutboxService);
+    }
+
+    @Test
+    @DisplayName("mail_outbox 에 넣지 못한 사용자의 알림을 돌려준다")
+    void sendDigests_returnsFailed() {
+        // given
+        LocalDateTime dueDate = LocalDateTime.now(ZONE_ID).plusHours(1).truncatedTo(ChronoUnit.SECONDS);
+        Reminder reminder = new Reminder(1L, 100L, dueDate.atZone(ZONE_ID).toEpochSecond(), 60L);
+        given(scheduleRepository.findReminderViewsByIdIn(List.of(100L))).willReturn(List.of(
+                reminderViewOf(100L, 1L, "ham-corp", dueDate)));
+        given(userRepository.findAllByIdIn(any())).willReturn(List.of(emailViewOf(1L, "ham@test.com")));
+        willThrow(new IllegalStateException("db down")).given(mailOutboxService).enqueue(anyString(), anyString(), anyString());
+
+        // when
+        Set<Reminder> failed = scheduleReminderService.sendDigests(List.of(reminder));
+
+        // then
+        assertThat(failed).containsExactly(reminder);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 적재 중이면 DB 를 읽지 않는다")
+    void loadUpcoming_locked() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("scheduleReminder:loaderLock"), anyString(), any(Duration.class))).willReturn(false);
+
+        // when
+        scheduleReminderService.loadUpcoming();
+
+        // then
+        verifyNoInteractions(scheduleRepository);
+    }
+
+    @Test
+    @DisplayName("offset 마다 그 구간에 울리는 마감일 범위만 읽어 알림을 칸에 넣고 적재 시각을 남긴다")
+    void loadUpcoming_success() {
+        // given
+        LocalDateTime dueDate = LocalDateTime.now(ZONE_ID).plusHours(30).truncatedTo(ChronoUnit.SECONDS);
+        long dueEpochSecond = dueDate.atZone(ZONE_ID).toEpochSecond();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("scheduleReminder:loaderLock"), anyString(), any(Duration.class))).willReturn(true);
+        given(scheduleRepository.findReminderViewsDueUntil(any(), any(), eq(Long.MAX_VALUE), any()))
+                .willReturn(List.of(reminderViewOf(100L, 1L, "ham-corp", dueDate)));
+
+        // when
+        scheduleReminderService.loadUpcoming();
+
+        // then
+        // 하루 전 알림은 마감일 (지금+1일, 지금+3일], 한 시간 전 알림은 (지금+1시간, 지금+49시간] 에서 찾는다
+        ArgumentCaptor<LocalDateTime> ends = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> starts = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(scheduleRepository, times(2)).findReminderViewsDueUntil(ends.capture(), starts.capture(), eq(Long.MAX_VALUE), any());
+        assertThat(Duration.between(starts.getAllValues().get(0), ends.getAllValues().get(0))).isEqualTo(Duration.ofDays(2));
+        assertThat(Duration.between(starts.getAllValues().get(1), starts.getAllValues().get(0))).isEqualTo(Duration.ofHours(23));
+
+        verify(redisTemplate).execute(any(RedisScript.class), argThat(keys -> keys != null && keys.size() == 1),
+                anyString(), eq("0"), eq("1:100:" + dueEpochSecond + ":1440"));
+        verify(redisTemplate).execute(any(RedisScript.class), argThat(keys -> keys != null && keys.size() == 1),
+                anyString(), eq("0"), eq("1:100:" + dueEpochSecond + ":60"));
+        verify(valueOperations).set(eq("scheduleReminder:loadedUntil"), anyString(), any(Duration.class));
+    }
+
+    private ReminderView reminderViewOf(Long id, Long userId, String companyName, LocalDateTime dueDate) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("userId", userId);
+        values.put("companyName", companyName);
+        values.put("position", "백엔드");
+        values.put("step", Step.FIRST_INTERVIEW);
+        values.put("dueDate", dueDate);
+        return projectionFactory.createProjection(ReminderView.class, values);
+    }
+
+    private EmailView emailViewOf(Long id, String email) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("email", email);
+        return projectionFactory.createProjection(EmailView.class, values);
+    }
+}
@@ -1,16 +1,24 @@
 package com.hamster.gro_up.service;
 
 import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.CursorPage;
+import com.hamster.gro_up.dto.request.ScheduleBulkCreateRequest;
 import com.hamster.gro_up.dto.request.ScheduleCreateRequest;
 import com.hamster.gro_up.dto.request.ScheduleUpdateRequest;
+import com.hamster.gro_up.dto.response.CalendarMonthResponse;
 import com.hamster.gro_up.dto.response.ScheduleListResponse;
 import com.hamster.gro_up.dto.response.ScheduleResponse;
 import com.hamster.gro_up.entity.*;
 import com.hamster.gro_up.exception.ForbiddenException;
+import com.hamster.gro_up.exception.common.InvalidCursorException;
+import com.hamster.gro_up.exception.company.CompanyNotFoundException;
 import com.hamster.gro_up.exception.schedule.ScheduleNotFoundException;
 import com.hamster.gro_up.repository.CompanyRepository;
 import com.hamster.gro_up.repository.ScheduleRepository;
+import com.hamster.gro_up.repository.ScheduleRepository.DayStepCount;
 import com.hamster.gro_up.repository.UserRepository;
+import com.hamster.gro_up.service.ListCacheService.CachedList;
+import com.hamster.gro_up.util.CursorUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,17 +26,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +58,24 @@ class ScheduleServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ListCacheService listCacheService;
+
+    @Mock
+    private ScheduleTimelineService scheduleTimelineService;
+
+    @Mock
+    private ScheduleStatService scheduleStatService;
+
+    @Mock
+    private ScheduleStepEventService scheduleStepEventService;
+
+    @Mock
+    private CompanyNameSuggestService companyNameSuggestService;
+
+    @Mock
+    private ScheduleReminderService scheduleReminderService;
+
     @InjectMocks
     private ScheduleService scheduleService;
 
@@ -53,6 +86,10 @@ class ScheduleServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 캐시는 항상 비어 있는 것으로 두고 DB 조회 결과를 그대로 돌려준다
+        lenient().when(listCacheService.get(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+
         user = User.builder()
                 .id(1L)
                 .email("test@test.com")
@@ -149,28 +186,66 @@ class ScheduleServiceTest {
                 .memo("2차 면접")
                 .build();
 
-        List<Schedule> scheduleList = List.of(schedule, schedule2);
-        given(scheduleRepository.findByUserIdWithCompany(authUser.getId())).willReturn(scheduleList);
+        List<ScheduleResponse> scheduleList = List.of(ScheduleResponse.from(schedule), ScheduleResponse.from(schedule2));
+        given(scheduleRepository.findResponsesByUserId(eq(authUser.getId()), any(Pageable.class))).willReturn(scheduleList);
 
         // when
-        ScheduleListResponse response = scheduleService.findAllSchedules(authUser);
+        CursorPage<ScheduleListResponse> response = scheduleService.findAllSchedules(authUser, null, 20);
 
         // then
-        assertThat(response.getScheduleList()).hasSize(2);
-        assertThat(response.getScheduleList()).extracting("position").contains("백엔드", "프론트엔드");
+        assertThat(response.getContent().getScheduleList()).hasSize(2);
+        assertThat(response.getContent().getScheduleList()).extracting("position").contains("백엔드", "프론트엔드");
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("size 보다 많은 일정이 있으면 마지막 일정의 커서를 내려주고, 그 커서로 다음 페이지를 조회한다")
+    void findAllSchedules_nextPage() {
+        // given
+        Schedule schedule2 = Schedule.builder()
+                .id(101L)
+                .user(user)
+                .company(company)
+                .dueDate(LocalDateTime.of(2024, 6, 2, 14, 0))
+                .step(Step.SECOND_INTERVIEW)
+                .position("프론트엔드")
+                .build();
+
+        given(scheduleRepository.findResponsesByUserId(eq(authUser.getId()), any(Pageable.class)))
+                .willReturn(List.of(ScheduleResponse.from(schedule), ScheduleResponse.from(schedule2)));
+        given(scheduleRepository.findResponsesByUserIdAfter(eq(authUser.getId()), eq(schedule.getDueDate()), eq(schedule.getId()), any(Pageable.class)))
+                .willReturn(List.of(ScheduleResponse.from(schedule2)));
+
+        // when
+        CursorPage<ScheduleListResponse> firstPage = scheduleService.findAllSchedules(authUser, null, 1);
+        CursorPage<ScheduleListResponse> secondPage = scheduleService.findAllSchedules(authUser, firstPage.getNextCursor(), 1);
+
+        // then
+        assertThat(firstPage.getContent().getScheduleList()).extracting("position").containsExactly("백엔드");
+        assertThat(firstPage.getNextCursor()).isEqualTo(CursorUtil.encode(schedule.getDueDate(), schedule.getId()));
+        assertThat(secondPage.getContent().getScheduleList()).extracting("position").containsExactly("프론트엔드");
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서로 조회하면 예외가 발생한다")
+    void findAllSchedules_fail_invalidCursor() {
+        // when & then
+        assertThrows(InvalidCursorException.class, () -> scheduleService.findAllSchedules(authUser, "not-a-cursor", 20));
     }
 
     @Test
     @DisplayName("해당 사용자가 소유한 일정이 없으면 빈 리스트를 반환한다")
     void findAllSchedules_empty() {
         // given
-        given(scheduleRepository.findByUserIdWithCompany(authUser.getId())).willReturn(List.of());
+        given(scheduleRepository.findResponsesByUserId(eq(authUser.getId()), any(Pageable.class))).willReturn(List.of());
 
         // when
-        ScheduleListResponse response = scheduleService.findAllSchedules(authUser);
+        CursorPage<ScheduleListResponse> response = scheduleService.findAllSchedules(authUser, null, 20);
 
         // then
-        assertThat(response.getScheduleList()).isEmpty();
+        assertThat(response.getContent().getScheduleList()).isEmpty();
+        assertThat(response.getNextCursor()).isNull();
     }
 
     @Test
@@ -201,6 +276,46 @@ class ScheduleServiceTest {
         assertThat(response.getPosition()).isEqualTo(schedule.getPosition());
         assertThat(response.getMemo()).isEqualTo(schedule.getMemo());
         assertThat(response.getDueDate()).isEqualTo(schedule.getDueDate());
+        verify(scheduleStatService).increment(authUser.getId(), schedule.getStep());
+        verify(scheduleStepEventService).record(authUser.getId(), schedule.getId(), null, schedule.getStep());
+        verify(scheduleReminderService).scheduleAfterCommit(authUser.getId(), schedule.getId(), schedule.getDueDate());
+    }
+
+    @Test
+    @DisplayName("일정 일괄 생성에 성공하고 기업은 한 번에 조회한다")
+    void createSchedules_success() {
+        // given
+        ScheduleBulkCreateRequest request = new ScheduleBulkCreateRequest(List.of(
+                new ScheduleCreateRequest(company.getId(), null, null, null, Step.DOCUMENT,
+                        LocalDateTime.of(2025, 5, 11, 12, 0), "백엔드", null),
+                new ScheduleCreateRequest(null, "egg-corp", "busan", null, Step.DOCUMENT,
+                        LocalDateTime.of(2025, 6, 2, 14, 0), "프론트엔드", null)));
+        given(companyRepository.findAllById(Set.of(company.getId()))).willReturn(List.of(company));
+        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+        given(scheduleRepository.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        ScheduleListResponse response = scheduleService.createSchedules(authUser, request);
+
+        // then
+        assertThat(response.getScheduleList()).extracting("companyName").containsExactly("ham-corp", "egg-corp");
+        assertThat(response.getScheduleList()).extracting("address").containsExactly("seoul", "busan");
+        verify(scheduleStatService).incrementAll(authUser.getId(), List.of(Step.DOCUMENT, Step.DOCUMENT));
+        verify(scheduleTimelineService).evictAfterCommit(authUser.getId());
+        verify(listCacheService).evictVariantsAfterCommit(authUser.getId(), CachedList.CALENDAR, Set.of("2025-05", "2025-06"));
+        verify(scheduleReminderService).scheduleAllAfterCommit(eq(authUser.getId()), argThat(schedules -> schedules != null && schedules.size() == 2));
+    }
+
+    @Test
+    @DisplayName("일정 일괄 생성 시 없는 기업이 있으면 예외가 발생한다")
+    void createSchedules_fail_companyNotFound() {
+        // given
+        ScheduleBulkCreateRequest request = new ScheduleBulkCreateRequest(List.of(
+                new ScheduleCreateRequest(999L, "none-corp", null, null, Step.DOCUMENT, LocalDateTime.now(), null, null)));
+        given(companyRepository.findAllById(Set.of(999L))).willReturn(List.of());
+
+        // when & then
+        assertThrows(CompanyNotFoundException.class, () -> scheduleService.createSchedules(authUser, request));
     }
 
     @Test
@@ -253,6 +368,10 @@ class ScheduleServiceTest {
         assertThat(schedule.getMemo()).isEqualTo(updateRequest.getMemo());
         assertThat(schedule.getPosition()).isEqualTo(updateRequest.getPosition());
         assertThat(schedule.getStep()).isEqualTo(Step.DOCUMENT);
+        verify(scheduleStatService).move(authUser.getId(), Step.DOCUMENT, Step.DOCUMENT);
+        verify(scheduleStepEventService).record(authUser.getId(), schedule.getId(), Step.DOCUMENT, Step.DOCUMENT);
+        verify(listCacheService).evictVariantsAfterCommit(authUser.getId(), CachedList.CALENDAR, Set.of("2025-05", "2025-06"));
+        verify(scheduleReminderService).rescheduleAfterCommit(eq(authUser.getId()), eq(schedule.getId()), any(), eq(updateRequest.getDueDate()));
     }
 
     @Test
@@ -289,6 +408,10 @@ class ScheduleServiceTest {
 
         // then
         verify(scheduleRepository).delete(schedule);
+        verify(listCacheService).evictAfterCommit(authUser.getId(), CachedList.SCHEDULES, CachedList.RETROSPECTS);
+        verify(companyNameSuggestService).removeAfterCommit(authUser.getId(), schedule.getCompanyName());
+        verify(scheduleTimelineService).removeAfterCommit(authUser.getId(), schedule.getId());
+        verify(scheduleReminderService).cancelAfterCommit(authUser.getId(), schedule.getId(), schedule.getDueDate());
     }
 
     @Test
@@ -325,8 +448,8 @@ class ScheduleServiceTest {
         LocalDateTime startDateTime = startDate.atStartOfDay();
         LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
 
-        given(scheduleRepository.findSchedulesInRange(authUser.getId(), startDateTime, endDateTime))
-                .willReturn(List.of(schedule, schedule2));
+        given(scheduleTimelineService.findInRange(authUser.getId(), startDateTime, endDateTime))
+                .willReturn(List.of(ScheduleResponse.from(schedule), ScheduleResponse.from(schedule2)));
 
         // when
         ScheduleListResponse response = scheduleService.findSchedulesInRange(authUser, startDate, endDate);
@@ -367,9 +490,9 @@ class ScheduleServiceTest {
                 .dueDate(LocalDateTime.now())
                 .build();
 
-        List<Schedule> schedules = List.of(schedule, schedule2);
+        List<ScheduleResponse> schedules = List.of(ScheduleResponse.from(schedule), ScheduleResponse.from(schedule2));
 
-        given(scheduleRepository.findByUserIdAndCompanyName(authUser.getId(), companyName)).willReturn(schedules);
+        given(scheduleRepository.findResponsesByCompanyName(authUser.getId(), companyName)).willReturn(schedules);
 
         // when
         ScheduleListResponse response = scheduleService.findSchedulesByCompanyName(authUser, companyName);
@@ -380,4 +503,45 @@ class ScheduleServiceTest {
         assertThat(scheduleResponse.getCompanyName()).isEqualTo(companyName);
         assertThat(scheduleResponse.getPosition()).isEqualTo(schedule2.getPosition());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("월별 달력은 날짜별, 단계별 일정 수를 날짜순으로 반환한다")
+    void findCalendarMonth_success() {
+        // given
+        YearMonth month = YearMonth.of(2025, 5);
+        given(scheduleRepository.countByDayAndStep(authUser.getId(),
+                LocalDateTime.of(2025, 5, 1, 0, 0), LocalDateTime.of(2025, 6, 1, 0, 0)))
+                .willReturn(List.of(
+                        dayStepCount(LocalDate.of(2025, 5, 20), Step.FIRST_INTERVIEW, 1),
+                        dayStepCount(LocalDate.of(2025, 5, 11), Step.DOCUMENT, 2),
+                        dayStepCount(LocalDate.of(2025, 5, 11), Step.CODING_TEST, 1)));
+
+        // when
+        CalendarMonthResponse response = scheduleService.findCalendarMonth(authUser, month);
+
+        // then
+        assertThat(response.getMonth()).isEqualTo(month);
+        assertThat(response.getDays()).extracting("date").containsExactly(LocalDate.of(2025, 5, 11), LocalDate.of(2025, 5, 20));
+        assertThat(response.getDays().get(0).getTotal()).isEqualTo(3);
+        assertThat(response.getDays().get(0).getSteps()).containsEntry(Step.DOCUMENT, 2L).containsEntry(Step.CODING_TEST, 1L);
+    }
+
+    private DayStepCount dayStepCount(LocalDate dueDay, Step step, long scheduleCount) {
+        return new DayStepCount() {
+            @Override
+            public LocalDate getDueDay() {
+                return dueDay;
+            }
+
+            @Override
+            public Step getStep() {
+                return step;
+            }
+
+            @Override
+            public long getScheduleCount() {
+                return scheduleCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,132 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.dto.response.ScheduleStatResponse;
+import com.hamster.gro_up.dto.response.StepStatResponse;
+import com.hamster.gro_up.entity.ScheduleStepStat;
+import com.hamster.gro_up.entity.Step;
+import com.hamster.gro_up.repository.ScheduleRepository;
+import com.hamster.gro_up.repository.ScheduleRepository.UserStepCount;
+import com.hamster.gro_up.repository.ScheduleStepStatRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleStatServiceTest {
+
+    @Mock
+    private ScheduleStepStatRepository scheduleStepStatRepository;
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @InjectMocks
+    private ScheduleStatService scheduleStatService;
+
+    @Test
+    @DisplayName("단계가 바뀌면 이전 단계는 1 줄이고 새 단계는 1 늘린다")
+    void move_success() {
+        // when
+        scheduleStatService.move(1L, Step.DOCUMENT, Step.CODING_TEST);
+
+        // then
+        verify(scheduleStepStatRepository).addCount(1L, "DOCUMENT", -1);
+        verify(scheduleStepStatRepository).addCount(1L, "CODING_TEST", 1);
+    }
+
+    @Test
+    @DisplayName("단계가 그대로면 통계를 건드리지 않는다")
+    void move_sameStep() {
+        // when
+        scheduleStatService.move(1L, Step.DOCUMENT, Step.DOCUMENT);
+
+        // then
+        verify(scheduleStepStatRepository, never()).addCount(anyLong(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("단계별 일정 수로 도달 수와 전환율을 계산한다")
+    void findStats_success() {
+        // given
+        given(scheduleStepStatRepository.findByUserId(1L)).willReturn(List.of(
+                new ScheduleStepStat(1L, Step.DOCUMENT, 4),
+                new ScheduleStepStat(1L, Step.CODING_TEST, 2),
+                new ScheduleStepStat(1L, Step.FIRST_INTERVIEW, 1),
+                new ScheduleStepStat(1L, Step.FAIL, 3)));
+
+        // when
+        ScheduleStatResponse response = scheduleStatService.findStats(1L);
+
+        // then
+        assertThat(response.getTotal()).isEqualTo(10);
+
+        StepStatResponse document = response.getSteps().get(0);
+        assertThat(document.getStep()).isEqualTo(Step.DOCUMENT);
+        assertThat(document.getReached()).isEqualTo(10);
+        assertThat(document.getConversionRate()).isNull();
+
+        StepStatResponse codingTest = response.getSteps().get(1);
+        assertThat(codingTest.getReached()).isEqualTo(3);
+        assertThat(codingTest.getConversionRate()).isEqualTo(0.3);
+
+        StepStatResponse fail = response.getSteps().get(response.getSteps().size() - 1);
+        assertThat(fail.getStep()).isEqualTo(Step.FAIL);
+        assertThat(fail.getCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재계산 시 원본 일정 수로 기존 통계를 덮어쓰고 없던 단계는 새로 만든다")
+    void reconcile_success() {
+        // given
+        ScheduleStepStat drifted = new ScheduleStepStat(1L, Step.DOCUMENT, 7);
+        given(scheduleStepStatRepository.findByUserIdInForUpdate(List.of(1L))).willReturn(List.of(drifted));
+        given(scheduleRepository.countByUserIdInGroupByStep(List.of(1L))).willReturn(List.of(
+                userStepCount(1L, Step.DOCUMENT, 5),
+                userStepCount(1L, Step.FAIL, 2)));
+
+        // when
+        scheduleStatService.reconcile(List.of(1L));
+
+        // then
+        assertThat(drifted.getScheduleCount()).isEqualTo(5);
+        ArgumentCaptor<List<ScheduleStepStat>> captor = ArgumentCaptor.forClass(List.class);
+        verify(scheduleStepStatRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement()
+                .satisfies(created -> {
+                    assertThat(created.getStep()).isEqualTo(Step.FAIL);
+                    assertThat(created.getScheduleCount()).isEqualTo(2);
+                });
+    }
+
+    private UserStepCount userStepCount(Long userId, Step step, long scheduleCount) {
+        return new UserStepCount() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Step getStep() {
+                return step;
+            }
+
+            @Override
+            public long getScheduleCount() {
+                return scheduleCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.dto.response.StepHistoryResponse;
+import com.hamster.gro_up.entity.ScheduleStepEvent;
+import com.hamster.gro_up.entity.Step;
+import com.hamster.gro_up.repository.ScheduleStepEventRepository;
+import com.hamster.gro_up.service.ScheduleStepEventService.PendingEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleStepEventServiceTest {
+
+    @Mock
+    private ScheduleStepEventRepository scheduleStepEventRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ScheduleStepEventService scheduleStepEventService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(scheduleStepEventService);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 바뀐 단계는 모아 두었다가 커밋 직전에 한 번에 저장한다")
+    @SuppressWarnings("unchecked")
+    void record_batchedBeforeCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        scheduleStepEventService.record(1L, 100L, null, Step.DOCUMENT);
+        scheduleStepEventService.record(1L, 101L, Step.DOCUMENT, Step.CODING_TEST);
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(List.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+
+        ArgumentCaptor<List<PendingEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(captor.getValue()).extracting(PendingEvent::scheduleId).containsExactly(100L, 101L);
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(TransactionSynchronizationManager.hasResource(scheduleStepEventService)).isFalse();
+    }
+
+    @Test
+    @DisplayName("단계가 그대로면 이력을 남기지 않는다")
+    @SuppressWarnings("unchecked")
+    void record_sameStep() {
+        // when
+        scheduleStepEventService.record(1L, 100L, Step.DOCUMENT, Step.DOCUMENT);
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(List.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("단계별로 다음 단계까지 머문 시간을 계산하고 현재 단계는 비워 둔다")
+    void findHistory() {
+        // given
+        LocalDateTime documentAt = LocalDateTime.of(2025, 5, 1, 10, 0);
+        LocalDateTime codingTestAt = documentAt.plusDays(3);
+        given(scheduleStepEventRepository.findByScheduleIdOrderByOccurredAtAscIdAsc(100L)).willReturn(List.of(
+                new ScheduleStepEvent(1L, 100L, 1L, null, Step.DOCUMENT, documentAt),
+                new ScheduleStepEvent(2L, 100L, 1L, Step.DOCUMENT, Step.CODING_TEST, codingTestAt)));
+
+        // when
+        StepHistoryResponse response = scheduleStepEventService.findHistory(100L);
+
+        // then
+        assertThat(response.getTransitions()).extracting("step").containsExactly(Step.DOCUMENT, Step.CODING_TEST);
+        assertThat(response.getTransitions().get(0).getDurationSeconds()).isEqualTo(3 * 24 * 60 * 60L);
+        assertThat(response.getTransitions().get(1).getDurationSeconds()).isNull();
+    }
+}
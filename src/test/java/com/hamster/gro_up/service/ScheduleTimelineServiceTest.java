@@ -0,0 +1,147 @@
+package com.hamster.gro_up.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hamster.gro_up.dto.response.ScheduleResponse;
+import com.hamster.gro_up.entity.Role;
+import com.hamster.gro_up.entity.Schedule;
+import com.hamster.gro_up.entity.Step;
+import com.hamster.gro_up.entity.User;
+import com.hamster.gro_up.repository.ScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleTimelineServiceTest {
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ScheduleTimelineService scheduleTimelineService;
+
+    private Schedule mayInterview;
+    private Schedule juneInterview;
+
+    private final LocalDateTime start = LocalDateTime.of(2025, 5, 1, 0, 0);
+    private final LocalDateTime end = LocalDateTime.of(2025, 5, 31, 23, 59, 59);
+
+    @BeforeEach
+    void setUp() {
+        scheduleTimelineService = new ScheduleTimelineService(scheduleRepository, redisTemplate, objectMapper, 86400000);
+
+        User user = User.builder().id(1L).email("test@test.com").role(Role.ROLE_USER).build();
+
+        mayInterview = Schedule.builder()
+                .id(100L)
+                .user(user)
+                .companyName("ham-corp")
+                .dueDate(LocalDateTime.of(2025, 5, 10, 10, 0))
+                .step(Step.FIRST_INTERVIEW)
+                .position("백엔드")
+                .build();
+
+        juneInterview = Schedule.builder()
+                .id(101L)
+                .user(user)
+                .companyName("egg-corp")
+                .dueDate(LocalDateTime.of(2025, 6, 2, 14, 0))
+                .step(Step.SECOND_INTERVIEW)
+                .position("프론트엔드")
+                .build();
+    }
+
+    @Test
+    @DisplayName("타임라인이 있으면 Redis 에서 범위 조회하고 DB 는 조회하지 않는다")
+    void findInRange_hit() throws Exception {
+        // given
+        String member = "100:" + objectMapper.writeValueAsString(ScheduleResponse.from(mayInterview));
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(List.of(member));
+
+        // when
+        List<ScheduleResponse> result = scheduleTimelineService.findInRange(1L, start, end);
+
+        // then
+        assertThat(result).extracting("scheduleId").containsExactly(100L);
+        assertThat(result.get(0).getDueDate()).isEqualTo(mayInterview.getDueDate());
+        verify(scheduleRepository, never()).findResponsesByUserId(any(), any());
+    }
+
+    @Test
+    @DisplayName("타임라인이 없으면 DB 에서 다시 만들고 범위 안의 일정만 반환한다")
+    void findInRange_rebuild() {
+        // given
+        lenient().when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(null);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("scheduleTimeline:1:version")).willReturn("3");
+        given(scheduleRepository.findResponsesByUserId(eq(1L), any(Pageable.class)))
+                .willReturn(List.of(ScheduleResponse.from(mayInterview), ScheduleResponse.from(juneInterview)));
+
+        // when
+        List<ScheduleResponse> result = scheduleTimelineService.findInRange(1L, start, end);
+
+        // then
+        assertThat(result).extracting("scheduleId").containsExactly(100L);
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("scheduleTimeline:1", "scheduleTimeline:1:version", "scheduleTimeline:1:members")),
+                eq("3"), any(), any(), eq("100"), any(), any(), eq("101"), any());
+    }
+
+    @Test
+    @DisplayName("일정이 바뀌면 scheduleId 로 이전 member 를 찾을 수 있도록 해시 키와 함께 해당 일정만 갱신한다")
+    void putAfterCommit() throws Exception {
+        // given
+        String member = "100:" + objectMapper.writeValueAsString(ScheduleResponse.from(mayInterview));
+
+        // when
+        scheduleTimelineService.putAfterCommit(mayInterview);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("scheduleTimeline:1", "scheduleTimeline:1:version", "scheduleTimeline:1:members")),
+                eq("100"), any(), eq(String.valueOf(mayInterview.getDueDate().toEpochSecond(ZoneOffset.UTC))), eq(member));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 DB 에서 범위 조회한다")
+    void findInRange_fallback() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+        given(scheduleRepository.findResponsesInRange(1L, start, end)).willReturn(List.of(ScheduleResponse.from(mayInterview)));
+
+        // when
+        List<ScheduleResponse> result = scheduleTimelineService.findInRange(1L, start, end);
+
+        // then
+        assertThat(result).extracting("scheduleId").containsExactly(100L);
+    }
+}
@@ -0,0 +1,146 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.dto.AuthUser;
+import com.hamster.gro_up.dto.RetrospectSummary;
+import com.hamster.gro_up.dto.response.ScheduleResponse;
+import com.hamster.gro_up.dto.response.SearchResponse;
+import com.hamster.gro_up.entity.Role;
+import com.hamster.gro_up.entity.Step;
+import com.hamster.gro_up.entity.UserType;
+import com.hamster.gro_up.exception.search.InvalidSearchQueryException;
+import com.hamster.gro_up.repository.RetrospectRepository;
+import com.hamster.gro_up.repository.ScheduleRepository;
+import com.hamster.gro_up.repository.SearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private RetrospectRepository retrospectRepository;
+
+    @InjectMocks
+    private SearchService searchService;
+
+    private AuthUser authUser;
+
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    @BeforeEach
+    void setUp() {
+        authUser = new AuthUser(1L, "test@test.com", Role.ROLE_USER, UserType.LOCAL);
+    }
+
+    @Test
+    @DisplayName("관련도 순서대로 일정과 회고를 반환하고 검색어와 겹치는 부분을 강조한다")
+    void search_success() {
+        // given
+        given(scheduleRepository.search(1L, "+\"카카오뱅크\"", 20)).willReturn(List.of(hitOf(101L, 2.5), hitOf(100L, 0.8)));
+        given(scheduleRepository.findResponsesByIdIn(1L, List.of(101L, 100L))).willReturn(List.of(
+                scheduleOf(100L, "카카오", "백엔드", "<b>메모</b>"),
+                scheduleOf(101L, "카카오뱅크", "서버 개발", null)));
+        given(retrospectRepository.search(1L, "+\"카카오뱅크\"", 20)).willReturn(List.of(hitOf(200L, 1.2)));
+        given(retrospectRepository.findSummariesByIdIn(1L, List.of(200L)))
+                .willReturn(List.of(summaryOf(200L, 101L, "카카오뱅크 면접 & 후기")));
+
+        // when
+        SearchResponse response = searchService.search(authUser, "  카카오뱅크 ", null, 20);
+
+        // then
+        assertThat(response.getSchedules()).extracting("item.scheduleId").containsExactly(101L, 100L);
+        assertThat(response.getSchedules()).extracting("score").containsExactly(2.5, 0.8);
+        assertThat(response.getSchedules().get(0).getHighlights()).containsExactly(Map.entry("companyName", "<em>카카오뱅크</em>"));
+        assertThat(response.getSchedules().get(1).getHighlights()).containsExactly(Map.entry("companyName", "<em>카카오</em>"));
+
+        assertThat(response.getRetrospects()).extracting("item.scheduleId").containsExactly(101L);
+        assertThat(response.getRetrospects().get(0).getHighlights())
+                .containsEntry("memo", "<em>카카오뱅크</em> 면접 &amp; 후기");
+    }
+
+    @Test
+    @DisplayName("type 을 지정하면 해당 대상만 검색한다")
+    void search_schedulesOnly() {
+        // given
+        given(scheduleRepository.search(1L, "+\"백엔드\"", 20)).willReturn(List.of());
+
+        // when
+        SearchResponse response = searchService.search(authUser, "백엔드", "schedules", 20);
+
+        // then
+        assertThat(response.getSchedules()).isEmpty();
+        assertThat(response.getRetrospects()).isEmpty();
+        verify(retrospectRepository, never()).search(any(), anyString(), anyInt());
+        verify(scheduleRepository, never()).findResponsesByIdIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("단어마다 따옴표로 묶은 필수 구문으로 검색하고, 따옴표와 한 글자 단어는 뺀다")
+    void search_booleanPhrases() {
+        // given
+        given(scheduleRepository.search(1L, "+\"카카오\" +\"백엔드\"", 20)).willReturn(List.of());
+
+        // when
+        searchService.search(authUser, "카카오 \"백엔드\" 팀", "schedules", 20);
+
+        // then
+        verify(scheduleRepository).search(1L, "+\"카카오\" +\"백엔드\"", 20);
+    }
+
+    @Test
+    @DisplayName("두 글자 이상인 단어가 없으면 검색하지 않고 예외가 발생한다")
+    void search_fail_onlyShortWords() {
+        // when & then
+        assertThatThrownBy(() -> searchService.search(authUser, "a b c", null, 20))
+                .isInstanceOf(InvalidSearchQueryException.class);
+        verify(scheduleRepository, never()).search(any(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("검색어가 한 글자면 검색하지 않고 예외가 발생한다")
+    void search_fail_tooShort() {
+        // when & then
+        assertThatThrownBy(() -> searchService.search(authUser, " 카 ", null, 20))
+                .isInstanceOf(InvalidSearchQueryException.class);
+        verify(scheduleRepository, never()).search(any(), anyString(), anyInt());
+    }
+
+    private SearchHit hitOf(Long id, double score) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("score", score);
+        return projectionFactory.createProjection(SearchHit.class, values);
+    }
+
+    private ScheduleResponse scheduleOf(Long id, String companyName, String position, String memo) {
+        return new ScheduleResponse(id, null, companyName, null, null, Step.DOCUMENT, position, memo,
+                LocalDateTime.of(2025, 5, 1, 10, 0), null, null);
+    }
+
+    private RetrospectSummary summaryOf(Long id, Long scheduleId, String memo) {
+        return new RetrospectSummary(id, scheduleId, memo, null, "카카오뱅크", "서버 개발", null);
+    }
+}
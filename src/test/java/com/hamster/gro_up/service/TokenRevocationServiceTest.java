@@ -0,0 +1,192 @@
+package com.hamster.gro_up.service;
+
+import com.hamster.gro_up.entity.Role;
+import com.hamster.gro_up.entity.UserType;
+import com.hamster.gro_up.util.ParsedToken;
+import com.hamster.gro_up.util.TokenType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(redisTemplate, listenerContainer, 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("폐기 목록에 없는 토큰은 Redis 를 조회하지 않고 통과시킨다")
+    void isRevoked_bloomNegative() {
+        // when
+        boolean revoked = tokenRevocationService.isRevoked(accessToken("jti-1", System.currentTimeMillis()));
+
+        // then
+        assertThat(revoked).isFalse();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 남은 수명만큼 Redis 에 저장하고 다른 서버에 알린다")
+    void revokeToken() {
+        // given
+        ParsedToken accessToken = accessToken("jti-1", System.currentTimeMillis());
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.hasKey("revokedToken:jti-1")).willReturn(true);
+
+        // when
+        tokenRevocationService.revokeToken(accessToken);
+
+        // then
+        verify(valueOperations).set(eq("revokedToken:jti-1"), eq("1"), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(redisTemplate).convertAndSend(TokenRevocationService.CHANNEL, "token:jti-1");
+        assertThat(tokenRevocationService.isRevoked(accessToken)).isTrue();
+    }
+
+    @Test
+    @DisplayName("사용자 토큰을 일괄 폐기하면 폐기 시각보다 먼저 발급된 토큰만 막고, 같은 초라도 이후에 발급된 토큰은 통과시킨다")
+    void revokeAllTokens_comparesMillis() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        ArgumentCaptor<String> revokedAt = ArgumentCaptor.forClass(String.class);
+
+        tokenRevocationService.revokeAllTokens(1L);
+        verify(valueOperations).set(eq("revokedUser:1"), revokedAt.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        long revokedAtMs = Long.parseLong(revokedAt.getValue());
+        verify(redisTemplate).convertAndSend(TokenRevocationService.CHANNEL, "user:1:" + revokedAtMs);
+
+        // when
+        boolean issuedBefore = tokenRevocationService.isRevoked(accessToken("jti-1", revokedAtMs - 1));
+        boolean issuedAfter = tokenRevocationService.isRevoked(accessToken("jti-2", revokedAtMs + 1));
+
+        // then
+        assertThat(issuedBefore).isTrue();
+        assertThat(issuedAfter).isFalse();
+        verify(valueOperations, never()).get(anyString());
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 받은 사용자 폐기 시각은 로컬에서만 비교하고, Redis 장애 중에도 이후에 발급된 토큰은 통과시킨다")
+    void isRevoked_userRevokedAtFromMessage() {
+        // given
+        long revokedAtMs = System.currentTimeMillis();
+        tokenRevocationService.onMessage(new DefaultMessage(new byte[0], ("user:1:" + revokedAtMs).getBytes(StandardCharsets.UTF_8)), null);
+
+        // when
+        boolean issuedBefore = tokenRevocationService.isRevoked(accessToken("jti-1", revokedAtMs - 1));
+        boolean issuedAfter = tokenRevocationService.isRevoked(accessToken("jti-2", revokedAtMs + 1));
+
+        // then
+        assertThat(issuedBefore).isTrue();
+        assertThat(issuedAfter).isFalse();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("재구성할 때 Redis 에 남은 사용자별 폐기 시각을 로컬로 읽어 온다")
+    @SuppressWarnings("unchecked")
+    void rebuild_loadsUserRevokedAt() {
+        // given
+        long revokedAtMs = System.currentTimeMillis();
+        Cursor<String> tokenCursor = mock(Cursor.class);
+        Cursor<String> userCursor = mock(Cursor.class);
+        given(userCursor.hasNext()).willReturn(true, true, false);
+        given(userCursor.next()).willReturn("revokedUser:1", "revokedUser:2");
+        given(redisTemplate.scan(any(ScanOptions.class))).willReturn(tokenCursor, userCursor);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(List.of("revokedUser:1", "revokedUser:2"))).willReturn(Arrays.asList(String.valueOf(revokedAtMs), null));
+
+        // when
+        tokenRevocationService.rebuild();
+
+        // then
+        assertThat(tokenRevocationService.isRevoked(accessToken("jti-1", revokedAtMs - 1))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(accessToken("jti-1", revokedAtMs + 1))).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("초 단위로 저장된 이전 폐기 시각도 ms 로 바꿔 비교한다")
+    void isRevoked_legacySecondsValue() {
+        // given
+        long revokedAtSeconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("revokedUser:1")).willReturn(String.valueOf(revokedAtSeconds));
+        tokenRevocationService.onMessage(new DefaultMessage(new byte[0], "user:1".getBytes(StandardCharsets.UTF_8)), null);
+
+        // when
+        boolean revoked = tokenRevocationService.isRevoked(accessToken("jti-1", TimeUnit.SECONDS.toMillis(revokedAtSeconds) - 1000));
+
+        // then
+        assertThat(revoked).isTrue();
+    }
+
+    @Test
+    @DisplayName("폐기되었을 수 있는 토큰을 Redis 장애로 확인하지 못하면 폐기된 것으로 본다")
+    void isRevoked_redisFailure() {
+        // given
+        tokenRevocationService.onMessage(new DefaultMessage(new byte[0], "token:jti-1".getBytes(StandardCharsets.UTF_8)), null);
+        given(redisTemplate.hasKey(anyString())).willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        boolean revoked = tokenRevocationService.isRevoked(accessToken("jti-1", System.currentTimeMillis()));
+
+        // then
+        assertThat(revoked).isTrue();
+    }
+
+    private ParsedToken accessToken(String tokenId, long issuedAtMs) {
+        return ParsedToken.builder()
+                .tokenId(tokenId)
+                .subject("1")
+                .email("ham@test.com")
+                .role(Role.ROLE_USER)
+                .userType(UserType.LOCAL)
+                .tokenType(TokenType.ACCESS)
+                .issuedAt(new Date(issuedAtMs))
+                .expiration(new Date(issuedAtMs + TokenType.ACCESS.getExpireMs()))
+                .expired(false)
+                .build();
+    }
+}
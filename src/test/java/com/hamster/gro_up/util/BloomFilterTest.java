@@ -0,0 +1,51 @@
+package com.hamster.gro_up.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 있을 수도 있다고 답한다")
+    void mightContain_noFalseNegative() {
+        // given
+        BloomFilter filter = new BloomFilter(10000, 0.01);
+
+        // when
+        IntStream.range(0, 10000).forEach(i -> filter.put("token:" + i));
+
+        // then
+        assertThat(IntStream.range(0, 10000).allMatch(i -> filter.mightContain("token:" + i))).isTrue();
+    }
+
+    @Test
+    @DisplayName("예상 항목 수만큼 넣어도 오탐률은 설정한 값 근처에 머문다")
+    void mightContain_falsePositiveRate() {
+        // given
+        BloomFilter filter = new BloomFilter(10000, 0.01);
+        IntStream.range(0, 10000).forEach(i -> filter.put("token:" + i));
+
+        // when
+        long falsePositives = IntStream.range(0, 100000)
+                .filter(i -> filter.mightContain("user:" + i))
+                .count();
+
+        // then
+        assertThat(falsePositives / 100000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("비어 있는 필터는 아무것도 없다고 답한다")
+    void mightContain_empty() {
+        // given
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        // when & then
+        assertThat(filter.mightContain("token:1")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+    }
+}
@@ -0,0 +1,45 @@
+package com.hamster.gro_up.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompanyNameNormalizerTest {
+
+    @Test
+    @DisplayName("대소문자, 전각 문자, 공백, 문장부호, 법인 표기를 지운다")
+    void normalize() {
+        assertThat(CompanyNameNormalizer.normalize("Naver Corp.")).isEqualTo("naver");
+        assertThat(CompanyNameNormalizer.normalize("ＮＡＶＥＲ")).isEqualTo("naver");
+        assertThat(CompanyNameNormalizer.normalize("(주)카카오")).isEqualTo("카카오");
+        assertThat(CompanyNameNormalizer.normalize("주식회사 LG 전자")).isEqualTo("lg전자");
+        assertThat(CompanyNameNormalizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("법인 표기만 있는 이름은 법인 표기를 남긴다")
+    void normalize_onlyLegalForm() {
+        assertThat(CompanyNameNormalizer.normalize("Inc.")).isEqualTo("inc");
+    }
+
+    @Test
+    @DisplayName("한글 음절을 초성, 중성, 종성으로 나눠 로마자로 옮기고 받침은 대표음으로 옮긴다")
+    void romanize() {
+        assertThat(CompanyNameNormalizer.romanize("카카오")).isEqualTo("kakao");
+        assertThat(CompanyNameNormalizer.romanize("네이버")).isEqualTo("neibeo");
+        assertThat(CompanyNameNormalizer.romanize("강남")).isEqualTo("gangnam");
+        assertThat(CompanyNameNormalizer.romanize("닭꽃")).isEqualTo("dakkkot");
+        assertThat(CompanyNameNormalizer.romanize("lg전자")).isEqualTo("lgjeonja");
+    }
+
+    @Test
+    @DisplayName("한글 표기와 영문 표기가 같은 발음 키가 된다")
+    void phoneticKey() {
+        assertThat(CompanyNameNormalizer.phoneticKey("네이버")).isEqualTo("napa");
+        assertThat(CompanyNameNormalizer.phoneticKey("naver")).isEqualTo("napa");
+        assertThat(CompanyNameNormalizer.phoneticKey("라인")).isEqualTo(CompanyNameNormalizer.phoneticKey("line"));
+        assertThat(CompanyNameNormalizer.phoneticKey("카카오")).isEqualTo(CompanyNameNormalizer.phoneticKey("kakao"));
+        assertThat(CompanyNameNormalizer.phoneticKey("구글")).isNotEqualTo(CompanyNameNormalizer.phoneticKey("카카오"));
+    }
+}
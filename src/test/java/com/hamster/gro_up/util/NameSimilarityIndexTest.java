@@ -0,0 +1,60 @@
+package com.hamster.gro_up.util;
+
+import com.hamster.gro_up.util.NameSimilarityIndex.Match;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameSimilarityIndexTest {
+
+    private final NameSimilarityIndex index = NameSimilarityIndex.of(Map.of(
+            "네이버", 10L,
+            "NAVER", 3L,
+            "Naver Corp.", 7L,
+            "카카오", 5L,
+            "카카오뱅크", 2L));
+
+    @Test
+    @DisplayName("정규화한 이름이 같으면 1점, 한글과 영문 표기는 발음 키로 찾는다")
+    void findSimilar_acrossScripts() {
+        // when
+        List<Match> matches = index.findSimilar("naver", 0.5, 10);
+
+        // then
+        assertThat(matches).extracting(Match::name).containsExactly("Naver Corp.", "NAVER", "네이버");
+        assertThat(matches).extracting(Match::score).containsExactly(1.0, 1.0, 0.9);
+    }
+
+    @Test
+    @DisplayName("점수가 threshold 에 못 미치는 이름은 빼고 limit 개까지만 반환한다")
+    void findSimilar_thresholdAndLimit() {
+        // when
+        List<Match> strict = index.findSimilar("카카오", 0.95, 10);
+        List<Match> limited = index.findSimilar("naver", 0.5, 1);
+
+        // then
+        assertThat(strict).extracting(Match::name).containsExactly("카카오");
+        assertThat(limited).extracting(Match::name).containsExactly("Naver Corp.");
+    }
+
+    @Test
+    @DisplayName("자모 단위로 비교하므로 한 글자의 받침만 달라도 비슷한 이름으로 찾는다")
+    void findSimilar_jamo() {
+        // when
+        List<Match> matches = index.findSimilar("카카온", 0.7, 10);
+
+        // then
+        assertThat(matches).extracting(Match::name).first().isEqualTo("카카오");
+    }
+
+    @Test
+    @DisplayName("정규화하면 빈 이름은 찾지 않는다")
+    void findSimilar_empty() {
+        assertThat(index.findSimilar(" . ", 0.5, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,90 @@
+package com.hamster.gro_up.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TsidGeneratorTest {
+
+    private static final long NOW = Instant.parse("2025-05-12T10:00:00Z").toEpochMilli();
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+
+    private final TsidGenerator generator = new TsidGenerator(5) {
+        @Override
+        long currentMillis() {
+            return clock.get();
+        }
+    };
+
+    @Test
+    @DisplayName("같은 밀리초 안에서도, 시간이 지나도 ID 는 계속 커진다")
+    void nextId_increasing() {
+        // when
+        long first = generator.nextId();
+        long second = generator.nextId();
+        clock.addAndGet(1);
+        long third = generator.nextId();
+
+        // then
+        assertThat(second).isGreaterThan(first);
+        assertThat(third).isGreaterThan(second);
+        assertThat(third - first).isEqualTo(1L << 12);
+    }
+
+    @Test
+    @DisplayName("한 밀리초의 시퀀스를 다 쓰면 다음 밀리초 값으로 이어서 발급한다")
+    void nextId_sequenceOverflow() {
+        // given
+        long first = generator.nextId();
+        long last = first;
+        for (int i = 1; i < 64; i++) {
+            last = generator.nextId();
+        }
+
+        // when
+        long overflow = generator.nextId();
+        long next = generator.nextId();
+
+        // then
+        assertThat(last - first).isEqualTo(63);
+        assertThat(overflow).isEqualTo(first + (1L << 12));
+        assertThat(next).isEqualTo(overflow + 1);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 마지막으로 쓴 시각부터 이어서 발급한다")
+    void nextId_clockBackwards() {
+        // given
+        long before = generator.nextId();
+
+        // when
+        clock.addAndGet(-1000);
+        long after = generator.nextId();
+
+        // then
+        assertThat(after).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("노드 번호는 ID 가운데 6bit 에 들어간다")
+    void nextId_node() {
+        // when
+        long id = generator.nextId();
+
+        // then
+        assertThat((id >> 6) & 63).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("노드 번호가 범위를 벗어나면 예외가 발생한다")
+    void constructor_invalidNode() {
+        assertThrows(IllegalArgumentException.class, () -> new TsidGenerator(64));
+        assertThrows(IllegalArgumentException.class, () -> new TsidGenerator(-1));
+    }
+}